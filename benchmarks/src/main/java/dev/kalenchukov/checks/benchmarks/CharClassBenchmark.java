@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.text.CharClass;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Класс замеров скорости проверки символов значения по набору в сравнении с регулярными выражениями.
+ * <p>
+ * Проверяемые значения корректны, поэтому каждая проверка просматривает их целиком.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharClassBenchmark
+{
+	/**
+	 * Регулярное выражение десятичных цифр.
+	 */
+	private static final Pattern DIGITS = Pattern.compile("[0-9]+");
+
+	/**
+	 * Регулярное выражение шестнадцатеричных цифр.
+	 */
+	private static final Pattern HEX = Pattern.compile("[0-9A-Fa-f]+");
+
+	/**
+	 * Регулярное выражение идентификатора.
+	 */
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_-]+");
+
+	/**
+	 * Набор символов идентификатора.
+	 */
+	private static final CharClass IDENTIFIER_CHARS = CharClass.ALPHANUMERIC.union(CharClass.of("_-"));
+
+	/**
+	 * Количество символов.
+	 */
+	@Param({"10", "100", "1000", "10000"})
+	private int length;
+
+	/**
+	 * Значение из десятичных цифр.
+	 */
+	private String digits;
+
+	/**
+	 * Значение из шестнадцатеричных цифр.
+	 */
+	private String hex;
+
+	/**
+	 * Значение из символов идентификатора.
+	 */
+	private String identifier;
+
+	/**
+	 * Подготавливает проверяемые значения.
+	 */
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(1982);
+		final String hexChars = "0123456789ABCDEFabcdef";
+		final String identifierChars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789_-";
+		final StringBuilder digits = new StringBuilder(this.length);
+		final StringBuilder hex = new StringBuilder(this.length);
+		final StringBuilder identifier = new StringBuilder(this.length);
+
+		for (int index = 0; index < this.length; index++)
+		{
+			digits.append((char) ('0' + random.nextInt(10)));
+			hex.append(hexChars.charAt(random.nextInt(hexChars.length())));
+			identifier.append(identifierChars.charAt(random.nextInt(identifierChars.length())));
+		}
+
+		this.digits = digits.toString();
+		this.hex = hex.toString();
+		this.identifier = identifier.toString();
+	}
+
+	/**
+	 * Замер проверки десятичных цифр набором символов.
+	 *
+	 * @return значение.
+	 */
+	@Benchmark
+	public String digitsCharClass()
+	{
+		return Checks.require(this.digits).onlyDigits().get();
+	}
+
+	/**
+	 * Замер проверки десятичных цифр регулярным выражением.
+	 *
+	 * @return значение.
+	 */
+	@Benchmark
+	public String digitsRegex()
+	{
+		return Checks.require(this.digits).matches(DIGITS).get();
+	}
+
+	/**
+	 * Замер проверки шестнадцатеричных цифр набором символов.
+	 *
+	 * @return значение.
+	 */
+	@Benchmark
+	public String hexCharClass()
+	{
+		return Checks.require(this.hex).onlyHex().get();
+	}
+
+	/**
+	 * Замер проверки шестнадцатеричных цифр регулярным выражением.
+	 *
+	 * @return значение.
+	 */
+	@Benchmark
+	public String hexRegex()
+	{
+		return Checks.require(this.hex).matches(HEX).get();
+	}
+
+	/**
+	 * Замер проверки идентификатора собственным набором символов.
+	 *
+	 * @return значение.
+	 */
+	@Benchmark
+	public String identifierCharClass()
+	{
+		return Checks.require(this.identifier).onlyChars(IDENTIFIER_CHARS).get();
+	}
+
+	/**
+	 * Замер проверки идентификатора регулярным выражением.
+	 *
+	 * @return значение.
+	 */
+	@Benchmark
+	public String identifierRegex()
+	{
+		return Checks.require(this.identifier).matches(IDENTIFIER).get();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.exceptions.CheckException;
+import dev.kalenchukov.checks.exceptions.NullObjectCheckException;
+import dev.kalenchukov.checks.handlers.StringCheck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости вызова исключений проверок.
+ * <p>
+ * Сравнивает исключения с трассировкой стека и без неё, включённые для цепочки методом
+ * {@link StringCheck#stackless()} и для всего приложения системным свойством
+ * {@link CheckException#STACKLESS_PROPERTY}. Глубина стека на момент вызова исключения
+ * задаётся параметром {@link #depth}.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBenchmark
+{
+	/**
+	 * Глубина стека вызовов.
+	 */
+	@Param({"0", "100"})
+	public int depth;
+
+	/**
+	 * Проверяемый объект.
+	 */
+	private String target;
+
+	/**
+	 * Подготавливает проверяемый объект.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.target = null;
+	}
+
+	/**
+	 * Замер вызова исключения с трассировкой стека.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public CheckException stackTrace()
+	{
+		return this.fail(this.depth, false);
+	}
+
+	/**
+	 * Замер вызова исключения без трассировки стека, включённого для цепочки.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public CheckException stackless()
+	{
+		return this.fail(this.depth, true);
+	}
+
+	/**
+	 * Замер вызова исключения без трассировки стека, включённого системным свойством.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = "-D" + CheckException.STACKLESS_PROPERTY + "=true")
+	public CheckException stacklessProperty()
+	{
+		return this.fail(this.depth, false);
+	}
+
+	/**
+	 * Вызывает исключение проверки на заданной глубине стека.
+	 *
+	 * @param depth глубина стека вызовов.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 * @return исключение.
+	 */
+	private CheckException fail(final int depth, final boolean stackless)
+	{
+		if (depth > 0) {
+			return this.fail(depth - 1, stackless);
+		}
+
+		try
+		{
+			StringCheck check = Checks.require(this.target);
+
+			if (stackless) {
+				check.stackless();
+			}
+
+			check.notNull();
+
+			return null;
+		}
+		catch (NullObjectCheckException exception)
+		{
+			return exception;
+		}
+	}
+}
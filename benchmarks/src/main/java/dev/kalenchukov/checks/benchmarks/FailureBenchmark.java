@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.exceptions.CheckException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости отказа проверок.
+ * <p>
+ * Для каждого проверяющего вызов исключения проверки сравнивается с вызовом
+ * {@link IllegalArgumentException} из условия, записанного вручную,
+ * и с {@link Objects#requireNonNull(Object)}.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureBenchmark
+{
+	/**
+	 * Проверяемый объект типа {@code Integer}.
+	 */
+	private Integer integer;
+
+	/**
+	 * Проверяемый объект типа {@code String}.
+	 */
+	private String string;
+
+	/**
+	 * Проверяемый объект типа {@code List}.
+	 */
+	private List<String> list;
+
+	/**
+	 * Проверяемый объект типа {@code Map}.
+	 */
+	private Map<Integer, String> map;
+
+	/**
+	 * Проверяемый объект типа {@code Object[]}.
+	 */
+	private String[] array;
+
+	/**
+	 * Проверяемый объект {@code null}.
+	 */
+	private String nothing;
+
+	/**
+	 * Подготавливает проверяемые объекты.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.integer = -1988;
+		this.string = " ";
+		this.list = List.of();
+		this.map = Map.of();
+		this.array = new String[0];
+		this.nothing = null;
+	}
+
+	/**
+	 * Замер отказа проверки объекта типа {@code Integer} проверяющим.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException integerCheck()
+	{
+		try
+		{
+			Checks.require(this.integer).notNegative();
+
+			return null;
+		}
+		catch (CheckException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа проверки объекта типа {@code String} проверяющим.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException stringCheck()
+	{
+		try
+		{
+			Checks.require(this.string).notBlank();
+
+			return null;
+		}
+		catch (CheckException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа проверки объекта типа {@code List} проверяющим.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException listCheck()
+	{
+		try
+		{
+			Checks.require(this.list).notEmpty();
+
+			return null;
+		}
+		catch (CheckException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа проверки объекта типа {@code Map} проверяющим.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException mapCheck()
+	{
+		try
+		{
+			Checks.require(this.map).notEmpty();
+
+			return null;
+		}
+		catch (CheckException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа проверки объекта типа {@code Object[]} проверяющим.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException arrayCheck()
+	{
+		try
+		{
+			Checks.require(this.array).notEmpty();
+
+			return null;
+		}
+		catch (CheckException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа условия, записанного вручную.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException baseline()
+	{
+		try
+		{
+			if (this.integer < 0) {
+				throw new IllegalArgumentException();
+			}
+
+			return null;
+		}
+		catch (IllegalArgumentException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа проверки объекта на {@code null} проверяющим.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException notNullCheck()
+	{
+		try
+		{
+			Checks.require(this.nothing).notNull();
+
+			return null;
+		}
+		catch (CheckException exception)
+		{
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер отказа проверки объекта на {@code null} методом {@link Objects#requireNonNull(Object)}.
+	 *
+	 * @return исключение.
+	 */
+	@Benchmark
+	public RuntimeException notNullBaseline()
+	{
+		try
+		{
+			Objects.requireNonNull(this.nothing);
+
+			return null;
+		}
+		catch (NullPointerException exception)
+		{
+			return exception;
+		}
+	}
+}
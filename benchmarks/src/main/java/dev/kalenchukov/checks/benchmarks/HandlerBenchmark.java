@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости успешных проверок.
+ * <p>
+ * Для каждого проверяющего цепочка проверок сравнивается с теми же условиями,
+ * записанными вручную, и с {@link Objects#requireNonNull(Object)}.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerBenchmark
+{
+	/**
+	 * Проверяемое значение типа {@code int}.
+	 */
+	private int number;
+
+	/**
+	 * Проверяемый объект типа {@code Integer}.
+	 */
+	private Integer integer;
+
+	/**
+	 * Проверяемый объект типа {@code String}.
+	 */
+	private String string;
+
+	/**
+	 * Проверяемый объект типа {@code List}.
+	 */
+	private List<String> list;
+
+	/**
+	 * Проверяемый объект типа {@code Set}.
+	 */
+	private Set<String> set;
+
+	/**
+	 * Проверяемый объект типа {@code Map}.
+	 */
+	private Map<Integer, String> map;
+
+	/**
+	 * Проверяемый объект типа {@code Object[]}.
+	 */
+	private String[] array;
+
+	/**
+	 * Подготавливает проверяемые объекты.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.number = 1988;
+		this.integer = 1988;
+		this.string = "Группа крови";
+		this.list = List.of("Кукушка", "Звезда по имени Солнце", "Пачка сигарет");
+		this.set = Set.of("Кукушка", "Звезда по имени Солнце", "Пачка сигарет");
+		this.map = Map.of(1, "Кукушка", 2, "Звезда по имени Солнце");
+		this.array = new String[] {"Кукушка", "Звезда по имени Солнце"};
+	}
+
+	/**
+	 * Замер проверки значения типа {@code int} проверяющим.
+	 *
+	 * @return проверяемое значение.
+	 */
+	@Benchmark
+	public int intCheck()
+	{
+		return Checks.require(this.number).notNegative().notZero().notMoreNumber(2023).get();
+	}
+
+	/**
+	 * Замер проверки значения типа {@code int} условиями, записанными вручную.
+	 *
+	 * @return проверяемое значение.
+	 */
+	@Benchmark
+	public int intBaseline()
+	{
+		if (this.number < 0 || this.number == 0 || this.number > 2023) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.number;
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Integer} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public Integer integerCheck()
+	{
+		return Checks.require(this.integer).notNull().notNegative().notMoreNumber(2023).get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Integer} условиями, записанными вручную.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public Integer integerBaseline()
+	{
+		if (this.integer == null || this.integer < 0 || this.integer > 2023) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.integer;
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code String} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public String stringCheck()
+	{
+		return Checks.require(this.string).notNull().notBlank().notMoreLength(64).get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code String} условиями, записанными вручную.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public String stringBaseline()
+	{
+		if (this.string == null || this.string.isBlank() || this.string.length() > 64) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.string;
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code String} на {@code null} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public String notNullCheck()
+	{
+		return Checks.require(this.string).notNull().get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code String} на {@code null} методом {@link Objects#requireNonNull(Object)}.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public String notNullBaseline()
+	{
+		return Objects.requireNonNull(this.string);
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code List} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public List<String> listCheck()
+	{
+		return Checks.require(this.list).notNull().notEmpty().notMoreSize(10).get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code List} условиями, записанными вручную.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public List<String> listBaseline()
+	{
+		if (this.list == null || this.list.isEmpty() || this.list.size() > 10) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.list;
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Set} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public Set<String> setCheck()
+	{
+		return Checks.require(this.set).notNull().notEmpty().notMoreSize(10).get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Set} условиями, записанными вручную.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public Set<String> setBaseline()
+	{
+		if (this.set == null || this.set.isEmpty() || this.set.size() > 10) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.set;
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Map} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public Map<Integer, String> mapCheck()
+	{
+		return Checks.require(this.map).notNull().notEmpty().notMoreSize(10).get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Map} условиями, записанными вручную.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public Map<Integer, String> mapBaseline()
+	{
+		if (this.map == null || this.map.isEmpty() || this.map.size() > 10) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.map;
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Object[]} проверяющим.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public String[] arrayCheck()
+	{
+		return Checks.require(this.array).notNull().notEmpty().notMoreSize(10).get();
+	}
+
+	/**
+	 * Замер проверки объекта типа {@code Object[]} условиями, записанными вручную.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Benchmark
+	public String[] arrayBaseline()
+	{
+		if (this.array == null || this.array.length == 0 || this.array.length > 10) {
+			throw new IllegalArgumentException();
+		}
+
+		return this.array;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.handlers.ReusableStringCheck;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости проверки объектов в цикле.
+ * <p>
+ * Сравнивает создание проверяющего для каждого объекта
+ * с переиспользуемым проверяющим, привязываемым к очередному объекту.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReusableBenchmark
+{
+	/**
+	 * Количество проверяемых объектов.
+	 */
+	private static final int COUNT = 1024;
+
+	/**
+	 * Проверяемые объекты.
+	 */
+	private String[] targets;
+
+	/**
+	 * Переиспользуемый проверяющий.
+	 */
+	private ReusableStringCheck check;
+
+	/**
+	 * Подготавливает проверяемые объекты и проверяющего.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.targets = new String[COUNT];
+
+		for (int index = 0; index < COUNT; index++)
+		{
+			this.targets[index] = "Когда твоя девушка больна " + index;
+		}
+
+		this.check = Checks.reusableString();
+	}
+
+	/**
+	 * Замер проверки объектов с созданием проверяющего для каждого объекта.
+	 *
+	 * @return последний проверенный объект.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public String require()
+	{
+		String result = null;
+
+		for (String target : this.targets)
+		{
+			result = Checks.require(target).notNull().notLessLength(1).notMoreLength(64).get();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Замер проверки объектов переиспользуемым проверяющим.
+	 *
+	 * @return последний проверенный объект.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public String reusable()
+	{
+		String result = null;
+
+		for (String target : this.targets)
+		{
+			result = this.check.rebind(target).notNull().notLessLength(1).notMoreLength(64).get();
+		}
+
+		return result;
+	}
+}
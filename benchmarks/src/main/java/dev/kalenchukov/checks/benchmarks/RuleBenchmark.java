@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.rules.Rules;
+import dev.kalenchukov.checks.rules.StringRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости повторной проверки объектов.
+ * <p>
+ * Сравнивает цепочку проверяющего, создаваемую для каждого объекта,
+ * с правилом, построенным один раз.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleBenchmark
+{
+	/**
+	 * Количество проверяемых объектов.
+	 */
+	private static final int COUNT = 1024;
+
+	/**
+	 * Проверяемые объекты.
+	 */
+	private String[] targets;
+
+	/**
+	 * Правило проверки.
+	 */
+	private StringRule rule;
+
+	/**
+	 * Подготавливает проверяемые объекты и правило.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.targets = new String[COUNT];
+
+		for (int index = 0; index < COUNT; index++)
+		{
+			this.targets[index] = "Пачка сигарет " + index;
+		}
+
+		this.rule = Rules.string().notNull().notLessLength(1).notMoreLength(64).notRangeLength(100, 200).build();
+	}
+
+	/**
+	 * Замер проверки объектов цепочкой проверяющего.
+	 *
+	 * @return последний проверенный объект.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public String chain()
+	{
+		String result = null;
+
+		for (String target : this.targets)
+		{
+			result = Checks.require(target).notNull().notLessLength(1).notMoreLength(64).notRangeLength(100, 200).get();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Замер проверки объектов правилом.
+	 *
+	 * @return последний проверенный объект.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public String rule()
+	{
+		String result = null;
+
+		for (String target : this.targets)
+		{
+			result = this.rule.check(target);
+		}
+
+		return result;
+	}
+}
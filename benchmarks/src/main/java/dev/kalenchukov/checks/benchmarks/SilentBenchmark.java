@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.exceptions.CheckException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости отказа проверки.
+ * <p>
+ * Сравнивает вызов исключения с трассировкой стека и без неё с режимом,
+ * в котором проверки возвращают код нарушения без создания исключения.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SilentBenchmark
+{
+	/**
+	 * Проверяемый объект.
+	 */
+	private String target;
+
+	/**
+	 * Подготавливает проверяемый объект.
+	 */
+	@Setup
+	public void setup()
+	{
+		this.target = "Мы ждём перемен, и это значит, что строка длиннее допустимого";
+	}
+
+	/**
+	 * Замер отказа с вызовом исключения.
+	 *
+	 * @return код нарушения.
+	 */
+	@Benchmark
+	public int exception()
+	{
+		try
+		{
+			Checks.require(this.target).notBlank().notMoreLength(32);
+
+			return 0;
+		}
+		catch (CheckException exception)
+		{
+			return 1;
+		}
+	}
+
+	/**
+	 * Замер отказа с вызовом исключения без трассировки стека.
+	 *
+	 * @return код нарушения.
+	 */
+	@Benchmark
+	public int stackless()
+	{
+		try
+		{
+			Checks.require(this.target).stackless().notBlank().notMoreLength(32);
+
+			return 0;
+		}
+		catch (CheckException exception)
+		{
+			return 1;
+		}
+	}
+
+	/**
+	 * Замер отказа без вызова исключения.
+	 *
+	 * @return код нарушения.
+	 */
+	@Benchmark
+	public int silent()
+	{
+		return Checks.require(this.target).silent().notBlank().notMoreLength(32).getViolationCode();
+	}
+}
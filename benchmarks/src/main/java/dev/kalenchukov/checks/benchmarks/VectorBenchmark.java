@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.benchmarks;
+
+import dev.kalenchukov.checks.Checks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров скорости проверки элементов больших массивов примитивов.
+ * <p>
+ * Сравнивает поэлементный просмотр без модуля {@code jdk.incubator.vector} с векторным просмотром
+ * артефакта {@code checks-vector}, который библиотека подключает, если модуль добавлен ключом {@code --add-modules}.
+ * Проверяемые массивы корректны, поэтому каждая проверка просматривает их целиком.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark
+{
+	/**
+	 * Количество элементов.
+	 */
+	@Param({"1024", "1048576"})
+	private int size;
+
+	/**
+	 * Проверяемый массив типа {@code double[]}.
+	 */
+	private double[] doubles;
+
+	/**
+	 * Проверяемый массив типа {@code int[]}.
+	 */
+	private int[] ints;
+
+	/**
+	 * Подготавливает проверяемые массивы.
+	 */
+	@Setup
+	public void setup()
+	{
+		final Random random = new Random(1982);
+
+		this.doubles = new double[this.size];
+		this.ints = new int[this.size];
+
+		for (int index = 0; index < this.size; index++)
+		{
+			this.doubles[index] = 1.0 + random.nextDouble() * 99.0;
+			this.ints[index] = 1 + random.nextInt(100);
+		}
+	}
+
+	/**
+	 * Замер проверки диапазона массива типа {@code double[]} поэлементным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	public double[] doubleRangeScalar()
+	{
+		return Checks.require(this.doubles).notAnyOutRange(0.0, 100.0).get();
+	}
+
+	/**
+	 * Замер проверки диапазона массива типа {@code double[]} векторным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public double[] doubleRangeVector()
+	{
+		return Checks.require(this.doubles).notAnyOutRange(0.0, 100.0).get();
+	}
+
+	/**
+	 * Замер поиска {@code NaN} в массиве типа {@code double[]} поэлементным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	public double[] doubleNaNScalar()
+	{
+		return Checks.require(this.doubles).notAnyNaN().get();
+	}
+
+	/**
+	 * Замер поиска {@code NaN} в массиве типа {@code double[]} векторным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public double[] doubleNaNVector()
+	{
+		return Checks.require(this.doubles).notAnyNaN().get();
+	}
+
+	/**
+	 * Замер поиска нуля в массиве типа {@code double[]} поэлементным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	public double[] doubleZeroScalar()
+	{
+		return Checks.require(this.doubles).notAnyZero().get();
+	}
+
+	/**
+	 * Замер поиска нуля в массиве типа {@code double[]} векторным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public double[] doubleZeroVector()
+	{
+		return Checks.require(this.doubles).notAnyZero().get();
+	}
+
+	/**
+	 * Замер проверки диапазона массива типа {@code int[]} поэлементным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	public int[] intRangeScalar()
+	{
+		return Checks.require(this.ints).notAnyOutRange(1, 100).get();
+	}
+
+	/**
+	 * Замер проверки диапазона массива типа {@code int[]} векторным просмотром.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public int[] intRangeVector()
+	{
+		return Checks.require(this.ints).notAnyOutRange(1, 100).get();
+	}
+
+	/**
+	 * Замер проверки диапазона массива типа {@code double[]} условием, записанным вручную.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	public double[] doubleRangeBaseline()
+	{
+		for (final double value : this.doubles)
+		{
+			if (!(value >= 0.0) || !(value <= 100.0)) {
+				throw new IllegalArgumentException();
+			}
+		}
+
+		return this.doubles;
+	}
+
+	/**
+	 * Замер проверки диапазона массива типа {@code int[]} условием, записанным вручную.
+	 *
+	 * @return массив.
+	 */
+	@Benchmark
+	public int[] intRangeBaseline()
+	{
+		for (final int value : this.ints)
+		{
+			if (value < 1 || value > 100) {
+				throw new IllegalArgumentException();
+			}
+		}
+
+		return this.ints;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.rules.Rule;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Класс итератора, проверяющего правилом каждый элемент перед его возвратом.
+ *
+ * @param <T> тип элементов.
+ * @author Алексей Каленчуков
+ */
+final class CheckingIterator<T>
+	implements Iterator<T>
+{
+	/**
+	 * Исходный итератор.
+	 */
+	@NotNull
+	private final Iterator<T> source;
+
+	/**
+	 * Правило проверки элементов.
+	 */
+	@NotNull
+	private final Rule<? super T> rule;
+
+	/**
+	 * Конструирует итератор.
+	 *
+	 * @param source исходный итератор.
+	 * @param rule правило проверки элементов.
+	 */
+	CheckingIterator(@NotNull final Iterator<T> source, @NotNull final Rule<? super T> rule)
+	{
+		this.source = Objects.requireNonNull(source);
+		this.rule = Objects.requireNonNull(rule);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		return this.source.hasNext();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public T next()
+	{
+		final T element = this.source.next();
+
+		this.rule.check(element);
+
+		return element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void remove()
+	{
+		this.source.remove();
+	}
+}
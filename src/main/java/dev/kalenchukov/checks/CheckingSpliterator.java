@@ -0,0 +1,187 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.rules.Rule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Класс разделителя, проверяющего правилом каждый элемент перед передачей его действию.
+ * <p>
+ * Характеристики, размер и порядок элементов совпадают с исходным разделителем,
+ * а части, полученные методом {@link #trySplit()}, также проверяют элементы,
+ * поэтому параллельные потоки продолжают разделяться.
+ *
+ * @param <T> тип элементов.
+ * @author Алексей Каленчуков
+ */
+final class CheckingSpliterator<T>
+	implements Spliterator<T>, Consumer<T>
+{
+	/**
+	 * Исходный разделитель.
+	 */
+	@NotNull
+	private final Spliterator<T> source;
+
+	/**
+	 * Правило проверки элементов.
+	 */
+	@NotNull
+	private final Rule<? super T> rule;
+
+	/**
+	 * Действие над элементом, выполняемое в текущем вызове {@link #tryAdvance(Consumer)}.
+	 */
+	@Nullable
+	private Consumer<? super T> action;
+
+	/**
+	 * Конструирует разделитель.
+	 *
+	 * @param source исходный разделитель.
+	 * @param rule правило проверки элементов.
+	 */
+	CheckingSpliterator(@NotNull final Spliterator<T> source, @NotNull final Rule<? super T> rule)
+	{
+		this.source = Objects.requireNonNull(source);
+		this.rule = Objects.requireNonNull(rule);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param action {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean tryAdvance(@NotNull final Consumer<? super T> action)
+	{
+		Objects.requireNonNull(action);
+
+		this.action = action;
+
+		try
+		{
+			return this.source.tryAdvance(this);
+		}
+		finally
+		{
+			this.action = null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param action {@inheritDoc}
+	 */
+	@Override
+	public void forEachRemaining(@NotNull final Consumer<? super T> action)
+	{
+		Objects.requireNonNull(action);
+
+		this.source.forEachRemaining(element -> {
+			this.rule.check(element);
+			action.accept(element);
+		});
+	}
+
+	/**
+	 * Проверяет элемент и передаёт его действию текущего вызова {@link #tryAdvance(Consumer)}.
+	 *
+	 * @param element элемент.
+	 */
+	@Override
+	public void accept(@Nullable final T element)
+	{
+		this.rule.check(element);
+
+		Objects.requireNonNull(this.action).accept(element);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Spliterator<T> trySplit()
+	{
+		final Spliterator<T> prefix = this.source.trySplit();
+
+		if (prefix == null) {
+			return null;
+		}
+
+		return new CheckingSpliterator<>(prefix, this.rule);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public long estimateSize()
+	{
+		return this.source.estimateSize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public long getExactSizeIfKnown()
+	{
+		return this.source.getExactSizeIfKnown();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int characteristics()
+	{
+		return this.source.characteristics();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public Comparator<? super T> getComparator()
+	{
+		return this.source.getComparator();
+	}
+}
@@ -23,6 +23,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +40,60 @@ public final class Checks
 	 */
 	private Checks() {}
 
+	/**
+	 * Вызывает проверяющего значения типа {@code int} для предъявления требований.
+	 *
+	 * @param target проверяемое значение.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static IntCheck require(final int target)
+	{
+		return new IntCheck(target);
+	}
+
+	/**
+	 * Вызывает проверяющего значения типа {@code char} для предъявления требований.
+	 * <p>
+	 * Значение упаковывается в {@code Character}, чтобы вызов не сводился к проверяющему значений типа {@code int}.
+	 *
+	 * @param target проверяемое значение.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static ObjectCheck<Character> require(final char target)
+	{
+		return new ObjectCheck<>(target);
+	}
+
+	/**
+	 * Вызывает проверяющего значения типа {@code short} для предъявления требований.
+	 * <p>
+	 * Значение упаковывается в {@code Short}, чтобы вызов не сводился к проверяющему значений типа {@code int}.
+	 *
+	 * @param target проверяемое значение.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static ObjectCheck<Short> require(final short target)
+	{
+		return new ObjectCheck<>(target);
+	}
+
+	/**
+	 * Вызывает проверяющего значения типа {@code byte} для предъявления требований.
+	 * <p>
+	 * Значение упаковывается в {@code Byte}, чтобы вызов не сводился к проверяющему значений типа {@code int}.
+	 *
+	 * @param target проверяемое значение.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static ObjectCheck<Byte> require(final byte target)
+	{
+		return new ObjectCheck<>(target);
+	}
+
 	/**
 	 * Вызывает проверяющего объекты типа {@code Integer} для предъявления требований.
 	 *
@@ -114,6 +169,66 @@ public final class Checks
 		return new ArrayCheck<>(target);
 	}
 
+	/**
+	 * Вызывает проверяющего объекты типа {@code int[]} для предъявления требований.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static IntArrayCheck require(final int @Nullable [] target)
+	{
+		return new IntArrayCheck(target);
+	}
+
+	/**
+	 * Вызывает проверяющего объекты типа {@code long[]} для предъявления требований.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static LongArrayCheck require(final long @Nullable [] target)
+	{
+		return new LongArrayCheck(target);
+	}
+
+	/**
+	 * Вызывает проверяющего объекты типа {@code double[]} для предъявления требований.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static DoubleArrayCheck require(final double @Nullable [] target)
+	{
+		return new DoubleArrayCheck(target);
+	}
+
+	/**
+	 * Вызывает проверяющего объекты типа {@code byte[]} для предъявления требований.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static ByteArrayCheck require(final byte @Nullable [] target)
+	{
+		return new ByteArrayCheck(target);
+	}
+
+	/**
+	 * Вызывает проверяющего объекты типа {@code char[]} для предъявления требований.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static CharArrayCheck require(final char @Nullable [] target)
+	{
+		return new CharArrayCheck(target);
+	}
+
 	/**
 	 * Вызывает проверяющего объекты типа {@code Collection} для предъявления требований.
 	 *
@@ -127,6 +242,38 @@ public final class Checks
 		return new CollectionCheck<>(target);
 	}
 
+	/**
+	 * Вызывает проверяющего объекты типа {@code Iterable} для предъявления требований.
+	 * <p>
+	 * Метод назван отдельно от {@code require}, чтобы объекты, реализующие {@code Iterable}, например
+	 * {@code Path}, по-прежнему проверялись проверяющим объектов типа {@code Object}.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 * @param <T> тип элементов проверяемого объекта.
+	 */
+	@NotNull
+	public static <T> IterableCheck<T> requireIterable(@Nullable final Iterable<T> target)
+	{
+		return new IterableCheck<>(target);
+	}
+
+	/**
+	 * Вызывает проверяющего объекты типа {@code Iterator} для предъявления требований.
+	 * <p>
+	 * Метод назван отдельно от {@code require}, чтобы объекты, реализующие {@code Iterator}, например
+	 * {@code Scanner}, по-прежнему проверялись проверяющим объектов типа {@code Object}.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 * @param <T> тип элементов проверяемого объекта.
+	 */
+	@NotNull
+	public static <T> IteratorCheck<T> requireIterator(@Nullable final Iterator<T> target)
+	{
+		return new IteratorCheck<>(target);
+	}
+
 	/**
 	 * Вызывает проверяющего объекты типа {@code Map} для предъявления требований.
 	 *
@@ -165,4 +312,55 @@ public final class Checks
 	{
 		return new ObjectCheck<>(target);
 	}
+
+	/**
+	 * Создаёт переиспользуемого проверяющего объекты типа {@code String}.
+	 * <p>
+	 * Проверяющий не является потокобезопасным и должен использоваться одним потоком.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static ReusableStringCheck reusableString()
+	{
+		return new ReusableStringCheck();
+	}
+
+	/**
+	 * Создаёт переиспользуемого проверяющего объекты типа {@code Integer}.
+	 * <p>
+	 * Проверяющий не является потокобезопасным и должен использоваться одним потоком.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public static ReusableIntegerCheck reusableInteger()
+	{
+		return new ReusableIntegerCheck();
+	}
+
+	/**
+	 * Создаёт переиспользуемого проверяющего объекты типа {@code List}.
+	 * <p>
+	 * Проверяющий не является потокобезопасным и должен использоваться одним потоком.
+	 *
+	 * @return объект проверяющего.
+	 * @param <T> тип проверяемого объекта.
+	 */
+	@NotNull
+	public static <T> ReusableListCheck<T> reusableList()
+	{
+		return new ReusableListCheck<>();
+	}
+
+	/**
+	 * Возвращает статистику кеша регулярных выражений, переданных проверкам строкой.
+	 *
+	 * @return статистику кеша.
+	 */
+	@NotNull
+	public static PatternCacheStatistics patternCacheStatistics()
+	{
+		return PatternCacheStatistics.current();
+	}
 }
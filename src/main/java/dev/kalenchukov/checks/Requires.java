@@ -0,0 +1,4776 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Класс статических методов проверки без создания проверяющих.
+ * <p>
+ * Выполняет те же проверки и вызывает те же исключения, что и проверяющие из {@link Checks},
+ * но принимает проверяемый объект параметром и возвращает его, поэтому при успешной проверке
+ * не создаёт никаких объектов.
+ *
+ * <pre>{@code
+ * this.name = Requires.notRangeLength(Requires.notNull(name), 1, 64);
+ * }</pre>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Requires
+{
+	/**
+	 * Конструирует статические проверки.
+	 */
+	private Requires() {}
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	public static <T> T notNull(@Nullable final T target)
+	{
+		return notNull(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	public static <T> T notNull(@Nullable final T target, @Nullable final String message)
+	{
+		if (isNull(target)) {
+			throw new NullObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	public static <T> T notNullLazy(@Nullable final T target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isNull(target)) {
+			throw new NullObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	public static <T> T notNull(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNull(target)) {
+			throw new NullObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	public static <T> T notNull(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNull(target)) {
+			throw new NullObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	public static <T> T notNull(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNull(target)) {
+			throw new NullObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	public static <T> T notEquals(@Nullable final T target, @NotNull final T value)
+	{
+		Objects.requireNonNull(value);
+
+		return notEquals(target, value, null);
+	}
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	public static <T> T notEquals(@Nullable final T target, @NotNull final T value, @Nullable final String message)
+	{
+		if (isEquals(target, value)) {
+			throw new EqualsObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	public static <T> T notEqualsLazy(@Nullable final T target, @NotNull final T value, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isEquals(target, value)) {
+			throw new EqualsObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	public static <T> T notEquals(@Nullable final T target, @NotNull final T value, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isEquals(target, value)) {
+			throw new EqualsObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	public static <T> T notEquals(@Nullable final T target, @NotNull final T value, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isEquals(target, value)) {
+			throw new EqualsObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	public static <T> T notEquals(@Nullable final T target, @NotNull final T value, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isEquals(target, value)) {
+			throw new EqualsObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не удовлетворяет ли объект условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	public static <T> T not(@Nullable final T target, @NotNull final Predicate<? super T> predicate)
+	{
+		Objects.requireNonNull(predicate);
+
+		return not(target, predicate, null);
+	}
+
+	/**
+	 * Проверяет, не удовлетворяет ли объект условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	public static <T> T not(@Nullable final T target, @NotNull final Predicate<? super T> predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		if (isIllegal(target, predicate)) {
+			throw new IllegalObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не удовлетворяет ли объект условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	public static <T> T notLazy(@Nullable final T target, @NotNull final Predicate<? super T> predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+
+		Objects.requireNonNull(message);
+
+		if (isIllegal(target, predicate)) {
+			throw new IllegalObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не удовлетворяет ли объект условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	public static <T> T not(@Nullable final T target, @NotNull final Predicate<? super T> predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+
+		Objects.requireNonNull(pattern);
+
+		if (isIllegal(target, predicate)) {
+			throw new IllegalObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не удовлетворяет ли объект условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	public static <T> T not(@Nullable final T target, @NotNull final Predicate<? super T> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+
+		Objects.requireNonNull(pattern);
+
+		if (isIllegal(target, predicate)) {
+			throw new IllegalObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не удовлетворяет ли объект условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	public static <T> T not(@Nullable final T target, @NotNull final Predicate<? super T> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+
+		Objects.requireNonNull(pattern);
+
+		if (isIllegal(target, predicate)) {
+			throw new IllegalObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notEmpty(@Nullable final T target)
+	{
+		return notEmpty(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notEmpty(@Nullable final T target, @Nullable final String message)
+	{
+		if (isEmpty(target)) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notEmptyLazy(@Nullable final T target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isEmpty(target)) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isEmpty(target)) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isEmpty(target)) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isEmpty(target)) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	public static String notBlank(@Nullable final String target)
+	{
+		return notBlank(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	public static String notBlank(@Nullable final String target, @Nullable final String message)
+	{
+		if (isBlank(target)) {
+			throw new BlankObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	public static String notBlankLazy(@Nullable final String target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isBlank(target)) {
+			throw new BlankObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	public static String notBlank(@Nullable final String target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isBlank(target)) {
+			throw new BlankObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	public static String notBlank(@Nullable final String target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isBlank(target)) {
+			throw new BlankObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	public static String notBlank(@Nullable final String target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isBlank(target)) {
+			throw new BlankObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length количество символов.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLength(@Nullable final T target, final int length)
+	{
+		return notLength(target, length, null);
+	}
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length количество символов.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLength(@Nullable final T target, final int length, @Nullable final String message)
+	{
+		if (isLength(target, length)) {
+			throw new LengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length количество символов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLengthLazy(@Nullable final T target, final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isLength(target, length)) {
+			throw new LengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLength(target, length)) {
+			throw new LengthObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLength(target, length)) {
+			throw new LengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLength(target, length)) {
+			throw new LengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notRangeLength(@Nullable final T target, final int from, final int to)
+	{
+		return notRangeLength(target, from, to, null);
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notRangeLength(@Nullable final T target, final int from, final int to, @Nullable final String message)
+	{
+		if (isRangeLength(target, from, to)) {
+			throw new RangeLengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notRangeLengthLazy(@Nullable final T target, final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isRangeLength(target, from, to)) {
+			throw new RangeLengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notRangeLength(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeLength(target, from, to)) {
+			throw new RangeLengthObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notRangeLength(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeLength(target, from, to)) {
+			throw new RangeLengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notRangeLength(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeLength(target, from, to)) {
+			throw new RangeLengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length максимальное количество символов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notMoreLength(@Nullable final T target, final int length)
+	{
+		return notMoreLength(target, length, null);
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length максимальное количество символов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notMoreLength(@Nullable final T target, final int length, @Nullable final String message)
+	{
+		if (isMoreLength(target, length)) {
+			throw new MoreLengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length максимальное количество символов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notMoreLengthLazy(@Nullable final T target, final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isMoreLength(target, length)) {
+			throw new MoreLengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notMoreLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreLength(target, length)) {
+			throw new MoreLengthObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notMoreLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreLength(target, length)) {
+			throw new MoreLengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notMoreLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreLength(target, length)) {
+			throw new MoreLengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length минимальное количество символов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessLengthObjectCheckException если значение понижает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLessLength(@Nullable final T target, final int length)
+	{
+		return notLessLength(target, length, null);
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length минимальное количество символов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessLengthObjectCheckException если значение понижает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLessLength(@Nullable final T target, final int length, @Nullable final String message)
+	{
+		if (isLessLength(target, length)) {
+			throw new LessLengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length минимальное количество символов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessLengthObjectCheckException если значение понижает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLessLengthLazy(@Nullable final T target, final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isLessLength(target, length)) {
+			throw new LessLengthObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length минимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessLengthObjectCheckException если значение понижает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLessLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessLength(target, length)) {
+			throw new LessLengthObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length минимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessLengthObjectCheckException если значение понижает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLessLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessLength(target, length)) {
+			throw new LessLengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length минимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessLengthObjectCheckException если значение понижает количество символов.
+	 */
+	@NotNull
+	public static <T extends CharSequence> T notLessLength(@Nullable final T target, final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessLength(target, length)) {
+			throw new LessLengthObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notEmpty(@Nullable final T target)
+	{
+		return notEmpty(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notEmpty(@Nullable final T target, @Nullable final String message)
+	{
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notEmptyLazy(@Nullable final T target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notSize(@Nullable final T target, final int size)
+	{
+		return notSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notSize(@Nullable final T target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notSizeLazy(@Nullable final T target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notRangeSize(@Nullable final T target, final int from, final int to)
+	{
+		return notRangeSize(target, from, to, null);
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notRangeSize(@Nullable final T target, final int from, final int to, @Nullable final String message)
+	{
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notRangeSizeLazy(@Nullable final T target, final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notRangeSize(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notRangeSize(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notRangeSize(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notMoreSize(@Nullable final T target, final int size)
+	{
+		return notMoreSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notMoreSize(@Nullable final T target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notMoreSizeLazy(@Nullable final T target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notMoreSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notMoreSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notMoreSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notLessSize(@Nullable final T target, final int size)
+	{
+		return notLessSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notLessSize(@Nullable final T target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notLessSizeLazy(@Nullable final T target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notLessSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notLessSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Collection<?>> T notLessSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notEmpty(@Nullable final T target)
+	{
+		return notEmpty(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notEmpty(@Nullable final T target, @Nullable final String message)
+	{
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notEmptyLazy(@Nullable final T target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notEmpty(@Nullable final T target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.isEmpty()) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notSize(@Nullable final T target, final int size)
+	{
+		return notSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notSize(@Nullable final T target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notSizeLazy(@Nullable final T target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notRangeSize(@Nullable final T target, final int from, final int to)
+	{
+		return notRangeSize(target, from, to, null);
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notRangeSize(@Nullable final T target, final int from, final int to, @Nullable final String message)
+	{
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notRangeSizeLazy(@Nullable final T target, final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notRangeSize(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notRangeSize(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notRangeSize(@Nullable final T target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.size() >= from && target.size() <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notMoreSize(@Nullable final T target, final int size)
+	{
+		return notMoreSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notMoreSize(@Nullable final T target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notMoreSizeLazy(@Nullable final T target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notMoreSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notMoreSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notMoreSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notLessSize(@Nullable final T target, final int size)
+	{
+		return notLessSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notLessSize(@Nullable final T target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notLessSizeLazy(@Nullable final T target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notLessSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notLessSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	public static <T extends Map<?, ?>> T notLessSize(@Nullable final T target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.size() < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	public static <T> T @NotNull [] notEmpty(final T @Nullable [] target)
+	{
+		return notEmpty(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	public static <T> T @NotNull [] notEmpty(final T @Nullable [] target, @Nullable final String message)
+	{
+		if (target == null || target.length == 0) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	public static <T> T @NotNull [] notEmptyLazy(final T @Nullable [] target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.length == 0) {
+			throw new EmptyObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	public static <T> T @NotNull [] notEmpty(final T @Nullable [] target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length == 0) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	public static <T> T @NotNull [] notEmpty(final T @Nullable [] target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length == 0) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	public static <T> T @NotNull [] notEmpty(final T @Nullable [] target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length == 0) {
+			throw new EmptyObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	public static <T> T @NotNull [] notSize(final T @Nullable [] target, final int size)
+	{
+		return notSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	public static <T> T @NotNull [] notSize(final T @Nullable [] target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.length == size) {
+			throw new SizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	public static <T> T @NotNull [] notSizeLazy(final T @Nullable [] target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.length == size) {
+			throw new SizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	public static <T> T @NotNull [] notSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	public static <T> T @NotNull [] notSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	public static <T> T @NotNull [] notSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length == size) {
+			throw new SizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	public static <T> T @NotNull [] notRangeSize(final T @Nullable [] target, final int from, final int to)
+	{
+		return notRangeSize(target, from, to, null);
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	public static <T> T @NotNull [] notRangeSize(final T @Nullable [] target, final int from, final int to, @Nullable final String message)
+	{
+		if (target == null || (target.length >= from && target.length <= to)) {
+			throw new RangeSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	public static <T> T @NotNull [] notRangeSizeLazy(final T @Nullable [] target, final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || (target.length >= from && target.length <= to)) {
+			throw new RangeSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	public static <T> T @NotNull [] notRangeSize(final T @Nullable [] target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.length >= from && target.length <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	public static <T> T @NotNull [] notRangeSize(final T @Nullable [] target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.length >= from && target.length <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	public static <T> T @NotNull [] notRangeSize(final T @Nullable [] target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || (target.length >= from && target.length <= to)) {
+			throw new RangeSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	public static <T> T @NotNull [] notMoreSize(final T @Nullable [] target, final int size)
+	{
+		return notMoreSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	public static <T> T @NotNull [] notMoreSize(final T @Nullable [] target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.length > size) {
+			throw new MoreSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	public static <T> T @NotNull [] notMoreSizeLazy(final T @Nullable [] target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.length > size) {
+			throw new MoreSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	public static <T> T @NotNull [] notMoreSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	public static <T> T @NotNull [] notMoreSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	public static <T> T @NotNull [] notMoreSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length > size) {
+			throw new MoreSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	public static <T> T @NotNull [] notLessSize(final T @Nullable [] target, final int size)
+	{
+		return notLessSize(target, size, null);
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	public static <T> T @NotNull [] notLessSize(final T @Nullable [] target, final int size, @Nullable final String message)
+	{
+		if (target == null || target.length < size) {
+			throw new LessSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	public static <T> T @NotNull [] notLessSizeLazy(final T @Nullable [] target, final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (target == null || target.length < size) {
+			throw new LessSizeObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	public static <T> T @NotNull [] notLessSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	public static <T> T @NotNull [] notLessSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param target проверяемый объект.
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	public static <T> T @NotNull [] notLessSize(final T @Nullable [] target, final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (target == null || target.length < size) {
+			throw new LessSizeObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	public static Integer notZero(@Nullable final Integer target)
+	{
+		return notZero(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	public static Integer notZero(@Nullable final Integer target, @Nullable final String message)
+	{
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	public static Integer notZeroLazy(@Nullable final Integer target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	public static Integer notZero(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	public static Integer notZero(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	public static Integer notZero(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	public static Integer notNegative(@Nullable final Integer target)
+	{
+		return notNegative(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	public static Integer notNegative(@Nullable final Integer target, @Nullable final String message)
+	{
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	public static Integer notNegativeLazy(@Nullable final Integer target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	public static Integer notNegative(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	public static Integer notNegative(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	public static Integer notNegative(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	public static Integer notPositive(@Nullable final Integer target)
+	{
+		return notPositive(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	public static Integer notPositive(@Nullable final Integer target, @Nullable final String message)
+	{
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	public static Integer notPositiveLazy(@Nullable final Integer target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	public static Integer notPositive(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	public static Integer notPositive(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	public static Integer notPositive(@Nullable final Integer target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	public static Integer notMoreNumber(@Nullable final Integer target, final int number)
+	{
+		return notMoreNumber(target, number, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	public static Integer notMoreNumber(@Nullable final Integer target, final int number, @Nullable final String message)
+	{
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	public static Integer notMoreNumberLazy(@Nullable final Integer target, final int number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	public static Integer notMoreNumber(@Nullable final Integer target, final int number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	public static Integer notMoreNumber(@Nullable final Integer target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	public static Integer notMoreNumber(@Nullable final Integer target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	public static Integer notLessNumber(@Nullable final Integer target, final int number)
+	{
+		return notLessNumber(target, number, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	public static Integer notLessNumber(@Nullable final Integer target, final int number, @Nullable final String message)
+	{
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	public static Integer notLessNumberLazy(@Nullable final Integer target, final int number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	public static Integer notLessNumber(@Nullable final Integer target, final int number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	public static Integer notLessNumber(@Nullable final Integer target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	public static Integer notLessNumber(@Nullable final Integer target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	public static Integer notRangeNumber(@Nullable final Integer target, final int from, final int to)
+	{
+		return notRangeNumber(target, from, to, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	public static Integer notRangeNumber(@Nullable final Integer target, final int from, final int to, @Nullable final String message)
+	{
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	public static Integer notRangeNumberLazy(@Nullable final Integer target, final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	public static Integer notRangeNumber(@Nullable final Integer target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	public static Integer notRangeNumber(@Nullable final Integer target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	public static Integer notRangeNumber(@Nullable final Integer target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	public static int notZero(final int target)
+	{
+		return notZero(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	public static int notZero(final int target, @Nullable final String message)
+	{
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	public static int notZeroLazy(final int target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	public static int notZero(final int target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	public static int notZero(final int target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	public static int notZero(final int target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isZero(target)) {
+			throw new ZeroNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	public static int notNegative(final int target)
+	{
+		return notNegative(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	public static int notNegative(final int target, @Nullable final String message)
+	{
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	public static int notNegativeLazy(final int target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	public static int notNegative(final int target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	public static int notNegative(final int target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта отрицательным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	public static int notNegative(final int target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isNegative(target)) {
+			throw new NegativeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	public static int notPositive(final int target)
+	{
+		return notPositive(target, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	public static int notPositive(final int target, @Nullable final String message)
+	{
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	public static int notPositiveLazy(final int target, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	public static int notPositive(final int target, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	public static int notPositive(final int target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param target проверяемый объект.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	public static int notPositive(final int target, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isPositive(target)) {
+			throw new PositiveNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	public static int notMoreNumber(final int target, final int number)
+	{
+		return notMoreNumber(target, number, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	public static int notMoreNumber(final int target, final int number, @Nullable final String message)
+	{
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	public static int notMoreNumberLazy(final int target, final int number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	public static int notMoreNumber(final int target, final int number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	public static int notMoreNumber(final int target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	public static int notMoreNumber(final int target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isMoreNumber(target, number)) {
+			throw new MoreNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	public static int notLessNumber(final int target, final int number)
+	{
+		return notLessNumber(target, number, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	public static int notLessNumber(final int target, final int number, @Nullable final String message)
+	{
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	public static int notLessNumberLazy(final int target, final int number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	public static int notLessNumber(final int target, final int number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	public static int notLessNumber(final int target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	public static int notLessNumber(final int target, final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isLessNumber(target, number)) {
+			throw new LessNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	public static int notRangeNumber(final int target, final int from, final int to)
+	{
+		return notRangeNumber(target, from, to, null);
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message сообщение.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	public static int notRangeNumber(final int target, final int from, final int to, @Nullable final String message)
+	{
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	public static int notRangeNumberLazy(final int target, final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, message);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	public static int notRangeNumber(final int target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, new MessageTemplate(pattern, argument));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	public static int notRangeNumber(final int target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return проверяемый объект.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	public static int notRangeNumber(final int target, final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (isRangeNumber(target, from, to)) {
+			throw new RangeNumberObjectCheckException(target, new MessageTemplate(pattern, argument1, argument2, argument3));
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет, отсутствует ли проверяемый объект.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если объект {@code null}.
+	 */
+	private static boolean isNull(@Nullable final Object target)
+	{
+		return target == null;
+	}
+
+	/**
+	 * Проверяет, равно ли значение заданному.
+	 *
+	 * @param target проверяемый объект.
+	 * @param value значение.
+	 * @return {@code true}, если объект {@code null} или значение равно заданному.
+	 */
+	private static boolean isEquals(@Nullable final Object target, @NotNull final Object value)
+	{
+		return target == null || target.equals(value);
+	}
+
+	/**
+	 * Проверяет, соответствует ли значение условию.
+	 *
+	 * @param target проверяемый объект.
+	 * @param predicate условие.
+	 * @return {@code true}, если объект {@code null} или значение соответствует условию.
+	 * @param <T> тип проверяемого объекта.
+	 */
+	private static <T> boolean isIllegal(@Nullable final T target, @NotNull final Predicate<? super T> predicate)
+	{
+		return target == null || predicate.test(target);
+	}
+
+	/**
+	 * Проверяет, пуст ли проверяемый объект.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если объект {@code null} или объект пуст.
+	 */
+	private static boolean isEmpty(@Nullable final CharSequence target)
+	{
+		return target == null || target.isEmpty();
+	}
+
+	/**
+	 * Проверяет, состоит ли значение только из пробельных символов.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если объект {@code null} или значение пустое или состоит только из пробельных символов.
+	 */
+	private static boolean isBlank(@Nullable final String target)
+	{
+		return target == null || target.isBlank();
+	}
+
+	/**
+	 * Проверяет, равна ли длина значения заданной.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length длина.
+	 * @return {@code true}, если объект {@code null} или длина значения равна заданной.
+	 */
+	private static boolean isLength(@Nullable final CharSequence target, final int length)
+	{
+		return target == null || target.length() == length;
+	}
+
+	/**
+	 * Проверяет, входит ли длина значения в диапазон.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальная длина (включительно).
+	 * @param to максимальная длина (включительно).
+	 * @return {@code true}, если объект {@code null} или длина значения входит в диапазон.
+	 */
+	private static boolean isRangeLength(@Nullable final CharSequence target, final int from, final int to)
+	{
+		return target == null || (target.length() >= from && target.length() <= to);
+	}
+
+	/**
+	 * Проверяет, больше ли длина значения заданной.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length длина.
+	 * @return {@code true}, если объект {@code null} или длина значения больше заданной.
+	 */
+	private static boolean isMoreLength(@Nullable final CharSequence target, final int length)
+	{
+		return target == null || target.length() > length;
+	}
+
+	/**
+	 * Проверяет, меньше ли длина значения заданной.
+	 *
+	 * @param target проверяемый объект.
+	 * @param length длина.
+	 * @return {@code true}, если объект {@code null} или длина значения меньше заданной.
+	 */
+	private static boolean isLessLength(@Nullable final CharSequence target, final int length)
+	{
+		return target == null || target.length() < length;
+	}
+
+	/**
+	 * Проверяет, равно ли число нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если объект {@code null} или число равно нулю.
+	 */
+	private static boolean isZero(@Nullable final Integer target)
+	{
+		return target == null || target.equals(0);
+	}
+
+	/**
+	 * Проверяет, отрицательно ли число.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если объект {@code null} или число отрицательное.
+	 */
+	private static boolean isNegative(@Nullable final Integer target)
+	{
+		return target == null || target < 0;
+	}
+
+	/**
+	 * Проверяет, положительно ли число.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если объект {@code null} или число положительное.
+	 */
+	private static boolean isPositive(@Nullable final Integer target)
+	{
+		return target == null || target > 0;
+	}
+
+	/**
+	 * Проверяет, больше ли число заданного.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return {@code true}, если объект {@code null} или число больше заданного.
+	 */
+	private static boolean isMoreNumber(@Nullable final Integer target, final int number)
+	{
+		return target == null || target > number;
+	}
+
+	/**
+	 * Проверяет, меньше ли число заданного.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return {@code true}, если объект {@code null} или число меньше заданного.
+	 */
+	private static boolean isLessNumber(@Nullable final Integer target, final int number)
+	{
+		return target == null || target < number;
+	}
+
+	/**
+	 * Проверяет, входит ли число в диапазон.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return {@code true}, если объект {@code null} или число входит в диапазон.
+	 */
+	private static boolean isRangeNumber(@Nullable final Integer target, final int from, final int to)
+	{
+		return target == null || (target >= from && target <= to);
+	}
+
+	/**
+	 * Проверяет, равно ли число нулю.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если число равно нулю.
+	 */
+	private static boolean isZero(final int target)
+	{
+		return target == 0;
+	}
+
+	/**
+	 * Проверяет, отрицательно ли число.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если число отрицательное.
+	 */
+	private static boolean isNegative(final int target)
+	{
+		return target < 0;
+	}
+
+	/**
+	 * Проверяет, положительно ли число.
+	 *
+	 * @param target проверяемый объект.
+	 * @return {@code true}, если число положительное.
+	 */
+	private static boolean isPositive(final int target)
+	{
+		return target > 0;
+	}
+
+	/**
+	 * Проверяет, больше ли число заданного.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return {@code true}, если число больше заданного.
+	 */
+	private static boolean isMoreNumber(final int target, final int number)
+	{
+		return target > number;
+	}
+
+	/**
+	 * Проверяет, меньше ли число заданного.
+	 *
+	 * @param target проверяемый объект.
+	 * @param number число.
+	 * @return {@code true}, если число меньше заданного.
+	 */
+	private static boolean isLessNumber(final int target, final int number)
+	{
+		return target < number;
+	}
+
+	/**
+	 * Проверяет, входит ли число в диапазон.
+	 *
+	 * @param target проверяемый объект.
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return {@code true}, если число входит в диапазон.
+	 */
+	private static boolean isRangeNumber(final int target, final int from, final int to)
+	{
+		return target >= from && target <= to;
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.exceptions.LessSizeObjectCheckException;
+import dev.kalenchukov.checks.exceptions.MoreSizeObjectCheckException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Класс сборщика, проверяющего количество элементов потока и передающего элементы другому сборщику.
+ * <p>
+ * Сборщик только считает элементы и сам их не хранит. Превышение максимального количества обнаруживается
+ * на элементе, который его превысил, а недостаток элементов — после обработки всего потока.
+ * Виновником исключения является количество элементов.
+ *
+ * @param <T> тип элементов.
+ * @param <A> тип промежуточного результата другого сборщика.
+ * @param <R> тип результата.
+ * @author Алексей Каленчуков
+ */
+final class SizeCollector<T, A, R>
+	implements Collector<T, SizeCollector.Container<A>, R>
+{
+	/**
+	 * Минимальное количество элементов (включительно).
+	 */
+	private final long min;
+
+	/**
+	 * Максимальное количество элементов (включительно).
+	 */
+	private final long max;
+
+	/**
+	 * Сообщение исключения.
+	 */
+	@Nullable
+	private final String message;
+
+	/**
+	 * Другой сборщик.
+	 */
+	@NotNull
+	private final Collector<T, A, R> downstream;
+
+	/**
+	 * Конструирует сборщик.
+	 *
+	 * @param min минимальное количество элементов (включительно).
+	 * @param max максимальное количество элементов (включительно).
+	 * @param message сообщение исключения.
+	 * @param downstream другой сборщик.
+	 */
+	SizeCollector(final long min, final long max, @Nullable final String message,
+				  @NotNull final Collector<T, A, R> downstream)
+	{
+		this.min = min;
+		this.max = max;
+		this.message = message;
+		this.downstream = Objects.requireNonNull(downstream);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Supplier<Container<A>> supplier()
+	{
+		final Supplier<A> supplier = this.downstream.supplier();
+
+		return () -> new Container<>(supplier.get());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BiConsumer<Container<A>, T> accumulator()
+	{
+		final BiConsumer<A, T> accumulator = this.downstream.accumulator();
+
+		return (container, element) -> {
+			if (++container.count > this.max) {
+				throw new MoreSizeObjectCheckException(container.count, this.message);
+			}
+
+			accumulator.accept(container.value, element);
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BinaryOperator<Container<A>> combiner()
+	{
+		final BinaryOperator<A> combiner = this.downstream.combiner();
+
+		return (left, right) -> {
+			final long count = left.count + right.count;
+
+			if (count > this.max) {
+				throw new MoreSizeObjectCheckException(count, this.message);
+			}
+
+			final Container<A> container = new Container<>(combiner.apply(left.value, right.value));
+			container.count = count;
+
+			return container;
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Function<Container<A>, R> finisher()
+	{
+		final Function<A, R> finisher = this.downstream.finisher();
+
+		return container -> {
+			if (container.count < this.min) {
+				throw new LessSizeObjectCheckException(container.count, this.message);
+			}
+
+			return finisher.apply(container.value);
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Характеристики другого сборщика сохраняются, кроме {@link Characteristics#IDENTITY_FINISH},
+	 * так как количество проверяется при завершении, и {@link Characteristics#CONCURRENT},
+	 * так как счётчик промежуточного результата не потокобезопасен.
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Set<Characteristics> characteristics()
+	{
+		final Set<Characteristics> characteristics = EnumSet.noneOf(Characteristics.class);
+
+		characteristics.addAll(this.downstream.characteristics());
+		characteristics.remove(Characteristics.IDENTITY_FINISH);
+		characteristics.remove(Characteristics.CONCURRENT);
+
+		return characteristics;
+	}
+
+	/**
+	 * Класс промежуточного результата со счётчиком элементов.
+	 *
+	 * @param <A> тип промежуточного результата другого сборщика.
+	 * @author Алексей Каленчуков
+	 */
+	static final class Container<A>
+	{
+		/**
+		 * Промежуточный результат другого сборщика.
+		 */
+		private final A value;
+
+		/**
+		 * Количество элементов.
+		 */
+		private long count;
+
+		/**
+		 * Конструирует промежуточный результат.
+		 *
+		 * @param value промежуточный результат другого сборщика.
+		 */
+		private Container(final A value)
+		{
+			this.value = value;
+			this.count = 0;
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Класс статических методов проверки элементов потоков и итераторов без их сбора в коллекцию.
+ *
+ * <pre>{@code
+ * List<String> names = Streams.each(lines, Rules.string().notBlank().build())
+ *     .collect(Streams.notLessSize(1, Streams.notMoreSize(1000, Collectors.toList())));
+ * }</pre>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Streams
+{
+	/**
+	 * Конструирует статические проверки потоков.
+	 */
+	private Streams() {}
+
+	/**
+	 * Оборачивает поток так, что каждый элемент проверяется правилом при прохождении через поток.
+	 * <p>
+	 * Элементы проверяются лениво, только когда их запрашивает терминальная операция.
+	 * Характеристики потока и параллельность сохраняются, а закрытие нового потока закрывает исходный.
+	 *
+	 * @param stream поток.
+	 * @param rule правило проверки элементов.
+	 * @return поток проверяемых элементов.
+	 * @param <T> тип элементов.
+	 * @throws CheckException если элемент не выполняет требование правила, при его обработке.
+	 */
+	@NotNull
+	public static <T> Stream<T> each(@NotNull final Stream<T> stream, @NotNull final Rule<? super T> rule)
+	{
+		Objects.requireNonNull(stream);
+		Objects.requireNonNull(rule);
+
+		return StreamSupport.stream(new CheckingSpliterator<>(stream.spliterator(), rule), stream.isParallel())
+			.onClose(stream::close);
+	}
+
+	/**
+	 * Оборачивает итератор так, что каждый элемент проверяется правилом перед его возвратом.
+	 *
+	 * @param iterator итератор.
+	 * @param rule правило проверки элементов.
+	 * @return итератор проверяемых элементов.
+	 * @param <T> тип элементов.
+	 * @throws CheckException если элемент не выполняет требование правила, при его получении.
+	 */
+	@NotNull
+	public static <T> Iterator<T> each(@NotNull final Iterator<T> iterator, @NotNull final Rule<? super T> rule)
+	{
+		Objects.requireNonNull(iterator);
+		Objects.requireNonNull(rule);
+
+		return new CheckingIterator<>(iterator, rule);
+	}
+
+	/**
+	 * Оборачивает разделитель так, что каждый элемент проверяется правилом перед передачей его действию.
+	 * <p>
+	 * Характеристики разделителя сохраняются, а его части также проверяют элементы.
+	 *
+	 * @param spliterator разделитель.
+	 * @param rule правило проверки элементов.
+	 * @return разделитель проверяемых элементов.
+	 * @param <T> тип элементов.
+	 * @throws CheckException если элемент не выполняет требование правила, при его обработке.
+	 */
+	@NotNull
+	public static <T> Spliterator<T> each(@NotNull final Spliterator<T> spliterator, @NotNull final Rule<? super T> rule)
+	{
+		Objects.requireNonNull(spliterator);
+		Objects.requireNonNull(rule);
+
+		return new CheckingSpliterator<>(spliterator, rule);
+	}
+
+	/**
+	 * Создаёт сборщик, проверяющий, не превышается ли количество элементов потока.
+	 * <p>
+	 * Элементы передаются другому сборщику, а сам сборщик их не хранит.
+	 *
+	 * @param size максимальное количество элементов (включительно).
+	 * @param downstream другой сборщик.
+	 * @return сборщик.
+	 * @param <T> тип элементов.
+	 * @param <A> тип промежуточного результата другого сборщика.
+	 * @param <R> тип результата.
+	 * @throws MoreSizeObjectCheckException если количество элементов превышено, на элементе, который его превысил.
+	 */
+	@NotNull
+	public static <T, A, R> Collector<T, ?, R> notMoreSize(final int size, @NotNull final Collector<T, A, R> downstream)
+	{
+		return notMoreSize(size, downstream, null);
+	}
+
+	/**
+	 * Создаёт сборщик, проверяющий, не превышается ли количество элементов потока.
+	 * <p>
+	 * Элементы передаются другому сборщику, а сам сборщик их не хранит.
+	 *
+	 * @param size максимальное количество элементов (включительно).
+	 * @param downstream другой сборщик.
+	 * @param message сообщение.
+	 * @return сборщик.
+	 * @param <T> тип элементов.
+	 * @param <A> тип промежуточного результата другого сборщика.
+	 * @param <R> тип результата.
+	 * @throws MoreSizeObjectCheckException если количество элементов превышено, на элементе, который его превысил.
+	 */
+	@NotNull
+	public static <T, A, R> Collector<T, ?, R> notMoreSize(final int size, @NotNull final Collector<T, A, R> downstream, @Nullable final String message)
+	{
+		return new SizeCollector<>(0, size, message, downstream);
+	}
+
+	/**
+	 * Создаёт сборщик, проверяющий, не принижается ли количество элементов потока.
+	 * <p>
+	 * Элементы передаются другому сборщику, а сам сборщик их не хранит.
+	 *
+	 * @param size минимальное количество элементов (включительно).
+	 * @param downstream другой сборщик.
+	 * @return сборщик.
+	 * @param <T> тип элементов.
+	 * @param <A> тип промежуточного результата другого сборщика.
+	 * @param <R> тип результата.
+	 * @throws LessSizeObjectCheckException если элементов меньше, после обработки всего потока.
+	 */
+	@NotNull
+	public static <T, A, R> Collector<T, ?, R> notLessSize(final int size, @NotNull final Collector<T, A, R> downstream)
+	{
+		return notLessSize(size, downstream, null);
+	}
+
+	/**
+	 * Создаёт сборщик, проверяющий, не принижается ли количество элементов потока.
+	 * <p>
+	 * Элементы передаются другому сборщику, а сам сборщик их не хранит.
+	 *
+	 * @param size минимальное количество элементов (включительно).
+	 * @param downstream другой сборщик.
+	 * @param message сообщение.
+	 * @return сборщик.
+	 * @param <T> тип элементов.
+	 * @param <A> тип промежуточного результата другого сборщика.
+	 * @param <R> тип результата.
+	 * @throws LessSizeObjectCheckException если элементов меньше, после обработки всего потока.
+	 */
+	@NotNull
+	public static <T, A, R> Collector<T, ?, R> notLessSize(final int size, @NotNull final Collector<T, A, R> downstream, @Nullable final String message)
+	{
+		return new SizeCollector<>(size, Long.MAX_VALUE, message, downstream);
+	}
+}
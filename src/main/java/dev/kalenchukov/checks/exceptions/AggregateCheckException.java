@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Класс исключения при нескольких невыполненных требованиях.
+ *
+ * @author Алексей Каленчуков
+ */
+public class AggregateCheckException extends CheckException
+{
+	/**
+	 * Невыполненные требования.
+	 */
+	@NotNull
+	private final List<Failure> failures;
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param failures невыполненные требования в порядке проверок.
+	 */
+	public AggregateCheckException(@Nullable final Object culprit, @NotNull final List<Failure> failures)
+	{
+		this(culprit, failures, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 * <p>
+	 * Сообщение исключения составляется из сообщений невыполненных требований
+	 * при первом обращении к нему.
+	 *
+	 * @param culprit виновник.
+	 * @param failures невыполненные требования в порядке проверок.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public AggregateCheckException(@Nullable final Object culprit, @NotNull final List<Failure> failures,
+								   final boolean stackless)
+	{
+		super(culprit, () -> AggregateCheckException.join(failures), stackless);
+
+		Objects.requireNonNull(failures);
+
+		this.failures = List.copyOf(failures);
+	}
+
+	/**
+	 * Возвращает невыполненные требования.
+	 *
+	 * @return неизменяемый список невыполненных требований в порядке проверок.
+	 */
+	@NotNull
+	public List<Failure> getFailures()
+	{
+		return this.failures;
+	}
+
+	/**
+	 * Составляет сообщение из невыполненных требований.
+	 *
+	 * @param failures невыполненные требования.
+	 * @return сообщение.
+	 */
+	@NotNull
+	private static String join(@NotNull final List<Failure> failures)
+	{
+		StringBuilder message = new StringBuilder();
+
+		for (Failure failure : failures)
+		{
+			if (message.length() > 0) {
+				message.append("; ");
+			}
+
+			message.append(failure);
+		}
+
+		return message.toString();
+	}
+}
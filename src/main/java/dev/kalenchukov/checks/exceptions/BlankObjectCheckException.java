@@ -18,8 +18,11 @@
 
 package dev.kalenchukov.checks.exceptions;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
+
 /**
  * Класс исключения при пустом значении с игнорированием белых символов.
  *
@@ -47,4 +50,39 @@ public class BlankObjectCheckException extends CheckException
 	{
 		super(culprit, message);
 	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public BlankObjectCheckException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public BlankObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		super(culprit, message);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public BlankObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+	}
 }
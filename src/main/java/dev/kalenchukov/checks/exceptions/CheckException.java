@@ -21,7 +21,10 @@ package dev.kalenchukov.checks.exceptions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Класс исключения при некорректном значении.
@@ -30,6 +33,20 @@ import java.util.Objects;
  */
 public class CheckException extends RuntimeException
 {
+	/**
+	 * Название системного свойства, включающего создание исключений без трассировки стека.
+	 * <p>
+	 * Значение свойства читается один раз при загрузке класса, поэтому его необходимо задавать
+	 * при запуске приложения, например {@code -Ddev.kalenchukov.checks.stackless=true}.
+	 */
+	@NotNull
+	public static final String STACKLESS_PROPERTY = "dev.kalenchukov.checks.stackless";
+
+	/**
+	 * Создаются ли все исключения без трассировки стека.
+	 */
+	private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
 	/**
 	 * Виновник.
 	 */
@@ -40,7 +57,16 @@ public class CheckException extends RuntimeException
 	 * Сообщение.
 	 */
 	@Nullable
-	private final String message;
+	private String message;
+
+	/**
+	 * Поставщик сообщения.
+	 * <p>
+	 * Вызывается один раз при первом обращении к сообщению, после чего сообщение сохраняется.
+	 * Не сериализуется: перед сериализацией сообщение вычисляется.
+	 */
+	@Nullable
+	private transient volatile Supplier<String> messageSupplier;
 
 	/**
 	 * Конструирует исключение.
@@ -49,10 +75,7 @@ public class CheckException extends RuntimeException
 	 */
 	public CheckException(@Nullable final Object culprit)
 	{
-		super();
-
-		this.culprit = culprit;
-		this.message = null;
+		this(culprit, (String) null, false);
 	}
 
 	/**
@@ -63,10 +86,58 @@ public class CheckException extends RuntimeException
 	 */
 	public CheckException(@Nullable final Object culprit, @Nullable final String message)
 	{
-		super(message);
+		this(culprit, message, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 * <p>
+	 * Исключение без трассировки стека не заполняет стек вызовов и не накапливает подавленные исключения,
+	 * что значительно удешевляет его создание. Исключение создаётся без трассировки стека также в случае,
+	 * если задано системное свойство {@link #STACKLESS_PROPERTY}.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public CheckException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+	{
+		super(message, null, !(stackless || STACKLESS), !(stackless || STACKLESS));
 
 		this.culprit = culprit;
 		this.message = message;
+		this.messageSupplier = null;
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public CheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		this(culprit, message, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 * <p>
+	 * Поставщик сообщения вызывается только при первом обращении к сообщению исключения.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public CheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		super(null, null, !(stackless || STACKLESS), !(stackless || STACKLESS));
+
+		Objects.requireNonNull(message);
+
+		this.culprit = culprit;
+		this.message = null;
+		this.messageSupplier = message;
 	}
 
 	/**
@@ -82,6 +153,9 @@ public class CheckException extends RuntimeException
 
 	/**
 	 * Возвращает сообщение.
+	 * <p>
+	 * Поставщик сообщения вызывается не более одного раза, даже если к сообщению обращаются
+	 * несколько потоков одновременно.
 	 *
 	 * @return сообщение.
 	 */
@@ -89,6 +163,33 @@ public class CheckException extends RuntimeException
 	@Override
 	public String getMessage()
 	{
-		return this.message;
+		if (this.messageSupplier == null) {
+			return this.message;
+		}
+
+		synchronized (this)
+		{
+			final Supplier<String> supplier = this.messageSupplier;
+
+			if (supplier != null) {
+				this.message = supplier.get();
+				this.messageSupplier = null;
+			}
+
+			return this.message;
+		}
+	}
+
+	/**
+	 * Сериализует исключение, предварительно вычисляя сообщение.
+	 *
+	 * @param stream поток вывода.
+	 * @throws IOException если произошла ошибка ввода-вывода.
+	 */
+	private void writeObject(@NotNull final ObjectOutputStream stream) throws IOException
+	{
+		this.getMessage();
+
+		stream.defaultWriteObject();
 	}
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Класс исключения при наличии повторяющихся элементов в объекте.
+ * <p>
+ * Виновником исключения является проверяемый объект, а найденный повторяющийся элемент и его позиция
+ * доступны методами {@link #getElement()} и {@link #getIndex()}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class DuplicateObjectCheckException extends CheckException
+{
+	/**
+	 * Позиция повторяющегося элемента.
+	 */
+	private final int index;
+
+	/**
+	 * Повторяющийся элемент.
+	 */
+	@Nullable
+	private final Object element;
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit)
+	{
+		this(culprit, (String) null, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit, @Nullable final String message)
+	{
+		this(culprit, message, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+	{
+		this(culprit, -1, null, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		this(culprit, message, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		this(culprit, -1, null, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param index позиция повторяющегося элемента.
+	 * @param element повторяющийся элемент.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit, final int index, @Nullable final Object element,
+										 @Nullable final String message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+
+		this.index = index;
+		this.element = element;
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param index позиция повторяющегося элемента.
+	 * @param element повторяющийся элемент.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public DuplicateObjectCheckException(@Nullable final Object culprit, final int index, @Nullable final Object element,
+										 @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+
+		this.index = index;
+		this.element = element;
+	}
+
+	/**
+	 * Возвращает позицию повторяющегося элемента.
+	 *
+	 * @return позицию элемента или {@code -1}, если позиция неизвестна.
+	 */
+	public int getIndex()
+	{
+		return this.index;
+	}
+
+	/**
+	 * Возвращает повторяющийся элемент.
+	 *
+	 * @return элемент или {@code null}, если элемент неизвестен.
+	 */
+	@Nullable
+	public Object getElement()
+	{
+		return this.element;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Класс исключения при некорректном элементе объекта, содержащего множество объектов.
+ * <p>
+ * Виновником исключения является проверяемый объект, а некорректный элемент и его позиция
+ * доступны методами {@link #getElement()} и {@link #getIndex()}. У отображений некорректным элементом
+ * является запись {@link java.util.Map.Entry}, а позиция не определена.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ElementObjectCheckException extends CheckException
+{
+	/**
+	 * Позиция некорректного элемента.
+	 */
+	private final int index;
+
+	/**
+	 * Некорректный элемент.
+	 */
+	@Nullable
+	private final Object element;
+
+	/**
+	 * Нарушение требования элементом.
+	 */
+	@Nullable
+	private final Violation elementViolation;
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit)
+	{
+		this(culprit, (String) null, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit, @Nullable final String message)
+	{
+		this(culprit, message, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+	{
+		this(culprit, -1, null, null, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		this(culprit, message, false);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		this(culprit, -1, null, null, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param index позиция некорректного элемента.
+	 * @param element некорректный элемент.
+	 * @param elementViolation нарушение требования элементом.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit, final int index, @Nullable final Object element,
+									   @Nullable final Violation elementViolation, @Nullable final String message,
+									   final boolean stackless)
+	{
+		super(culprit, message, stackless);
+
+		this.index = index;
+		this.element = element;
+		this.elementViolation = elementViolation;
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param index позиция некорректного элемента.
+	 * @param element некорректный элемент.
+	 * @param elementViolation нарушение требования элементом.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public ElementObjectCheckException(@Nullable final Object culprit, final int index, @Nullable final Object element,
+									   @Nullable final Violation elementViolation, @NotNull final Supplier<String> message,
+									   final boolean stackless)
+	{
+		super(culprit, message, stackless);
+
+		this.index = index;
+		this.element = element;
+		this.elementViolation = elementViolation;
+	}
+
+	/**
+	 * Возвращает позицию некорректного элемента в порядке обхода объекта.
+	 *
+	 * @return позицию элемента или {@code -1}, если позиция неизвестна.
+	 */
+	public int getIndex()
+	{
+		return this.index;
+	}
+
+	/**
+	 * Возвращает некорректный элемент.
+	 *
+	 * @return элемент или {@code null}, если элемент неизвестен.
+	 */
+	@Nullable
+	public Object getElement()
+	{
+		return this.element;
+	}
+
+	/**
+	 * Возвращает нарушение требования элементом.
+	 *
+	 * @return нарушение или {@code null}, если элемент неизвестен.
+	 */
+	@Nullable
+	public Violation getElementViolation()
+	{
+		return this.elementViolation;
+	}
+}
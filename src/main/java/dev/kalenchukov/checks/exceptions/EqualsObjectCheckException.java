@@ -22,6 +22,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Класс исключения при равных значениях.
@@ -50,4 +51,39 @@ public class EqualsObjectCheckException extends CheckException
 	{
 		super(culprit, message);
 	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public EqualsObjectCheckException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public EqualsObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		super(culprit, message);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public EqualsObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+	}
 }
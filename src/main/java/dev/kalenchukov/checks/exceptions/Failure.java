@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Класс невыполненного требования, запомненного проверяющим.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Failure
+{
+	/**
+	 * Нарушение.
+	 */
+	@NotNull
+	private final Violation violation;
+
+	/**
+	 * Виновник.
+	 */
+	@Nullable
+	private final Object culprit;
+
+	/**
+	 * Сообщение.
+	 */
+	@Nullable
+	private String message;
+
+	/**
+	 * Поставщик сообщения.
+	 */
+	@Nullable
+	private volatile Supplier<String> messageSupplier;
+
+	/**
+	 * Конструирует невыполненное требование.
+	 *
+	 * @param violation нарушение.
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 */
+	public Failure(@NotNull final Violation violation, @Nullable final Object culprit, @Nullable final String message)
+	{
+		Objects.requireNonNull(violation);
+
+		this.violation = violation;
+		this.culprit = culprit;
+		this.message = message;
+		this.messageSupplier = null;
+	}
+
+	/**
+	 * Конструирует невыполненное требование.
+	 *
+	 * @param violation нарушение.
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public Failure(@NotNull final Violation violation, @Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(violation);
+		Objects.requireNonNull(message);
+
+		this.violation = violation;
+		this.culprit = culprit;
+		this.message = null;
+		this.messageSupplier = message;
+	}
+
+	/**
+	 * Возвращает нарушение.
+	 *
+	 * @return нарушение.
+	 */
+	@NotNull
+	public Violation getViolation()
+	{
+		return this.violation;
+	}
+
+	/**
+	 * Возвращает виновника.
+	 *
+	 * @return виновника.
+	 */
+	@Nullable
+	public Object getCulprit()
+	{
+		return this.culprit;
+	}
+
+	/**
+	 * Возвращает сообщение.
+	 * <p>
+	 * Поставщик сообщения вызывается только при первом обращении к сообщению.
+	 *
+	 * @return сообщение.
+	 */
+	@Nullable
+	public String getMessage()
+	{
+		Supplier<String> supplier = this.messageSupplier;
+
+		if (supplier != null)
+		{
+			String message = supplier.get();
+
+			this.message = message;
+			this.messageSupplier = null;
+
+			return message;
+		}
+
+		return this.message;
+	}
+
+	/**
+	 * Возвращает строковое представление невыполненного требования.
+	 *
+	 * @return нарушение и сообщение, если оно задано.
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		String message = this.getMessage();
+
+		return message == null ? this.violation.name() : this.violation.name() + ": " + message;
+	}
+}
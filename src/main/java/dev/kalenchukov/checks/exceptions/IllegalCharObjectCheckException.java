@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Класс исключения при наличии недопустимых символов в значении объекта.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IllegalCharObjectCheckException extends CheckException
+{
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 */
+	public IllegalCharObjectCheckException(@Nullable final Object culprit)
+	{
+		super(culprit);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 */
+	public IllegalCharObjectCheckException(@Nullable final Object culprit, @Nullable final String message)
+	{
+		super(culprit, message);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public IllegalCharObjectCheckException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 */
+	public IllegalCharObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message)
+	{
+		super(culprit, message);
+	}
+
+	/**
+	 * Конструирует исключение.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 */
+	public IllegalCharObjectCheckException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+	{
+		super(culprit, message, stackless);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Класс шаблона сообщения исключения.
+ * <p>
+ * Каждая пара символов {@code {}} в шаблоне заменяется следующим по порядку аргументом,
+ * а экранированная пара {@code \{}} выводится как есть. Лишние аргументы игнорируются,
+ * а пары без аргументов остаются в сообщении без изменений.
+ * <p>
+ * Сообщение формируется только при вызове метода {@link #get()}, поэтому шаблон можно
+ * передавать исключению и не тратить время на формирование сообщения, которое не будет прочитано.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class MessageTemplate implements Supplier<String>
+{
+	/**
+	 * Шаблон сообщения.
+	 */
+	@NotNull
+	private final String pattern;
+
+	/**
+	 * Аргументы шаблона.
+	 */
+	@Nullable
+	private final Object @NotNull [] arguments;
+
+	/**
+	 * Конструирует шаблон сообщения.
+	 *
+	 * @param pattern шаблон сообщения.
+	 * @param arguments аргументы шаблона.
+	 */
+	public MessageTemplate(@NotNull final String pattern, @Nullable final Object @NotNull ... arguments)
+	{
+		Objects.requireNonNull(pattern);
+		Objects.requireNonNull(arguments);
+
+		this.pattern = pattern;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Возвращает сообщение, сформированное по шаблону.
+	 *
+	 * @return сообщение.
+	 */
+	@NotNull
+	@Override
+	public String get()
+	{
+		StringBuilder message = new StringBuilder(this.pattern.length() + 16 * this.arguments.length);
+		int argument = 0;
+		int start = 0;
+
+		while (true)
+		{
+			int placeholder = this.pattern.indexOf("{}", start);
+
+			if (placeholder < 0) {
+				break;
+			}
+
+			if (placeholder > 0 && this.pattern.charAt(placeholder - 1) == '\\') {
+				message.append(this.pattern, start, placeholder - 1).append("{}");
+				start = placeholder + 2;
+
+				continue;
+			}
+
+			if (argument >= this.arguments.length) {
+				break;
+			}
+
+			message.append(this.pattern, start, placeholder);
+			this.appendArgument(message, this.arguments[argument++]);
+			start = placeholder + 2;
+		}
+
+		return message.append(this.pattern, start, this.pattern.length()).toString();
+	}
+
+	/**
+	 * Добавляет строковое представление аргумента к сообщению.
+	 *
+	 * @param message сообщение.
+	 * @param argument аргумент.
+	 */
+	private void appendArgument(@NotNull final StringBuilder message, @Nullable final Object argument)
+	{
+		if (argument == null || !argument.getClass().isArray()) {
+			message.append(argument);
+
+			return;
+		}
+
+		String array = Arrays.deepToString(new Object[] {argument});
+
+		message.append(array, 1, array.length() - 1);
+	}
+
+	/**
+	 * Возвращает сообщение, сформированное по шаблону.
+	 *
+	 * @return сообщение.
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return this.get();
+	}
+}
@@ -0,0 +1,612 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Перечисление нарушений требований.
+ * <p>
+ * Каждому нарушению соответствует тип исключения и код, по которому нарушение
+ * можно передать без создания объектов. Код {@code 0} означает отсутствие нарушения.
+ *
+ * @author Алексей Каленчуков
+ */
+public enum Violation
+{
+	/**
+	 * Нарушение требования, чтобы объект не был {@code null}.
+	 */
+	NULL
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new NullObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new NullObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы объект не был равным.
+	 */
+	EQUALS
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new EqualsObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new EqualsObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы объект не удовлетворял условию.
+	 */
+	ILLEGAL
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new IllegalObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new IllegalObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы объект не был пустым.
+	 */
+	EMPTY
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new EmptyObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new EmptyObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не было пустым с игнорированием белых символов.
+	 */
+	BLANK
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new BlankObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new BlankObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество символов объекта не было равным.
+	 */
+	LENGTH
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new LengthObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new LengthObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество символов объекта не входило в диапазон.
+	 */
+	RANGE_LENGTH
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new RangeLengthObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new RangeLengthObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество символов объекта не превышалось.
+	 */
+	MORE_LENGTH
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new MoreLengthObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new MoreLengthObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество символов объекта не принижалось.
+	 */
+	LESS_LENGTH
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new LessLengthObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new LessLengthObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество элементов объекта не было равным.
+	 */
+	SIZE
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new SizeObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new SizeObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество элементов объекта не входило в диапазон.
+	 */
+	RANGE_SIZE
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new RangeSizeObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new RangeSizeObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество элементов объекта не превышалось.
+	 */
+	MORE_SIZE
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new MoreSizeObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new MoreSizeObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы количество элементов объекта не принижалось.
+	 */
+	LESS_SIZE
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new LessSizeObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new LessSizeObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не было равным нулю.
+	 */
+	ZERO_NUMBER
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new ZeroNumberObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new ZeroNumberObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не было отрицательным числом.
+	 */
+	NEGATIVE_NUMBER
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new NegativeNumberObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new NegativeNumberObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не было положительным числом.
+	 */
+	POSITIVE_NUMBER
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new PositiveNumberObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new PositiveNumberObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не было больше числа.
+	 */
+	MORE_NUMBER
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new MoreNumberObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new MoreNumberObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не было меньше числа.
+	 */
+	LESS_NUMBER
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new LessNumberObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new LessNumberObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не входило в диапазон чисел.
+	 */
+	RANGE_NUMBER
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new RangeNumberObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new RangeNumberObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования к элементам объекта, содержащего множество объектов.
+	 */
+	ELEMENT
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new ElementObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new ElementObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы объект не содержал {@code null}.
+	 */
+	CONTAINS_NULL
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new ContainsNullObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new ContainsNullObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы объект не содержал повторяющихся элементов.
+	 */
+	DUPLICATE
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new DuplicateObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new DuplicateObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не содержало белых символов.
+	 */
+	WHITESPACE
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new WhitespaceObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new WhitespaceObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта соответствовало регулярному выражению.
+	 */
+	MISMATCH
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new MismatchObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new MismatchObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта не соответствовало регулярному выражению.
+	 */
+	MATCH
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new MatchObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new MatchObjectCheckException(culprit, message, stackless);
+		}
+	},
+
+	/**
+	 * Нарушение требования, чтобы значение объекта состояло только из допустимых символов.
+	 */
+	ILLEGAL_CHAR
+	{
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @Nullable final String message, final boolean stackless)
+		{
+			return new IllegalCharObjectCheckException(culprit, message, stackless);
+		}
+
+		@NotNull
+		@Override
+		public CheckException createException(@Nullable final Object culprit, @NotNull final Supplier<String> message, final boolean stackless)
+		{
+			return new IllegalCharObjectCheckException(culprit, message, stackless);
+		}
+	};
+
+	/**
+	 * Нарушения в порядке кодов.
+	 */
+	private static final Violation @NotNull [] VALUES = Violation.values();
+
+	/**
+	 * Возвращает код нарушения.
+	 * <p>
+	 * Коды начинаются с {@code 1} и соответствуют порядку объявления нарушений.
+	 *
+	 * @return код нарушения.
+	 */
+	public int getCode()
+	{
+		return this.ordinal() + 1;
+	}
+
+	/**
+	 * Возвращает нарушение по коду.
+	 *
+	 * @param code код нарушения.
+	 * @return нарушение или {@code null}, если код равен {@code 0}.
+	 * @throws IllegalArgumentException если нарушения с таким кодом нет.
+	 */
+	@Nullable
+	public static Violation ofCode(final int code)
+	{
+		if (code < 0 || code > VALUES.length) {
+			throw new IllegalArgumentException();
+		}
+
+		return code == 0 ? null : VALUES[code - 1];
+	}
+
+	/**
+	 * Создаёт исключение, соответствующее нарушению.
+	 *
+	 * @param culprit виновник.
+	 * @param message сообщение.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 * @return исключение.
+	 */
+	@NotNull
+	public abstract CheckException createException(@Nullable Object culprit, @Nullable String message, boolean stackless);
+
+	/**
+	 * Создаёт исключение, соответствующее нарушению.
+	 *
+	 * @param culprit виновник.
+	 * @param message поставщик сообщения.
+	 * @param stackless {@code true}, если исключение создаётся без трассировки стека.
+	 * @return исключение.
+	 */
+	@NotNull
+	public abstract CheckException createException(@Nullable Object culprit, @NotNull Supplier<String> message, boolean stackless);
+}
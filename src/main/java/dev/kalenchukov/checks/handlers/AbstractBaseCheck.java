@@ -0,0 +1,727 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.AggregateCheckException;
+import dev.kalenchukov.checks.exceptions.CheckException;
+import dev.kalenchukov.checks.exceptions.DuplicateObjectCheckException;
+import dev.kalenchukov.checks.exceptions.ElementObjectCheckException;
+import dev.kalenchukov.checks.exceptions.Failure;
+import dev.kalenchukov.checks.exceptions.MessageTemplate;
+import dev.kalenchukov.checks.exceptions.Violation;
+import dev.kalenchukov.checks.handlers.interfaces.BaseChecking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Класс частичной реализации проверяющего с общими для всех проверяющих режимами работы.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @author Алексей Каленчуков
+ */
+abstract class AbstractBaseCheck<SELF extends AbstractBaseCheck<SELF>>
+	implements BaseChecking<SELF>
+{
+	/**
+	 * Режимы работы и невыполненные требования или {@code null}, если проверяющий работает
+	 * в режиме по умолчанию и требования пока выполнены.
+	 * <p>
+	 * Состояние создаётся при включении режима работы или при первом невыполненном требовании,
+	 * поэтому проверяющий, все проверки которого пройдены, хранит вместо полей состояния одну пустую ссылку.
+	 */
+	@Nullable
+	private State state;
+
+	/**
+	 * Конструирует проверяющего.
+	 */
+	protected AbstractBaseCheck()
+	{
+		this.state = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF stackless()
+	{
+		this.state().stackless = true;
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF silent()
+	{
+		this.state().silent = true;
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF accumulate()
+	{
+		final State state = this.state();
+
+		state.silent = true;
+		state.accumulating = true;
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean isViolated()
+	{
+		return this.state != null && this.state.violation != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int getViolationCode()
+	{
+		final Violation violation = this.getViolation();
+
+		return violation == null ? 0 : violation.getCode();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public Violation getViolation()
+	{
+		return this.state == null ? null : this.state.violation;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public CheckException getException()
+	{
+		final State state = this.state;
+
+		if (state == null || state.violation == null) {
+			return null;
+		}
+
+		if (state.accumulating) {
+			return new AggregateCheckException(this.getCulprit(), this.getFailures(), state.stackless);
+		}
+
+		if (state.messageSupplier != null) {
+			return this.createException(state.violation, state.messageSupplier);
+		}
+
+		if (state.pattern != null) {
+			return this.createException(
+				state.violation,
+				AbstractBaseCheck.createTemplate(
+					state.pattern, state.argumentCount, state.argument1, state.argument2, state.argument3
+				)
+			);
+		}
+
+		return this.createException(state.violation, state.message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<Failure> getFailures()
+	{
+		final State state = this.state;
+
+		if (state == null || state.violation == null) {
+			return List.of();
+		}
+
+		final Object culprit = this.getCulprit();
+
+		if (!state.accumulating)
+		{
+			if (state.messageSupplier != null) {
+				return List.of(new Failure(state.violation, culprit, state.messageSupplier));
+			}
+
+			if (state.pattern != null) {
+				return List.of(new Failure(
+					state.violation,
+					culprit,
+					AbstractBaseCheck.createTemplate(
+						state.pattern, state.argumentCount, state.argument1, state.argument2, state.argument3
+					)
+				));
+			}
+
+			return List.of(new Failure(state.violation, culprit, state.message));
+		}
+
+		final List<Failure> failures = new ArrayList<>(state.failureCount);
+
+		for (int index = 0; index < state.failureCount; index++)
+		{
+			final Violation violation = state.failedViolations[index];
+			final Object message = state.failedMessages[index];
+
+			if (message instanceof Supplier<?>) {
+				@SuppressWarnings("unchecked")
+				final Supplier<String> supplier = (Supplier<String>) message;
+
+				failures.add(new Failure(violation, culprit, supplier));
+
+				continue;
+			}
+
+			failures.add(new Failure(violation, culprit, (String) message));
+		}
+
+		return List.copyOf(failures);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 * @throws CheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF throwIfViolated()
+	{
+		final CheckException exception = this.getException();
+
+		if (exception != null) {
+			throw exception;
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Обрабатывает невыполненное требование.
+	 * <p>
+	 * Вызывает исключение или, если проверки не вызывают исключения, запоминает первое невыполненное требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws CheckException если проверки вызывают исключения.
+	 */
+	@NotNull
+	protected final SELF fail(@NotNull final Violation violation, @Nullable final String message)
+	{
+		final State state = this.state;
+
+		if (state == null || !state.silent) {
+			throw this.createException(violation, message);
+		}
+
+		if (state.accumulating) {
+			state.addFailure(violation, message);
+		}
+
+		if (state.violation == null) {
+			state.violation = violation;
+			state.message = message;
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Обрабатывает невыполненное требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param message поставщик сообщения.
+	 * @return объект проверяющего.
+	 * @throws CheckException если проверки вызывают исключения.
+	 */
+	@NotNull
+	protected final SELF fail(@NotNull final Violation violation, @NotNull final Supplier<String> message)
+	{
+		final State state = this.state;
+
+		if (state == null || !state.silent) {
+			throw this.createException(violation, message);
+		}
+
+		if (state.accumulating) {
+			state.addFailure(violation, message);
+		}
+
+		if (state.violation == null) {
+			state.violation = violation;
+			state.messageSupplier = message;
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Обрабатывает невыполненное требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param pattern шаблон сообщения.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws CheckException если проверки вызывают исключения.
+	 */
+	@NotNull
+	protected final SELF fail(@NotNull final Violation violation, @NotNull final String pattern,
+							  @Nullable final Object argument)
+	{
+		return this.fail(violation, pattern, 1, argument, null, null);
+	}
+
+	/**
+	 * Обрабатывает невыполненное требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param pattern шаблон сообщения.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws CheckException если проверки вызывают исключения.
+	 */
+	@NotNull
+	protected final SELF fail(@NotNull final Violation violation, @NotNull final String pattern,
+							  @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		return this.fail(violation, pattern, 2, argument1, argument2, null);
+	}
+
+	/**
+	 * Обрабатывает невыполненное требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param pattern шаблон сообщения.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws CheckException если проверки вызывают исключения.
+	 */
+	@NotNull
+	protected final SELF fail(@NotNull final Violation violation, @NotNull final String pattern,
+							  @Nullable final Object argument1, @Nullable final Object argument2,
+							  @Nullable final Object argument3)
+	{
+		return this.fail(violation, pattern, 3, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Сбрасывает запомненное невыполненное требование.
+	 * <p>
+	 * Режимы работы сохраняются.
+	 */
+	protected final void resetViolation()
+	{
+		if (this.state != null) {
+			this.state.reset();
+		}
+	}
+
+	/**
+	 * Запоминает некорректный элемент для исключения о нарушении {@link Violation#ELEMENT}
+	 * или {@link Violation#DUPLICATE}.
+	 * <p>
+	 * В режиме без исключений запоминается только элемент первого невыполненного требования.
+	 *
+	 * @param index позиция элемента или {@code -1}, если позиция неизвестна.
+	 * @param element элемент.
+	 * @param violation нарушение требования элементом.
+	 */
+	protected final void locateElement(final int index, @Nullable final Object element,
+									   @Nullable final Violation violation)
+	{
+		final State state = this.state();
+
+		if (state.silent && state.violation != null) {
+			return;
+		}
+
+		state.elementIndex = index;
+		state.element = element;
+		state.elementViolation = violation;
+	}
+
+	/**
+	 * Возвращает виновника исключения.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Nullable
+	protected abstract Object getCulprit();
+
+	/**
+	 * Обрабатывает невыполненное требование с шаблоном сообщения.
+	 *
+	 * @param violation нарушение требования.
+	 * @param pattern шаблон сообщения.
+	 * @param argumentCount количество аргументов шаблона.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws CheckException если проверки вызывают исключения.
+	 */
+	@NotNull
+	private SELF fail(@NotNull final Violation violation, @NotNull final String pattern, final int argumentCount,
+					  @Nullable final Object argument1, @Nullable final Object argument2,
+					  @Nullable final Object argument3)
+	{
+		final State state = this.state;
+
+		if (state == null || !state.silent) {
+			throw this.createException(
+				violation, AbstractBaseCheck.createTemplate(pattern, argumentCount, argument1, argument2, argument3)
+			);
+		}
+
+		if (state.accumulating) {
+			state.addFailure(
+				violation, AbstractBaseCheck.createTemplate(pattern, argumentCount, argument1, argument2, argument3)
+			);
+		}
+
+		if (state.violation == null) {
+			state.violation = violation;
+			state.pattern = pattern;
+			state.argumentCount = argumentCount;
+			state.argument1 = argument1;
+			state.argument2 = argument2;
+			state.argument3 = argument3;
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Возвращает состояние проверяющего, создавая его при первом обращении.
+	 *
+	 * @return состояние проверяющего.
+	 */
+	@NotNull
+	private State state()
+	{
+		if (this.state == null) {
+			this.state = new State();
+		}
+
+		return this.state;
+	}
+
+	/**
+	 * Создаёт исключение для нарушения требования.
+	 * <p>
+	 * Исключение о некорректном элементе дополняется позицией, самим элементом и его нарушением,
+	 * а исключение о повторяющихся элементах — позицией и самим повторяющимся элементом.
+	 *
+	 * @param violation нарушение требования.
+	 * @param message сообщение исключения.
+	 * @return исключение.
+	 */
+	@NotNull
+	private CheckException createException(@NotNull final Violation violation, @Nullable final String message)
+	{
+		final State state = this.state();
+
+		if (violation == Violation.ELEMENT) {
+			return new ElementObjectCheckException(
+				this.getCulprit(), state.elementIndex, state.element, state.elementViolation, message, state.stackless
+			);
+		}
+
+		if (violation == Violation.DUPLICATE) {
+			return new DuplicateObjectCheckException(
+				this.getCulprit(), state.elementIndex, state.element, message, state.stackless
+			);
+		}
+
+		return violation.createException(this.getCulprit(), message, state.stackless);
+	}
+
+	/**
+	 * Создаёт исключение для нарушения требования.
+	 * <p>
+	 * Исключение о некорректном элементе дополняется позицией, самим элементом и его нарушением,
+	 * а исключение о повторяющихся элементах — позицией и самим повторяющимся элементом.
+	 *
+	 * @param violation нарушение требования.
+	 * @param message поставщик сообщения исключения.
+	 * @return исключение.
+	 */
+	@NotNull
+	private CheckException createException(@NotNull final Violation violation, @NotNull final Supplier<String> message)
+	{
+		final State state = this.state();
+
+		if (violation == Violation.ELEMENT) {
+			return new ElementObjectCheckException(
+				this.getCulprit(), state.elementIndex, state.element, state.elementViolation, message, state.stackless
+			);
+		}
+
+		if (violation == Violation.DUPLICATE) {
+			return new DuplicateObjectCheckException(
+				this.getCulprit(), state.elementIndex, state.element, message, state.stackless
+			);
+		}
+
+		return violation.createException(this.getCulprit(), message, state.stackless);
+	}
+
+	/**
+	 * Создаёт шаблон сообщения.
+	 *
+	 * @param pattern шаблон сообщения.
+	 * @param argumentCount количество аргументов шаблона.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return шаблон сообщения.
+	 */
+	@NotNull
+	private static MessageTemplate createTemplate(@NotNull final String pattern, final int argumentCount,
+												  @Nullable final Object argument1, @Nullable final Object argument2,
+												  @Nullable final Object argument3)
+	{
+		return switch (argumentCount)
+		{
+			case 1 -> new MessageTemplate(pattern, argument1);
+			case 2 -> new MessageTemplate(pattern, argument1, argument2);
+			default -> new MessageTemplate(pattern, argument1, argument2, argument3);
+		};
+	}
+
+	/**
+	 * Возвращает объект проверяющего.
+	 * <p>
+	 * Проверяющий не хранит ссылку на самого себя в поле, так как такая ссылка не позволяет
+	 * JIT-компилятору устранить создание проверяющего, не покидающего метод.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	protected final SELF self()
+	{
+		return (SELF) this;
+	}
+
+	/**
+	 * Класс режимов работы и невыполненных требований проверяющего.
+	 */
+	private static final class State
+	{
+		/**
+		 * Создаются ли исключения без трассировки стека.
+		 */
+		private boolean stackless;
+
+		/**
+		 * Вызывают ли проверки исключения.
+		 */
+		private boolean silent;
+
+		/**
+		 * Запоминаются ли все невыполненные требования.
+		 */
+		private boolean accumulating;
+
+		/**
+		 * Нарушение первого невыполненного требования.
+		 */
+		@Nullable
+		private Violation violation;
+
+		/**
+		 * Сообщение исключения невыполненного требования.
+		 */
+		@Nullable
+		private String message;
+
+		/**
+		 * Поставщик сообщения исключения невыполненного требования.
+		 */
+		@Nullable
+		private Supplier<String> messageSupplier;
+
+		/**
+		 * Шаблон сообщения исключения невыполненного требования.
+		 */
+		@Nullable
+		private String pattern;
+
+		/**
+		 * Количество аргументов шаблона.
+		 */
+		private int argumentCount;
+
+		/**
+		 * 1-й аргумент шаблона.
+		 */
+		@Nullable
+		private Object argument1;
+
+		/**
+		 * 2-й аргумент шаблона.
+		 */
+		@Nullable
+		private Object argument2;
+
+		/**
+		 * 3-й аргумент шаблона.
+		 */
+		@Nullable
+		private Object argument3;
+
+		/**
+		 * Нарушения всех невыполненных требований.
+		 * <p>
+		 * Массив создаётся при первом невыполненном требовании и увеличивается по мере необходимости.
+		 */
+		private Violation @Nullable [] failedViolations;
+
+		/**
+		 * Сообщения или поставщики сообщений всех невыполненных требований.
+		 */
+		private Object @Nullable [] failedMessages;
+
+		/**
+		 * Количество невыполненных требований.
+		 */
+		private int failureCount;
+
+		/**
+		 * Позиция некорректного элемента.
+		 */
+		private int elementIndex;
+
+		/**
+		 * Некорректный элемент.
+		 */
+		@Nullable
+		private Object element;
+
+		/**
+		 * Нарушение требования некорректным элементом.
+		 */
+		@Nullable
+		private Violation elementViolation;
+
+		/**
+		 * Конструирует состояние проверяющего в режиме по умолчанию.
+		 */
+		private State()
+		{
+			this.stackless = false;
+			this.silent = false;
+			this.accumulating = false;
+			this.failureCount = 0;
+			this.elementIndex = -1;
+		}
+
+		/**
+		 * Запоминает невыполненное требование.
+		 *
+		 * @param violation нарушение требования.
+		 * @param message сообщение или поставщик сообщения.
+		 */
+		private void addFailure(@NotNull final Violation violation, @Nullable final Object message)
+		{
+			if (this.failedViolations == null) {
+				this.failedViolations = new Violation[4];
+				this.failedMessages = new Object[4];
+			}
+
+			if (this.failureCount == this.failedViolations.length) {
+				this.failedViolations = Arrays.copyOf(this.failedViolations, this.failureCount * 2);
+				this.failedMessages = Arrays.copyOf(this.failedMessages, this.failureCount * 2);
+			}
+
+			this.failedViolations[this.failureCount] = violation;
+			this.failedMessages[this.failureCount] = message;
+			this.failureCount++;
+		}
+
+		/**
+		 * Сбрасывает запомненные невыполненные требования, сохраняя режимы работы.
+		 */
+		private void reset()
+		{
+			this.violation = null;
+			this.message = null;
+			this.messageSupplier = null;
+			this.pattern = null;
+			this.argumentCount = 0;
+			this.argument1 = null;
+			this.argument2 = null;
+			this.argument3 = null;
+			this.failedViolations = null;
+			this.failedMessages = null;
+			this.failureCount = 0;
+			this.elementIndex = -1;
+			this.element = null;
+			this.elementViolation = null;
+		}
+	}
+}
@@ -20,9 +20,15 @@ package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
 import dev.kalenchukov.checks.handlers.interfaces.MultipleCharChecking;
+import dev.kalenchukov.checks.text.CharClass;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Класс частичной реализации проверяющего объекты типа {@code CharSequence}.
  *
@@ -55,7 +61,7 @@ abstract class AbstractCharSequenceCheck<SELF extends AbstractCharSequenceCheck<
 	{
 		this.notEmpty(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -69,148 +75,2969 @@ abstract class AbstractCharSequenceCheck<SELF extends AbstractCharSequenceCheck<
 	@Override
 	public SELF notEmpty(@Nullable final String message)
 	{
-		if (this.target == null || this.target.isEmpty()) {
-			throw new EmptyObjectCheckException(this.target, message);
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notLength(final int length)
+	public SELF notEmpty(@NotNull final String pattern, @Nullable final Object argument)
 	{
-		this.notLength(length, null);
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument);
+		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param length {@inheritDoc}
 	 * @param message {@inheritDoc}
 	 * @return {@inheritDoc}
-	 * @throws LengthObjectCheckException {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notLength(final int length, @Nullable final String message)
+	public SELF notEmptyLazy(@NotNull final Supplier<String> message)
 	{
-		if (this.target == null || this.target.length() == length) {
-			throw new LengthObjectCheckException(this.target, message);
+		Objects.requireNonNull(message);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param from {@inheritDoc}
-	 * @param to {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notRangeLength(final int from, final int to)
+	public SELF notBlank()
 	{
-		this.notRangeLength(from, to, null);
+		this.notBlank(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param from {@inheritDoc}
-	 * @param to {@inheritDoc}
 	 * @param message {@inheritDoc}
 	 * @return {@inheritDoc}
-	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 * @throws BlankObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notRangeLength(final int from, final int to, @Nullable final String message)
+	public SELF notBlank(@Nullable final String message)
 	{
-		if (this.target == null || (this.target.length() >= from && this.target.length() <= to)) {
-			throw new RangeLengthObjectCheckException(this.target, message);
+		if (this.isBlank()) {
+			return this.fail(Violation.BLANK, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws BlankObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notMoreLength(final int length)
+	public SELF notBlank(@NotNull final String pattern, @Nullable final Object argument)
 	{
-		this.notMoreLength(length, null);
+		Objects.requireNonNull(pattern);
+
+		if (this.isBlank()) {
+			return this.fail(Violation.BLANK, pattern, argument);
+		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws BlankObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notBlank(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isBlank()) {
+			return this.fail(Violation.BLANK, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws BlankObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notBlank(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isBlank()) {
+			return this.fail(Violation.BLANK, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param length {@inheritDoc}
 	 * @param message {@inheritDoc}
 	 * @return {@inheritDoc}
-	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 * @throws BlankObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notMoreLength(final int length, @Nullable final String message)
+	public SELF notBlankLazy(@NotNull final Supplier<String> message)
 	{
-		if (this.target == null || this.target.length() > length) {
-			throw new MoreLengthObjectCheckException(this.target, message);
+		Objects.requireNonNull(message);
+
+		if (this.isBlank()) {
+			return this.fail(Violation.BLANK, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param length {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notLessLength(final int length)
+	public SELF notContainsWhitespace()
 	{
-		this.notLessLength(length, null);
+		this.notContainsWhitespace(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param length {@inheritDoc}
 	 * @param message {@inheritDoc}
 	 * @return {@inheritDoc}
-	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 * @throws WhitespaceObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public SELF notLessLength(final int length, @Nullable final String message)
+	public SELF notContainsWhitespace(@Nullable final String message)
+	{
+		if (this.hasWhitespace()) {
+			return this.fail(Violation.WHITESPACE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws WhitespaceObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsWhitespace(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasWhitespace()) {
+			return this.fail(Violation.WHITESPACE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws WhitespaceObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsWhitespace(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasWhitespace()) {
+			return this.fail(Violation.WHITESPACE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws WhitespaceObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsWhitespace(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasWhitespace()) {
+			return this.fail(Violation.WHITESPACE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws WhitespaceObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsWhitespaceLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasWhitespace()) {
+			return this.fail(Violation.WHITESPACE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final Pattern regex)
+	{
+		Objects.requireNonNull(regex);
+
+		this.matches(regex, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final Pattern regex, @Nullable final String message)
+	{
+		Objects.requireNonNull(regex);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final Pattern regex, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final Pattern regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final Pattern regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matchesLazy(@NotNull final Pattern regex, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(message);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final String regex)
+	{
+		Objects.requireNonNull(regex);
+
+		this.matches(regex, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final String regex, @Nullable final String message)
 	{
-		if (this.target == null || this.target.length() < length) {
-			throw new LessLengthObjectCheckException(this.target, message);
+		Objects.requireNonNull(regex);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final String regex, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final String regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matches(@NotNull final String regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MismatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF matchesLazy(@NotNull final String regex, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(message);
+
+		if (this.isMismatch(regex)) {
+			return this.fail(Violation.MISMATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final Pattern regex)
+	{
+		Objects.requireNonNull(regex);
+
+		this.notMatches(regex, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final Pattern regex, @Nullable final String message)
+	{
+		Objects.requireNonNull(regex);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final Pattern regex, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final Pattern regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final Pattern regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatchesLazy(@NotNull final Pattern regex, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(message);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final String regex)
+	{
+		Objects.requireNonNull(regex);
+
+		this.notMatches(regex, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final String regex, @Nullable final String message)
+	{
+		Objects.requireNonNull(regex);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final String regex, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final String regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatches(@NotNull final String regex, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param regex {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MatchObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMatchesLazy(@NotNull final String regex, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(regex);
+		Objects.requireNonNull(message);
+
+		if (this.isMatch(regex)) {
+			return this.fail(Violation.MATCH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyDigits()
+	{
+		this.onlyDigits(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyDigits(@Nullable final String message)
+	{
+		if (this.hasIllegalChar(CharClass.DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyDigits(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyDigits(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyDigits(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyDigitsLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasIllegalChar(CharClass.DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAscii()
+	{
+		this.onlyAscii(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAscii(@Nullable final String message)
+	{
+		if (this.hasIllegalChar(CharClass.ASCII)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAscii(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.ASCII)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAscii(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.ASCII)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAscii(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.ASCII)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAsciiLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasIllegalChar(CharClass.ASCII)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyHex()
+	{
+		this.onlyHex(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyHex(@Nullable final String message)
+	{
+		if (this.hasIllegalChar(CharClass.HEX_DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyHex(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.HEX_DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyHex(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.HEX_DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyHex(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.HEX_DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyHexLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasIllegalChar(CharClass.HEX_DIGITS)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAlphanumeric()
+	{
+		this.onlyAlphanumeric(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAlphanumeric(@Nullable final String message)
+	{
+		if (this.hasIllegalChar(CharClass.ALPHANUMERIC)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAlphanumeric(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.ALPHANUMERIC)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAlphanumeric(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.ALPHANUMERIC)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAlphanumeric(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(CharClass.ALPHANUMERIC)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyAlphanumericLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasIllegalChar(CharClass.ALPHANUMERIC)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param charClass {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyChars(@NotNull final CharClass charClass)
+	{
+		Objects.requireNonNull(charClass);
+
+		this.onlyChars(charClass, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param charClass {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyChars(@NotNull final CharClass charClass, @Nullable final String message)
+	{
+		Objects.requireNonNull(charClass);
+
+		if (this.hasIllegalChar(charClass)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param charClass {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyChars(@NotNull final CharClass charClass, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(charClass);
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(charClass)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param charClass {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyChars(@NotNull final CharClass charClass, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(charClass);
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(charClass)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param charClass {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyChars(@NotNull final CharClass charClass, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(charClass);
+		Objects.requireNonNull(pattern);
+
+		if (this.hasIllegalChar(charClass)) {
+			return this.fail(Violation.ILLEGAL_CHAR, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param charClass {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalCharObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF onlyCharsLazy(@NotNull final CharClass charClass, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(charClass);
+		Objects.requireNonNull(message);
+
+		if (this.hasIllegalChar(charClass)) {
+			return this.fail(Violation.ILLEGAL_CHAR, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLength(final int length)
+	{
+		this.notLength(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLength(final int length, @Nullable final String message)
+	{
+		if (this.isLength(length)) {
+			return this.fail(Violation.LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLength(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLength(length)) {
+			return this.fail(Violation.LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLength(length)) {
+			return this.fail(Violation.LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLength(length)) {
+			return this.fail(Violation.LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLength(length)) {
+			return this.fail(Violation.LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeLength(final int from, final int to)
+	{
+		this.notRangeLength(from, to, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeLength(final int from, final int to, @Nullable final String message)
+	{
+		if (this.isRangeLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeLength(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeLength(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeLength(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeLengthLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreLength(final int length)
+	{
+		this.notMoreLength(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreLength(final int length, @Nullable final String message)
+	{
+		if (this.isMoreLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreLength(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreLengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessLength(final int length)
+	{
+		this.notLessLength(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessLength(final int length, @Nullable final String message)
+	{
+		if (this.isLessLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessLength(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessLengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreUtf8Length(final int length)
+	{
+		this.notMoreUtf8Length(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreUtf8Length(final int length, @Nullable final String message)
+	{
+		if (this.isMoreUtf8Length(length)) {
+			return this.fail(Violation.MORE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreUtf8Length(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreUtf8Length(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreUtf8Length(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreUtf8Length(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreUtf8Length(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreUtf8Length(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreUtf8LengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreUtf8Length(length)) {
+			return this.fail(Violation.MORE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeUtf8Length(final int from, final int to)
+	{
+		this.notRangeUtf8Length(from, to, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeUtf8Length(final int from, final int to, @Nullable final String message)
+	{
+		if (this.isRangeUtf8Length(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeUtf8Length(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeUtf8Length(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeUtf8Length(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeUtf8Length(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeUtf8Length(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeUtf8Length(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeUtf8LengthLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeUtf8Length(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notCodePointLength(final int length)
+	{
+		this.notCodePointLength(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notCodePointLength(final int length, @Nullable final String message)
+	{
+		if (this.isCodePointLength(length)) {
+			return this.fail(Violation.LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isCodePointLength(length)) {
+			return this.fail(Violation.LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isCodePointLength(length)) {
+			return this.fail(Violation.LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isCodePointLength(length)) {
+			return this.fail(Violation.LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notCodePointLengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isCodePointLength(length)) {
+			return this.fail(Violation.LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeCodePointLength(final int from, final int to)
+	{
+		this.notRangeCodePointLength(from, to, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeCodePointLength(final int from, final int to, @Nullable final String message)
+	{
+		if (this.isRangeCodePointLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeCodePointLength(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeCodePointLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeCodePointLength(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeCodePointLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeCodePointLength(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeCodePointLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeCodePointLengthLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeCodePointLength(from, to)) {
+			return this.fail(Violation.RANGE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreCodePointLength(final int length)
+	{
+		this.notMoreCodePointLength(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreCodePointLength(final int length, @Nullable final String message)
+	{
+		if (this.isMoreCodePointLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreCodePointLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreCodePointLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreCodePointLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreCodePointLengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreCodePointLength(length)) {
+			return this.fail(Violation.MORE_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessCodePointLength(final int length)
+	{
+		this.notLessCodePointLength(length, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessCodePointLength(final int length, @Nullable final String message)
+	{
+		if (this.isLessCodePointLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessCodePointLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessCodePointLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessCodePointLength(final int length, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessCodePointLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessLengthObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessCodePointLengthLazy(final int length, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessCodePointLength(length)) {
+			return this.fail(Violation.LESS_LENGTH, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, пуст ли проверяемый объект.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или пуст.
+	 */
+	private boolean isEmpty()
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.isEmpty();
+	}
+
+	/**
+	 * Проверяет, состоит ли значение только из пробельных символов.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или значение пустое или состоит только из пробельных символов.
+	 */
+	private boolean isBlank()
+	{
+		final T target = this.getTarget();
+
+		return target == null || CharScan.isBlank(target);
+	}
+
+	/**
+	 * Проверяет, содержит ли значение пробельные символы.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или значение содержит пробельные символы.
+	 */
+	private boolean hasWhitespace()
+	{
+		final T target = this.getTarget();
+
+		return target == null || CharScan.indexOfWhitespace(target) >= 0;
+	}
+
+	/**
+	 * Проверяет, не соответствует ли значение регулярному выражению.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение не соответствует выражению.
+	 */
+	private boolean isMismatch(@NotNull final Pattern regex)
+	{
+		return this.getTarget() == null || !this.isMatching(PatternCache.matcher(regex));
+	}
+
+	/**
+	 * Проверяет, не соответствует ли значение регулярному выражению.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение не соответствует выражению.
+	 */
+	private boolean isMismatch(@NotNull final String regex)
+	{
+		return this.getTarget() == null || !this.isMatching(PatternCache.matcher(regex));
+	}
+
+	/**
+	 * Проверяет, соответствует ли значение регулярному выражению.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение соответствует выражению.
+	 */
+	private boolean isMatch(@NotNull final Pattern regex)
+	{
+		return this.getTarget() == null || this.isMatching(PatternCache.matcher(regex));
+	}
+
+	/**
+	 * Проверяет, соответствует ли значение регулярному выражению.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение соответствует выражению.
+	 */
+	private boolean isMatch(@NotNull final String regex)
+	{
+		return this.getTarget() == null || this.isMatching(PatternCache.matcher(regex));
+	}
+
+	/**
+	 * Проверяет, содержит ли значение символы вне класса.
+	 *
+	 * @param charClass класс допустимых символов.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение содержит символы вне класса.
+	 */
+	private boolean hasIllegalChar(@NotNull final CharClass charClass)
+	{
+		final T target = this.getTarget();
+
+		return target == null || CharScan.indexOfOutside(target, charClass) >= 0;
+	}
+
+	/**
+	 * Проверяет, равна ли длина значения заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения равна заданной.
+	 */
+	private boolean isLength(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.length() == length;
+	}
+
+	/**
+	 * Проверяет, входит ли длина значения в диапазон.
+	 *
+	 * @param from минимальная длина (включительно).
+	 * @param to максимальная длина (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения входит в диапазон.
+	 */
+	private boolean isRangeLength(final int from, final int to)
+	{
+		final T target = this.getTarget();
+
+		return target == null || (target.length() >= from && target.length() <= to);
+	}
+
+	/**
+	 * Проверяет, больше ли длина значения заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения больше заданной.
+	 */
+	private boolean isMoreLength(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.length() > length;
+	}
+
+	/**
+	 * Проверяет, меньше ли длина значения заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения меньше заданной.
+	 */
+	private boolean isLessLength(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.length() < length;
+	}
+
+	/**
+	 * Проверяет, больше ли длина значения в байтах UTF-8 заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения в байтах UTF-8 больше заданной.
+	 */
+	private boolean isMoreUtf8Length(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || Utf8Length.count(target, length) > length;
+	}
+
+	/**
+	 * Проверяет, входит ли длина значения в байтах UTF-8 в диапазон.
+	 *
+	 * @param from минимальная длина (включительно).
+	 * @param to максимальная длина (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения в байтах UTF-8 входит в диапазон.
+	 */
+	private boolean isRangeUtf8Length(final int from, final int to)
+	{
+		final T target = this.getTarget();
+
+		return target == null || Utf8Length.isWithin(target, from, to);
+	}
+
+	/**
+	 * Проверяет, равна ли длина значения в кодовых точках заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения в кодовых точках равна заданной.
+	 */
+	private boolean isCodePointLength(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || CodePointLength.count(target, length) == length;
+	}
+
+	/**
+	 * Проверяет, входит ли длина значения в кодовых точках в диапазон.
+	 *
+	 * @param from минимальная длина (включительно).
+	 * @param to максимальная длина (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения в кодовых точках входит в диапазон.
+	 */
+	private boolean isRangeCodePointLength(final int from, final int to)
+	{
+		final T target = this.getTarget();
+
+		return target == null || CodePointLength.isWithin(target, from, to);
+	}
+
+	/**
+	 * Проверяет, больше ли длина значения в кодовых точках заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения в кодовых точках больше заданной.
+	 */
+	private boolean isMoreCodePointLength(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || CodePointLength.count(target, length) > length;
+	}
+
+	/**
+	 * Проверяет, меньше ли длина значения в кодовых точках заданной.
+	 *
+	 * @param length длина.
+	 * @return {@code true}, если проверяемый объект {@code null} или длина значения в кодовых точках меньше заданной.
+	 */
+	private boolean isLessCodePointLength(final int length)
+	{
+		final T target = this.getTarget();
+
+		return target == null || CodePointLength.count(target, length) < length;
+	}
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Сопоставитель принадлежит текущему потоку и после проверки сбрасывается на пустую строку,
+	 * чтобы не удерживать проверенное значение.
+	 *
+	 * @param matcher сопоставитель регулярного выражения.
+	 * @return {@code true}, если значение соответствует выражению.
+	 */
+	private boolean isMatching(@NotNull final Matcher matcher)
+	{
+		try
+		{
+			return matcher.reset(this.getTarget()).matches();
+		}
+		finally
+		{
+			matcher.reset("");
+		}
 	}
 }
@@ -21,12 +21,14 @@ package dev.kalenchukov.checks.handlers;
 import dev.kalenchukov.checks.exceptions.EqualsObjectCheckException;
 import dev.kalenchukov.checks.exceptions.IllegalObjectCheckException;
 import dev.kalenchukov.checks.exceptions.NullObjectCheckException;
+import dev.kalenchukov.checks.exceptions.Violation;
 import dev.kalenchukov.checks.handlers.interfaces.AbstractChecking;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Класс частичной реализации проверяющего объекты любых типов.
@@ -36,19 +38,14 @@ import java.util.function.Predicate;
  * @author Алексей Каленчуков
  */
 abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
+	extends AbstractBaseCheck<SELF>
 	implements AbstractChecking<SELF, T>
 {
 	/**
 	 * Проверяемый объект.
 	 */
 	@Nullable
-	protected final T target;
-
-	/**
-	 * Проверяющий объект.
-	 */
-	@NotNull
-	protected final SELF self;
+	private final T target;
 
 	/**
 	 * Конструирует проверяющего.
@@ -57,8 +54,9 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	 */
 	protected AbstractCheck(@Nullable final T target)
 	{
+		super();
+
 		this.target = target;
-		this.self = this.initSelf();
 	}
 
 	/**
@@ -72,7 +70,7 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	{
 		this.notNull(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -86,11 +84,97 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	@Override
 	public SELF notNull(@Nullable final String message)
 	{
-		if (this.target == null) {
-			throw new NullObjectCheckException(this.target, message);
+		if (this.isNull()) {
+			return this.fail(Violation.NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notNull(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNull()) {
+			return this.fail(Violation.NULL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notNull(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNull()) {
+			return this.fail(Violation.NULL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notNull(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNull()) {
+			return this.fail(Violation.NULL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notNullLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isNull()) {
+			return this.fail(Violation.NULL, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -107,7 +191,7 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 
 		this.notEquals(value, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -122,11 +206,101 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	@Override
 	public SELF notEquals(@Nullable final T value, @Nullable final String message)
 	{
-		if (this.target == null || this.target.equals(value)) {
-			throw new EqualsObjectCheckException(this.target, message);
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEquals(@Nullable final T value, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEquals(@Nullable final T value, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEquals(@Nullable final T value, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEqualsLazy(@Nullable final T value, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, message);
+		}
+
+		return this.self();
 	}
 
 	@NotNull
@@ -137,7 +311,7 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 
 		this.not(predicate, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	@NotNull
@@ -146,11 +320,67 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	{
 		Objects.requireNonNull(predicate);
 
-		if (this.target == null || predicate.test(this.target)) {
-			throw new IllegalObjectCheckException(this.target, message);
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	@NotNull
+	@Override
+	public SELF not(@NotNull final Predicate<T> predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	@NotNull
+	@Override
+	public SELF not(@NotNull final Predicate<T> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	@NotNull
+	@Override
+	public SELF not(@NotNull final Predicate<T> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	@NotNull
+	@Override
+	public SELF notLazy(@NotNull final Predicate<T> predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(message);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, message);
+		}
+
+		return this.self();
 	}
 
 	/**
@@ -160,17 +390,34 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	 */
 	@Override
 	public T get()
+	{
+		return this.getTarget();
+	}
+
+	/**
+	 * Возвращает проверяемый объект.
+	 * <p>
+	 * Переиспользуемые проверяющие переопределяют метод, чтобы возвращать объект текущей привязки.
+	 *
+	 * @return проверяемый объект.
+	 */
+	@Nullable
+	protected T getTarget()
 	{
 		return this.target;
 	}
 
 	/**
-	 * Инициализирует объект проверяющего.
+	 * {@inheritDoc}
 	 *
-	 * @return объект проверяющего.
+	 * @return {@inheritDoc}
 	 */
-	@NotNull
-	protected abstract SELF initSelf();
+	@Nullable
+	@Override
+	protected T getCulprit()
+	{
+		return this.getTarget();
+	}
 
 	/**
 	 * Возвращает представление объекта в виде числа.
@@ -180,9 +427,11 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 	@Override
 	public int hashCode()
 	{
+		final T target = this.getTarget();
+
 		int result = 0;
 
-		result = 31 * result + ((this.target != null) ? this.target.hashCode() : 0);
+		result = 31 * result + ((target != null) ? target.hashCode() : 0);
 
 		return result;
 	}
@@ -200,25 +449,64 @@ abstract class AbstractCheck<SELF extends AbstractCheck<SELF, T>, T>
 			return false;
 		}
 
-		if (obj == this.self) {
+		if (obj == this.self()) {
 			return true;
 		}
 
-		if (!this.self.getClass().equals(obj.getClass())) {
+		if (!this.self().getClass().equals(obj.getClass())) {
 			return false;
 		}
 
 		@SuppressWarnings("unchecked")
 		SELF abstractCheck = (SELF) obj;
 
-		if (this.target == null && abstractCheck.target != null) {
+		final T target = this.getTarget();
+		final T otherTarget = abstractCheck.getTarget();
+
+		if (target == null && otherTarget != null) {
 			return false;
 		}
 
-		if (this.target != null && !this.target.equals(abstractCheck.target)) {
+		if (target != null && !target.equals(otherTarget)) {
 			return false;
 		}
 
 		return true;
 	}
+
+	/**
+	 * Проверяет, отсутствует ли проверяемый объект.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null}.
+	 */
+	private boolean isNull()
+	{
+		return this.getTarget() == null;
+	}
+
+	/**
+	 * Проверяет, равно ли значение заданному.
+	 *
+	 * @param value значение.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение равно заданному.
+	 */
+	private boolean isEquals(@Nullable final T value)
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.equals(value);
+	}
+
+	/**
+	 * Проверяет, соответствует ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @return {@code true}, если проверяемый объект {@code null} или значение соответствует условию.
+	 */
+	private boolean isIllegal(@NotNull final Predicate<T> predicate)
+	{
+		final T target = this.getTarget();
+
+		return target == null || predicate.test(target);
+	}
 }
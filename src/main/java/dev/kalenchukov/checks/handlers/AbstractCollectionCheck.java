@@ -19,23 +19,36 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.handlers.interfaces.ElementChecking;
 import dev.kalenchukov.checks.handlers.interfaces.MultipleObjectChecking;
+import dev.kalenchukov.checks.rules.Rule;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Класс частичной реализации проверяющего объекты типа {@code Collection}.
  *
  * @param <SELF> тип проверяющего объекта.
  * @param <T> тип проверяемого объекта.
+ * @param <E> тип элементов проверяемого объекта.
  * @author Алексей Каленчуков
  */
-abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF, T>, T extends Collection<?>>
+abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF, T, E>, T extends Collection<E>, E>
 	extends AbstractCheck<SELF, T>
-	implements MultipleObjectChecking<SELF, T>
+	implements MultipleObjectChecking<SELF, T>, ElementChecking<SELF, E>
 {
+	/**
+	 * Порог количества элементов для параллельной проверки или {@code 0}, если проверка последовательная.
+	 */
+	private int parallelThreshold;
+
 	/**
 	 * Конструирует проверяющего.
 	 *
@@ -43,6 +56,8 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	 */
 	public AbstractCollectionCheck(@Nullable final T target) {
 		super(target);
+
+		this.parallelThreshold = 0;
 	}
 
 	/**
@@ -56,7 +71,7 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	{
 		this.notEmpty(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -70,11 +85,97 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	@Override
 	public SELF notEmpty(@Nullable final String message)
 	{
-		if (this.target == null || this.target.isEmpty()) {
-			throw new EmptyObjectCheckException(this.target, message);
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEmpty(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notEmptyLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -89,7 +190,7 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	{
 		this.notSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -104,11 +205,101 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	@Override
 	public SELF notSize(final int size, @Nullable final String message)
 	{
-		if (this.target == null || this.target.size() == size) {
-			throw new SizeObjectCheckException(this.target, message);
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -124,7 +315,7 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	{
 		this.notRangeSize(from, to, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -140,11 +331,105 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	@Override
 	public SELF notRangeSize(final int from, final int to, @Nullable final String message)
 	{
-		if (this.target == null || (this.target.size() >= from && this.target.size() <= to)) {
-			throw new RangeSizeObjectCheckException(this.target, message);
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notRangeSizeLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -159,7 +444,7 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	{
 		this.notMoreSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -174,11 +459,101 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	@Override
 	public SELF notMoreSize(final int size, @Nullable final String message)
 	{
-		if (this.target == null || this.target.size() > size) {
-			throw new MoreSizeObjectCheckException(this.target, message);
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notMoreSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -193,7 +568,7 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	{
 		this.notLessSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -208,10 +583,665 @@ abstract class AbstractCollectionCheck<SELF extends AbstractCollectionCheck<SELF
 	@Override
 	public SELF notLessSize(final int size, @Nullable final String message)
 	{
-		if (this.target == null || this.target.size() < size) {
-			throw new LessSizeObjectCheckException(this.target, message);
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notLessSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notAny(@NotNull final Predicate<? super E> predicate)
+	{
+		Objects.requireNonNull(predicate);
+
+		this.notAny(predicate, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notAny(@NotNull final Predicate<? super E> predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notAny(@NotNull final Predicate<? super E> predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notAny(@NotNull final Predicate<? super E> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notAny(@NotNull final Predicate<? super E> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notAnyLazy(@NotNull final Predicate<? super E> predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(message);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF each(@NotNull final Rule<? super E> rule)
+	{
+		Objects.requireNonNull(rule);
+
+		this.each(rule, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF each(@NotNull final Rule<? super E> rule, @Nullable final String message)
+	{
+		Objects.requireNonNull(rule);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF each(@NotNull final Rule<? super E> rule, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF each(@NotNull final Rule<? super E> rule, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF each(@NotNull final Rule<? super E> rule, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF eachLazy(@NotNull final Rule<? super E> rule, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(message);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsNull()
+	{
+		this.notContainsNull(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsNull(@Nullable final String message)
+	{
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsNull(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsNull(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsNull(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notContainsNullLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF parallel()
+	{
+		return this.parallel(ParallelElementSearch.DEFAULT_THRESHOLD - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param threshold {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF parallel(final int threshold)
+	{
+		if (threshold < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		this.parallelThreshold = threshold;
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, пуст ли проверяемый объект.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или пуст.
+	 */
+	private boolean isEmpty()
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.isEmpty();
+	}
+
+	/**
+	 * Проверяет, равно ли количество элементов заданному.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов равно заданному.
+	 */
+	private boolean isSize(final int size)
+	{
+		final T target = this.getTarget();
+
+		return target == null || BoundedSize.of(target, size) == size;
+	}
+
+	/**
+	 * Проверяет, входит ли количество элементов в диапазон.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов входит в диапазон.
+	 */
+	private boolean isRangeSize(final int from, final int to)
+	{
+		final T target = this.getTarget();
+
+		return target == null || BoundedSize.isWithin(target, from, to);
+	}
+
+	/**
+	 * Проверяет, больше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов больше заданного.
+	 */
+	private boolean isMoreSize(final int size)
+	{
+		final T target = this.getTarget();
+
+		return target == null || BoundedSize.of(target, size) > size;
+	}
+
+	/**
+	 * Проверяет, меньше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов меньше заданного.
+	 */
+	private boolean isLessSize(final int size)
+	{
+		final T target = this.getTarget();
+
+		return target == null || BoundedSize.of(target, size) < size;
+	}
+
+	/**
+	 * Проверяет, содержит ли объект элементы {@code null}.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит элементы {@code null}.
+	 */
+	private boolean hasNull()
+	{
+		final T target = this.getTarget();
+
+		return target == null || NullSearch.containsNull(target);
+	}
+
+	/**
+	 * Ищет первый элемент, нарушающий требование, и запоминает его для исключения.
+	 * <p>
+	 * Списки с произвольным доступом обходятся по индексу, остальные коллекции итератором.
+	 * В параллельном режиме параллельно проверяются коллекции, разбиение которых сохраняет
+	 * точные размеры частей, так как только для них известны позиции элементов.
+	 *
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locateFirst(@NotNull final ToIntFunction<? super E> test)
+	{
+		if (this.getTarget() == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		final ElementSearch<E> search = this.search(test);
+
+		if (search == null) {
+			return false;
+		}
+
+		this.locateElement(search.getIndex(), search.getElement(), search.getViolation());
+
+		return true;
+	}
+
+	/**
+	 * Ищет первый элемент, нарушающий требование.
+	 *
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @return поиск с найденным элементом или {@code null}, если такого элемента нет.
+	 */
+	@Nullable
+	private ElementSearch<E> search(@NotNull final ToIntFunction<? super E> test)
+	{
+		final T target = this.getTarget();
+
+		if (this.parallelThreshold > 0 && BoundedSize.of(target, this.parallelThreshold) > this.parallelThreshold)
+		{
+			final Spliterator<E> spliterator = target.spliterator();
+
+			if (spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+				return ParallelElementSearch.find(spliterator, test);
+			}
+		}
+
+		return ElementSearch.find(target, test);
+	}
+
+	/**
+	 * Ищет первый элемент, удовлетворяющий условию, и запоминает его для исключения.
+	 *
+	 * @param predicate условие.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locateIllegal(@NotNull final Predicate<? super E> predicate)
+	{
+		return this.locateFirst((E element) -> predicate.test(element) ? Violation.ILLEGAL.getCode() : 0);
+	}
+
+	/**
+	 * Ищет первый элемент, не выполняющий требования правила, и запоминает его для исключения.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locate(@NotNull final Rule<? super E> rule)
+	{
+		return this.locateFirst(rule::test);
 	}
 }
@@ -18,11 +18,15 @@
 
 package dev.kalenchukov.checks.handlers;
 
+import dev.kalenchukov.checks.exceptions.Violation;
 import dev.kalenchukov.checks.exceptions.ZeroNumberObjectCheckException;
 import dev.kalenchukov.checks.handlers.interfaces.NumberChecking;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
+import java.util.function.Supplier;
+
 /**
  * Класс частичной реализации проверяющего объекты типа {@code Number}.
  *
@@ -55,7 +59,7 @@ abstract class AbstractNumberCheck<SELF extends AbstractNumberCheck<SELF, T>, T
 	{
 		this.notZero(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -69,10 +73,108 @@ abstract class AbstractNumberCheck<SELF extends AbstractNumberCheck<SELF, T>, T
 	@Override
 	public SELF notZero(@Nullable final String message)
 	{
-		if (this.target == null || this.target.equals(0)) {
-			throw new ZeroNumberObjectCheckException(this.target, message);
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notZero(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notZero(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notZero(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public SELF notZeroLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, равно ли число нулю.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или число равно нулю.
+	 */
+	private boolean isZero()
+	{
+		final T target = this.getTarget();
+
+		return target == null || target.equals(0);
 	}
 }
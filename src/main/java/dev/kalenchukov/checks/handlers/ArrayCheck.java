@@ -19,12 +19,18 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.handlers.interfaces.ElementChecking;
 import dev.kalenchukov.checks.handlers.interfaces.MultipleObjectChecking;
 import dev.kalenchukov.checks.handlers.interfaces.ArrayChecking;
+import dev.kalenchukov.checks.rules.Rule;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Класс проверяющего объекты типа {@code Object[]}.
@@ -34,8 +40,19 @@ import java.util.Objects;
  */
 public class ArrayCheck<T>
 	extends AbstractCheck<ArrayCheck<T>, T[]>
-	implements ArrayChecking<ArrayCheck<T>, T[]>, MultipleObjectChecking<ArrayCheck<T>, T[]>
+	implements ArrayChecking<ArrayCheck<T>, T[]>, MultipleObjectChecking<ArrayCheck<T>, T[]>,
+			   ElementChecking<ArrayCheck<T>, T>
 {
+	/**
+	 * Порог количества элементов для параллельной проверки или {@code 0}, если проверка последовательная.
+	 */
+	private int parallelThreshold;
+
+	/**
+	 * Ограничение памяти хеш-таблицы поиска повторяющихся элементов в байтах.
+	 */
+	private long memoryLimit;
+
 	/**
 	 * Конструирует проверяющего.
 	 *
@@ -44,6 +61,9 @@ public class ArrayCheck<T>
 	public ArrayCheck(final T @Nullable [] target)
 	{
 		super(target);
+
+		this.parallelThreshold = 0;
+		this.memoryLimit = DuplicateSearch.DEFAULT_MEMORY_LIMIT;
 	}
 
 	/**
@@ -57,7 +77,7 @@ public class ArrayCheck<T>
 	{
 		this.notEmpty(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -71,11 +91,97 @@ public class ArrayCheck<T>
 	@Override
 	public ArrayCheck<T> notEmpty(@Nullable final String message)
 	{
-		if (this.target == null || this.target.length == 0) {
-			throw new EmptyObjectCheckException(this.target, message);
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notEmpty(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notEmptyLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -90,7 +196,7 @@ public class ArrayCheck<T>
 	{
 		this.notSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -105,11 +211,101 @@ public class ArrayCheck<T>
 	@Override
 	public ArrayCheck<T> notSize(final int size, final @Nullable String message)
 	{
-		if (this.target == null || this.target.length == size) {
-			throw new SizeObjectCheckException(this.target, message);
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
+		}
+
+		return this.self();
 	}
 
 	/**
@@ -125,7 +321,7 @@ public class ArrayCheck<T>
 	{
 		this.notRangeSize(from, to, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -141,11 +337,105 @@ public class ArrayCheck<T>
 	@Override
 	public ArrayCheck<T> notRangeSize(final int from, final int to, final @Nullable String message)
 	{
-		if (this.target == null || (this.target.length >= from && this.target.length <= to)) {
-			throw new RangeSizeObjectCheckException(this.target, message);
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notRangeSizeLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -160,7 +450,7 @@ public class ArrayCheck<T>
 	{
 		this.notMoreSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -175,11 +465,101 @@ public class ArrayCheck<T>
 	@Override
 	public ArrayCheck<T> notMoreSize(final int size, final @Nullable String message)
 	{
-		if (this.target == null || this.target.length > size) {
-			throw new MoreSizeObjectCheckException(this.target, message);
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notMoreSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -194,7 +574,7 @@ public class ArrayCheck<T>
 	{
 		this.notLessSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -209,22 +589,939 @@ public class ArrayCheck<T>
 	@Override
 	public ArrayCheck<T> notLessSize(final int size, final @Nullable String message)
 	{
-		if (this.target == null || this.target.length < size) {
-			throw new LessSizeObjectCheckException(this.target, message);
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	protected ArrayCheck<T> initSelf()
+	public ArrayCheck<T> notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
 	{
-		return this;
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notLessSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notAny(@NotNull final Predicate<? super T> predicate)
+	{
+		Objects.requireNonNull(predicate);
+
+		this.notAny(predicate, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notAny(@NotNull final Predicate<? super T> predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notAny(@NotNull final Predicate<? super T> predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notAny(@NotNull final Predicate<? super T> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notAny(@NotNull final Predicate<? super T> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notAnyLazy(@NotNull final Predicate<? super T> predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(message);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> each(@NotNull final Rule<? super T> rule)
+	{
+		Objects.requireNonNull(rule);
+
+		this.each(rule, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> each(@NotNull final Rule<? super T> rule, @Nullable final String message)
+	{
+		Objects.requireNonNull(rule);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> each(@NotNull final Rule<? super T> rule, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> each(@NotNull final Rule<? super T> rule, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> each(@NotNull final Rule<? super T> rule, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param rule {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> eachLazy(@NotNull final Rule<? super T> rule, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(message);
+
+		if (this.locate(rule)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsNull()
+	{
+		this.notContainsNull(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsNull(@Nullable final String message)
+	{
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsNull(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsNull(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsNull(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsNullLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasNull()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsDuplicates()
+	{
+		this.notContainsDuplicates(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsDuplicates(@Nullable final String message)
+	{
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsDuplicatesLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsIdentical()
+	{
+		this.notContainsIdentical(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsIdentical(@Nullable final String message)
+	{
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsIdentical(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsIdentical(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsIdentical(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> notContainsIdenticalLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> parallel()
+	{
+		return this.parallel(ParallelElementSearch.DEFAULT_THRESHOLD - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param threshold {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> parallel(final int threshold)
+	{
+		if (threshold < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		this.parallelThreshold = threshold;
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param bytes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayCheck<T> memoryLimit(final long bytes)
+	{
+		if (bytes < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.memoryLimit = bytes;
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, пуст ли проверяемый объект.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или пуст.
+	 */
+	private boolean isEmpty()
+	{
+		final T[] target = this.getTarget();
+
+		return target == null || target.length == 0;
+	}
+
+	/**
+	 * Проверяет, равно ли количество элементов заданному.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов равно заданному.
+	 */
+	private boolean isSize(final int size)
+	{
+		final T[] target = this.getTarget();
+
+		return target == null || target.length == size;
+	}
+
+	/**
+	 * Проверяет, входит ли количество элементов в диапазон.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов входит в диапазон.
+	 */
+	private boolean isRangeSize(final int from, final int to)
+	{
+		final T[] target = this.getTarget();
+
+		return target == null || (target.length >= from && target.length <= to);
+	}
+
+	/**
+	 * Проверяет, больше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов больше заданного.
+	 */
+	private boolean isMoreSize(final int size)
+	{
+		final T[] target = this.getTarget();
+
+		return target == null || target.length > size;
+	}
+
+	/**
+	 * Проверяет, меньше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов меньше заданного.
+	 */
+	private boolean isLessSize(final int size)
+	{
+		final T[] target = this.getTarget();
+
+		return target == null || target.length < size;
+	}
+
+	/**
+	 * Проверяет, содержит ли объект элементы {@code null}.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит элементы {@code null}.
+	 */
+	private boolean hasNull()
+	{
+		final T[] target = this.getTarget();
+
+		return target == null || NullSearch.containsNull(target);
+	}
+
+	/**
+	 * Ищет первый элемент, нарушающий требование, и запоминает его для исключения.
+	 *
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locateFirst(@NotNull final ToIntFunction<? super T> test)
+	{
+		if (this.getTarget() == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		final ElementSearch<T> search = this.search(test);
+
+		if (search == null) {
+			return false;
+		}
+
+		this.locateElement(search.getIndex(), search.getElement(), search.getViolation());
+
+		return true;
+	}
+
+	/**
+	 * Ищет первый элемент, нарушающий требование.
+	 *
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @return поиск с найденным элементом или {@code null}, если такого элемента нет.
+	 */
+	@Nullable
+	private ElementSearch<T> search(@NotNull final ToIntFunction<? super T> test)
+	{
+		final T[] target = this.getTarget();
+
+		if (this.parallelThreshold > 0 && target.length > this.parallelThreshold) {
+			return ParallelElementSearch.find(Arrays.spliterator(target), test);
+		}
+
+		return ElementSearch.find(target, test);
+	}
+
+	/**
+	 * Ищет первый элемент, удовлетворяющий условию, и запоминает его для исключения.
+	 *
+	 * @param predicate условие.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locateIllegal(@NotNull final Predicate<? super T> predicate)
+	{
+		return this.locateFirst((T element) -> predicate.test(element) ? Violation.ILLEGAL.getCode() : 0);
+	}
+
+	/**
+	 * Ищет первый элемент, не выполняющий требования правила, и запоминает его для исключения.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locate(@NotNull final Rule<? super T> rule)
+	{
+		return this.locateFirst(rule::test);
+	}
+
+	/**
+	 * Ищет повторяющийся элемент и запоминает его для исключения.
+	 *
+	 * @param identity {@code true}, если элементы сравниваются по ссылке, иначе методом {@link Object#equals(Object)}.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит повторяющиеся элементы.
+	 */
+	private boolean locateDuplicate(final boolean identity)
+	{
+		final T[] target = this.getTarget();
+
+		if (target == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		final DuplicateSearch search = DuplicateSearch.find(target, identity, this.memoryLimit);
+
+		if (search == null) {
+			return false;
+		}
+
+		this.locateElement(search.getIndex(), search.getElement(), null);
+
+		return true;
 	}
 }
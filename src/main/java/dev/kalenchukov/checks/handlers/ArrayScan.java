@@ -0,0 +1,361 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.spi.ArrayScanner;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * Класс поиска некорректных элементов в массивах примитивов.
+ * <p>
+ * Массивы просматриваются простым циклом до первого некорректного элемента.
+ * Если подключена реализация {@link ArrayScanner} (например, артефакт {@code checks-vector}),
+ * массивы типов {@code int[]}, {@code long[]} и {@code double[]} от {@link #VECTOR_LENGTH} элементов
+ * просматриваются ею.
+ *
+ * @author Алексей Каленчуков
+ */
+final class ArrayScan
+{
+	/**
+	 * Подключённая реализация ускоренного поиска.
+	 */
+	@Nullable
+	private static final ArrayScanner SCANNER = ArrayScan.loadScanner();
+
+	/**
+	 * Минимальное количество элементов для ускоренного поиска.
+	 */
+	private static final int VECTOR_LENGTH = 64;
+
+	/**
+	 * Конструирует поиск.
+	 */
+	private ArrayScan() {}
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	static int indexOfOutRange(final int @NotNull [] array, final int from, final int to)
+	{
+		if (SCANNER != null && array.length >= VECTOR_LENGTH) {
+			return SCANNER.indexOfOutRange(array, from, to);
+		}
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (array[index] < from || array[index] > to) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	static int indexOfOutRange(final long @NotNull [] array, final long from, final long to)
+	{
+		if (SCANNER != null && array.length >= VECTOR_LENGTH) {
+			return SCANNER.indexOfOutRange(array, from, to);
+		}
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (array[index] < from || array[index] > to) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	static int indexOfOutRange(final double @NotNull [] array, final double from, final double to)
+	{
+		if (SCANNER != null && array.length >= VECTOR_LENGTH) {
+			return SCANNER.indexOfOutRange(array, from, to);
+		}
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (!(array[index] >= from) || !(array[index] <= to)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	static int indexOfOutRange(final byte @NotNull [] array, final int from, final int to)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (array[index] < from || array[index] > to) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	static int indexOfOutRange(final char @NotNull [] array, final int from, final int to)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (array[index] < from || array[index] > to) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый отрицательный элемент массива.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если отрицательных элементов нет.
+	 */
+	static int indexOfNegative(final double @NotNull [] array)
+	{
+		if (SCANNER != null && array.length >= VECTOR_LENGTH) {
+			return SCANNER.indexOfNegative(array);
+		}
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (array[index] < 0.0) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива со значением {@code NaN}.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если таких элементов нет.
+	 */
+	static int indexOfNaN(final double @NotNull [] array)
+	{
+		if (SCANNER != null && array.length >= VECTOR_LENGTH) {
+			return SCANNER.indexOfNaN(array);
+		}
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (Double.isNaN(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, равный нулю.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если таких элементов нет.
+	 */
+	static int indexOfZero(final double @NotNull [] array)
+	{
+		if (SCANNER != null && array.length >= VECTOR_LENGTH) {
+			return SCANNER.indexOfZero(array);
+		}
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (array[index] == 0.0) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, удовлетворяющий условию.
+	 *
+	 * @param array массив.
+	 * @param predicate условие.
+	 * @return позицию элемента или {@code -1}, если такого элемента нет.
+	 */
+	static int indexOfMatch(final int @NotNull [] array, @NotNull final IntPredicate predicate)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (predicate.test(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, удовлетворяющий условию.
+	 *
+	 * @param array массив.
+	 * @param predicate условие.
+	 * @return позицию элемента или {@code -1}, если такого элемента нет.
+	 */
+	static int indexOfMatch(final long @NotNull [] array, @NotNull final LongPredicate predicate)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (predicate.test(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, удовлетворяющий условию.
+	 *
+	 * @param array массив.
+	 * @param predicate условие.
+	 * @return позицию элемента или {@code -1}, если такого элемента нет.
+	 */
+	static int indexOfMatch(final double @NotNull [] array, @NotNull final DoublePredicate predicate)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (predicate.test(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, удовлетворяющий условию.
+	 *
+	 * @param array массив.
+	 * @param predicate условие.
+	 * @return позицию элемента или {@code -1}, если такого элемента нет.
+	 */
+	static int indexOfMatch(final byte @NotNull [] array, @NotNull final IntPredicate predicate)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (predicate.test(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, удовлетворяющий условию.
+	 *
+	 * @param array массив.
+	 * @param predicate условие.
+	 * @return позицию элемента или {@code -1}, если такого элемента нет.
+	 */
+	static int indexOfMatch(final char @NotNull [] array, @NotNull final IntPredicate predicate)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			if (predicate.test(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Загружает первую подключённую реализацию ускоренного поиска.
+	 * <p>
+	 * Реализация, которую не удалось создать (например, без модуля {@code jdk.incubator.vector}),
+	 * пропускается, и массивы просматриваются простым циклом.
+	 *
+	 * @return реализацию или {@code null}, если она не подключена.
+	 */
+	@Nullable
+	private static ArrayScanner loadScanner()
+	{
+		try
+		{
+			return ServiceLoader.load(ArrayScanner.class, ArrayScan.class.getClassLoader())
+				.findFirst()
+				.orElse(null);
+		}
+		catch (ServiceConfigurationError | LinkageError exception)
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedTransferQueue;
+
+/**
+ * Класс подсчёта количества элементов с ограничением.
+ * <p>
+ * Проверкам количества достаточно знать, превышает ли количество элементов границу, поэтому
+ * объекты, количество элементов которых можно узнать только обходом, обходятся не далее
+ * элемента, следующего за границей. У остальных коллекций используется {@link Collection#size()}.
+ *
+ * @author Алексей Каленчуков
+ */
+final class BoundedSize
+{
+	/**
+	 * Конструирует подсчёт.
+	 */
+	private BoundedSize() {}
+
+	/**
+	 * Возвращает количество элементов коллекции, подсчитанное не далее границы.
+	 *
+	 * @param collection коллекция.
+	 * @param limit граница.
+	 * @return количество элементов, если оно не превышает границу, иначе число больше границы.
+	 */
+	static long of(@NotNull final Collection<?> collection, final long limit)
+	{
+		if (BoundedSize.isCounted(collection)) {
+			return BoundedSize.count(collection.iterator(), 0, limit);
+		}
+
+		return collection.size();
+	}
+
+	/**
+	 * Возвращает количество элементов объекта, подсчитанное не далее границы.
+	 *
+	 * @param iterable объект.
+	 * @param limit граница.
+	 * @return количество элементов, если оно не превышает границу, иначе число больше границы.
+	 */
+	static long of(@NotNull final Iterable<?> iterable, final long limit)
+	{
+		if (iterable instanceof Collection<?> collection) {
+			return BoundedSize.of(collection, limit);
+		}
+
+		return BoundedSize.count(iterable.iterator(), 0, limit);
+	}
+
+	/**
+	 * Продолжает подсчёт элементов итератора не далее границы.
+	 *
+	 * @param iterator итератор.
+	 * @param counted количество уже подсчитанных элементов.
+	 * @param limit граница.
+	 * @return количество элементов, если оно не превышает границу, иначе число больше границы.
+	 */
+	static long count(@NotNull final Iterator<?> iterator, final long counted, final long limit)
+	{
+		long count = counted;
+
+		while (count <= limit && iterator.hasNext())
+		{
+			iterator.next();
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Проверяет, входит ли количество элементов объекта в диапазон.
+	 * <p>
+	 * Количество вычисляется один раз.
+	 *
+	 * @param iterable объект.
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return {@code true}, если количество элементов входит в диапазон.
+	 */
+	static boolean isWithin(@NotNull final Iterable<?> iterable, final int from, final int to)
+	{
+		final long size = BoundedSize.of(iterable, to);
+
+		return size >= from && size <= to;
+	}
+
+	/**
+	 * Проверяет, вычисляет ли коллекция количество своих элементов обходом.
+	 *
+	 * @param collection коллекция.
+	 * @return {@code true}, если метод {@link Collection#size()} обходит все элементы.
+	 */
+	private static boolean isCounted(@NotNull final Collection<?> collection)
+	{
+		return collection instanceof ConcurrentLinkedQueue<?>
+			|| collection instanceof ConcurrentLinkedDeque<?>
+			|| collection instanceof LinkedTransferQueue<?>;
+	}
+}
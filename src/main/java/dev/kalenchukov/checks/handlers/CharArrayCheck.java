@@ -0,0 +1,1225 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.handlers.interfaces.CharArrayChecking;
+import dev.kalenchukov.checks.handlers.interfaces.MultipleObjectChecking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Класс проверяющего объекты типа {@code char[]}.
+ * <p>
+ * Элементы проверяются без упаковки, а упаковывается только найденный некорректный элемент.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CharArrayCheck
+	extends AbstractCheck<CharArrayCheck, char[]>
+	implements CharArrayChecking<CharArrayCheck>, MultipleObjectChecking<CharArrayCheck, char[]>
+{
+	/**
+	 * Конструирует проверяющего.
+	 *
+	 * @param target проверяемый объект.
+	 */
+	public CharArrayCheck(final char @Nullable [] target)
+	{
+		super(target);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notEmpty()
+	{
+		this.notEmpty(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notEmpty(@Nullable final String message)
+	{
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notEmpty(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notEmptyLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notSize(final int size)
+	{
+		this.notSize(size, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notSize(final int size, final @Nullable String message)
+	{
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notRangeSize(final int from, final int to)
+	{
+		this.notRangeSize(from, to, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notRangeSize(final int from, final int to, final @Nullable String message)
+	{
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notRangeSizeLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notMoreSize(final int size)
+	{
+		this.notMoreSize(size, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notMoreSize(final int size, final @Nullable String message)
+	{
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notMoreSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notLessSize(final int size)
+	{
+		this.notLessSize(size, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notLessSize(final int size, final @Nullable String message)
+	{
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notLessSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAny(@NotNull final IntPredicate predicate)
+	{
+		Objects.requireNonNull(predicate);
+
+		this.notAny(predicate, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAny(@NotNull final IntPredicate predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		if (this.locateMatch(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAny(@NotNull final IntPredicate predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateMatch(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAny(@NotNull final IntPredicate predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateMatch(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAny(@NotNull final IntPredicate predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateMatch(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyLazy(@NotNull final IntPredicate predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(message);
+
+		if (this.locateMatch(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyOutRange(final int from, final int to)
+	{
+		this.notAnyOutRange(from, to, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyOutRange(final int from, final int to, @Nullable final String message)
+	{
+		if (this.locateOutRange(from, to)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyOutRange(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateOutRange(from, to)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyOutRange(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateOutRange(from, to)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyOutRange(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateOutRange(from, to)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notAnyOutRangeLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.locateOutRange(from, to)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notContainsDuplicates()
+	{
+		this.notContainsDuplicates(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notContainsDuplicates(@Nullable final String message)
+	{
+		if (this.locateDuplicate()) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate()) {
+			return this.fail(Violation.DUPLICATE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate()) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate()) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public CharArrayCheck notContainsDuplicatesLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.locateDuplicate()) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, пуст ли проверяемый объект.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или пуст.
+	 */
+	private boolean isEmpty()
+	{
+		final char[] target = this.getTarget();
+
+		return target == null || target.length == 0;
+	}
+
+	/**
+	 * Проверяет, равно ли количество элементов заданному.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов равно заданному.
+	 */
+	private boolean isSize(final int size)
+	{
+		final char[] target = this.getTarget();
+
+		return target == null || target.length == size;
+	}
+
+	/**
+	 * Проверяет, входит ли количество элементов в диапазон.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов входит в диапазон.
+	 */
+	private boolean isRangeSize(final int from, final int to)
+	{
+		final char[] target = this.getTarget();
+
+		return target == null || (target.length >= from && target.length <= to);
+	}
+
+	/**
+	 * Проверяет, больше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов больше заданного.
+	 */
+	private boolean isMoreSize(final int size)
+	{
+		final char[] target = this.getTarget();
+
+		return target == null || target.length > size;
+	}
+
+	/**
+	 * Проверяет, меньше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов меньше заданного.
+	 */
+	private boolean isLessSize(final int size)
+	{
+		final char[] target = this.getTarget();
+
+		return target == null || target.length < size;
+	}
+
+	/**
+	 * Ищет элемент, соответствующий условию, и запоминает его для исключения.
+	 *
+	 * @param predicate условие.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locateMatch(@NotNull final IntPredicate predicate)
+	{
+		final char[] target = this.getTarget();
+
+		return this.locate(target == null ? -1 : ArrayScan.indexOfMatch(target, predicate), Violation.ILLEGAL);
+	}
+
+	/**
+	 * Ищет элемент, не входящий в диапазон, и запоминает его для исключения.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такой элемент.
+	 */
+	private boolean locateOutRange(final int from, final int to)
+	{
+		final char[] target = this.getTarget();
+
+		return this.locate(target == null ? -1 : ArrayScan.indexOfOutRange(target, from, to), from, to);
+	}
+
+	/**
+	 * Запоминает некорректный элемент для исключения.
+	 *
+	 * @param index позиция элемента или отрицательное число, если элемент не найден.
+	 * @param violation нарушение требования элементом.
+	 * @return {@code true}, если проверяемый объект {@code null} или элемент найден.
+	 */
+	private boolean locate(final int index, @NotNull final Violation violation)
+	{
+		final char[] target = this.getTarget();
+
+		if (target == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		if (index < 0) {
+			return false;
+		}
+
+		this.locateElement(index, target[index], violation);
+
+		return true;
+	}
+
+	/**
+	 * Запоминает элемент, не входящий в диапазон, для исключения.
+	 *
+	 * @param index позиция элемента или отрицательное число, если элемент не найден.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или элемент найден.
+	 */
+	private boolean locate(final int index, final int from, final int to)
+	{
+		final char[] target = this.getTarget();
+
+		if (target == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		if (index < 0) {
+			return false;
+		}
+
+		final Violation violation = target[index] < from ? Violation.LESS_NUMBER : Violation.MORE_NUMBER;
+
+		this.locateElement(index, target[index], violation);
+
+		return true;
+	}
+
+	/**
+	 * Ищет повторяющийся элемент и запоминает его для исключения.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит повторяющиеся элементы.
+	 */
+	private boolean locateDuplicate()
+	{
+		final char[] target = this.getTarget();
+
+		if (target == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		final int index = DuplicateSearch.indexOf(target);
+
+		if (index < 0) {
+			return false;
+		}
+
+		this.locateElement(index, target[index], null);
+
+		return true;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.text.CharClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.CharBuffer;
+
+/**
+ * Класс поиска символов в последовательностях символов.
+ * <p>
+ * Последовательности просматриваются без преобразования в {@link String}. Объекты типа {@link CharBuffer},
+ * основанные на массиве, просматриваются по массиву напрямую, а остальные последовательности
+ * просматриваются методом {@link CharSequence#charAt(int)}.
+ *
+ * @author Алексей Каленчуков
+ */
+final class CharScan
+{
+	/**
+	 * Конструирует поиск.
+	 */
+	private CharScan() {}
+
+	/**
+	 * Проверяет, состоит ли последовательность только из белых символов.
+	 *
+	 * @param sequence последовательность символов.
+	 * @return {@code true}, если последовательность пуста или состоит только из белых символов.
+	 */
+	static boolean isBlank(@NotNull final CharSequence sequence)
+	{
+		if (sequence instanceof String string) {
+			return string.isBlank();
+		}
+
+		return CharScan.indexOf(sequence, false) < 0;
+	}
+
+	/**
+	 * Ищет первый белый символ последовательности.
+	 *
+	 * @param sequence последовательность символов.
+	 * @return позицию символа или {@code -1}, если белых символов нет.
+	 */
+	static int indexOfWhitespace(@NotNull final CharSequence sequence)
+	{
+		return CharScan.indexOf(sequence, true);
+	}
+
+	/**
+	 * Ищет первый символ последовательности, не входящий в набор.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param charClass набор символов.
+	 * @return позицию символа или {@code -1}, если все символы входят в набор.
+	 */
+	static int indexOfOutside(@NotNull final CharSequence sequence, @NotNull final CharClass charClass)
+	{
+		if (sequence instanceof CharBuffer buffer && buffer.hasArray()) {
+			return CharScan.indexOfOutside(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), charClass);
+		}
+
+		final int length = sequence.length();
+
+		for (int index = 0; index < length; index++)
+		{
+			if (!charClass.contains(sequence.charAt(index))) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый символ последовательности, который является или не является белым.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param whitespace {@code true}, если ищется белый символ, иначе не белый.
+	 * @return позицию символа или {@code -1}, если такого символа нет.
+	 */
+	private static int indexOf(@NotNull final CharSequence sequence, final boolean whitespace)
+	{
+		if (sequence instanceof CharBuffer buffer && buffer.hasArray()) {
+			return CharScan.indexOf(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), whitespace);
+		}
+
+		final int length = sequence.length();
+
+		for (int index = 0; index < length; index++)
+		{
+			if (Character.isWhitespace(sequence.charAt(index)) == whitespace) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый символ части массива, который является или не является белым.
+	 *
+	 * @param array массив символов.
+	 * @param offset начало части массива.
+	 * @param count количество символов части массива.
+	 * @param whitespace {@code true}, если ищется белый символ, иначе не белый.
+	 * @return позицию символа относительно начала части или {@code -1}, если такого символа нет.
+	 */
+	private static int indexOf(final char @NotNull [] array, final int offset, final int count, final boolean whitespace)
+	{
+		for (int index = 0; index < count; index++)
+		{
+			if (Character.isWhitespace(array[offset + index]) == whitespace) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый символ части массива, не входящий в набор.
+	 *
+	 * @param array массив символов.
+	 * @param offset начало части массива.
+	 * @param count количество символов части массива.
+	 * @param charClass набор символов.
+	 * @return позицию символа относительно начала части или {@code -1}, если все символы входят в набор.
+	 */
+	private static int indexOfOutside(final char @NotNull [] array, final int offset, final int count, @NotNull final CharClass charClass)
+	{
+		for (int index = 0; index < count; index++)
+		{
+			if (!charClass.contains(array[offset + index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+}
@@ -39,16 +39,4 @@ public class CharSequenceCheck
 	public CharSequenceCheck(@Nullable final CharSequence target) {
 		super(target);
 	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	protected CharSequenceCheck initSelf()
-	{
-		return this;
-	}
 }
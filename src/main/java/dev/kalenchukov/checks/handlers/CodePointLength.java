@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс подсчёта количества кодовых точек последовательности символов.
+ * <p>
+ * Суррогатная пара считается одной кодовой точкой, а одиночный суррогат — отдельной, как в
+ * {@link Character#codePointCount(CharSequence, int, int)}. Символы просматриваются только до превышения
+ * ограничения. Пока суррогаты не встретились, каждый символ является кодовой точкой, поэтому
+ * текст без суррогатов, в том числе ASCII и Latin-1, просматривается без обработки пар.
+ *
+ * @author Алексей Каленчуков
+ */
+final class CodePointLength
+{
+	/**
+	 * Конструирует подсчёт.
+	 */
+	private CodePointLength() {}
+
+	/**
+	 * Подсчитывает количество кодовых точек последовательности символов до превышения ограничения.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param limit ограничение количества кодовых точек.
+	 * @return количество кодовых точек, если оно не превышает ограничение, иначе любое число больше ограничения.
+	 */
+	static long count(@NotNull final CharSequence sequence, final int limit)
+	{
+		final int length = sequence.length();
+		final long least = (length + 1L) / 2;
+
+		if (least > limit) {
+			return least;
+		}
+
+		final int end = (int) Math.min(length, limit + 1L);
+		int index = CodePointLength.indexOfSurrogate(sequence, end);
+
+		if (index < 0) {
+			return end;
+		}
+
+		long count = index;
+
+		for (; index < length && count <= limit; index++)
+		{
+			count++;
+
+			if (Character.isHighSurrogate(sequence.charAt(index)) && index + 1 < length
+				&& Character.isLowSurrogate(sequence.charAt(index + 1)))
+			{
+				index++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Проверяет, входит ли количество кодовых точек последовательности символов в диапазон.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @return {@code true}, если количество входит в диапазон.
+	 */
+	static boolean isWithin(@NotNull final CharSequence sequence, final int from, final int to)
+	{
+		final long count = CodePointLength.count(sequence, to);
+
+		return count >= from && count <= to;
+	}
+
+	/**
+	 * Ищет первый суррогат среди первых символов последовательности.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param end количество просматриваемых символов.
+	 * @return позицию суррогата или {@code -1}, если суррогатов нет.
+	 */
+	private static int indexOfSurrogate(@NotNull final CharSequence sequence, final int end)
+	{
+		for (int index = 0; index < end; index++)
+		{
+			if (Character.isSurrogate(sequence.charAt(index))) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+}
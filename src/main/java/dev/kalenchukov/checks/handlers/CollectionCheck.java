@@ -31,7 +31,7 @@ import java.util.Collection;
  * @author Алексей Каленчуков
  */
 public class CollectionCheck<T>
-	extends AbstractCollectionCheck<CollectionCheck<T>, Collection<T>>
+	extends AbstractCollectionCheck<CollectionCheck<T>, Collection<T>, T>
 	implements CollectionChecking<CollectionCheck<T>, Collection<T>>
 {
 	/**
@@ -43,16 +43,4 @@ public class CollectionCheck<T>
 	{
 		super(target);
 	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	protected CollectionCheck<T> initSelf()
-	{
-		return this;
-	}
 }
@@ -0,0 +1,719 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Класс поиска повторяющихся элементов.
+ * <p>
+ * Элементы добавляются в хеш-таблицу открытой адресации с линейным пробированием, заполненную не более
+ * чем наполовину. Таблица массивов примитивов хранит сами значения, поэтому занимает от 8 до 16 байтов
+ * на элемент {@code int} вместо примерно 50 байтов у {@link HashSet}. Если таблица массива примитивов превышает
+ * ограничение памяти, повторы ищутся сортировкой копии массива. Если таблица объектов превышает ограничение
+ * памяти или максимальную ёмкость, объекты добавляются в {@link HashSet}, размер которого ограничением
+ * не охватывается и растёт с количеством просмотренных до первого повтора объектов. Значения типов
+ * {@code byte} и {@code char} отмечаются в битовой карте всех возможных значений.
+ * <p>
+ * Всеми способами находится один и тот же элемент — первый, повторяющий предыдущий.
+ *
+ * @author Алексей Каленчуков
+ */
+final class DuplicateSearch
+{
+	/**
+	 * Ограничение памяти хеш-таблицы по умолчанию в байтах.
+	 */
+	static final long DEFAULT_MEMORY_LIMIT = 64L << 20;
+
+	/**
+	 * Максимальная ёмкость хеш-таблицы.
+	 */
+	private static final long MAX_CAPACITY = 1L << 30;
+
+	/**
+	 * Оценка размера ссылки в хеш-таблице объектов в байтах.
+	 */
+	private static final int REFERENCE_BYTES = 8;
+
+	/**
+	 * Множитель хеширования Фибоначчи для значений типа {@code int}.
+	 */
+	private static final int INT_PHI = 0x9E3779B9;
+
+	/**
+	 * Множитель хеширования Фибоначчи для значений типа {@code long}.
+	 */
+	private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Хеш-таблица объектов или {@code null}, если объекты добавляются в множество {@link #overflow}.
+	 */
+	private final Object @Nullable [] table;
+
+	/**
+	 * Множество объектов, если хеш-таблица превысила бы максимальную ёмкость, иначе {@code null}.
+	 */
+	@Nullable
+	private final Set<Object> overflow;
+
+	/**
+	 * Сдвиг хеша до позиции в таблице.
+	 */
+	private final int shift;
+
+	/**
+	 * Сравниваются ли объекты по ссылке.
+	 */
+	private final boolean identity;
+
+	/**
+	 * Добавлен ли {@code null}.
+	 */
+	private boolean containsNull;
+
+	/**
+	 * Позиция найденного повторяющегося объекта.
+	 */
+	private int index;
+
+	/**
+	 * Найденный повторяющийся объект.
+	 */
+	@Nullable
+	private Object element;
+
+	/**
+	 * Конструирует поиск повторяющихся объектов.
+	 * <p>
+	 * Если хеш-таблица превысила бы ограничение памяти или максимальную ёмкость, объекты добавляются
+	 * в множество, которое растёт по мере добавления.
+	 *
+	 * @param size количество объектов.
+	 * @param identity {@code true}, если объекты сравниваются по ссылке, иначе методом {@link Object#equals(Object)}.
+	 * @param memoryLimit ограничение памяти хеш-таблицы в байтах.
+	 */
+	private DuplicateSearch(final int size, final boolean identity, final long memoryLimit)
+	{
+		final long capacity = DuplicateSearch.capacity(size);
+
+		this.identity = identity;
+		this.containsNull = false;
+		this.index = -1;
+		this.element = null;
+
+		if (capacity > MAX_CAPACITY || capacity * REFERENCE_BYTES > memoryLimit) {
+			this.table = null;
+			this.shift = 0;
+			this.overflow = identity ? Collections.newSetFromMap(new IdentityHashMap<>()) : new HashSet<>();
+
+			return;
+		}
+
+		this.table = new Object[(int) capacity];
+		this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(this.table.length);
+		this.overflow = null;
+	}
+
+	/**
+	 * Ищет первый элемент списка, повторяющий предыдущий.
+	 *
+	 * @param list список.
+	 * @param identity {@code true}, если элементы сравниваются по ссылке, иначе методом {@link Object#equals(Object)}.
+	 * @param memoryLimit ограничение памяти хеш-таблицы в байтах.
+	 * @return поиск с найденным элементом или {@code null}, если повторяющихся элементов нет.
+	 */
+	@Nullable
+	static DuplicateSearch find(@NotNull final List<?> list, final boolean identity, final long memoryLimit)
+	{
+		final int size = list.size();
+
+		if (size < 2) {
+			return null;
+		}
+
+		final DuplicateSearch search = new DuplicateSearch(size, identity, memoryLimit);
+
+		if (list instanceof RandomAccess)
+		{
+			for (int index = 0; index < size; index++)
+			{
+				if (!search.add(index, list.get(index))) {
+					return search;
+				}
+			}
+
+			return null;
+		}
+
+		final Iterator<?> iterator = list.iterator();
+
+		for (int index = 0; iterator.hasNext(); index++)
+		{
+			if (!search.add(index, iterator.next())) {
+				return search;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий.
+	 *
+	 * @param array массив.
+	 * @param identity {@code true}, если элементы сравниваются по ссылке, иначе методом {@link Object#equals(Object)}.
+	 * @param memoryLimit ограничение памяти хеш-таблицы в байтах.
+	 * @return поиск с найденным элементом или {@code null}, если повторяющихся элементов нет.
+	 */
+	@Nullable
+	static DuplicateSearch find(final Object @NotNull [] array, final boolean identity, final long memoryLimit)
+	{
+		if (array.length < 2) {
+			return null;
+		}
+
+		final DuplicateSearch search = new DuplicateSearch(array.length, identity, memoryLimit);
+
+		for (int index = 0; index < array.length; index++)
+		{
+			if (!search.add(index, array[index])) {
+				return search;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий.
+	 * <p>
+	 * Если хеш-таблица превышает ограничение памяти, повторяющиеся значения определяются сортировкой копии массива.
+	 *
+	 * @param array массив.
+	 * @param memoryLimit ограничение памяти хеш-таблицы в байтах.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	static int indexOf(final int @NotNull [] array, final long memoryLimit)
+	{
+		if (array.length < 2) {
+			return -1;
+		}
+
+		final long capacity = DuplicateSearch.capacity(array.length);
+
+		if (capacity > MAX_CAPACITY || capacity * Integer.BYTES > memoryLimit) {
+			return DuplicateSearch.indexOfSorted(array);
+		}
+
+		final int[] table = new int[(int) capacity];
+		final int mask = table.length - 1;
+		final int shift = Integer.SIZE - Integer.numberOfTrailingZeros(table.length);
+		boolean containsZero = false;
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final int value = array[index];
+
+			if (value == 0) {
+				if (containsZero) {
+					return index;
+				}
+
+				containsZero = true;
+
+				continue;
+			}
+
+			int slot = (value * INT_PHI) >>> shift;
+
+			while (table[slot] != 0)
+			{
+				if (table[slot] == value) {
+					return index;
+				}
+
+				slot = (slot + 1) & mask;
+			}
+
+			table[slot] = value;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий.
+	 * <p>
+	 * Если хеш-таблица превышает ограничение памяти, повторяющиеся значения определяются сортировкой копии массива.
+	 *
+	 * @param array массив.
+	 * @param memoryLimit ограничение памяти хеш-таблицы в байтах.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	static int indexOf(final long @NotNull [] array, final long memoryLimit)
+	{
+		if (array.length < 2) {
+			return -1;
+		}
+
+		final long capacity = DuplicateSearch.capacity(array.length);
+
+		if (capacity > MAX_CAPACITY || capacity * Long.BYTES > memoryLimit) {
+			return DuplicateSearch.indexOfSorted(array);
+		}
+
+		final long[] table = new long[(int) capacity];
+		final int mask = table.length - 1;
+		final int shift = Long.SIZE - Integer.numberOfTrailingZeros(table.length);
+		boolean containsZero = false;
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final long value = array[index];
+
+			if (value == 0) {
+				if (containsZero) {
+					return index;
+				}
+
+				containsZero = true;
+
+				continue;
+			}
+
+			int slot = (int) ((value * LONG_PHI) >>> shift);
+
+			while (table[slot] != 0)
+			{
+				if (table[slot] == value) {
+					return index;
+				}
+
+				slot = (slot + 1) & mask;
+			}
+
+			table[slot] = value;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий.
+	 * <p>
+	 * Значения сравниваются по битовому представлению {@link Double#doubleToLongBits(double)}, как методом
+	 * {@link Double#equals(Object)}. Если хеш-таблица превышает ограничение памяти, повторяющиеся значения
+	 * определяются сортировкой копии массива.
+	 *
+	 * @param array массив.
+	 * @param memoryLimit ограничение памяти хеш-таблицы в байтах.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	static int indexOf(final double @NotNull [] array, final long memoryLimit)
+	{
+		if (array.length < 2) {
+			return -1;
+		}
+
+		final long capacity = DuplicateSearch.capacity(array.length);
+
+		if (capacity > MAX_CAPACITY || capacity * Long.BYTES > memoryLimit) {
+			return DuplicateSearch.indexOfSorted(array);
+		}
+
+		final long[] table = new long[(int) capacity];
+		final int mask = table.length - 1;
+		final int shift = Long.SIZE - Integer.numberOfTrailingZeros(table.length);
+		boolean containsZero = false;
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final long value = Double.doubleToLongBits(array[index]);
+
+			if (value == 0) {
+				if (containsZero) {
+					return index;
+				}
+
+				containsZero = true;
+
+				continue;
+			}
+
+			int slot = (int) ((value * LONG_PHI) >>> shift);
+
+			while (table[slot] != 0)
+			{
+				if (table[slot] == value) {
+					return index;
+				}
+
+				slot = (slot + 1) & mask;
+			}
+
+			table[slot] = value;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	static int indexOf(final byte @NotNull [] array)
+	{
+		final long[] seen = new long[4];
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final int value = array[index] & 0xFF;
+			final long bit = 1L << value;
+
+			if ((seen[value >>> 6] & bit) != 0) {
+				return index;
+			}
+
+			seen[value >>> 6] |= bit;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 65536 битов.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	static int indexOf(final char @NotNull [] array)
+	{
+		if (array.length < 2) {
+			return -1;
+		}
+
+		final long[] seen = new long[1024];
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final int value = array[index];
+			final long bit = 1L << value;
+
+			if ((seen[value >>> 6] & bit) != 0) {
+				return index;
+			}
+
+			seen[value >>> 6] |= bit;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Возвращает позицию найденного повторяющегося объекта.
+	 *
+	 * @return позицию объекта.
+	 */
+	int getIndex()
+	{
+		return this.index;
+	}
+
+	/**
+	 * Возвращает найденный повторяющийся объект.
+	 *
+	 * @return объект.
+	 */
+	@Nullable
+	Object getElement()
+	{
+		return this.element;
+	}
+
+	/**
+	 * Добавляет объект в хеш-таблицу.
+	 * <p>
+	 * Если такой объект уже есть, объект и его позиция запоминаются как найденные.
+	 *
+	 * @param index позиция объекта.
+	 * @param element объект.
+	 * @return {@code true}, если объект добавлен, или {@code false}, если такой объект уже есть.
+	 */
+	private boolean add(final int index, @Nullable final Object element)
+	{
+		if (!this.insert(element)) {
+			this.index = index;
+			this.element = element;
+
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Вставляет объект в хеш-таблицу.
+	 *
+	 * @param element объект.
+	 * @return {@code true}, если объект добавлен, или {@code false}, если такой объект уже есть.
+	 */
+	private boolean insert(@Nullable final Object element)
+	{
+		if (element == null) {
+			if (this.containsNull) {
+				return false;
+			}
+
+			this.containsNull = true;
+
+			return true;
+		}
+
+		if (this.table == null) {
+			return Objects.requireNonNull(this.overflow).add(element);
+		}
+
+		final int hash = this.identity ? System.identityHashCode(element) : element.hashCode();
+		final int mask = this.table.length - 1;
+		int slot = (hash * INT_PHI) >>> this.shift;
+
+		while (this.table[slot] != null)
+		{
+			final Object present = this.table[slot];
+
+			if (present == element || (!this.identity && present.equals(element))) {
+				return false;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		this.table[slot] = element;
+
+		return true;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий, сортировкой копии массива.
+	 * <p>
+	 * Повторяющиеся значения стоят в отсортированной копии рядом. Массив просматривается по порядку,
+	 * а первое вхождение каждого повторяющегося значения отмечается в битовой карте по позиции его
+	 * группы в копии, поэтому найденный элемент совпадает с найденным в хеш-таблице.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	private static int indexOfSorted(final int @NotNull [] array)
+	{
+		final int[] sorted = array.clone();
+
+		Arrays.sort(sorted);
+
+		final long[] seen = new long[(sorted.length + 63) >>> 6];
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final int group = DuplicateSearch.lowerBound(sorted, array[index]);
+
+			if (group + 1 == sorted.length || sorted[group + 1] != array[index]) {
+				continue;
+			}
+
+			if (!DuplicateSearch.mark(seen, group)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий, сортировкой копии массива.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 * @see #indexOfSorted(int[])
+	 */
+	private static int indexOfSorted(final long @NotNull [] array)
+	{
+		final long[] sorted = array.clone();
+
+		Arrays.sort(sorted);
+
+		return DuplicateSearch.indexOfSorted(array, sorted);
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий, сортировкой битовых представлений значений.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 * @see #indexOfSorted(int[])
+	 */
+	private static int indexOfSorted(final double @NotNull [] array)
+	{
+		final long[] bits = new long[array.length];
+
+		for (int index = 0; index < array.length; index++)
+		{
+			bits[index] = Double.doubleToLongBits(array[index]);
+		}
+
+		final long[] sorted = bits.clone();
+
+		Arrays.sort(sorted);
+
+		return DuplicateSearch.indexOfSorted(bits, sorted);
+	}
+
+	/**
+	 * Ищет первый элемент массива, повторяющий предыдущий, по отсортированной копии массива.
+	 *
+	 * @param array массив.
+	 * @param sorted отсортированная копия массива.
+	 * @return позицию элемента или {@code -1}, если повторяющихся элементов нет.
+	 */
+	private static int indexOfSorted(final long @NotNull [] array, final long @NotNull [] sorted)
+	{
+		final long[] seen = new long[(sorted.length + 63) >>> 6];
+
+		for (int index = 0; index < array.length; index++)
+		{
+			final int group = DuplicateSearch.lowerBound(sorted, array[index]);
+
+			if (group + 1 == sorted.length || sorted[group + 1] != array[index]) {
+				continue;
+			}
+
+			if (!DuplicateSearch.mark(seen, group)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Возвращает позицию первого вхождения значения в отсортированный массив.
+	 *
+	 * @param sorted отсортированный массив, содержащий значение.
+	 * @param value значение.
+	 * @return позицию первого вхождения значения.
+	 */
+	private static int lowerBound(final int @NotNull [] sorted, final int value)
+	{
+		int low = 0;
+		int high = sorted.length - 1;
+
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+
+			if (sorted[middle] < value)
+			{
+				low = middle + 1;
+
+				continue;
+			}
+
+			high = middle;
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает позицию первого вхождения значения в отсортированный массив.
+	 *
+	 * @param sorted отсортированный массив, содержащий значение.
+	 * @param value значение.
+	 * @return позицию первого вхождения значения.
+	 */
+	private static int lowerBound(final long @NotNull [] sorted, final long value)
+	{
+		int low = 0;
+		int high = sorted.length - 1;
+
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+
+			if (sorted[middle] < value)
+			{
+				low = middle + 1;
+
+				continue;
+			}
+
+			high = middle;
+		}
+
+		return low;
+	}
+
+	/**
+	 * Отмечает позицию в битовой карте.
+	 *
+	 * @param seen битовая карта.
+	 * @param position позиция.
+	 * @return {@code true}, если позиция отмечена, или {@code false}, если она уже была отмечена.
+	 */
+	private static boolean mark(final long @NotNull [] seen, final int position)
+	{
+		final long bit = 1L << position;
+
+		if ((seen[position >>> 6] & bit) != 0) {
+			return false;
+		}
+
+		seen[position >>> 6] |= bit;
+
+		return true;
+	}
+
+	/**
+	 * Возвращает ёмкость хеш-таблицы для количества элементов.
+	 *
+	 * @param size количество элементов.
+	 * @return степень двойки, не меньшая удвоенного количества элементов.
+	 */
+	private static long capacity(final int size)
+	{
+		return Math.max(16L, Long.highestOneBit(size - 1L) << 2);
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.ToIntFunction;
+
+/**
+ * Класс поиска первого элемента, нарушающего требование.
+ * <p>
+ * Требование задаётся функцией, возвращающей код нарушения элементом или {@code 0}, если элемент корректен.
+ * Поиск запоминает позицию, сам элемент и код нарушения, поэтому для исключения не нужно
+ * ни повторно обходить элементы, ни повторно проверять найденный элемент.
+ *
+ * @param <E> тип элементов.
+ * @author Алексей Каленчуков
+ */
+final class ElementSearch<E>
+{
+	/**
+	 * Позиция найденного элемента или {@link Integer#MAX_VALUE}, если элемент не найден.
+	 */
+	private volatile int index;
+
+	/**
+	 * Найденный элемент.
+	 */
+	@Nullable
+	private E element;
+
+	/**
+	 * Код нарушения найденным элементом.
+	 */
+	private int code;
+
+	/**
+	 * Конструирует поиск без найденного элемента.
+	 */
+	ElementSearch()
+	{
+		this.index = Integer.MAX_VALUE;
+		this.element = null;
+		this.code = 0;
+	}
+
+	/**
+	 * Конструирует поиск с найденным элементом.
+	 *
+	 * @param index позиция элемента.
+	 * @param element элемент.
+	 * @param code код нарушения элементом.
+	 */
+	private ElementSearch(final int index, @Nullable final E element, final int code)
+	{
+		this.index = index;
+		this.element = element;
+		this.code = code;
+	}
+
+	/**
+	 * Ищет первый элемент, нарушающий требование.
+	 * <p>
+	 * Списки с произвольным доступом просматриваются по позициям, остальные элементы — итератором.
+	 *
+	 * @param elements элементы.
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @param <E> тип элементов.
+	 * @return поиск с найденным элементом или {@code null}, если такого элемента нет.
+	 */
+	@Nullable
+	static <E> ElementSearch<E> find(@NotNull final Iterable<E> elements, @NotNull final ToIntFunction<? super E> test)
+	{
+		if (elements instanceof RandomAccess && elements instanceof List<?>)
+		{
+			@SuppressWarnings("unchecked")
+			final List<E> list = (List<E>) elements;
+
+			for (int index = 0, size = list.size(); index < size; index++)
+			{
+				final E element = list.get(index);
+				final int code = test.applyAsInt(element);
+
+				if (code != 0) {
+					return new ElementSearch<>(index, element, code);
+				}
+			}
+
+			return null;
+		}
+
+		int index = 0;
+
+		for (final E element : elements)
+		{
+			final int code = test.applyAsInt(element);
+
+			if (code != 0) {
+				return new ElementSearch<>(index, element, code);
+			}
+
+			index++;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Ищет первый элемент массива, нарушающий требование.
+	 *
+	 * @param array массив.
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @param <E> тип элементов.
+	 * @return поиск с найденным элементом или {@code null}, если такого элемента нет.
+	 */
+	@Nullable
+	static <E> ElementSearch<E> find(final E @NotNull [] array, @NotNull final ToIntFunction<? super E> test)
+	{
+		for (int index = 0; index < array.length; index++)
+		{
+			final int code = test.applyAsInt(array[index]);
+
+			if (code != 0) {
+				return new ElementSearch<>(index, array[index], code);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Запоминает элемент, если он стоит раньше уже найденного.
+	 * <p>
+	 * Вызывается задачами параллельного поиска из разных потоков.
+	 *
+	 * @param index позиция элемента.
+	 * @param element элемент.
+	 * @param code код нарушения элементом.
+	 */
+	synchronized void report(final int index, @Nullable final E element, final int code)
+	{
+		if (index < this.index) {
+			this.element = element;
+			this.code = code;
+			this.index = index;
+		}
+	}
+
+	/**
+	 * Проверяет, найден ли элемент.
+	 *
+	 * @return {@code true}, если элемент найден.
+	 */
+	boolean isFound()
+	{
+		return this.index != Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Возвращает позицию найденного элемента.
+	 * <p>
+	 * До завершения параллельного поиска возвращает наименьшую из найденных позиций
+	 * или {@link Integer#MAX_VALUE}, если элемент ещё не найден.
+	 *
+	 * @return позицию элемента.
+	 */
+	int getIndex()
+	{
+		return this.index;
+	}
+
+	/**
+	 * Возвращает найденный элемент.
+	 *
+	 * @return элемент.
+	 */
+	@Nullable
+	E getElement()
+	{
+		return this.element;
+	}
+
+	/**
+	 * Возвращает нарушение требования найденным элементом.
+	 *
+	 * @return нарушение.
+	 */
+	@Nullable
+	Violation getViolation()
+	{
+		return Violation.ofCode(this.code);
+	}
+}
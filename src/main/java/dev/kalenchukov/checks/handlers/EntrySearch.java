@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Класс поиска записи отображения, нарушающей требование.
+ * <p>
+ * Требование задаётся функцией, возвращающей код нарушения записью или {@code 0}, если запись корректна.
+ * Поиск запоминает ключ, значение и код нарушения, поэтому найденную запись не нужно проверять повторно.
+ * <p>
+ * Отображение обходится циклом по {@link Map#entrySet()}, который прерывается на первой найденной записи.
+ * Объект поиска создаётся только для найденной записи.
+ *
+ * @param <K> тип ключей.
+ * @param <V> тип значений.
+ * @author Алексей Каленчуков
+ */
+final class EntrySearch<K, V>
+	implements BiConsumer<K, V>
+{
+	/**
+	 * Функция, возвращающая код нарушения записью или {@code 0}.
+	 */
+	@NotNull
+	private final ToIntBiFunction<? super K, ? super V> test;
+
+	/**
+	 * Найдена ли запись.
+	 * <p>
+	 * Изменяется под блокировкой поиска. Чтение без блокировки лишь позволяет задачам параллельного обхода
+	 * пропускать записи после найденной: устаревшее значение приводит только к лишней проверке записи,
+	 * а результат читается после завершения обхода.
+	 */
+	private boolean found;
+
+	/**
+	 * Ключ найденной записи.
+	 */
+	@Nullable
+	private K key;
+
+	/**
+	 * Значение найденной записи.
+	 */
+	@Nullable
+	private V value;
+
+	/**
+	 * Код нарушения найденной записью.
+	 */
+	private int code;
+
+	/**
+	 * Конструирует поиск.
+	 *
+	 * @param test функция, возвращающая код нарушения записью или {@code 0}.
+	 */
+	private EntrySearch(@NotNull final ToIntBiFunction<? super K, ? super V> test)
+	{
+		this.test = test;
+		this.found = false;
+		this.key = null;
+		this.value = null;
+		this.code = 0;
+	}
+
+	/**
+	 * Ищет запись, нарушающую требование.
+	 * <p>
+	 * Отображения {@link ConcurrentHashMap} при положительном пороге проверяются параллельно
+	 * методом {@link ConcurrentHashMap#forEach(long, BiConsumer)}, и найденной может оказаться
+	 * любая из нарушающих требование записей. Функция при этом должна быть потокобезопасной.
+	 *
+	 * @param map отображение.
+	 * @param test функция, возвращающая код нарушения записью или {@code 0}.
+	 * @param parallelThreshold порог количества записей для параллельной проверки или {@code 0}.
+	 * @param <K> тип ключей.
+	 * @param <V> тип значений.
+	 * @return поиск с найденной записью или {@code null}, если такой записи нет.
+	 */
+	@Nullable
+	static <K, V> EntrySearch<K, V> find(@NotNull final Map<K, V> map,
+										 @NotNull final ToIntBiFunction<? super K, ? super V> test,
+										 final int parallelThreshold)
+	{
+		if (parallelThreshold > 0 && map instanceof ConcurrentHashMap<?, ?>)
+		{
+			final EntrySearch<K, V> search = new EntrySearch<>(test);
+			((ConcurrentHashMap<K, V>) map).forEach(parallelThreshold, search);
+
+			return search.found ? search : null;
+		}
+
+		for (final Map.Entry<K, V> entry : map.entrySet())
+		{
+			final K key = entry.getKey();
+			final V value = entry.getValue();
+			final int code = test.applyAsInt(key, value);
+
+			if (code != 0)
+			{
+				final EntrySearch<K, V> search = new EntrySearch<>(test);
+				search.key = key;
+				search.value = value;
+				search.code = code;
+				search.found = true;
+
+				return search;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param key {@inheritDoc}
+	 * @param value {@inheritDoc}
+	 */
+	@Override
+	public void accept(@Nullable final K key, @Nullable final V value)
+	{
+		if (this.found) {
+			return;
+		}
+
+		final int code = this.test.applyAsInt(key, value);
+
+		if (code == 0) {
+			return;
+		}
+
+		synchronized (this)
+		{
+			if (!this.found) {
+				this.key = key;
+				this.value = value;
+				this.code = code;
+				this.found = true;
+			}
+		}
+	}
+
+	/**
+	 * Возвращает ключ найденной записи.
+	 *
+	 * @return ключ.
+	 */
+	@Nullable
+	K getKey()
+	{
+		return this.key;
+	}
+
+	/**
+	 * Возвращает значение найденной записи.
+	 *
+	 * @return значение.
+	 */
+	@Nullable
+	V getValue()
+	{
+		return this.value;
+	}
+
+	/**
+	 * Возвращает нарушение требования найденной записью.
+	 *
+	 * @return нарушение.
+	 */
+	@Nullable
+	Violation getViolation()
+	{
+		return Violation.ofCode(this.code);
+	}
+}
@@ -0,0 +1,1197 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.handlers.interfaces.IntChecking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Класс проверяющего значения типа {@code int}.
+ * <p>
+ * В отличие от {@link IntegerCheck} хранит проверяемое значение и границы проверок
+ * в виде примитивов, поэтому успешные проверки не упаковывают значения в {@code Integer}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IntCheck
+	extends AbstractBaseCheck<IntCheck>
+	implements IntChecking<IntCheck>
+{
+	/**
+	 * Проверяемое значение.
+	 */
+	protected final int target;
+
+	/**
+	 * Конструирует проверяющего.
+	 *
+	 * @param target проверяемое значение.
+	 */
+	public IntCheck(final int target)
+	{
+		super();
+
+		this.target = target;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notEquals(final int value)
+	{
+		this.notEquals(value, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notEquals(final int value, @Nullable final String message)
+	{
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notEquals(final int value, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notEquals(final int value, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notEquals(final int value, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param value {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EqualsObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notEqualsLazy(final int value, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isEquals(value)) {
+			return this.fail(Violation.EQUALS, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck not(@NotNull final IntPredicate predicate)
+	{
+		Objects.requireNonNull(predicate);
+
+		this.not(predicate, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck not(@NotNull final IntPredicate predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck not(@NotNull final IntPredicate predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck not(@NotNull final IntPredicate predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck not(@NotNull final IntPredicate predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLazy(@NotNull final IntPredicate predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(message);
+
+		if (this.isIllegal(predicate)) {
+			return this.fail(Violation.ILLEGAL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notZero()
+	{
+		this.notZero(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notZero(@Nullable final String message)
+	{
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notZero(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notZero(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notZero(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ZeroNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notZeroLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isZero()) {
+			return this.fail(Violation.ZERO_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notNegative()
+	{
+		this.notNegative(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notNegative(@Nullable final String message)
+	{
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notNegative(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notNegative(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notNegative(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notNegativeLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notPositive()
+	{
+		this.notPositive(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notPositive(@Nullable final String message)
+	{
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notPositive(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notPositive(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notPositive(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notPositiveLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notMoreNumber(final int number)
+	{
+		this.notMoreNumber(number, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notMoreNumber(final int number, @Nullable final String message)
+	{
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notMoreNumber(final int number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notMoreNumber(final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notMoreNumber(final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notMoreNumberLazy(final int number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLessNumber(final int number)
+	{
+		this.notLessNumber(number, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLessNumber(final int number, @Nullable final String message)
+	{
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLessNumber(final int number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLessNumber(final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLessNumber(final int number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notLessNumberLazy(final int number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notRangeNumber(final int from, final int to)
+	{
+		this.notRangeNumber(from, to, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notRangeNumber(final int from, final int to, @Nullable final String message)
+	{
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notRangeNumber(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notRangeNumber(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notRangeNumber(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntCheck notRangeNumberLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int get()
+	{
+		return this.target;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected Integer getCulprit()
+	{
+		return this.target;
+	}
+
+	/**
+	 * Возвращает представление объекта в виде числа.
+	 *
+	 * @return представление объекта в виде числа.
+	 */
+	@Override
+	public int hashCode()
+	{
+		int result = 0;
+
+		result = 31 * result + Integer.hashCode(this.target);
+
+		return result;
+	}
+
+	/**
+	 * Проверяет равенство объектов.
+	 *
+	 * @param obj сравниваемый объект.
+	 * @return {@code true}, если объекты равны, иначе {@code false}.
+	 */
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (obj == null) {
+			return false;
+		}
+
+		if (obj == this.self()) {
+			return true;
+		}
+
+		if (!this.getClass().equals(obj.getClass())) {
+			return false;
+		}
+
+		IntCheck intCheck = (IntCheck) obj;
+
+		return this.target == intCheck.target;
+	}
+
+	/**
+	 * Проверяет, равно ли значение заданному.
+	 *
+	 * @param value значение.
+	 * @return {@code true}, если значение равно заданному.
+	 */
+	private boolean isEquals(final int value)
+	{
+		return this.target == value;
+	}
+
+	/**
+	 * Проверяет, соответствует ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @return {@code true}, если значение соответствует условию.
+	 */
+	private boolean isIllegal(@NotNull final IntPredicate predicate)
+	{
+		return predicate.test(this.target);
+	}
+
+	/**
+	 * Проверяет, равно ли число нулю.
+	 *
+	 * @return {@code true}, если число равно нулю.
+	 */
+	private boolean isZero()
+	{
+		return this.target == 0;
+	}
+
+	/**
+	 * Проверяет, отрицательно ли число.
+	 *
+	 * @return {@code true}, если число отрицательное.
+	 */
+	private boolean isNegative()
+	{
+		return this.target < 0;
+	}
+
+	/**
+	 * Проверяет, положительно ли число.
+	 *
+	 * @return {@code true}, если число положительное.
+	 */
+	private boolean isPositive()
+	{
+		return this.target > 0;
+	}
+
+	/**
+	 * Проверяет, больше ли число заданного.
+	 *
+	 * @param number число.
+	 * @return {@code true}, если число больше заданного.
+	 */
+	private boolean isMoreNumber(final int number)
+	{
+		return this.target > number;
+	}
+
+	/**
+	 * Проверяет, меньше ли число заданного.
+	 *
+	 * @param number число.
+	 * @return {@code true}, если число меньше заданного.
+	 */
+	private boolean isLessNumber(final int number)
+	{
+		return this.target < number;
+	}
+
+	/**
+	 * Проверяет, входит ли число в диапазон.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return {@code true}, если число входит в диапазон.
+	 */
+	private boolean isRangeNumber(final int from, final int to)
+	{
+		return this.target >= from && this.target <= to;
+	}
+}
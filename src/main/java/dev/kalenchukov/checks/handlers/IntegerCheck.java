@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Класс проверяющего объекты типа {@code Integer}.
@@ -55,7 +56,7 @@ public class IntegerCheck
 	{
 		this.notNegative(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -69,11 +70,97 @@ public class IntegerCheck
 	@Override
 	public IntegerCheck notNegative(@Nullable final String message)
 	{
-		if (this.target == null || this.target < 0) {
-			throw new NegativeNumberObjectCheckException(this.target, message);
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notNegative(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notNegative(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notNegative(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NegativeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notNegativeLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isNegative()) {
+			return this.fail(Violation.NEGATIVE_NUMBER, message);
+		}
+
+		return this.self();
 	}
 
 	/**
@@ -87,7 +174,7 @@ public class IntegerCheck
 	{
 		this.notPositive(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -101,11 +188,97 @@ public class IntegerCheck
 	@Override
 	public IntegerCheck notPositive(@Nullable final String message)
 	{
-		if (this.target == null || this.target > 0) {
-			throw new PositiveNumberObjectCheckException(this.target, message);
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, message);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notPositive(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notPositive(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notPositive(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws PositiveNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notPositiveLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isPositive()) {
+			return this.fail(Violation.POSITIVE_NUMBER, message);
+		}
+
+		return this.self();
 	}
 
 	/**
@@ -122,7 +295,7 @@ public class IntegerCheck
 
 		this.notMoreNumber(number, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -139,11 +312,105 @@ public class IntegerCheck
 	{
 		Objects.requireNonNull(number);
 
-		if (this.target == null || this.target > number) {
-			throw new MoreNumberObjectCheckException(this.target, message);
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notMoreNumber(@NotNull final Integer number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notMoreNumber(@NotNull final Integer number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notMoreNumber(@NotNull final Integer number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notMoreNumberLazy(@NotNull final Integer number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(message);
+
+		if (this.isMoreNumber(number)) {
+			return this.fail(Violation.MORE_NUMBER, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -160,7 +427,7 @@ public class IntegerCheck
 
 		this.notLessNumber(number, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -177,11 +444,105 @@ public class IntegerCheck
 	{
 		Objects.requireNonNull(number);
 
-		if (this.target == null || this.target < number) {
-			throw new LessNumberObjectCheckException(this.target, message);
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notLessNumber(@NotNull final Integer number, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notLessNumber(@NotNull final Integer number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notLessNumber(@NotNull final Integer number, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, pattern, argument1, argument2, argument3);
 		}
 
-		return this.self;
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param number {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notLessNumberLazy(@NotNull final Integer number, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(number);
+		Objects.requireNonNull(message);
+
+		if (this.isLessNumber(number)) {
+			return this.fail(Violation.LESS_NUMBER, message);
+		}
+
+		return this.self();
 	}
 
 	/**
@@ -200,7 +561,7 @@ public class IntegerCheck
 
 		this.notRangeNumber(from, to, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -219,22 +580,176 @@ public class IntegerCheck
 		Objects.requireNonNull(from);
 		Objects.requireNonNull(to);
 
-		if (this.target == null || (this.target >= from && this.target <= to)) {
-			throw new RangeNumberObjectCheckException(this.target, message);
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	protected IntegerCheck initSelf()
+	public IntegerCheck notRangeNumber(@NotNull final Integer from, @NotNull final Integer to, @NotNull final String pattern, @Nullable final Object argument)
 	{
-		return this;
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notRangeNumber(@NotNull final Integer from, @NotNull final Integer to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notRangeNumber(@NotNull final Integer from, @NotNull final Integer to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeNumberObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerCheck notRangeNumberLazy(@NotNull final Integer from, @NotNull final Integer to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		Objects.requireNonNull(message);
+
+		if (this.isRangeNumber(from, to)) {
+			return this.fail(Violation.RANGE_NUMBER, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, отрицательно ли число.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или число отрицательное.
+	 */
+	private boolean isNegative()
+	{
+		final Integer target = this.getTarget();
+
+		return target == null || target < 0;
+	}
+
+	/**
+	 * Проверяет, положительно ли число.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или число положительное.
+	 */
+	private boolean isPositive()
+	{
+		final Integer target = this.getTarget();
+
+		return target == null || target > 0;
+	}
+
+	/**
+	 * Проверяет, больше ли число заданного.
+	 *
+	 * @param number число.
+	 * @return {@code true}, если проверяемый объект {@code null} или число больше заданного.
+	 */
+	private boolean isMoreNumber(@NotNull final Integer number)
+	{
+		final Integer target = this.getTarget();
+
+		return target == null || target > number;
+	}
+
+	/**
+	 * Проверяет, меньше ли число заданного.
+	 *
+	 * @param number число.
+	 * @return {@code true}, если проверяемый объект {@code null} или число меньше заданного.
+	 */
+	private boolean isLessNumber(@NotNull final Integer number)
+	{
+		final Integer target = this.getTarget();
+
+		return target == null || target < number;
+	}
+
+	/**
+	 * Проверяет, входит ли число в диапазон.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или число входит в диапазон.
+	 */
+	private boolean isRangeNumber(@NotNull final Integer from, @NotNull final Integer to)
+	{
+		final Integer target = this.getTarget();
+
+		return target == null || (target >= from && target <= to);
 	}
 }
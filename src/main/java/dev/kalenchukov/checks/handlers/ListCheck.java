@@ -18,11 +18,14 @@
 
 package dev.kalenchukov.checks.handlers;
 
+import dev.kalenchukov.checks.exceptions.*;
 import dev.kalenchukov.checks.handlers.interfaces.ListChecking;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Класс проверяющего объекты типа {@code List}.
@@ -31,9 +34,14 @@ import java.util.List;
  * @author Алексей Каленчуков
  */
 public class ListCheck<T>
-	extends AbstractCollectionCheck<ListCheck<T>, List<T>>
+	extends AbstractCollectionCheck<ListCheck<T>, List<T>, T>
 	implements ListChecking<ListCheck<T>, List<T>>
 {
+	/**
+	 * Ограничение памяти хеш-таблицы поиска повторяющихся элементов в байтах.
+	 */
+	private long memoryLimit;
+
 	/**
 	 * Конструирует проверяющего.
 	 *
@@ -42,17 +50,290 @@ public class ListCheck<T>
 	public ListCheck(@Nullable final List<T> target)
 	{
 		super(target);
+
+		this.memoryLimit = DuplicateSearch.DEFAULT_MEMORY_LIMIT;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsDuplicates()
+	{
+		this.notContainsDuplicates(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsDuplicates(@Nullable final String message)
+	{
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsDuplicates(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsDuplicatesLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.locateDuplicate(false)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsIdentical()
+	{
+		this.notContainsIdentical(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsIdentical(@Nullable final String message)
+	{
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsIdentical(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument);
+		}
+
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	protected ListCheck<T> initSelf()
+	public ListCheck<T> notContainsIdentical(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
 	{
-		return this;
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsIdentical(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws DuplicateObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> notContainsIdenticalLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.locateDuplicate(true)) {
+			return this.fail(Violation.DUPLICATE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param bytes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ListCheck<T> memoryLimit(final long bytes)
+	{
+		if (bytes < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.memoryLimit = bytes;
+
+		return this.self();
+	}
+
+	/**
+	 * Ищет повторяющийся элемент и запоминает его для исключения.
+	 *
+	 * @param identity {@code true}, если элементы сравниваются по ссылке, иначе методом {@link Object#equals(Object)}.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит повторяющиеся элементы.
+	 */
+	private boolean locateDuplicate(final boolean identity)
+	{
+		final List<T> target = this.getTarget();
+
+		if (target == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		final DuplicateSearch search = DuplicateSearch.find(target, identity, this.memoryLimit);
+
+		if (search == null) {
+			return false;
+		}
+
+		this.locateElement(search.getIndex(), search.getElement(), null);
+
+		return true;
 	}
 }
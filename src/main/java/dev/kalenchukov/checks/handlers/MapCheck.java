@@ -19,13 +19,19 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.handlers.interfaces.EntryChecking;
 import dev.kalenchukov.checks.handlers.interfaces.MultipleObjectChecking;
 import dev.kalenchukov.checks.handlers.interfaces.MapChecking;
+import dev.kalenchukov.checks.rules.Rule;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 /**
  * Класс проверяющего объекты типа {@code Map}.
@@ -36,8 +42,14 @@ import java.util.Objects;
  */
 public class MapCheck<K, V>
 	extends AbstractCheck<MapCheck<K, V>, Map<K, V>>
-	implements MapChecking<MapCheck<K, V>, Map<K, V>>, MultipleObjectChecking<MapCheck<K, V>, Map<K, V>>
+	implements MapChecking<MapCheck<K, V>, Map<K, V>>, MultipleObjectChecking<MapCheck<K, V>, Map<K, V>>,
+			   EntryChecking<MapCheck<K, V>, K, V>
 {
+	/**
+	 * Порог количества записей для параллельной проверки или {@code 0}, если проверка последовательная.
+	 */
+	private int parallelThreshold;
+
 	/**
 	 * Конструирует проверяющего.
 	 *
@@ -46,6 +58,8 @@ public class MapCheck<K, V>
 	public MapCheck(@Nullable final Map<K, V> target)
 	{
 		super(target);
+
+		this.parallelThreshold = 0;
 	}
 
 	/**
@@ -59,7 +73,7 @@ public class MapCheck<K, V>
 	{
 		this.notEmpty(null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -73,11 +87,97 @@ public class MapCheck<K, V>
 	@Override
 	public MapCheck<K, V> notEmpty(@Nullable final String message)
 	{
-		if (this.target == null || this.target.isEmpty()) {
-			throw new EmptyObjectCheckException(this.target, message);
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notEmpty(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notEmpty(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws EmptyObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notEmptyLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isEmpty()) {
+			return this.fail(Violation.EMPTY, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -92,7 +192,7 @@ public class MapCheck<K, V>
 	{
 		this.notSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -107,11 +207,101 @@ public class MapCheck<K, V>
 	@Override
 	public MapCheck<K, V> notSize(final int size, @Nullable final String message)
 	{
-		if (this.target == null || this.target.size() == size) {
-			throw new SizeObjectCheckException(this.target, message);
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws SizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isSize(size)) {
+			return this.fail(Violation.SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -127,7 +317,7 @@ public class MapCheck<K, V>
 	{
 		this.notRangeSize(from, to, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -143,11 +333,105 @@ public class MapCheck<K, V>
 	@Override
 	public MapCheck<K, V> notRangeSize(final int from, final int to, @Nullable final String message)
 	{
-		if (this.target == null || (this.target.size() >= from && this.target.size() <= to)) {
-			throw new RangeSizeObjectCheckException(this.target, message);
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notRangeSize(final int from, final int to, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RangeSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notRangeSizeLazy(final int from, final int to, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isRangeSize(from, to)) {
+			return this.fail(Violation.RANGE_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -162,7 +446,7 @@ public class MapCheck<K, V>
 	{
 		this.notMoreSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -176,11 +460,91 @@ public class MapCheck<K, V>
 	@Override
 	public MapCheck<K, V> notMoreSize(final int size, @Nullable final String message)
 	{
-		if (this.target == null || this.target.size() > size) {
-			throw new MoreSizeObjectCheckException(this.target, message);
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notMoreSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws MoreSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notMoreSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isMoreSize(size)) {
+			return this.fail(Violation.MORE_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -195,7 +559,7 @@ public class MapCheck<K, V>
 	{
 		this.notLessSize(size, null);
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
@@ -209,22 +573,779 @@ public class MapCheck<K, V>
 	@Override
 	public MapCheck<K, V> notLessSize(final int size, @Nullable final String message)
 	{
-		if (this.target == null || this.target.size() < size) {
-			throw new LessSizeObjectCheckException(this.target, message);
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
 		}
 
-		return this.self;
+		return this.self();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
+	 * @param size {@inheritDoc}
 	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	protected MapCheck<K, V> initSelf()
+	public MapCheck<K, V> notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument)
 	{
-		return this;
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notLessSize(final int size, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param size {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws LessSizeObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notLessSizeLazy(final int size, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.isLessSize(size)) {
+			return this.fail(Violation.LESS_SIZE, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullKey()
+	{
+		this.notContainsNullKey(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullKey(@Nullable final String message)
+	{
+		if (this.hasNullKey()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullKey(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNullKey()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullKey(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNullKey()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullKey(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNullKey()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullKeyLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasNullKey()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullValue()
+	{
+		this.notContainsNullValue(null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullValue(@Nullable final String message)
+	{
+		if (this.hasNullValue()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullValue(@NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNullValue()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullValue(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNullValue()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullValue(@NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(pattern);
+
+		if (this.hasNullValue()) {
+			return this.fail(Violation.CONTAINS_NULL, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ContainsNullObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notContainsNullValueLazy(@NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(message);
+
+		if (this.hasNullValue()) {
+			return this.fail(Violation.CONTAINS_NULL, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notAny(@NotNull final BiPredicate<? super K, ? super V> predicate)
+	{
+		Objects.requireNonNull(predicate);
+
+		this.notAny(predicate, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notAny(@NotNull final BiPredicate<? super K, ? super V> predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notAny(@NotNull final BiPredicate<? super K, ? super V> predicate, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notAny(@NotNull final BiPredicate<? super K, ? super V> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notAny(@NotNull final BiPredicate<? super K, ? super V> predicate, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(pattern);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param predicate {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> notAnyLazy(@NotNull final BiPredicate<? super K, ? super V> predicate, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(predicate);
+		Objects.requireNonNull(message);
+
+		if (this.locateIllegal(predicate)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param keyRule {@inheritDoc}
+	 * @param valueRule {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> each(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule)
+	{
+		Objects.requireNonNull(keyRule);
+		Objects.requireNonNull(valueRule);
+
+		this.each(keyRule, valueRule, null);
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param keyRule {@inheritDoc}
+	 * @param valueRule {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> each(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule, @Nullable final String message)
+	{
+		Objects.requireNonNull(keyRule);
+		Objects.requireNonNull(valueRule);
+
+		if (this.locate(keyRule, valueRule)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param keyRule {@inheritDoc}
+	 * @param valueRule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> each(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule, @NotNull final String pattern, @Nullable final Object argument)
+	{
+		Objects.requireNonNull(keyRule);
+		Objects.requireNonNull(valueRule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(keyRule, valueRule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param keyRule {@inheritDoc}
+	 * @param valueRule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> each(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2)
+	{
+		Objects.requireNonNull(keyRule);
+		Objects.requireNonNull(valueRule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(keyRule, valueRule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param keyRule {@inheritDoc}
+	 * @param valueRule {@inheritDoc}
+	 * @param pattern {@inheritDoc}
+	 * @param argument1 {@inheritDoc}
+	 * @param argument2 {@inheritDoc}
+	 * @param argument3 {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> each(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule, @NotNull final String pattern, @Nullable final Object argument1, @Nullable final Object argument2, @Nullable final Object argument3)
+	{
+		Objects.requireNonNull(keyRule);
+		Objects.requireNonNull(valueRule);
+		Objects.requireNonNull(pattern);
+
+		if (this.locate(keyRule, valueRule)) {
+			return this.fail(Violation.ELEMENT, pattern, argument1, argument2, argument3);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param keyRule {@inheritDoc}
+	 * @param valueRule {@inheritDoc}
+	 * @param message {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws ElementObjectCheckException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> eachLazy(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule, @NotNull final Supplier<String> message)
+	{
+		Objects.requireNonNull(keyRule);
+		Objects.requireNonNull(valueRule);
+		Objects.requireNonNull(message);
+
+		if (this.locate(keyRule, valueRule)) {
+			return this.fail(Violation.ELEMENT, message);
+		}
+
+		return this.self();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> parallel()
+	{
+		return this.parallel(ParallelElementSearch.DEFAULT_THRESHOLD - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param threshold {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IllegalArgumentException {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapCheck<K, V> parallel(final int threshold)
+	{
+		if (threshold < 1) {
+			throw new IllegalArgumentException();
+		}
+
+		this.parallelThreshold = threshold;
+
+		return this.self();
+	}
+
+	/**
+	 * Проверяет, пуст ли проверяемый объект.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или пуст.
+	 */
+	private boolean isEmpty()
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || target.isEmpty();
+	}
+
+	/**
+	 * Проверяет, равно ли количество элементов заданному.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов равно заданному.
+	 */
+	private boolean isSize(final int size)
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || target.size() == size;
+	}
+
+	/**
+	 * Проверяет, входит ли количество элементов в диапазон.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов входит в диапазон.
+	 */
+	private boolean isRangeSize(final int from, final int to)
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || (target.size() >= from && target.size() <= to);
+	}
+
+	/**
+	 * Проверяет, больше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов больше заданного.
+	 */
+	private boolean isMoreSize(final int size)
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || target.size() > size;
+	}
+
+	/**
+	 * Проверяет, меньше ли количество элементов заданного.
+	 *
+	 * @param size количество элементов.
+	 * @return {@code true}, если проверяемый объект {@code null} или количество элементов меньше заданного.
+	 */
+	private boolean isLessSize(final int size)
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || target.size() < size;
+	}
+
+	/**
+	 * Проверяет, содержит ли отображение ключ {@code null}.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или отображение содержит ключ {@code null}.
+	 */
+	private boolean hasNullKey()
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || NullSearch.containsNullKey(target);
+	}
+
+	/**
+	 * Проверяет, содержит ли отображение значение {@code null}.
+	 *
+	 * @return {@code true}, если проверяемый объект {@code null} или отображение содержит значение {@code null}.
+	 */
+	private boolean hasNullValue()
+	{
+		final Map<K, V> target = this.getTarget();
+
+		return target == null || NullSearch.containsNullValue(target);
+	}
+
+	/**
+	 * Ищет запись, нарушающую требование, и запоминает её для исключения.
+	 *
+	 * @param test функция, возвращающая код нарушения записью или {@code 0}.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такую запись.
+	 */
+	private boolean locateFirst(@NotNull final ToIntBiFunction<? super K, ? super V> test)
+	{
+		final Map<K, V> target = this.getTarget();
+
+		if (target == null) {
+			this.locateElement(-1, null, null);
+
+			return true;
+		}
+
+		final EntrySearch<K, V> search = EntrySearch.find(target, test, this.parallelThreshold);
+
+		if (search == null) {
+			return false;
+		}
+
+		this.locateElement(
+			-1, new AbstractMap.SimpleImmutableEntry<>(search.getKey(), search.getValue()), search.getViolation()
+		);
+
+		return true;
+	}
+
+	/**
+	 * Ищет запись, ключ и значение которой удовлетворяют условию, и запоминает её для исключения.
+	 *
+	 * @param predicate условие.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такую запись.
+	 */
+	private boolean locateIllegal(@NotNull final BiPredicate<? super K, ? super V> predicate)
+	{
+		return this.locateFirst((K key, V value) -> predicate.test(key, value) ? Violation.ILLEGAL.getCode() : 0);
+	}
+
+	/**
+	 * Ищет запись, ключ или значение которой не выполняет требования правила, и запоминает её для исключения.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @return {@code true}, если проверяемый объект {@code null} или содержит такую запись.
+	 */
+	private boolean locate(@NotNull final Rule<? super K> keyRule, @NotNull final Rule<? super V> valueRule)
+	{
+		return this.locateFirst((K key, V value) -> {
+			final int code = keyRule.test(key);
+
+			return code != 0 ? code : valueRule.test(value);
+		});
 	}
 }
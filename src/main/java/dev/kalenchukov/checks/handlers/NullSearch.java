@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Класс поиска {@code null} среди элементов, ключей и значений.
+ * <p>
+ * Объекты реализаций, которые не допускают {@code null}, не просматриваются вовсе.
+ * Списки с произвольным доступом просматриваются по индексу, а остальные объекты
+ * проверяются их собственным методом {@code contains(null)}. Объекты, которые отвергают
+ * {@code null} вызовом {@link NullPointerException}, не могут содержать {@code null}.
+ *
+ * @author Алексей Каленчуков
+ */
+final class NullSearch
+{
+	/**
+	 * Класс списков {@link List#of(Object)}.
+	 */
+	@NotNull
+	private static final Class<?> LIST_12 = List.of(0).getClass();
+
+	/**
+	 * Класс списков {@link List#of(Object[])}, который используется и для списков, допускающих {@code null}.
+	 */
+	@NotNull
+	private static final Class<?> LIST_N = List.of(0, 1, 2).getClass();
+
+	/**
+	 * Класс множеств {@link Set#of(Object)}.
+	 */
+	@NotNull
+	private static final Class<?> SET_12 = Set.of(0).getClass();
+
+	/**
+	 * Класс множеств {@link Set#of(Object[])}.
+	 */
+	@NotNull
+	private static final Class<?> SET_N = Set.of(0, 1, 2).getClass();
+
+	/**
+	 * Класс отображений {@link Map#of(Object, Object)}.
+	 */
+	@NotNull
+	private static final Class<?> MAP_1 = Map.of(0, 0).getClass();
+
+	/**
+	 * Класс отображений {@link Map#of()}.
+	 */
+	@NotNull
+	private static final Class<?> MAP_N = Map.of().getClass();
+
+	/**
+	 * Конструирует поиск.
+	 */
+	private NullSearch() {}
+
+	/**
+	 * Проверяет, содержит ли коллекция {@code null}.
+	 *
+	 * @param collection коллекция.
+	 * @return {@code true}, если коллекция содержит {@code null}.
+	 */
+	static boolean containsNull(@NotNull final Collection<?> collection)
+	{
+		if (NullSearch.isNullFree(collection)) {
+			return false;
+		}
+
+		if (collection instanceof RandomAccess && collection instanceof List<?> && collection.getClass() != LIST_N)
+		{
+			final List<?> list = (List<?>) collection;
+
+			for (int index = 0, size = list.size(); index < size; index++)
+			{
+				if (list.get(index) == null) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		try
+		{
+			return collection.contains(null);
+		}
+		catch (NullPointerException exception)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Проверяет, содержит ли массив {@code null}.
+	 *
+	 * @param array массив.
+	 * @return {@code true}, если массив содержит {@code null}.
+	 */
+	static boolean containsNull(final Object @NotNull [] array)
+	{
+		for (final Object element : array)
+		{
+			if (element == null) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Проверяет, содержит ли отображение ключ {@code null}.
+	 *
+	 * @param map отображение.
+	 * @return {@code true}, если отображение содержит ключ {@code null}.
+	 */
+	static boolean containsNullKey(@NotNull final Map<?, ?> map)
+	{
+		if (NullSearch.isNullFree(map) || map instanceof EnumMap<?, ?>) {
+			return false;
+		}
+
+		try
+		{
+			return map.containsKey(null);
+		}
+		catch (NullPointerException exception)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Проверяет, содержит ли отображение значение {@code null}.
+	 *
+	 * @param map отображение.
+	 * @return {@code true}, если отображение содержит значение {@code null}.
+	 */
+	static boolean containsNullValue(@NotNull final Map<?, ?> map)
+	{
+		if (NullSearch.isNullFree(map)) {
+			return false;
+		}
+
+		try
+		{
+			return map.containsValue(null);
+		}
+		catch (NullPointerException exception)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Проверяет, относится ли коллекция к реализациям, не допускающим {@code null}.
+	 *
+	 * @param collection коллекция.
+	 * @return {@code true}, если коллекция не может содержать {@code null}.
+	 */
+	private static boolean isNullFree(@NotNull final Collection<?> collection)
+	{
+		final Class<?> type = collection.getClass();
+
+		return type == LIST_12 || type == SET_12 || type == SET_N
+			|| collection instanceof EnumSet<?>
+			|| collection instanceof ArrayDeque<?>
+			|| collection instanceof PriorityQueue<?>
+			|| collection instanceof BlockingQueue<?>
+			|| collection instanceof ConcurrentLinkedQueue<?>
+			|| collection instanceof ConcurrentLinkedDeque<?>
+			|| collection instanceof ConcurrentSkipListSet<?>
+			|| collection instanceof ConcurrentHashMap.KeySetView<?, ?>;
+	}
+
+	/**
+	 * Проверяет, относится ли отображение к реализациям, не допускающим {@code null} ни в ключах, ни в значениях.
+	 *
+	 * @param map отображение.
+	 * @return {@code true}, если отображение не может содержать {@code null}.
+	 */
+	private static boolean isNullFree(@NotNull final Map<?, ?> map)
+	{
+		final Class<?> type = map.getClass();
+
+		return type == MAP_1 || type == MAP_N
+			|| map instanceof ConcurrentHashMap<?, ?>
+			|| map instanceof ConcurrentSkipListMap<?, ?>
+			|| map instanceof Hashtable<?, ?>;
+	}
+}
@@ -41,16 +41,4 @@ public class ObjectCheck<T>
 	{
 		super(target);
 	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	protected ObjectCheck<T> initSelf()
-	{
-		return this;
-	}
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Класс параллельного поиска первого элемента, нарушающего требование.
+ * <p>
+ * Элементы разбиваются на части с помощью {@link Spliterator} и проверяются задачами {@link ForkJoinPool}.
+ * Найденные элементы сводятся в {@link ElementSearch} к элементу с наименьшей позицией,
+ * поэтому результат не зависит от порядка выполнения задач.
+ * Части, все элементы которых стоят после уже найденной позиции, пропускаются или прерываются.
+ *
+ * @param <E> тип элементов.
+ * @author Алексей Каленчуков
+ */
+final class ParallelElementSearch<E>
+	extends RecursiveAction
+	implements Consumer<E>
+{
+	/**
+	 * Количество элементов по умолчанию, начиная с которого проверка выполняется параллельно.
+	 */
+	static final int DEFAULT_THRESHOLD = 1 << 16;
+
+	/**
+	 * Наименьшее количество элементов в части.
+	 */
+	private static final int MIN_CHUNK = 1 << 10;
+
+	/**
+	 * Маска количества проверенных элементов, после которого часть проверяет отмену.
+	 */
+	private static final int CANCEL_MASK = (1 << 10) - 1;
+
+	/**
+	 * Элементы части.
+	 */
+	@NotNull
+	private final Spliterator<E> spliterator;
+
+	/**
+	 * Позиция первого элемента части.
+	 */
+	private final int origin;
+
+	/**
+	 * Функция, возвращающая код нарушения элементом или {@code 0}.
+	 */
+	@NotNull
+	private final ToIntFunction<? super E> test;
+
+	/**
+	 * Количество элементов, после которого часть больше не разбивается.
+	 */
+	private final long chunk;
+
+	/**
+	 * Поиск с элементом, найденным на наименьшей позиции.
+	 */
+	@NotNull
+	private final ElementSearch<E> found;
+
+	/**
+	 * Ранее отделённая той же задачей часть.
+	 */
+	@Nullable
+	private ParallelElementSearch<E> next;
+
+	/**
+	 * Последний полученный элемент.
+	 */
+	@Nullable
+	private E element;
+
+	/**
+	 * Код нарушения последним полученным элементом.
+	 */
+	private int code;
+
+	/**
+	 * Конструирует задачу поиска в части.
+	 *
+	 * @param spliterator элементы части.
+	 * @param origin позиция первого элемента части.
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @param chunk количество элементов, после которого часть больше не разбивается.
+	 * @param found поиск с элементом, найденным на наименьшей позиции.
+	 */
+	private ParallelElementSearch(@NotNull final Spliterator<E> spliterator, final int origin,
+								  @NotNull final ToIntFunction<? super E> test, final long chunk,
+								  @NotNull final ElementSearch<E> found)
+	{
+		this.spliterator = spliterator;
+		this.origin = origin;
+		this.test = test;
+		this.chunk = chunk;
+		this.found = found;
+		this.next = null;
+		this.element = null;
+		this.code = 0;
+	}
+
+	/**
+	 * Ищет первый элемент, нарушающий требование.
+	 * <p>
+	 * Элементы должны разбиваться с сохранением точных размеров частей
+	 * ({@link Spliterator#SUBSIZED}), иначе позиции элементов не определить.
+	 * Функция вызывается из разных потоков и должна быть потокобезопасной.
+	 *
+	 * @param spliterator элементы.
+	 * @param test функция, возвращающая код нарушения элементом или {@code 0}.
+	 * @param <E> тип элементов.
+	 * @return поиск с найденным элементом или {@code null}, если такого элемента нет.
+	 */
+	@Nullable
+	static <E> ElementSearch<E> find(@NotNull final Spliterator<E> spliterator, @NotNull final ToIntFunction<? super E> test)
+	{
+		final long chunk = Math.max(
+			spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() << 2), MIN_CHUNK
+		);
+		final ElementSearch<E> found = new ElementSearch<>();
+
+		new ParallelElementSearch<>(spliterator, 0, test, chunk, found).invoke();
+
+		return found.isFound() ? found : null;
+	}
+
+	/**
+	 * Проверяет часть, отделяя от неё и передавая другим потокам старшие половины.
+	 */
+	@Override
+	protected void compute()
+	{
+		if (this.found.getIndex() < this.origin) {
+			return;
+		}
+
+		Spliterator<E> rest = this.spliterator;
+		ParallelElementSearch<E> forked = null;
+
+		while (rest.estimateSize() > this.chunk)
+		{
+			final Spliterator<E> prefix = rest.trySplit();
+
+			if (prefix == null) {
+				break;
+			}
+
+			final ParallelElementSearch<E> task = new ParallelElementSearch<>(
+				rest, this.origin + (int) prefix.getExactSizeIfKnown(), this.test, this.chunk, this.found
+			);
+			task.next = forked;
+			task.fork();
+
+			forked = task;
+			rest = prefix;
+		}
+
+		this.scan(rest);
+
+		for (ParallelElementSearch<E> task = forked; task != null; task = task.next)
+		{
+			task.join();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param element {@inheritDoc}
+	 */
+	@Override
+	public void accept(@Nullable final E element)
+	{
+		this.element = element;
+		this.code = this.test.applyAsInt(element);
+	}
+
+	/**
+	 * Последовательно проверяет элементы части.
+	 *
+	 * @param rest элементы части, начинающиеся с позиции первого элемента части.
+	 */
+	private void scan(@NotNull final Spliterator<E> rest)
+	{
+		int index = this.origin;
+
+		while (rest.tryAdvance(this))
+		{
+			if (this.code != 0) {
+				this.found.report(index, this.element, this.code);
+
+				return;
+			}
+
+			index++;
+
+			if ((index & CANCEL_MASK) == 0 && this.found.getIndex() < index) {
+				return;
+			}
+		}
+	}
+}
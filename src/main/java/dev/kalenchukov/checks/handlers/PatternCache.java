@@ -0,0 +1,330 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Класс кеша скомпилированных регулярных выражений.
+ * <p>
+ * Кеш используется проверками, принимающими регулярное выражение строкой, и хранит не более
+ * {@link #CAPACITY} выражений. Вытеснение работает по алгоритму «часы» (второй шанс): обращение
+ * к выражению лишь отмечает его признаком использования, а при промахе стрелка обходит выражения
+ * по кругу, снимая признаки, и вытесняет первое выражение без признака. Поэтому попадание
+ * не выполняет атомарных операций над общими данными, кроме счётчика статистики, а вся работа
+ * по вытеснению выполняется под блокировкой только при промахе, который и так требует компиляции выражения.
+ * Статистика доступна через {@link PatternCacheStatistics#current()}.
+ * <p>
+ * Кроме выражений кеш выдаёт сопоставители: у каждого выражения в кеше свой сопоставитель на поток,
+ * а для выражений, переданных проверкам готовыми, поток хранит сопоставитель последнего из них.
+ * Сопоставитель переиспользуется методом {@link Matcher#reset(CharSequence)}, поэтому после проверки
+ * его следует сбросить на пустую строку, чтобы он не удерживал проверенное значение.
+ *
+ * @author Алексей Каленчуков
+ */
+final class PatternCache
+{
+	/**
+	 * Максимальное количество выражений в кеше.
+	 */
+	static final int CAPACITY = 256;
+
+	/**
+	 * Выражения по их строкам.
+	 */
+	@NotNull
+	private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Выражения в порядке обхода стрелкой.
+	 * <p>
+	 * Изменяется только под блокировкой {@link #LOCK}.
+	 */
+	@Nullable
+	private static final Entry @NotNull [] RING = new Entry[CAPACITY];
+
+	/**
+	 * Блокировка добавления и вытеснения выражений.
+	 */
+	@NotNull
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Сопоставитель последнего выражения, переданного проверке готовым, по потокам.
+	 */
+	@NotNull
+	private static final ThreadLocal<Matcher> LAST_MATCHER = new ThreadLocal<>();
+
+	/**
+	 * Количество попаданий.
+	 */
+	@NotNull
+	private static final LongAdder HITS = new LongAdder();
+
+	/**
+	 * Количество промахов.
+	 */
+	@NotNull
+	private static final LongAdder MISSES = new LongAdder();
+
+	/**
+	 * Позиция стрелки в {@link #RING}.
+	 * <p>
+	 * Изменяется только под блокировкой {@link #LOCK}.
+	 */
+	private static int hand;
+
+	/**
+	 * Конструирует кеш.
+	 */
+	private PatternCache() {}
+
+	/**
+	 * Возвращает скомпилированное регулярное выражение.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return скомпилированное регулярное выражение.
+	 * @throws java.util.regex.PatternSyntaxException если выражение некорректно.
+	 */
+	@NotNull
+	static Pattern get(@NotNull final String regex)
+	{
+		Objects.requireNonNull(regex);
+
+		return PatternCache.entry(regex).pattern;
+	}
+
+	/**
+	 * Возвращает сопоставитель текущего потока для регулярного выражения.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return сопоставитель.
+	 * @throws java.util.regex.PatternSyntaxException если выражение некорректно.
+	 */
+	@NotNull
+	static Matcher matcher(@NotNull final String regex)
+	{
+		Objects.requireNonNull(regex);
+
+		return PatternCache.entry(regex).matchers.get();
+	}
+
+	/**
+	 * Возвращает сопоставитель текущего потока для скомпилированного регулярного выражения.
+	 * <p>
+	 * Сопоставитель переиспользуется, пока поток проверяет то же выражение.
+	 *
+	 * @param regex скомпилированное регулярное выражение.
+	 * @return сопоставитель.
+	 */
+	@NotNull
+	static Matcher matcher(@NotNull final Pattern regex)
+	{
+		Objects.requireNonNull(regex);
+
+		final Matcher last = LAST_MATCHER.get();
+
+		if (last != null && last.pattern() == regex) {
+			return last;
+		}
+
+		final Matcher matcher = regex.matcher("");
+		LAST_MATCHER.set(matcher);
+
+		return matcher;
+	}
+
+	/**
+	 * Возвращает статистику кеша.
+	 *
+	 * @return статистику кеша.
+	 */
+	@NotNull
+	static PatternCacheStatistics statistics()
+	{
+		return new PatternCacheStatistics(HITS.sum(), MISSES.sum(), ENTRIES.size());
+	}
+
+	/**
+	 * Удаляет все выражения из кеша и обнуляет статистику.
+	 */
+	static void clear()
+	{
+		synchronized (LOCK)
+		{
+			ENTRIES.clear();
+			Arrays.fill(RING, null);
+			hand = 0;
+		}
+
+		HITS.reset();
+		MISSES.reset();
+	}
+
+	/**
+	 * Возвращает выражение из кеша, компилируя и добавляя его при промахе.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return выражение в кеше.
+	 * @throws java.util.regex.PatternSyntaxException если выражение некорректно.
+	 */
+	@NotNull
+	private static Entry entry(@NotNull final String regex)
+	{
+		final Entry cached = ENTRIES.get(regex);
+
+		if (cached != null) {
+			HITS.increment();
+			cached.touch();
+
+			return cached;
+		}
+
+		MISSES.increment();
+
+		return PatternCache.add(new Entry(regex, Pattern.compile(regex)));
+	}
+
+	/**
+	 * Добавляет выражение в кеш, вытесняя другое, если кеш заполнен.
+	 * <p>
+	 * Если выражение уже добавлено другим потоком, возвращается добавленное им.
+	 *
+	 * @param entry выражение.
+	 * @return выражение, хранящееся в кеше.
+	 */
+	@NotNull
+	private static Entry add(@NotNull final Entry entry)
+	{
+		synchronized (LOCK)
+		{
+			final Entry present = ENTRIES.get(entry.regex);
+
+			if (present != null) {
+				return present;
+			}
+
+			final int slot = PatternCache.findSlot();
+			final Entry evicted = RING[slot];
+
+			if (evicted != null) {
+				ENTRIES.remove(evicted.regex);
+			}
+
+			RING[slot] = entry;
+			ENTRIES.put(entry.regex, entry);
+
+			return entry;
+		}
+	}
+
+	/**
+	 * Ищет позицию для нового выражения, перемещая стрелку.
+	 * <p>
+	 * Стрелка снимает признак использования с выражений, мимо которых проходит,
+	 * и останавливается на свободной позиции или на выражении без признака.
+	 * Вызывается только под блокировкой {@link #LOCK}.
+	 *
+	 * @return позицию в {@link #RING}.
+	 */
+	private static int findSlot()
+	{
+		while (true)
+		{
+			final int slot = hand;
+			final Entry entry = RING[slot];
+
+			hand = (slot + 1) % CAPACITY;
+
+			if (entry == null || !entry.referenced) {
+				return slot;
+			}
+
+			entry.referenced = false;
+		}
+	}
+
+	/**
+	 * Класс выражения в кеше.
+	 */
+	private static final class Entry
+	{
+		/**
+		 * Регулярное выражение.
+		 */
+		@NotNull
+		private final String regex;
+
+		/**
+		 * Скомпилированное регулярное выражение.
+		 */
+		@NotNull
+		private final Pattern pattern;
+
+		/**
+		 * Сопоставители выражения по потокам.
+		 * <p>
+		 * После вытеснения выражения сопоставители освобождаются вместе с ним,
+		 * так как потоки ссылаются на них слабо через {@link ThreadLocal}.
+		 */
+		@NotNull
+		private final ThreadLocal<Matcher> matchers;
+
+		/**
+		 * Признак использования с последнего прохода стрелки.
+		 */
+		private volatile boolean referenced;
+
+		/**
+		 * Конструирует выражение в кеше.
+		 *
+		 * @param regex регулярное выражение.
+		 * @param pattern скомпилированное регулярное выражение.
+		 */
+		private Entry(@NotNull final String regex, @NotNull final Pattern pattern)
+		{
+			this.regex = regex;
+			this.pattern = pattern;
+			this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+		}
+
+		/**
+		 * Отмечает обращение к выражению.
+		 * <p>
+		 * Признак записывается, только если он снят, поэтому частые обращения
+		 * к одному выражению из разных потоков только читают общее поле.
+		 */
+		private void touch()
+		{
+			if (!this.referenced) {
+				this.referenced = true;
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс статистики кеша скомпилированных регулярных выражений.
+ * <p>
+ * Статистика является снимком: она не меняется при дальнейших обращениях к кешу.
+ * Счётчики попаданий и промахов считываются без блокировки, поэтому при одновременных
+ * проверках в других потоках снимок может не совпадать ни с одним моментом точно.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class PatternCacheStatistics
+{
+	/**
+	 * Количество попаданий.
+	 */
+	private final long hitCount;
+
+	/**
+	 * Количество промахов.
+	 */
+	private final long missCount;
+
+	/**
+	 * Количество выражений в кеше.
+	 */
+	private final int size;
+
+	/**
+	 * Конструирует статистику кеша.
+	 *
+	 * @param hitCount количество попаданий.
+	 * @param missCount количество промахов.
+	 * @param size количество выражений в кеше.
+	 */
+	PatternCacheStatistics(final long hitCount, final long missCount, final int size)
+	{
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.size = size;
+	}
+
+	/**
+	 * Возвращает текущую статистику кеша.
+	 *
+	 * @return статистику кеша.
+	 */
+	@NotNull
+	public static PatternCacheStatistics current()
+	{
+		return PatternCache.statistics();
+	}
+
+	/**
+	 * Возвращает количество попаданий в кеш.
+	 *
+	 * @return количество попаданий.
+	 */
+	public long getHitCount()
+	{
+		return this.hitCount;
+	}
+
+	/**
+	 * Возвращает количество промахов кеша.
+	 * <p>
+	 * Каждый промах компилирует выражение.
+	 *
+	 * @return количество промахов.
+	 */
+	public long getMissCount()
+	{
+		return this.missCount;
+	}
+
+	/**
+	 * Возвращает количество выражений в кеше.
+	 *
+	 * @return количество выражений.
+	 */
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Возвращает строковое представление статистики кеша.
+	 *
+	 * @return количество попаданий, промахов и выражений в кеше.
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return "hits=" + this.hitCount + ", misses=" + this.missCount + ", size=" + this.size;
+	}
+}
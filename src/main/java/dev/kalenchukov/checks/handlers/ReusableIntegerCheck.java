@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Класс переиспользуемого проверяющего объекты типа {@code Integer}.
+ * <p>
+ * Проверяющий создаётся один раз и затем привязывается к очередному объекту методом
+ * {@link #rebind(Integer)}, что избавляет от создания проверяющего для каждого объекта
+ * в циклах. Проверяющий не является потокобезопасным и не должен передаваться между потоками.
+ * Режимы работы сохраняются между привязками, а запомненное невыполненное требование сбрасывается.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ReusableIntegerCheck
+	extends IntegerCheck
+{
+	/**
+	 * Проверяемый объект текущей привязки.
+	 */
+	@Nullable
+	private Integer target;
+
+	/**
+	 * Конструирует проверяющего без проверяемого объекта.
+	 */
+	public ReusableIntegerCheck()
+	{
+		super(null);
+	}
+
+	/**
+	 * Привязывает проверяющего к проверяемому объекту.
+	 *
+	 * @param target проверяемый объект.
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	public ReusableIntegerCheck rebind(@Nullable final Integer target)
+	{
+		this.target = target;
+		this.resetViolation();
+
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	protected Integer getTarget()
+	{
+		return this.target;
+	}
+}
@@ -31,7 +31,7 @@ import java.util.Set;
  * @author Алексей Каленчуков
  */
 public class SetCheck<T>
-	extends AbstractCollectionCheck<SetCheck<T>, Set<T>>
+	extends AbstractCollectionCheck<SetCheck<T>, Set<T>, T>
 	implements SetChecking<SetCheck<T>, Set<T>>
 {
 	/**
@@ -43,16 +43,4 @@ public class SetCheck<T>
 	{
 		super(target);
 	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	protected SetCheck<T> initSelf()
-	{
-		return this;
-	}
 }
@@ -39,16 +39,4 @@ public class StringBuilderCheck
 	public StringBuilderCheck(@Nullable final StringBuilder target) {
 		super(target);
 	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	protected StringBuilderCheck initSelf()
-	{
-		return this;
-	}
 }
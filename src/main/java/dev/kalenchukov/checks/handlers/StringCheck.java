@@ -18,14 +18,9 @@
 
 package dev.kalenchukov.checks.handlers;
 
-import dev.kalenchukov.checks.exceptions.BlankObjectCheckException;
-import dev.kalenchukov.checks.exceptions.LessSizeObjectCheckException;
 import dev.kalenchukov.checks.handlers.interfaces.StringChecking;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
-
 /**
  * Класс проверяющего объекты типа {@code String}.
  *
@@ -43,48 +38,4 @@ public class StringCheck
 	public StringCheck(@Nullable final String target) {
 		super(target);
 	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	public StringCheck notBlank()
-	{
-		this.notBlank(null);
-
-		return this.self;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @param message {@inheritDoc}
-	 * @return {@inheritDoc}
-	 * @throws BlankObjectCheckException {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	public StringCheck notBlank(@Nullable final String message)
-	{
-		if (this.target == null || this.target.isBlank()) {
-			throw new BlankObjectCheckException(this.target, message);
-		}
-
-		return this.self;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 *
-	 * @return {@inheritDoc}
-	 */
-	@NotNull
-	@Override
-	protected StringCheck initSelf()
-	{
-		return this;
-	}
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.CharBuffer;
+
+/**
+ * Класс подсчёта длины последовательности символов в кодировке UTF-8 без её кодирования.
+ * <p>
+ * Символ занимает от 1 до 3 байтов, а суррогатная пара — 4 байта. Одиночный суррогат считается
+ * одним байтом, как и символ {@code ?}, которым его заменяет {@link String#getBytes(java.nio.charset.Charset)}.
+ * Каждый символ занимает не менее байта, поэтому последовательность длиннее ограничения не просматривается,
+ * а остальные просматриваются только до превышения ограничения.
+ *
+ * @author Алексей Каленчуков
+ */
+final class Utf8Length
+{
+	/**
+	 * Конструирует подсчёт.
+	 */
+	private Utf8Length() {}
+
+	/**
+	 * Подсчитывает длину последовательности символов в кодировке UTF-8 до превышения ограничения.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param limit ограничение длины в байтах.
+	 * @return длину в байтах, если она не превышает ограничение, иначе любое число больше ограничения.
+	 */
+	static long count(@NotNull final CharSequence sequence, final int limit)
+	{
+		final int length = sequence.length();
+
+		if (length > limit) {
+			return length;
+		}
+
+		if (sequence instanceof CharBuffer buffer && buffer.hasArray()) {
+			return Utf8Length.count(buffer.array(), buffer.arrayOffset() + buffer.position(), length, limit);
+		}
+
+		long count = 0;
+
+		for (int index = 0; index < length && count <= limit; index++)
+		{
+			final char symbol = sequence.charAt(index);
+
+			if (symbol < 0x80) {
+				count++;
+
+				continue;
+			}
+
+			if (symbol < 0x800) {
+				count += 2;
+
+				continue;
+			}
+
+			if (!Character.isSurrogate(symbol)) {
+				count += 3;
+
+				continue;
+			}
+
+			if (Character.isHighSurrogate(symbol) && index + 1 < length && Character.isLowSurrogate(sequence.charAt(index + 1))) {
+				count += 4;
+				index++;
+
+				continue;
+			}
+
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Проверяет, входит ли длина последовательности символов в кодировке UTF-8 в диапазон.
+	 *
+	 * @param sequence последовательность символов.
+	 * @param from минимальная длина в байтах (включительно).
+	 * @param to максимальная длина в байтах (включительно).
+	 * @return {@code true}, если длина входит в диапазон.
+	 */
+	static boolean isWithin(@NotNull final CharSequence sequence, final int from, final int to)
+	{
+		final long count = Utf8Length.count(sequence, to);
+
+		return count >= from && count <= to;
+	}
+
+	/**
+	 * Подсчитывает длину части массива символов в кодировке UTF-8 до превышения ограничения.
+	 *
+	 * @param array массив символов.
+	 * @param offset начало части массива.
+	 * @param length количество символов части массива.
+	 * @param limit ограничение длины в байтах.
+	 * @return длину в байтах, если она не превышает ограничение, иначе любое число больше ограничения.
+	 */
+	private static long count(final char @NotNull [] array, final int offset, final int length, final int limit)
+	{
+		final int end = offset + length;
+		long count = 0;
+
+		for (int index = offset; index < end && count <= limit; index++)
+		{
+			final char symbol = array[index];
+
+			if (symbol < 0x80) {
+				count++;
+
+				continue;
+			}
+
+			if (symbol < 0x800) {
+				count += 2;
+
+				continue;
+			}
+
+			if (!Character.isSurrogate(symbol)) {
+				count += 3;
+
+				continue;
+			}
+
+			if (Character.isHighSurrogate(symbol) && index + 1 < end && Character.isLowSurrogate(array[index + 1])) {
+				count += 4;
+				index++;
+
+				continue;
+			}
+
+			count++;
+		}
+
+		return count;
+	}
+}
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Интерфейс для реализации проверяющего объекты любых типов.
@@ -54,6 +55,52 @@ public interface AbstractChecking<SELF, T>
 	@NotNull
 	SELF notNull(@Nullable String message);
 
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	SELF notNull(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	SELF notNull(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	SELF notNull(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли объект {@code null}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws NullObjectCheckException если объект равен {@code null}.
+	 */
+	@NotNull
+	SELF notNullLazy(@NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли объект равным.
 	 *
@@ -75,6 +122,56 @@ public interface AbstractChecking<SELF, T>
 	@NotNull
 	SELF notEquals(@NotNull T value, @Nullable String message);
 
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	SELF notEquals(@NotNull T value, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	SELF notEquals(@NotNull T value, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	SELF notEquals(@NotNull T value, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли объект равным.
+	 *
+	 * @param value значение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если объекты равны.
+	 */
+	@NotNull
+	SELF notEqualsLazy(@NotNull T value, @NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не удовлетворяет ли условию.
 	 *
@@ -96,6 +193,56 @@ public interface AbstractChecking<SELF, T>
 	@NotNull
 	SELF not(@NotNull Predicate<T> predicate, @Nullable String message);
 
+	/**
+	 * Проверяет, не удовлетворяет ли условию.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull Predicate<T> predicate, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull Predicate<T> predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull Predicate<T> predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию.
+	 *
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если объект удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notLazy(@NotNull Predicate<T> predicate, @NotNull Supplier<String> message);
+
 	/**
 	 * Возвращает объект проверяемого.
 	 *
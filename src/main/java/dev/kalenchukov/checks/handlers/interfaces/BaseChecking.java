@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers.interfaces;
+
+import dev.kalenchukov.checks.exceptions.AggregateCheckException;
+import dev.kalenchukov.checks.exceptions.CheckException;
+import dev.kalenchukov.checks.exceptions.Failure;
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Интерфейс для реализации режимов работы проверяющего.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @author Алексей Каленчуков
+ */
+public interface BaseChecking<SELF>
+{
+	/**
+	 * Включает создание исключений без трассировки стека для последующих проверок цепочки.
+	 * <p>
+	 * Подходит для частых отказов, когда стек вызовов исключения не нужен.
+	 *
+	 * @return объект проверяющего.
+	 * @see dev.kalenchukov.checks.exceptions.CheckException#STACKLESS_PROPERTY
+	 */
+	@NotNull
+	SELF stackless();
+
+	/**
+	 * Включает режим, в котором последующие проверки цепочки не вызывают исключения.
+	 * <p>
+	 * Вместо вызова исключения проверяющий запоминает первое невыполненное требование,
+	 * а последующие проверки его не изменяют. Исключение не создаётся, поэтому режим подходит
+	 * для частых отказов. Результат проверок возвращают методы {@link #isViolated()},
+	 * {@link #getViolationCode()} и {@link #getViolation()}.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	SELF silent();
+
+	/**
+	 * Включает режим, в котором последующие проверки цепочки запоминают все невыполненные требования.
+	 * <p>
+	 * Проверки не вызывают исключения, а каждое невыполненное требование запоминается вместе с сообщением.
+	 * Пока требования выполняются, память не выделяется. Результат проверок возвращает метод
+	 * {@link #getFailures()}, а общее исключение вызывает метод {@link #throwIfViolated()}.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	SELF accumulate();
+
+	/**
+	 * Проверяет, было ли невыполненное требование.
+	 *
+	 * @return {@code true}, если проверяемый не выполнил требование.
+	 */
+	boolean isViolated();
+
+	/**
+	 * Возвращает код нарушения первого невыполненного требования.
+	 *
+	 * @return код нарушения или {@code 0}, если все требования выполнены.
+	 * @see Violation#getCode()
+	 */
+	int getViolationCode();
+
+	/**
+	 * Возвращает нарушение первого невыполненного требования.
+	 *
+	 * @return нарушение или {@code null}, если все требования выполнены.
+	 */
+	@Nullable
+	Violation getViolation();
+
+	/**
+	 * Возвращает невыполненные требования.
+	 * <p>
+	 * В режиме {@link #accumulate()} возвращаются все невыполненные требования в порядке проверок,
+	 * в режиме {@link #silent()} — только первое.
+	 *
+	 * @return неизменяемый список невыполненных требований.
+	 */
+	@NotNull
+	List<Failure> getFailures();
+
+	/**
+	 * Создаёт исключение первого невыполненного требования.
+	 * <p>
+	 * В режиме {@link #accumulate()} создаётся {@link AggregateCheckException} со всеми невыполненными требованиями.
+	 * Исключение создаётся при каждом вызове метода.
+	 *
+	 * @return исключение или {@code null}, если все требования выполнены.
+	 */
+	@Nullable
+	CheckException getException();
+
+	/**
+	 * Вызывает исключение, если требование не выполнено.
+	 *
+	 * @return объект проверяющего.
+	 * @throws CheckException если требование не выполнено.
+	 * @see #getException()
+	 */
+	@NotNull
+	SELF throwIfViolated();
+}
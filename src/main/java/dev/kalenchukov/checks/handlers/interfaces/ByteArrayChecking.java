@@ -0,0 +1,334 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers.interfaces;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс для реализации проверяющего элементы объектов типа {@code byte[]}.
+ * <p>
+ * Некорректный элемент сообщается исключением {@link ElementObjectCheckException} вместе с его позицией.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @author Алексей Каленчуков
+ */
+public interface ByteArrayChecking<SELF>
+{
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull IntPredicate predicate);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull IntPredicate predicate, @Nullable String message);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull IntPredicate predicate, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull IntPredicate predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull IntPredicate predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAnyLazy(@NotNull IntPredicate predicate, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative();
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegativeLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(int from, int to);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(int from, int to, @Nullable String message);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(int from, int to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRangeLazy(int from, int to, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов, поэтому проверка не требует хеш-таблицы
+	 * и завершается не далее 257-го элемента.
+	 *
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates();
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов, поэтому проверка не требует хеш-таблицы
+	 * и завершается не далее 257-го элемента.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов, поэтому проверка не требует хеш-таблицы
+	 * и завершается не далее 257-го элемента.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов, поэтому проверка не требует хеш-таблицы
+	 * и завершается не далее 257-го элемента.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов, поэтому проверка не требует хеш-таблицы
+	 * и завершается не далее 257-го элемента.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения отмечаются в битовой карте из 256 битов, поэтому проверка не требует хеш-таблицы
+	 * и завершается не далее 257-го элемента.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicatesLazy(@NotNull Supplier<String> message);
+}
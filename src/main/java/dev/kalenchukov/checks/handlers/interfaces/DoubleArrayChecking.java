@@ -0,0 +1,519 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers.interfaces;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.DoublePredicate;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс для реализации проверяющего элементы объектов типа {@code double[]}.
+ * <p>
+ * Некорректный элемент сообщается исключением {@link ElementObjectCheckException} вместе с его позицией.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @author Алексей Каленчуков
+ */
+public interface DoubleArrayChecking<SELF>
+{
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull DoublePredicate predicate);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull DoublePredicate predicate, @Nullable String message);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull DoublePredicate predicate, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull DoublePredicate predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull DoublePredicate predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAnyLazy(@NotNull DoublePredicate predicate, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative();
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент отрицательным числом.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является отрицательным числом.
+	 */
+	@NotNull
+	SELF notAnyNegativeLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(double from, double to);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(double from, double to, @Nullable String message);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(double from, double to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(double from, double to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRange(double from, double to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не выходит ли хотя бы один элемент за пределы диапазона.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не входит в диапазон.
+	 */
+	@NotNull
+	SELF notAnyOutRangeLazy(double from, double to, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент значением {@code NaN}.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является значением {@code NaN}.
+	 */
+	@NotNull
+	SELF notAnyNaN();
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент значением {@code NaN}.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является значением {@code NaN}.
+	 */
+	@NotNull
+	SELF notAnyNaN(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент значением {@code NaN}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является значением {@code NaN}.
+	 */
+	@NotNull
+	SELF notAnyNaN(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент значением {@code NaN}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является значением {@code NaN}.
+	 */
+	@NotNull
+	SELF notAnyNaN(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент значением {@code NaN}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является значением {@code NaN}.
+	 */
+	@NotNull
+	SELF notAnyNaN(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент значением {@code NaN}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является значением {@code NaN}.
+	 */
+	@NotNull
+	SELF notAnyNaNLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент нулём.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является нулём.
+	 */
+	@NotNull
+	SELF notAnyZero();
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент нулём.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является нулём.
+	 */
+	@NotNull
+	SELF notAnyZero(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент нулём.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является нулём.
+	 */
+	@NotNull
+	SELF notAnyZero(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент нулём.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является нулём.
+	 */
+	@NotNull
+	SELF notAnyZero(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент нулём.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является нулём.
+	 */
+	@NotNull
+	SELF notAnyZero(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли хотя бы один элемент нулём.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент является нулём.
+	 */
+	@NotNull
+	SELF notAnyZeroLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения сравниваются как методом {@link Double#equals(Object)}: все {@code NaN} равны друг другу,
+	 * а {@code 0.0} и {@code -0.0} различны. Значения ищутся в хеш-таблице открытой адресации, а если её
+	 * размер превышает ограничение памяти {@link #memoryLimit(long)}, — сортировкой копии массива.
+	 *
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates();
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения сравниваются как методом {@link Double#equals(Object)}: все {@code NaN} равны друг другу,
+	 * а {@code 0.0} и {@code -0.0} различны. Значения ищутся в хеш-таблице открытой адресации, а если её
+	 * размер превышает ограничение памяти {@link #memoryLimit(long)}, — сортировкой копии массива.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения сравниваются как методом {@link Double#equals(Object)}: все {@code NaN} равны друг другу,
+	 * а {@code 0.0} и {@code -0.0} различны. Значения ищутся в хеш-таблице открытой адресации, а если её
+	 * размер превышает ограничение памяти {@link #memoryLimit(long)}, — сортировкой копии массива.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения сравниваются как методом {@link Double#equals(Object)}: все {@code NaN} равны друг другу,
+	 * а {@code 0.0} и {@code -0.0} различны. Значения ищутся в хеш-таблице открытой адресации, а если её
+	 * размер превышает ограничение памяти {@link #memoryLimit(long)}, — сортировкой копии массива.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения сравниваются как методом {@link Double#equals(Object)}: все {@code NaN} равны друг другу,
+	 * а {@code 0.0} и {@code -0.0} различны. Значения ищутся в хеш-таблице открытой адресации, а если её
+	 * размер превышает ограничение памяти {@link #memoryLimit(long)}, — сортировкой копии массива.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Значения сравниваются как методом {@link Double#equals(Object)}: все {@code NaN} равны друг другу,
+	 * а {@code 0.0} и {@code -0.0} различны. Значения ищутся в хеш-таблице открытой адресации, а если её
+	 * размер превышает ограничение памяти {@link #memoryLimit(long)}, — сортировкой копии массива.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicatesLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Ограничивает память хеш-таблицы, используемой методом {@code notContainsDuplicates()}.
+	 * <p>
+	 * По умолчанию ограничение составляет 64 МиБ. При превышении ограничения повторы ищутся сортировкой
+	 * копии массива, которая требует памяти по размеру массива и времени {@code O(n log n)}.
+	 *
+	 * @param bytes ограничение памяти в байтах.
+	 * @return объект проверяющего.
+	 * @throws IllegalArgumentException если ограничение отрицательно.
+	 */
+	@NotNull
+	SELF memoryLimit(long bytes);
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers.interfaces;
+
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс для реализации проверяющего элементы объектов типов содержащие множество объектов.
+ * <p>
+ * Каждая проверка обходит элементы один раз и останавливается на первом некорректном элементе.
+ * В параллельном режиме сообщается всегда некорректный элемент с наименьшей позицией.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @param <E> тип элементов проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public interface ElementChecking<SELF, E>
+{
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull Predicate<? super E> predicate);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull Predicate<? super E> predicate, @Nullable String message);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull Predicate<? super E> predicate, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull Predicate<? super E> predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull Predicate<? super E> predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы один элемент.
+	 *
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAnyLazy(@NotNull Predicate<? super E> predicate, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, выполняет ли каждый элемент требования правила.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super E> rule);
+
+	/**
+	 * Проверяет, выполняет ли каждый элемент требования правила.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super E> rule, @Nullable String message);
+
+	/**
+	 * Проверяет, выполняет ли каждый элемент требования правила.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super E> rule, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, выполняет ли каждый элемент требования правила.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super E> rule, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, выполняет ли каждый элемент требования правила.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super E> rule, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, выполняет ли каждый элемент требования правила.
+	 *
+	 * @param rule правило проверки элементов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если элемент не выполняет требование правила.
+	 */
+	@NotNull
+	SELF eachLazy(@NotNull Rule<? super E> rule, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не содержит ли объект {@code null}.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNull();
+
+	/**
+	 * Проверяет, не содержит ли объект {@code null}.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNull(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNull(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNull(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNull(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли объект {@code null}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Включает параллельную проверку элементов объектов, содержащих не менее 65536 элементов.
+	 * <p>
+	 * Элементы разбиваются на части, которые проверяются в {@link java.util.concurrent.ForkJoinPool}.
+	 * После обнаружения некорректного элемента проверка частей, стоящих после него, прекращается.
+	 * Условия и правила вызываются из разных потоков и должны быть потокобезопасными.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	SELF parallel();
+
+	/**
+	 * Включает параллельную проверку элементов объектов, содержащих больше элементов, чем порог.
+	 * <p>
+	 * Объекты с количеством элементов не больше порога проверяются последовательно.
+	 *
+	 * @param threshold порог количества элементов.
+	 * @return объект проверяющего.
+	 * @throws IllegalArgumentException если порог меньше {@code 1}.
+	 */
+	@NotNull
+	SELF parallel(int threshold);
+}
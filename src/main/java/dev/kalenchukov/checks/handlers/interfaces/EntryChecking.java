@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers.interfaces;
+
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс для реализации проверяющего ключи и значения объектов типа {@code Map}.
+ * <p>
+ * Каждая проверка обходит записи один раз, проверяя ключ и значение вместе. Некорректной записью
+ * в исключении {@link ElementObjectCheckException} является пара ключа и значения, позиция которой не определена.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @param <K> тип ключей проверяемого объекта.
+ * @param <V> тип значений проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public interface EntryChecking<SELF, K, V>
+{
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы одна пара ключа и значения.
+	 *
+	 * @param predicate условие.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если пара ключа и значения удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull BiPredicate<? super K, ? super V> predicate);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы одна пара ключа и значения.
+	 *
+	 * @param predicate условие.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если пара ключа и значения удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull BiPredicate<? super K, ? super V> predicate, @Nullable String message);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы одна пара ключа и значения.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если пара ключа и значения удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull BiPredicate<? super K, ? super V> predicate, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы одна пара ключа и значения.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если пара ключа и значения удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull BiPredicate<? super K, ? super V> predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы одна пара ключа и значения.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если пара ключа и значения удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAny(@NotNull BiPredicate<? super K, ? super V> predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не удовлетворяет ли условию хотя бы одна пара ключа и значения.
+	 *
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если пара ключа и значения удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notAnyLazy(@NotNull BiPredicate<? super K, ? super V> predicate, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, выполняет ли каждый ключ и каждое значение требования правил.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если ключ или значение не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super K> keyRule, @NotNull Rule<? super V> valueRule);
+
+	/**
+	 * Проверяет, выполняет ли каждый ключ и каждое значение требования правил.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если ключ или значение не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super K> keyRule, @NotNull Rule<? super V> valueRule, @Nullable String message);
+
+	/**
+	 * Проверяет, выполняет ли каждый ключ и каждое значение требования правил.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если ключ или значение не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super K> keyRule, @NotNull Rule<? super V> valueRule, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, выполняет ли каждый ключ и каждое значение требования правил.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если ключ или значение не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super K> keyRule, @NotNull Rule<? super V> valueRule, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, выполняет ли каждый ключ и каждое значение требования правил.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если ключ или значение не выполняет требование правила.
+	 */
+	@NotNull
+	SELF each(@NotNull Rule<? super K> keyRule, @NotNull Rule<? super V> valueRule, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, выполняет ли каждый ключ и каждое значение требования правил.
+	 *
+	 * @param keyRule правило проверки ключей.
+	 * @param valueRule правило проверки значений.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ElementObjectCheckException если ключ или значение не выполняет требование правила.
+	 */
+	@NotNull
+	SELF eachLazy(@NotNull Rule<? super K> keyRule, @NotNull Rule<? super V> valueRule, @NotNull Supplier<String> message);
+
+	/**
+	 * Включает параллельную проверку записей отображений {@link java.util.concurrent.ConcurrentHashMap},
+	 * содержащих не менее 65536 записей.
+	 * <p>
+	 * Остальные отображения проверяются последовательно. Условия и правила вызываются
+	 * из разных потоков и должны быть потокобезопасными.
+	 *
+	 * @return объект проверяющего.
+	 */
+	@NotNull
+	SELF parallel();
+
+	/**
+	 * Включает параллельную проверку записей отображений {@link java.util.concurrent.ConcurrentHashMap},
+	 * содержащих больше записей, чем порог.
+	 *
+	 * @param threshold порог количества записей.
+	 * @return объект проверяющего.
+	 * @throws IllegalArgumentException если порог меньше {@code 1}.
+	 */
+	@NotNull
+	SELF parallel(int threshold);
+}
@@ -0,0 +1,599 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers.interfaces;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * Интерфейс для реализации проверяющего значения типа {@code int}.
+ *
+ * @param <SELF> тип проверяющего объекта.
+ * @author Алексей Каленчуков
+ */
+public interface IntChecking<SELF>
+{
+	/**
+	 * Проверяет, не является ли значение равным.
+	 *
+	 * @param value значение.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если значения равны.
+	 */
+	@NotNull
+	SELF notEquals(int value);
+
+	/**
+	 * Проверяет, не является ли значение равным.
+	 *
+	 * @param value значение.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если значения равны.
+	 */
+	@NotNull
+	SELF notEquals(int value, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение равным.
+	 *
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если значения равны.
+	 */
+	@NotNull
+	SELF notEquals(int value, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение равным.
+	 *
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если значения равны.
+	 */
+	@NotNull
+	SELF notEquals(int value, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение равным.
+	 *
+	 * @param value значение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если значения равны.
+	 */
+	@NotNull
+	SELF notEquals(int value, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение равным.
+	 *
+	 * @param value значение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws EqualsObjectCheckException если значения равны.
+	 */
+	@NotNull
+	SELF notEqualsLazy(int value, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не удовлетворяет ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если значение удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull IntPredicate predicate);
+
+	/**
+	 * Проверяет, не удовлетворяет ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если значение удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull IntPredicate predicate, @Nullable String message);
+
+	/**
+	 * Проверяет, не удовлетворяет ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если значение удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull IntPredicate predicate, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не удовлетворяет ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если значение удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull IntPredicate predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не удовлетворяет ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если значение удовлетворяет условию.
+	 */
+	@NotNull
+	SELF not(@NotNull IntPredicate predicate, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не удовлетворяет ли значение условию.
+	 *
+	 * @param predicate условие.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalObjectCheckException если значение удовлетворяет условию.
+	 */
+	@NotNull
+	SELF notLazy(@NotNull IntPredicate predicate, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение равным нулю.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero();
+
+	/**
+	 * Проверяет, не является ли значение равным нулю.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение равным нулю.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение равным нулю.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение равным нулю.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение равным нулю.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZeroLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение отрицательным числом.
+	 *
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative();
+
+	/**
+	 * Проверяет, не является ли значение отрицательным числом.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение отрицательным числом.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegativeLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение положительным числом.
+	 *
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive();
+
+	/**
+	 * Проверяет, не является ли значение положительным числом.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение положительным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение положительным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение положительным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение положительным числом.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositiveLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение больше числа.
+	 *
+	 * @param number число.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(int number);
+
+	/**
+	 * Проверяет, не является ли значение больше числа.
+	 *
+	 * @param number число.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(int number, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение больше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(int number, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение больше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(int number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение больше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(int number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение больше числа.
+	 *
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumberLazy(int number, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение меньше числа.
+	 *
+	 * @param number число.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(int number);
+
+	/**
+	 * Проверяет, не является ли значение меньше числа.
+	 *
+	 * @param number число.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(int number, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение меньше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(int number, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение меньше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(int number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение меньше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(int number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение меньше числа.
+	 *
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumberLazy(int number, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(int from, int to);
+
+	/**
+	 * Проверяет, не является ли значение входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(int from, int to, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(int from, int to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumberLazy(int from, int to, @NotNull Supplier<String> message);
+
+	/**
+	 * Возвращает проверяемое значение.
+	 *
+	 * @return проверяемое значение.
+	 */
+	int get();
+}
@@ -18,6 +18,12 @@
 
 package dev.kalenchukov.checks.handlers.interfaces;
 
+import dev.kalenchukov.checks.exceptions.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
 /**
  * Интерфейс для реализации проверяющего объекты типа {@code List}.
  *
@@ -27,5 +33,172 @@ package dev.kalenchukov.checks.handlers.interfaces;
  */
 public interface ListChecking<SELF, T>
 {
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Элементы сравниваются методом {@link Object#equals(Object)}.
+	 *
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates();
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Элементы сравниваются методом {@link Object#equals(Object)}.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Элементы сравниваются методом {@link Object#equals(Object)}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Элементы сравниваются методом {@link Object#equals(Object)}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Элементы сравниваются методом {@link Object#equals(Object)}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicates(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли объект повторяющиеся элементы.
+	 * <p>
+	 * Элементы сравниваются методом {@link Object#equals(Object)}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит повторяющиеся элементы.
+	 */
+	@NotNull
+	SELF notContainsDuplicatesLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не содержит ли объект один и тот же элемент несколько раз.
+	 * <p>
+	 * Элементы сравниваются по ссылке, поэтому равные, но разные объекты повторами не считаются.
+	 *
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит один и тот же элемент несколько раз.
+	 */
+	@NotNull
+	SELF notContainsIdentical();
+
+	/**
+	 * Проверяет, не содержит ли объект один и тот же элемент несколько раз.
+	 * <p>
+	 * Элементы сравниваются по ссылке, поэтому равные, но разные объекты повторами не считаются.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит один и тот же элемент несколько раз.
+	 */
+	@NotNull
+	SELF notContainsIdentical(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект один и тот же элемент несколько раз.
+	 * <p>
+	 * Элементы сравниваются по ссылке, поэтому равные, но разные объекты повторами не считаются.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит один и тот же элемент несколько раз.
+	 */
+	@NotNull
+	SELF notContainsIdentical(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект один и тот же элемент несколько раз.
+	 * <p>
+	 * Элементы сравниваются по ссылке, поэтому равные, но разные объекты повторами не считаются.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит один и тот же элемент несколько раз.
+	 */
+	@NotNull
+	SELF notContainsIdentical(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект один и тот же элемент несколько раз.
+	 * <p>
+	 * Элементы сравниваются по ссылке, поэтому равные, но разные объекты повторами не считаются.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит один и тот же элемент несколько раз.
+	 */
+	@NotNull
+	SELF notContainsIdentical(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли объект один и тот же элемент несколько раз.
+	 * <p>
+	 * Элементы сравниваются по ссылке, поэтому равные, но разные объекты повторами не считаются.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws DuplicateObjectCheckException если объект содержит один и тот же элемент несколько раз.
+	 */
+	@NotNull
+	SELF notContainsIdenticalLazy(@NotNull Supplier<String> message);
 
+	/**
+	 * Ограничивает память хеш-таблицы, используемой методами {@code notContainsDuplicates()}
+	 * и {@code notContainsIdentical()}.
+	 * <p>
+	 * По умолчанию ограничение составляет 64 МиБ. При превышении ограничения элементы добавляются
+	 * в {@link java.util.HashSet}, память которого ограничением не охватывается и растёт с количеством
+	 * просмотренных до первого повтора элементов.
+	 *
+	 * @param bytes ограничение памяти в байтах.
+	 * @return объект проверяющего.
+	 * @throws IllegalArgumentException если ограничение отрицательно.
+	 */
+	@NotNull
+	SELF memoryLimit(long bytes);
 }
@@ -18,6 +18,12 @@
 
 package dev.kalenchukov.checks.handlers.interfaces;
 
+import dev.kalenchukov.checks.exceptions.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
 /**
  * Интерфейс для реализации проверяющего объекты типа {@code Map}.
  *
@@ -27,5 +33,133 @@ package dev.kalenchukov.checks.handlers.interfaces;
  */
 public interface MapChecking<SELF, T>
 {
+	/**
+	 * Проверяет, не содержит ли объект ключ {@code null}.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит ключ {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullKey();
+
+	/**
+	 * Проверяет, не содержит ли объект ключ {@code null}.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит ключ {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullKey(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект ключ {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит ключ {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullKey(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект ключ {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит ключ {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullKey(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект ключ {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит ключ {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullKey(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли объект ключ {@code null}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит ключ {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullKeyLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не содержит ли объект значение {@code null}.
+	 *
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит значение {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullValue();
+
+	/**
+	 * Проверяет, не содержит ли объект значение {@code null}.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит значение {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullValue(@Nullable String message);
+
+	/**
+	 * Проверяет, не содержит ли объект значение {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит значение {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullValue(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не содержит ли объект значение {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит значение {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullValue(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли объект значение {@code null}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит значение {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullValue(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
 
+	/**
+	 * Проверяет, не содержит ли объект значение {@code null}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ContainsNullObjectCheckException если объект содержит значение {@code null}.
+	 */
+	@NotNull
+	SELF notContainsNullValueLazy(@NotNull Supplier<String> message);
 }
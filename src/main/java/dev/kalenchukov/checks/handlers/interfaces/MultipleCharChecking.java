@@ -19,9 +19,13 @@
 package dev.kalenchukov.checks.handlers.interfaces;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.text.CharClass;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
 /**
  * Интерфейс для реализации проверяющего объекты типов содержащие множество символов.
  *
@@ -51,88 +55,1698 @@ public interface MultipleCharChecking<SELF, T>
 	SELF notEmpty(@Nullable String message);
 
 	/**
-	 * Проверяет, не является ли количество символов объекта равным.
+	 * Проверяет, не является ли значение объекта пустым.
 	 *
-	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
 	 * @return объект проверяющего.
-	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
 	 */
 	@NotNull
-	SELF notLength(int length);
+	SELF notEmpty(@NotNull String pattern, @Nullable Object argument);
 
 	/**
-	 * Проверяет, не является ли количество символов объекта равным.
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmpty(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmpty(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmptyLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @return объект проверяющего.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	SELF notBlank();
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
 	 *
-	 * @param length количество символов.
 	 * @param message сообщение.
 	 * @return объект проверяющего.
-	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 * @throws BlankObjectCheckException если значение пусто.
 	 */
 	@NotNull
-	SELF notLength(int length, @Nullable String message);
+	SELF notBlank(@Nullable String message);
 
 	/**
-	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
 	 *
-	 * @param from минимальное количество символов (включительно).
-	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
 	 * @return объект проверяющего.
-	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 * @throws BlankObjectCheckException если значение пусто.
 	 */
 	@NotNull
-	SELF notRangeLength(int from, int to);
+	SELF notBlank(@NotNull String pattern, @Nullable Object argument);
 
 	/**
-	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	SELF notBlank(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	SELF notBlank(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws BlankObjectCheckException если значение пусто.
+	 */
+	@NotNull
+	SELF notBlankLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не содержит ли значение объекта белые символы.
+	 * <p>
+	 * Белыми считаются символы, для которых {@link Character#isWhitespace(char)} возвращает {@code true}.
+	 *
+	 * @return объект проверяющего.
+	 * @throws WhitespaceObjectCheckException если значение содержит белые символы.
+	 */
+	@NotNull
+	SELF notContainsWhitespace();
+
+	/**
+	 * Проверяет, не содержит ли значение объекта белые символы.
+	 * <p>
+	 * Белыми считаются символы, для которых {@link Character#isWhitespace(char)} возвращает {@code true}.
 	 *
-	 * @param from минимальное количество символов (включительно).
-	 * @param to максимальное количество символов (включительно).
 	 * @param message сообщение.
 	 * @return объект проверяющего.
-	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 * @throws WhitespaceObjectCheckException если значение содержит белые символы.
 	 */
 	@NotNull
-	SELF notRangeLength(int from, int to, @Nullable String message);
+	SELF notContainsWhitespace(@Nullable String message);
 
 	/**
-	 * Проверяет, не превышается ли количество символов объекта.
+	 * Проверяет, не содержит ли значение объекта белые символы.
+	 * <p>
+	 * Белыми считаются символы, для которых {@link Character#isWhitespace(char)} возвращает {@code true}.
 	 *
-	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
 	 * @return объект проверяющего.
-	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 * @throws WhitespaceObjectCheckException если значение содержит белые символы.
 	 */
 	@NotNull
-	SELF notMoreLength(int length);
+	SELF notContainsWhitespace(@NotNull String pattern, @Nullable Object argument);
 
 	/**
-	 * Проверяет, не превышается ли количество символов объекта.
+	 * Проверяет, не содержит ли значение объекта белые символы.
+	 * <p>
+	 * Белыми считаются символы, для которых {@link Character#isWhitespace(char)} возвращает {@code true}.
 	 *
-	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws WhitespaceObjectCheckException если значение содержит белые символы.
+	 */
+	@NotNull
+	SELF notContainsWhitespace(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не содержит ли значение объекта белые символы.
+	 * <p>
+	 * Белыми считаются символы, для которых {@link Character#isWhitespace(char)} возвращает {@code true}.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws WhitespaceObjectCheckException если значение содержит белые символы.
+	 */
+	@NotNull
+	SELF notContainsWhitespace(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не содержит ли значение объекта белые символы.
+	 * <p>
+	 * Белыми считаются символы, для которых {@link Character#isWhitespace(char)} возвращает {@code true}.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws WhitespaceObjectCheckException если значение содержит белые символы.
+	 */
+	@NotNull
+	SELF notContainsWhitespaceLazy(@NotNull Supplier<String> message);
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull Pattern regex);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
 	 * @param message сообщение.
 	 * @return объект проверяющего.
-	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
 	 */
 	@NotNull
-	SELF notMoreLength(int length, @Nullable String message);
+	SELF matches(@NotNull Pattern regex, @Nullable String message);
 
 	/**
-	 * Проверяет, не принижается ли количество символов объекта.
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
 	 *
-	 * @param length минимальное количество символов (включительно).
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
 	 * @return объект проверяющего.
-	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
 	 */
 	@NotNull
-	SELF notLessLength(int length);
+	SELF matches(@NotNull Pattern regex, @NotNull String pattern, @Nullable Object argument);
 
 	/**
-	 * Проверяет, не принижается ли количество символов объекта.
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
 	 *
-	 * @param length минимальное количество символов (включительно).
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull Pattern regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull Pattern regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matchesLazy(@NotNull Pattern regex, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull String regex);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
 	 * @param message сообщение.
 	 * @return объект проверяющего.
-	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
 	 */
 	@NotNull
-	SELF notLessLength(int length, @Nullable String message);
+	SELF matches(@NotNull String regex, @Nullable String message);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull String regex, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull String regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matches(@NotNull String regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MismatchObjectCheckException если значение не соответствует выражению.
+	 */
+	@NotNull
+	SELF matchesLazy(@NotNull String regex, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull Pattern regex);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull Pattern regex, @Nullable String message);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull Pattern regex, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull Pattern regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull Pattern regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatchesLazy(@NotNull Pattern regex, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull String regex);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull String regex, @Nullable String message);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull String regex, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull String regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatches(@NotNull String regex, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не соответствует ли значение объекта регулярному выражению полностью.
+	 * <p>
+	 * Выражение компилируется один раз и хранится в кеше {@link dev.kalenchukov.checks.handlers.PatternCache}.
+	 *
+	 * @param regex регулярное выражение.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MatchObjectCheckException если значение соответствует выражению.
+	 */
+	@NotNull
+	SELF notMatchesLazy(@NotNull String regex, @NotNull Supplier<String> message);
+	/**
+	 * Проверяет, состоит ли значение объекта только из десятичных цифр {@code 0-9}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyDigits();
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из десятичных цифр {@code 0-9}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyDigits(@Nullable String message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из десятичных цифр {@code 0-9}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyDigits(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из десятичных цифр {@code 0-9}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyDigits(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из десятичных цифр {@code 0-9}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyDigits(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из десятичных цифр {@code 0-9}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyDigitsLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов ASCII.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAscii();
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов ASCII.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAscii(@Nullable String message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов ASCII.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAscii(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов ASCII.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAscii(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов ASCII.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAscii(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов ASCII.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAsciiLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyHex();
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyHex(@Nullable String message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyHex(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyHex(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyHex(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyHexLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из латинских букв и десятичных цифр.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAlphanumeric();
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из латинских букв и десятичных цифр.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAlphanumeric(@Nullable String message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из латинских букв и десятичных цифр.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAlphanumeric(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из латинских букв и десятичных цифр.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAlphanumeric(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из латинских букв и десятичных цифр.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAlphanumeric(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из латинских букв и десятичных цифр.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyAlphanumericLazy(@NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов набора.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param charClass набор допустимых символов.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyChars(@NotNull CharClass charClass);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов набора.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param charClass набор допустимых символов.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyChars(@NotNull CharClass charClass, @Nullable String message);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов набора.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param charClass набор допустимых символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyChars(@NotNull CharClass charClass, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов набора.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param charClass набор допустимых символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyChars(@NotNull CharClass charClass, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов набора.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param charClass набор допустимых символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyChars(@NotNull CharClass charClass, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, состоит ли значение объекта только из символов набора.
+	 * <p>
+	 * Пустое значение проверку проходит.
+	 *
+	 * @param charClass набор допустимых символов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws IllegalCharObjectCheckException если значение содержит другие символы.
+	 */
+	@NotNull
+	SELF onlyCharsLazy(@NotNull CharClass charClass, @NotNull Supplier<String> message);
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param length количество символов.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	SELF notLength(int length);
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param length количество символов.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	SELF notLength(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	SELF notLength(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	SELF notLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param length количество символов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	SELF notLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли количество символов объекта равным.
+	 *
+	 * @param length количество символов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству символов.
+	 */
+	@NotNull
+	SELF notLengthLazy(int length, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	SELF notRangeLength(int from, int to);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	SELF notRangeLength(int from, int to, @Nullable String message);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	SELF notRangeLength(int from, int to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	SELF notRangeLength(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	SELF notRangeLength(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество символов объекта.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества символов.
+	 */
+	@NotNull
+	SELF notRangeLengthLazy(int from, int to, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param length максимальное количество символов (включительно).
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	SELF notMoreLength(int length);
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param length максимальное количество символов (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	SELF notMoreLength(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	SELF notMoreLength(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	SELF notMoreLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param length максимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	SELF notMoreLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не превышается ли количество символов объекта.
+	 *
+	 * @param length максимальное количество символов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество символов.
+	 */
+	@NotNull
+	SELF notMoreLengthLazy(int length, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param length минимальное количество символов (включительно).
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 */
+	@NotNull
+	SELF notLessLength(int length);
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param length минимальное количество символов (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 */
+	@NotNull
+	SELF notLessLength(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param length минимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 */
+	@NotNull
+	SELF notLessLength(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param length минимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 */
+	@NotNull
+	SELF notLessLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param length минимальное количество символов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 */
+	@NotNull
+	SELF notLessLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не принижается ли количество символов объекта.
+	 *
+	 * @param length минимальное количество символов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества символов.
+	 */
+	@NotNull
+	SELF notLessLengthLazy(int length, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не превышается ли количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param length максимальное количество байтов (включительно).
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество байтов.
+	 */
+	@NotNull
+	SELF notMoreUtf8Length(int length);
+
+	/**
+	 * Проверяет, не превышается ли количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param length максимальное количество байтов (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество байтов.
+	 */
+	@NotNull
+	SELF notMoreUtf8Length(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не превышается ли количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param length максимальное количество байтов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество байтов.
+	 */
+	@NotNull
+	SELF notMoreUtf8Length(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не превышается ли количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param length максимальное количество байтов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество байтов.
+	 */
+	@NotNull
+	SELF notMoreUtf8Length(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не превышается ли количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param length максимальное количество байтов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество байтов.
+	 */
+	@NotNull
+	SELF notMoreUtf8Length(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не превышается ли количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param length максимальное количество байтов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество байтов.
+	 */
+	@NotNull
+	SELF notMoreUtf8LengthLazy(int length, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param from минимальное количество байтов (включительно).
+	 * @param to максимальное количество байтов (включительно).
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества байтов.
+	 */
+	@NotNull
+	SELF notRangeUtf8Length(int from, int to);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param from минимальное количество байтов (включительно).
+	 * @param to максимальное количество байтов (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества байтов.
+	 */
+	@NotNull
+	SELF notRangeUtf8Length(int from, int to, @Nullable String message);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param from минимальное количество байтов (включительно).
+	 * @param to максимальное количество байтов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества байтов.
+	 */
+	@NotNull
+	SELF notRangeUtf8Length(int from, int to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param from минимальное количество байтов (включительно).
+	 * @param to максимальное количество байтов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества байтов.
+	 */
+	@NotNull
+	SELF notRangeUtf8Length(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param from минимальное количество байтов (включительно).
+	 * @param to максимальное количество байтов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества байтов.
+	 */
+	@NotNull
+	SELF notRangeUtf8Length(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество байтов значения объекта в кодировке UTF-8.
+	 * <p>
+	 * Длина подсчитывается по символам без кодирования значения и только до превышения
+	 * ограничения. Одиночный суррогат считается одним байтом, как при {@link String#getBytes(java.nio.charset.Charset)}.
+	 *
+	 * @param from минимальное количество байтов (включительно).
+	 * @param to максимальное количество байтов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества байтов.
+	 */
+	@NotNull
+	SELF notRangeUtf8LengthLazy(int from, int to, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не является ли количество кодовых точек значения объекта равным.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length количество кодовых точек.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству кодовых точек.
+	 */
+	@NotNull
+	SELF notCodePointLength(int length);
+
+	/**
+	 * Проверяет, не является ли количество кодовых точек значения объекта равным.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length количество кодовых точек.
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству кодовых точек.
+	 */
+	@NotNull
+	SELF notCodePointLength(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли количество кодовых точек значения объекта равным.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length количество кодовых точек.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству кодовых точек.
+	 */
+	@NotNull
+	SELF notCodePointLength(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли количество кодовых точек значения объекта равным.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length количество кодовых точек.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству кодовых точек.
+	 */
+	@NotNull
+	SELF notCodePointLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли количество кодовых точек значения объекта равным.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length количество кодовых точек.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству кодовых точек.
+	 */
+	@NotNull
+	SELF notCodePointLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли количество кодовых точек значения объекта равным.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length количество кодовых точек.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LengthObjectCheckException если значение равно количеству кодовых точек.
+	 */
+	@NotNull
+	SELF notCodePointLengthLazy(int length, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества кодовых точек.
+	 */
+	@NotNull
+	SELF notRangeCodePointLength(int from, int to);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества кодовых точек.
+	 */
+	@NotNull
+	SELF notRangeCodePointLength(int from, int to, @Nullable String message);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества кодовых точек.
+	 */
+	@NotNull
+	SELF notRangeCodePointLength(int from, int to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества кодовых точек.
+	 */
+	@NotNull
+	SELF notRangeCodePointLength(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества кодовых точек.
+	 */
+	@NotNull
+	SELF notRangeCodePointLength(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param from минимальное количество кодовых точек (включительно).
+	 * @param to максимальное количество кодовых точек (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws RangeLengthObjectCheckException если значение входит в диапазон количества кодовых точек.
+	 */
+	@NotNull
+	SELF notRangeCodePointLengthLazy(int from, int to, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не превышается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length максимальное количество кодовых точек (включительно).
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество кодовых точек.
+	 */
+	@NotNull
+	SELF notMoreCodePointLength(int length);
+
+	/**
+	 * Проверяет, не превышается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length максимальное количество кодовых точек (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество кодовых точек.
+	 */
+	@NotNull
+	SELF notMoreCodePointLength(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не превышается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length максимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество кодовых точек.
+	 */
+	@NotNull
+	SELF notMoreCodePointLength(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не превышается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length максимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество кодовых точек.
+	 */
+	@NotNull
+	SELF notMoreCodePointLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не превышается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length максимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество кодовых точек.
+	 */
+	@NotNull
+	SELF notMoreCodePointLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не превышается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length максимальное количество кодовых точек (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MoreLengthObjectCheckException если значение превышает количество кодовых точек.
+	 */
+	@NotNull
+	SELF notMoreCodePointLengthLazy(int length, @NotNull Supplier<String> message);
+
+	/**
+	 * Проверяет, не принижается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length минимальное количество кодовых точек (включительно).
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества кодовых точек.
+	 */
+	@NotNull
+	SELF notLessCodePointLength(int length);
+
+	/**
+	 * Проверяет, не принижается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length минимальное количество кодовых точек (включительно).
+	 * @param message сообщение.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества кодовых точек.
+	 */
+	@NotNull
+	SELF notLessCodePointLength(int length, @Nullable String message);
+
+	/**
+	 * Проверяет, не принижается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length минимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества кодовых точек.
+	 */
+	@NotNull
+	SELF notLessCodePointLength(int length, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не принижается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length минимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества кодовых точек.
+	 */
+	@NotNull
+	SELF notLessCodePointLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не принижается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length минимальное количество кодовых точек (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества кодовых точек.
+	 */
+	@NotNull
+	SELF notLessCodePointLength(int length, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не принижается ли количество кодовых точек значения объекта.
+	 * <p>
+	 * Суррогатная пара считается одним символом. Символы просматриваются только до превышения ограничения.
+	 *
+	 * @param length минимальное количество кодовых точек (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LessLengthObjectCheckException если значение меньше количества кодовых точек.
+	 */
+	@NotNull
+	SELF notLessCodePointLengthLazy(int length, @NotNull Supplier<String> message);
 }
@@ -22,6 +22,8 @@ import dev.kalenchukov.checks.exceptions.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
+
 /**
  * Интерфейс для реализации проверяющего объекты типов содержащие множество объектов.
  *
@@ -50,6 +52,52 @@ public interface MultipleObjectChecking<SELF, T>
 	@NotNull
 	SELF notEmpty(@Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmpty(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmpty(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmpty(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта пустым.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws EmptyObjectCheckException если значение объекта пусто.
+	 */
+	@NotNull
+	SELF notEmptyLazy(@NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли значение объекта равным количеству элементов.
 	 *
@@ -71,6 +119,56 @@ public interface MultipleObjectChecking<SELF, T>
 	@NotNull
 	SELF notSize(int size, @Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	SELF notSize(int size, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	SELF notSize(int size, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param size количество элементов.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	SELF notSize(int size, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта равным количеству элементов.
+	 *
+	 * @param size количество элементов.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws SizeObjectCheckException если значение равно количеству элементов.
+	 */
+	@NotNull
+	SELF notSizeLazy(int size, @NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не входит ли в диапазон количество элементов объекта.
 	 *
@@ -94,6 +192,60 @@ public interface MultipleObjectChecking<SELF, T>
 	@NotNull
 	SELF notRangeSize(int from, int to, @Nullable String message);
 
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	SELF notRangeSize(int from, int to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	SELF notRangeSize(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	SELF notRangeSize(int from, int to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не входит ли в диапазон количество элементов объекта.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws RangeSizeObjectCheckException если значение входит в диапазон количества элементов.
+	 */
+	@NotNull
+	SELF notRangeSizeLazy(int from, int to, @NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не превышается ли количество элементов объекта.
 	 *
@@ -115,6 +267,56 @@ public interface MultipleObjectChecking<SELF, T>
 	@NotNull
 	SELF notMoreSize(int size, @Nullable String message);
 
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	SELF notMoreSize(int size, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	SELF notMoreSize(int size, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param size максимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	SELF notMoreSize(int size, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не превышается ли количество элементов объекта.
+	 *
+	 * @param size максимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MoreSizeObjectCheckException если значение превышает количество элементов.
+	 */
+	@NotNull
+	SELF notMoreSizeLazy(int size, @NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не принижается ли количество элементов объекта.
 	 *
@@ -135,4 +337,54 @@ public interface MultipleObjectChecking<SELF, T>
 	 */
 	@NotNull
 	SELF notLessSize(int size, @Nullable String message);
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	SELF notLessSize(int size, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	SELF notLessSize(int size, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param size минимальное количество элементов (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	SELF notLessSize(int size, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не принижается ли количество элементов объекта.
+	 *
+	 * @param size минимальное количество элементов (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LessSizeObjectCheckException если значение понижает количество элементов.
+	 */
+	@NotNull
+	SELF notLessSizeLazy(int size, @NotNull Supplier<String> message);
 }
@@ -22,6 +22,8 @@ import dev.kalenchukov.checks.exceptions.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
+
 /**
  * Интерфейс для реализации проверяющего объекты типа {@code Number}.
  *
@@ -50,6 +52,52 @@ public interface NumberChecking<SELF, T>
 	@NotNull
 	SELF notZero(@Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZero(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта равным нулю.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws ZeroNumberObjectCheckException если значение равно нулю.
+	 */
+	@NotNull
+	SELF notZeroLazy(@NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли значение объекта отрицательным числом.
 	 *
@@ -69,6 +117,52 @@ public interface NumberChecking<SELF, T>
 	@NotNull
 	SELF notNegative(@Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта на отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта на отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта на отрицательным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegative(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта на отрицательным числом.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws NegativeNumberObjectCheckException если значение является отрицательным числом.
+	 */
+	@NotNull
+	SELF notNegativeLazy(@NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли значение объекта положительным числом.
 	 *
@@ -88,6 +182,52 @@ public interface NumberChecking<SELF, T>
 	@NotNull
 	SELF notPositive(@Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositive(@NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта положительным числом.
+	 *
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws PositiveNumberObjectCheckException если значение является положительным числом.
+	 */
+	@NotNull
+	SELF notPositiveLazy(@NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли значение объекта больше числа.
 	 *
@@ -109,6 +249,56 @@ public interface NumberChecking<SELF, T>
 	@NotNull
 	SELF notMoreNumber(@NotNull T number, @Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(@NotNull T number, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(@NotNull T number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumber(@NotNull T number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта больше числа.
+	 *
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws MoreNumberObjectCheckException если значение больше числа.
+	 */
+	@NotNull
+	SELF notMoreNumberLazy(@NotNull T number, @NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли значение объекта меньше числа.
 	 *
@@ -130,6 +320,56 @@ public interface NumberChecking<SELF, T>
 	@NotNull
 	SELF notLessNumber(@NotNull T number, @Nullable String message);
 
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(@NotNull T number, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(@NotNull T number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param number число.
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumber(@NotNull T number, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта меньше числа.
+	 *
+	 * @param number число.
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws LessNumberObjectCheckException если значение меньше числа.
+	 */
+	@NotNull
+	SELF notLessNumberLazy(@NotNull T number, @NotNull Supplier<String> message);
+
 	/**
 	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
 	 *
@@ -152,4 +392,58 @@ public interface NumberChecking<SELF, T>
 	 */
 	@NotNull
 	SELF notRangeNumber(@NotNull T from, @NotNull T to, @Nullable String message);
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяется аргументом.
+	 * @param argument аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(@NotNull T from, @NotNull T to, @NotNull String pattern, @Nullable Object argument);
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(@NotNull T from, @NotNull T to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2);
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param pattern шаблон сообщения, в котором {@code {}} заменяются аргументами.
+	 * @param argument1 1-й аргумент шаблона.
+	 * @param argument2 2-й аргумент шаблона.
+	 * @param argument3 3-й аргумент шаблона.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumber(@NotNull T from, @NotNull T to, @NotNull String pattern, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3);
+
+	/**
+	 * Проверяет, не является ли значение объекта входящим в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message поставщик сообщения, вызываемый только при неудачной проверке.
+	 * @return объект проверяющего.
+	 * @throws RangeNumberObjectCheckException если значение входит в диапазон чисел.
+	 */
+	@NotNull
+	SELF notRangeNumberLazy(@NotNull T from, @NotNull T to, @NotNull Supplier<String> message);
 }
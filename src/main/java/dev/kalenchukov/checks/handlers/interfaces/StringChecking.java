@@ -18,10 +18,6 @@
 
 package dev.kalenchukov.checks.handlers.interfaces;
 
-import dev.kalenchukov.checks.exceptions.BlankObjectCheckException;
-import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
 /**
  * Интерфейс для реализации проверяющего объекты типа {@code String}.
  *
@@ -31,22 +27,5 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface StringChecking<SELF, T>
 {
-	/**
-	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
-	 *
-	 * @return объект проверяющего.
-	 * @throws BlankObjectCheckException если значение пусто.
-	 */
-	@NotNull
-	SELF notBlank();
 
-	/**
-	 * Проверяет, не является ли значение объекта пустым с игнорированием белых символов.
-	 *
-	 * @param message сообщение.
-	 * @return объект проверяющего.
-	 * @throws BlankObjectCheckException если значение пусто.
-	 */
-	@NotNull
-	SELF notBlank(@Nullable String message);
 }
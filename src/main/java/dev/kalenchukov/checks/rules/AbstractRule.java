@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.CheckException;
+import dev.kalenchukov.checks.exceptions.NullObjectCheckException;
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Класс частичной реализации правила проверки.
+ * <p>
+ * При построении каждое требование к величине объекта сводится к запрещённому диапазону величины,
+ * а требования, которые не могут нарушиться, отбрасываются. Поэтому проверка объекта выполняется
+ * одним проходом по плоским массивам без создания объектов, пока требования выполняются.
+ *
+ * @param <T> тип проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+abstract class AbstractRule<T>
+	implements Rule<T>
+{
+	/**
+	 * Требование, которое не выполняет объект {@code null}.
+	 */
+	@NotNull
+	private final Violation nullViolation;
+
+	/**
+	 * Сообщение исключения для объекта {@code null}.
+	 */
+	@Nullable
+	private final String nullMessage;
+
+	/**
+	 * Требования.
+	 */
+	private final Violation @NotNull [] violations;
+
+	/**
+	 * Нижние границы запрещённых диапазонов величины.
+	 */
+	private final int @NotNull [] lows;
+
+	/**
+	 * Ширина запрещённых диапазонов величины как беззнаковое число.
+	 */
+	private final int @NotNull [] spans;
+
+	/**
+	 * Операнды требований.
+	 */
+	private final Object @NotNull [] operands;
+
+	/**
+	 * Сообщения исключений требований.
+	 */
+	private final String @NotNull [] messages;
+
+	/**
+	 * Позиции требований в порядке добавления.
+	 */
+	private final int @NotNull [] positions;
+
+	/**
+	 * Нарушения требований в порядке добавления.
+	 * <p>
+	 * Правило без требований содержит единственное неявное требование {@link Violation#NULL},
+	 * которое не выполняет объект {@code null}.
+	 */
+	private final Violation @NotNull [] stepViolations;
+
+	/**
+	 * Сводятся ли все требования к запрещённым диапазонам величины.
+	 */
+	private final boolean measured;
+
+	/**
+	 * Создаются ли исключения без трассировки стека.
+	 */
+	private final boolean stackless;
+
+	/**
+	 * Конструирует правило.
+	 *
+	 * @param steps требования в порядке добавления.
+	 * @param stackless {@code true}, если исключения создаются без трассировки стека.
+	 */
+	protected AbstractRule(@NotNull final List<Step> steps, final boolean stackless)
+	{
+		final int size = steps.size();
+
+		this.nullViolation = size == 0 ? Violation.NULL : steps.get(0).getViolation();
+		this.nullMessage = size == 0 ? null : steps.get(0).getMessage();
+		this.stackless = stackless;
+
+		final Violation[] violations = new Violation[size];
+		final int[] lows = new int[size];
+		final int[] spans = new int[size];
+		final Object[] operands = new Object[size];
+		final String[] messages = new String[size];
+		final int[] positions = new int[size];
+		final Violation[] stepViolations = new Violation[Math.max(size, 1)];
+		boolean measured = true;
+		int count = 0;
+
+		stepViolations[0] = Violation.NULL;
+
+		for (int position = 0; position < size; position++)
+		{
+			final Step step = steps.get(position);
+			final Violation violation = step.getViolation();
+
+			stepViolations[position] = violation;
+			final long first = step.getFirst();
+			final long second = step.getSecond();
+
+			long low = 0;
+			long high = -1;
+
+			switch (violation)
+			{
+				case NULL -> {
+					continue;
+				}
+				case EQUALS, ILLEGAL, BLANK -> measured = false;
+				case EMPTY, ZERO_NUMBER -> high = 0;
+				case LENGTH, SIZE -> {
+					low = first;
+					high = first;
+				}
+				case RANGE_LENGTH, RANGE_SIZE, RANGE_NUMBER -> {
+					low = first;
+					high = second;
+				}
+				case MORE_LENGTH, MORE_SIZE, MORE_NUMBER -> {
+					low = first + 1;
+					high = Integer.MAX_VALUE;
+				}
+				case LESS_LENGTH, LESS_SIZE, LESS_NUMBER -> {
+					low = Integer.MIN_VALUE;
+					high = first - 1;
+				}
+				case NEGATIVE_NUMBER -> {
+					low = Integer.MIN_VALUE;
+					high = -1;
+				}
+				case POSITIVE_NUMBER -> {
+					low = 1;
+					high = Integer.MAX_VALUE;
+				}
+			}
+
+			if (AbstractRule.isMeasured(violation) && low > high) {
+				continue;
+			}
+
+			violations[count] = violation;
+			lows[count] = (int) low;
+			spans[count] = (int) (high - low);
+			operands[count] = step.getOperand();
+			messages[count] = step.getMessage();
+			positions[count] = position;
+			count++;
+		}
+
+		this.violations = Arrays.copyOf(violations, count);
+		this.lows = Arrays.copyOf(lows, count);
+		this.spans = Arrays.copyOf(spans, count);
+		this.operands = Arrays.copyOf(operands, count);
+		this.messages = Arrays.copyOf(messages, count);
+		this.positions = Arrays.copyOf(positions, count);
+		this.stepViolations = stepViolations;
+		this.measured = measured;
+	}
+
+	/**
+	 * Проверяет объект на соответствие всем требованиям.
+	 *
+	 * @param target проверяемый объект.
+	 * @param measure величина объекта: количество символов, количество элементов или значение числа.
+	 * @return проверяемый объект.
+	 * @throws CheckException если объект не выполняет требование.
+	 */
+	@NotNull
+	protected final T check(@NotNull final T target, final int measure)
+	{
+		final int index = this.indexOf(target, measure);
+
+		if (index >= 0) {
+			throw this.violations[index].createException(target, this.messages[index], this.stackless);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Проверяет объект на соответствие всем требованиям без вызова исключения.
+	 *
+	 * @param target проверяемый объект.
+	 * @param measure величина объекта: количество символов, количество элементов или значение числа.
+	 * @return код нарушения первого невыполненного требования или {@code 0}, если все требования выполнены.
+	 */
+	protected final int test(@NotNull final T target, final int measure)
+	{
+		final int index = this.indexOf(target, measure);
+
+		return index < 0 ? 0 : this.violations[index].getCode();
+	}
+
+	/**
+	 * Возвращает позицию первого невыполненного требования в порядке добавления без вызова исключения.
+	 * <p>
+	 * Объект {@code null} не выполняет первое требование, поэтому для него возвращается {@code 0}.
+	 *
+	 * @param target проверяемый объект.
+	 * @return позицию требования или {@code -1}, если все требования выполнены.
+	 */
+	abstract int step(@Nullable T target);
+
+	/**
+	 * Возвращает позицию первого невыполненного требования в порядке добавления без вызова исключения.
+	 *
+	 * @param target проверяемый объект.
+	 * @param measure величина объекта: количество символов, количество элементов или значение числа.
+	 * @return позицию требования или {@code -1}, если все требования выполнены.
+	 */
+	protected final int step(@NotNull final T target, final int measure)
+	{
+		final int index = this.indexOf(target, measure);
+
+		return index < 0 ? -1 : this.positions[index];
+	}
+
+	/**
+	 * Возвращает количество требований в порядке добавления.
+	 *
+	 * @return количество требований или {@code 1} у правила без требований.
+	 */
+	final int getStepCount()
+	{
+		return this.stepViolations.length;
+	}
+
+	/**
+	 * Возвращает нарушение требования.
+	 *
+	 * @param position позиция требования в порядке добавления.
+	 * @return нарушение требования.
+	 */
+	@NotNull
+	final Violation getStepViolation(final int position)
+	{
+		return this.stepViolations[position];
+	}
+
+	/**
+	 * Возвращает код нарушения для объекта {@code null}.
+	 *
+	 * @return код нарушения первого требования или код {@link Violation#NULL}, если требований нет.
+	 */
+	protected final int nullCode()
+	{
+		return this.nullViolation.getCode();
+	}
+
+	/**
+	 * Возвращает исключение для объекта {@code null}.
+	 *
+	 * @return исключение первого требования или {@link NullObjectCheckException}, если требований нет.
+	 */
+	@NotNull
+	protected final CheckException nullException()
+	{
+		return this.nullViolation.createException(null, this.nullMessage, this.stackless);
+	}
+
+	/**
+	 * Возвращает индекс первого невыполненного требования.
+	 *
+	 * @param target проверяемый объект.
+	 * @param measure величина объекта.
+	 * @return индекс требования или {@code -1}, если все требования выполнены.
+	 */
+	private int indexOf(@NotNull final T target, final int measure)
+	{
+		if (this.measured)
+		{
+			for (int index = 0; index < this.lows.length; index++)
+			{
+				if (Integer.compareUnsigned(measure - this.lows[index], this.spans[index]) <= 0) {
+					return index;
+				}
+			}
+
+			return -1;
+		}
+
+		for (int index = 0; index < this.violations.length; index++)
+		{
+			if (this.violates(index, target, measure)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Проверяет, не выполняет ли объект требование.
+	 *
+	 * @param index индекс требования.
+	 * @param target проверяемый объект.
+	 * @param measure величина объекта.
+	 * @return {@code true}, если объект не выполняет требование.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean violates(final int index, @NotNull final T target, final int measure)
+	{
+		return switch (this.violations[index])
+		{
+			case EQUALS -> target.equals(this.operands[index]);
+			case ILLEGAL -> ((Predicate<? super T>) this.operands[index]).test(target);
+			case BLANK -> ((String) target).isBlank();
+			default -> Integer.compareUnsigned(measure - this.lows[index], this.spans[index]) <= 0;
+		};
+	}
+
+	/**
+	 * Проверяет, сводится ли требование к запрещённому диапазону величины объекта.
+	 *
+	 * @param violation нарушение требования.
+	 * @return {@code true}, если требование относится к величине объекта.
+	 */
+	private static boolean isMeasured(@NotNull final Violation violation)
+	{
+		return violation != Violation.NULL && violation != Violation.EQUALS
+			&& violation != Violation.ILLEGAL && violation != Violation.BLANK;
+	}
+}
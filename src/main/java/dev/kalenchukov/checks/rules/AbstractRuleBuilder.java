@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Класс частичной реализации построителя правила проверки.
+ * <p>
+ * Построитель записывает требования в порядке их добавления и не является потокобезопасным.
+ * Построенное правило от построителя не зависит.
+ *
+ * @param <SELF> тип построителя.
+ * @param <T> тип проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public abstract class AbstractRuleBuilder<SELF extends AbstractRuleBuilder<SELF, T>, T>
+{
+	/**
+	 * Построитель.
+	 */
+	@NotNull
+	protected final SELF self;
+
+	/**
+	 * Требования в порядке добавления.
+	 */
+	@NotNull
+	private final List<Step> steps;
+
+	/**
+	 * Создаются ли исключения без трассировки стека.
+	 */
+	private boolean stackless;
+
+	/**
+	 * Конструирует построителя.
+	 */
+	protected AbstractRuleBuilder()
+	{
+		this.self = this.initSelf();
+		this.steps = new ArrayList<>();
+		this.stackless = false;
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не был {@code null}.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notNull()
+	{
+		return this.notNull((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не был {@code null}.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notNull(@Nullable final String message)
+	{
+		return this.add(Violation.NULL, 0, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не был равным.
+	 *
+	 * @param value объект для сравнения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notEquals(@NotNull final T value)
+	{
+		return this.notEquals(value, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не был равным.
+	 *
+	 * @param value объект для сравнения.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notEquals(@NotNull final T value, @Nullable final String message)
+	{
+		Objects.requireNonNull(value);
+
+		return this.add(Violation.EQUALS, 0, 0, value, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не удовлетворял условию.
+	 *
+	 * @param predicate условие.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF not(@NotNull final Predicate<? super T> predicate)
+	{
+		return this.not(predicate, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не удовлетворял условию.
+	 *
+	 * @param predicate условие.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF not(@NotNull final Predicate<? super T> predicate, @Nullable final String message)
+	{
+		Objects.requireNonNull(predicate);
+
+		return this.add(Violation.ILLEGAL, 0, 0, predicate, message);
+	}
+
+	/**
+	 * Включает создание исключений без трассировки стека у построенного правила.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF stackless()
+	{
+		this.stackless = true;
+
+		return this.self;
+	}
+
+	/**
+	 * Строит правило из добавленных требований.
+	 *
+	 * @return правило.
+	 */
+	@NotNull
+	public abstract Rule<T> build();
+
+	/**
+	 * Добавляет требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param first первая граница.
+	 * @param second вторая граница.
+	 * @param operand операнд.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	SELF add(@NotNull final Violation violation, final int first, final int second,
+			 @Nullable final Object operand, @Nullable final String message)
+	{
+		this.steps.add(new Step(violation, first, second, operand, message));
+
+		return this.self;
+	}
+
+	/**
+	 * Возвращает добавленные требования.
+	 *
+	 * @return требования в порядке добавления.
+	 */
+	@NotNull
+	List<Step> getSteps()
+	{
+		return this.steps;
+	}
+
+	/**
+	 * Возвращает режим создания исключений.
+	 *
+	 * @return {@code true}, если исключения создаются без трассировки стека.
+	 */
+	boolean isStackless()
+	{
+		return this.stackless;
+	}
+
+	/**
+	 * Инициализирует объект построителя.
+	 *
+	 * @return объект построителя.
+	 */
+	@NotNull
+	protected abstract SELF initSelf();
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Класс частичной реализации построителя правила проверки объектов, содержащих множество объектов.
+ *
+ * @param <SELF> тип построителя.
+ * @param <T> тип проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public abstract class AbstractSizeRuleBuilder<SELF extends AbstractSizeRuleBuilder<SELF, T>, T>
+	extends AbstractRuleBuilder<SELF, T>
+{
+	/**
+	 * Конструирует построителя.
+	 */
+	protected AbstractSizeRuleBuilder()
+	{
+		super();
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не был пустым.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notEmpty()
+	{
+		return this.notEmpty((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы объект не был пустым.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notEmpty(@Nullable final String message)
+	{
+		return this.add(Violation.EMPTY, 0, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не было равным.
+	 *
+	 * @param size количество элементов.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notSize(final int size)
+	{
+		return this.notSize(size, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не было равным.
+	 *
+	 * @param size количество элементов.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notSize(final int size, @Nullable final String message)
+	{
+		return this.add(Violation.SIZE, size, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не входило в диапазон.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notRangeSize(final int from, final int to)
+	{
+		return this.notRangeSize(from, to, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не входило в диапазон.
+	 *
+	 * @param from минимальное количество элементов (включительно).
+	 * @param to максимальное количество элементов (включительно).
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notRangeSize(final int from, final int to, @Nullable final String message)
+	{
+		return this.add(Violation.RANGE_SIZE, from, to, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не превышалось.
+	 *
+	 * @param size максимальное количество элементов.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notMoreSize(final int size)
+	{
+		return this.notMoreSize(size, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не превышалось.
+	 *
+	 * @param size максимальное количество элементов.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notMoreSize(final int size, @Nullable final String message)
+	{
+		return this.add(Violation.MORE_SIZE, size, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не принижалось.
+	 *
+	 * @param size минимальное количество элементов.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notLessSize(final int size)
+	{
+		return this.notLessSize(size, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество элементов объекта не принижалось.
+	 *
+	 * @param size минимальное количество элементов.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public SELF notLessSize(final int size, @Nullable final String message)
+	{
+		return this.add(Violation.LESS_SIZE, size, 0, null, message);
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс построителя правила проверки объектов типа {@code Object[]}.
+ *
+ * @param <E> тип элементов проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public final class ArrayRuleBuilder<E>
+	extends AbstractSizeRuleBuilder<ArrayRuleBuilder<E>, E[]>
+{
+	/**
+	 * Конструирует построителя.
+	 */
+	ArrayRuleBuilder()
+	{
+		super();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public ArrayRule<E> build()
+	{
+		return new ArrayRule<>(this.getSteps(), this.isStackless());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected ArrayRuleBuilder<E> initSelf()
+	{
+		return this;
+	}
+}
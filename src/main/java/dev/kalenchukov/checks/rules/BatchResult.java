@@ -0,0 +1,300 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Класс результата проверки множества объектов одним правилом.
+ * <p>
+ * Хранит позиции объектов, не выполнивших правило, в виде битовой карты, количество отказов
+ * по каждому требованию правила и по каждому нарушению. Исключения при проверке не создаются.
+ * <p>
+ * Требования различаются по позиции в порядке добавления в построитель, поэтому два требования
+ * с одним нарушением, например два запрещённых диапазона, считаются раздельно. Для правил,
+ * реализованных вне библиотеки, позиции требований неизвестны и считаются только нарушения.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class BatchResult
+{
+	/**
+	 * Количество проверенных объектов.
+	 */
+	private final int size;
+
+	/**
+	 * Позиции объектов, не выполнивших правило.
+	 */
+	@NotNull
+	private final BitSet failures;
+
+	/**
+	 * Количество отказов по кодам нарушений.
+	 */
+	private final int @NotNull [] counts;
+
+	/**
+	 * Количество отказов по позициям требований.
+	 */
+	private final int @NotNull [] stepCounts;
+
+	/**
+	 * Конструирует результат проверки.
+	 *
+	 * @param size количество проверенных объектов.
+	 * @param rule правило.
+	 */
+	private BatchResult(final int size, @NotNull final Rule<?> rule)
+	{
+		this.size = size;
+		this.failures = new BitSet(size);
+		this.counts = new int[Violation.values().length + 1];
+		this.stepCounts = new int[rule instanceof AbstractRule<?> built ? built.getStepCount() : 0];
+	}
+
+	/**
+	 * Проверяет объекты списка правилом.
+	 *
+	 * @param rule правило.
+	 * @param targets проверяемые объекты.
+	 * @return результат проверки.
+	 * @param <T> тип проверяемых объектов.
+	 */
+	@NotNull
+	static <T> BatchResult test(@NotNull final Rule<T> rule, @NotNull final List<? extends T> targets)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(targets);
+
+		final BatchResult result = new BatchResult(targets.size(), rule);
+
+		if (targets instanceof RandomAccess)
+		{
+			for (int index = 0; index < result.size; index++)
+			{
+				result.record(index, rule, targets.get(index));
+			}
+
+			return result;
+		}
+
+		final Iterator<? extends T> iterator = targets.iterator();
+
+		for (int index = 0; index < result.size; index++)
+		{
+			result.record(index, rule, iterator.next());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Проверяет объекты массива правилом.
+	 *
+	 * @param rule правило.
+	 * @param targets проверяемые объекты.
+	 * @return результат проверки.
+	 * @param <T> тип проверяемых объектов.
+	 */
+	@NotNull
+	static <T> BatchResult test(@NotNull final Rule<T> rule, final T @NotNull [] targets)
+	{
+		Objects.requireNonNull(rule);
+		Objects.requireNonNull(targets);
+
+		final BatchResult result = new BatchResult(targets.length, rule);
+
+		for (int index = 0; index < targets.length; index++)
+		{
+			result.record(index, rule, targets[index]);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Возвращает количество проверенных объектов.
+	 *
+	 * @return количество объектов.
+	 */
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Проверяет, выполнили ли правило все объекты.
+	 *
+	 * @return {@code true}, если отказов нет.
+	 */
+	public boolean isValid()
+	{
+		return this.failures.isEmpty();
+	}
+
+	/**
+	 * Проверяет, не выполнил ли правило объект.
+	 *
+	 * @param index позиция объекта.
+	 * @return {@code true}, если объект не выполнил правило.
+	 * @throws IndexOutOfBoundsException если позиция выходит за пределы проверенных объектов.
+	 */
+	public boolean isFailed(final int index)
+	{
+		Objects.checkIndex(index, this.size);
+
+		return this.failures.get(index);
+	}
+
+	/**
+	 * Возвращает позицию следующего объекта, не выполнившего правило.
+	 * <p>
+	 * Позволяет обойти отказы без копирования битовой карты:
+	 * <pre>{@code
+	 * for (int index = result.nextFailure(0); index >= 0; index = result.nextFailure(index + 1))
+	 * }</pre>
+	 *
+	 * @param fromIndex позиция, с которой начинается поиск (включительно).
+	 * @return позицию объекта или {@code -1}, если таких объектов больше нет.
+	 * @throws IndexOutOfBoundsException если позиция отрицательна.
+	 */
+	public int nextFailure(final int fromIndex)
+	{
+		return this.failures.nextSetBit(fromIndex);
+	}
+
+	/**
+	 * Возвращает количество объектов, не выполнивших правило.
+	 *
+	 * @return количество отказов.
+	 */
+	public int getFailureCount()
+	{
+		return this.failures.cardinality();
+	}
+
+	/**
+	 * Возвращает количество объектов, первым невыполненным требованием которых стало нарушение.
+	 *
+	 * @param violation нарушение требования.
+	 * @return количество отказов.
+	 */
+	public int getFailureCount(@NotNull final Violation violation)
+	{
+		Objects.requireNonNull(violation);
+
+		return this.counts[violation.getCode()];
+	}
+
+	/**
+	 * Возвращает количество требований правила, по которым ведётся учёт отказов.
+	 *
+	 * @return количество требований в порядке добавления, {@code 1} у правила без требований
+	 * или {@code 0} у правила, реализованного вне библиотеки.
+	 */
+	public int getStepCount()
+	{
+		return this.stepCounts.length;
+	}
+
+	/**
+	 * Возвращает количество объектов, первым невыполненным требованием которых стало требование правила.
+	 * <p>
+	 * Объект {@code null} не выполняет первое требование. У правила без требований
+	 * объекты {@code null} учитываются под позицией {@code 0}.
+	 *
+	 * @param step позиция требования в порядке добавления в построитель.
+	 * @return количество отказов.
+	 * @throws IndexOutOfBoundsException если позиция выходит за пределы {@link #getStepCount()}.
+	 */
+	public int getStepFailureCount(final int step)
+	{
+		Objects.checkIndex(step, this.stepCounts.length);
+
+		return this.stepCounts[step];
+	}
+
+	/**
+	 * Возвращает позиции объектов, не выполнивших правило.
+	 *
+	 * @return копию битовой карты отказов.
+	 */
+	@NotNull
+	public BitSet getFailures()
+	{
+		return (BitSet) this.failures.clone();
+	}
+
+	/**
+	 * Возвращает позиции объектов, не выполнивших правило, в виде массива.
+	 * <p>
+	 * Бит {@code index % 64} элемента {@code index / 64} установлен, если объект не выполнил правило.
+	 *
+	 * @return битовую карту отказов.
+	 */
+	public long @NotNull [] toLongArray()
+	{
+		return this.failures.toLongArray();
+	}
+
+	/**
+	 * Проверяет объект правилом и записывает результат.
+	 *
+	 * @param index позиция объекта.
+	 * @param rule правило.
+	 * @param target проверяемый объект.
+	 * @param <T> тип проверяемого объекта.
+	 */
+	private <T> void record(final int index, @NotNull final Rule<T> rule, @Nullable final T target)
+	{
+		if (rule instanceof AbstractRule<T> built)
+		{
+			final int step = built.step(target);
+
+			if (step < 0) {
+				return;
+			}
+
+			this.failures.set(index);
+			this.stepCounts[step]++;
+			this.counts[built.getStepViolation(step).getCode()]++;
+
+			return;
+		}
+
+		final int code = rule.test(target);
+
+		if (code == 0) {
+			return;
+		}
+
+		this.failures.set(index);
+		this.counts[code]++;
+	}
+}
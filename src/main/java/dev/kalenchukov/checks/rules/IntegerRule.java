@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Класс правила проверки объектов типа {@code Integer}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class IntegerRule
+	extends AbstractRule<Integer>
+{
+	/**
+	 * Конструирует правило.
+	 *
+	 * @param steps требования в порядке добавления.
+	 * @param stackless {@code true}, если исключения создаются без трассировки стека.
+	 */
+	IntegerRule(@NotNull final List<Step> steps, final boolean stackless)
+	{
+		super(steps, stackless);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param target {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Integer check(@Nullable final Integer target)
+	{
+		if (target == null) {
+			throw this.nullException();
+		}
+
+		return this.check(target, target);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param target {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int test(@Nullable final Integer target)
+	{
+		if (target == null) {
+			return this.nullCode();
+		}
+
+		return this.test(target, target);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param target {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	int step(@Nullable final Integer target)
+	{
+		if (target == null) {
+			return 0;
+		}
+
+		return this.step(target, target);
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Класс построителя правила проверки объектов типа {@code Integer}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class IntegerRuleBuilder
+	extends AbstractRuleBuilder<IntegerRuleBuilder, Integer>
+{
+	/**
+	 * Конструирует построителя.
+	 */
+	IntegerRuleBuilder()
+	{
+		super();
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было равным нулю.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notZero()
+	{
+		return this.notZero((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было равным нулю.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notZero(@Nullable final String message)
+	{
+		return this.add(Violation.ZERO_NUMBER, 0, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было отрицательным числом.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notNegative()
+	{
+		return this.notNegative((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было отрицательным числом.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notNegative(@Nullable final String message)
+	{
+		return this.add(Violation.NEGATIVE_NUMBER, 0, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было положительным числом.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notPositive()
+	{
+		return this.notPositive((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было положительным числом.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notPositive(@Nullable final String message)
+	{
+		return this.add(Violation.POSITIVE_NUMBER, 0, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было больше числа.
+	 *
+	 * @param number число.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notMoreNumber(final int number)
+	{
+		return this.notMoreNumber(number, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было больше числа.
+	 *
+	 * @param number число.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notMoreNumber(final int number, @Nullable final String message)
+	{
+		return this.add(Violation.MORE_NUMBER, number, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было меньше числа.
+	 *
+	 * @param number число.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notLessNumber(final int number)
+	{
+		return this.notLessNumber(number, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было меньше числа.
+	 *
+	 * @param number число.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notLessNumber(final int number, @Nullable final String message)
+	{
+		return this.add(Violation.LESS_NUMBER, number, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не входило в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notRangeNumber(final int from, final int to)
+	{
+		return this.notRangeNumber(from, to, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не входило в диапазон чисел.
+	 *
+	 * @param from минимальное число (включительно).
+	 * @param to максимальное число (включительно).
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public IntegerRuleBuilder notRangeNumber(final int from, final int to, @Nullable final String message)
+	{
+		return this.add(Violation.RANGE_NUMBER, from, to, null, message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public IntegerRule build()
+	{
+		return new IntegerRule(this.getSteps(), this.isStackless());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected IntegerRuleBuilder initSelf()
+	{
+		return this;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Класс построителя правила проверки объектов типа {@code Map}.
+ *
+ * @param <K> тип ключей проверяемого объекта.
+ * @param <V> тип значений проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public final class MapRuleBuilder<K, V>
+	extends AbstractSizeRuleBuilder<MapRuleBuilder<K, V>, Map<K, V>>
+{
+	/**
+	 * Конструирует построителя.
+	 */
+	MapRuleBuilder()
+	{
+		super();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public MapRule<K, V> build()
+	{
+		return new MapRule<>(this.getSteps(), this.isStackless());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected MapRuleBuilder<K, V> initSelf()
+	{
+		return this;
+	}
+}
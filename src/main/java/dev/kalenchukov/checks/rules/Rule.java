@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.CheckException;
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Интерфейс для реализации правила проверки.
+ * <p>
+ * Правило неизменяемо и может применяться к любому количеству объектов из разных потоков.
+ *
+ * @param <T> тип проверяемого объекта.
+ * @author Алексей Каленчуков
+ */
+public interface Rule<T>
+{
+	/**
+	 * Проверяет объект на соответствие всем требованиям правила в порядке их добавления.
+	 * <p>
+	 * Объект {@code null} не выполняет первое требование правила,
+	 * а у правила без требований вызывает {@link dev.kalenchukov.checks.exceptions.NullObjectCheckException}.
+	 *
+	 * @param target проверяемый объект.
+	 * @return проверяемый объект.
+	 * @throws CheckException если объект не выполняет требование.
+	 */
+	@NotNull
+	T check(@Nullable T target);
+
+	/**
+	 * Проверяет объект на соответствие всем требованиям правила без вызова исключения.
+	 * <p>
+	 * Исключение не создаётся, поэтому метод подходит для частых отказов. Нарушение можно получить
+	 * по коду методом {@link Violation#ofCode(int)} и при необходимости создать исключение самостоятельно.
+	 *
+	 * @param target проверяемый объект.
+	 * @return код нарушения первого невыполненного требования или {@code 0}, если все требования выполнены.
+	 */
+	int test(@Nullable T target);
+
+	/**
+	 * Проверяет каждый объект списка на соответствие всем требованиям правила без вызова исключений.
+	 * <p>
+	 * Проверка не останавливается на первом отказе, а возвращает позиции всех объектов,
+	 * не выполнивших правило, и количество отказов по требованиям и нарушениям.
+	 *
+	 * @param targets проверяемые объекты.
+	 * @return результат проверки.
+	 */
+	@NotNull
+	default BatchResult testAll(@NotNull final List<? extends T> targets)
+	{
+		return BatchResult.test(this, targets);
+	}
+
+	/**
+	 * Проверяет каждый объект массива на соответствие всем требованиям правила без вызова исключений.
+	 * <p>
+	 * Проверка не останавливается на первом отказе, а возвращает позиции всех объектов,
+	 * не выполнивших правило, и количество отказов по требованиям и нарушениям.
+	 *
+	 * @param targets проверяемые объекты.
+	 * @return результат проверки.
+	 */
+	@NotNull
+	default BatchResult testAll(final T @NotNull [] targets)
+	{
+		return BatchResult.test(this, targets);
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс статических методов для создания построителей правил проверки.
+ * <p>
+ * Правило строится один раз и затем применяется к любому количеству объектов:
+ * <pre>{@code
+ * StringRule rule = Rules.string().notBlank().notMoreLength(64).build();
+ * rule.check(value);
+ * }</pre>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Rules
+{
+	/**
+	 * Конструирует создание построителей.
+	 */
+	private Rules() {}
+
+	/**
+	 * Создаёт построителя правила проверки объектов типа {@code String}.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public static StringRuleBuilder string()
+	{
+		return new StringRuleBuilder();
+	}
+
+	/**
+	 * Создаёт построителя правила проверки объектов типа {@code Integer}.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public static IntegerRuleBuilder integer()
+	{
+		return new IntegerRuleBuilder();
+	}
+
+	/**
+	 * Создаёт построителя правила проверки объектов типа {@code List}.
+	 *
+	 * @return построитель правила.
+	 * @param <E> тип элементов проверяемого объекта.
+	 */
+	@NotNull
+	public static <E> ListRuleBuilder<E> list()
+	{
+		return new ListRuleBuilder<>();
+	}
+
+	/**
+	 * Создаёт построителя правила проверки объектов типа {@code Map}.
+	 *
+	 * @return построитель правила.
+	 * @param <K> тип ключей проверяемого объекта.
+	 * @param <V> тип значений проверяемого объекта.
+	 */
+	@NotNull
+	public static <K, V> MapRuleBuilder<K, V> map()
+	{
+		return new MapRuleBuilder<>();
+	}
+
+	/**
+	 * Создаёт построителя правила проверки объектов типа {@code Object[]}.
+	 *
+	 * @return построитель правила.
+	 * @param <E> тип элементов проверяемого объекта.
+	 */
+	@NotNull
+	public static <E> ArrayRuleBuilder<E> array()
+	{
+		return new ArrayRuleBuilder<>();
+	}
+
+	/**
+	 * Создаёт построителя правила проверки объектов типа {@code Object}.
+	 *
+	 * @return построитель правила.
+	 * @param <T> тип проверяемого объекта.
+	 */
+	@NotNull
+	public static <T> ObjectRuleBuilder<T> object()
+	{
+		return new ObjectRuleBuilder<>();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Класс требования, записанного построителем правила.
+ *
+ * @author Алексей Каленчуков
+ */
+final class Step
+{
+	/**
+	 * Требование.
+	 */
+	@NotNull
+	private final Violation violation;
+
+	/**
+	 * Первая граница.
+	 */
+	private final int first;
+
+	/**
+	 * Вторая граница.
+	 */
+	private final int second;
+
+	/**
+	 * Операнд.
+	 */
+	@Nullable
+	private final Object operand;
+
+	/**
+	 * Сообщение исключения.
+	 */
+	@Nullable
+	private final String message;
+
+	/**
+	 * Конструирует требование.
+	 *
+	 * @param violation нарушение требования.
+	 * @param first первая граница.
+	 * @param second вторая граница.
+	 * @param operand операнд.
+	 * @param message сообщение исключения.
+	 */
+	Step(@NotNull final Violation violation, final int first, final int second,
+		 @Nullable final Object operand, @Nullable final String message)
+	{
+		this.violation = violation;
+		this.first = first;
+		this.second = second;
+		this.operand = operand;
+		this.message = message;
+	}
+
+	/**
+	 * Возвращает требование.
+	 *
+	 * @return требование.
+	 */
+	@NotNull
+	Violation getViolation()
+	{
+		return this.violation;
+	}
+
+	/**
+	 * Возвращает первую границу.
+	 *
+	 * @return первая граница.
+	 */
+	int getFirst()
+	{
+		return this.first;
+	}
+
+	/**
+	 * Возвращает вторую границу.
+	 *
+	 * @return вторая граница.
+	 */
+	int getSecond()
+	{
+		return this.second;
+	}
+
+	/**
+	 * Возвращает операнд.
+	 *
+	 * @return операнд.
+	 */
+	@Nullable
+	Object getOperand()
+	{
+		return this.operand;
+	}
+
+	/**
+	 * Возвращает сообщение исключения.
+	 *
+	 * @return сообщение исключения.
+	 */
+	@Nullable
+	String getMessage()
+	{
+		return this.message;
+	}
+}
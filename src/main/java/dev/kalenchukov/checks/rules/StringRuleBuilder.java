@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Класс построителя правила проверки объектов типа {@code String}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class StringRuleBuilder
+	extends AbstractRuleBuilder<StringRuleBuilder, String>
+{
+	/**
+	 * Конструирует построителя.
+	 */
+	StringRuleBuilder()
+	{
+		super();
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было пустым.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notEmpty()
+	{
+		return this.notEmpty((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было пустым.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notEmpty(@Nullable final String message)
+	{
+		return this.add(Violation.EMPTY, 0, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не было равным.
+	 *
+	 * @param length количество символов.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notLength(final int length)
+	{
+		return this.notLength(length, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не было равным.
+	 *
+	 * @param length количество символов.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notLength(final int length, @Nullable final String message)
+	{
+		return this.add(Violation.LENGTH, length, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не входило в диапазон.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notRangeLength(final int from, final int to)
+	{
+		return this.notRangeLength(from, to, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не входило в диапазон.
+	 *
+	 * @param from минимальное количество символов (включительно).
+	 * @param to максимальное количество символов (включительно).
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notRangeLength(final int from, final int to, @Nullable final String message)
+	{
+		return this.add(Violation.RANGE_LENGTH, from, to, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не превышалось.
+	 *
+	 * @param length максимальное количество символов.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notMoreLength(final int length)
+	{
+		return this.notMoreLength(length, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не превышалось.
+	 *
+	 * @param length максимальное количество символов.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notMoreLength(final int length, @Nullable final String message)
+	{
+		return this.add(Violation.MORE_LENGTH, length, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не принижалось.
+	 *
+	 * @param length минимальное количество символов.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notLessLength(final int length)
+	{
+		return this.notLessLength(length, (String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы количество символов объекта не принижалось.
+	 *
+	 * @param length минимальное количество символов.
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notLessLength(final int length, @Nullable final String message)
+	{
+		return this.add(Violation.LESS_LENGTH, length, 0, null, message);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было пустым с игнорированием белых символов.
+	 *
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notBlank()
+	{
+		return this.notBlank((String) null);
+	}
+
+	/**
+	 * Добавляет требование, чтобы значение объекта не было пустым с игнорированием белых символов.
+	 *
+	 * @param message сообщение исключения.
+	 * @return построитель правила.
+	 */
+	@NotNull
+	public StringRuleBuilder notBlank(@Nullable final String message)
+	{
+		return this.add(Violation.BLANK, 0, 0, null, message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public StringRule build()
+	{
+		return new StringRule(this.getSteps(), this.isStackless());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	protected StringRuleBuilder initSelf()
+	{
+		return this;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.spi;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Интерфейс для реализации ускоренного поиска некорректных элементов в массивах примитивов.
+ * <p>
+ * Реализация подключается через {@link java.util.ServiceLoader}: библиотека использует первую найденную,
+ * если её удалось создать, и вызывает её только для массивов от 64 элементов.
+ * Результат каждого метода должен совпадать с результатом простого поэлементного просмотра.
+ *
+ * @author Алексей Каленчуков
+ */
+public interface ArrayScanner
+{
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	int indexOfOutRange(int @NotNull [] array, int from, int to);
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	int indexOfOutRange(long @NotNull [] array, long from, long to);
+
+	/**
+	 * Ищет первый элемент массива, не входящий в диапазон.
+	 * <p>
+	 * Значение {@code NaN} не входит ни в один диапазон.
+	 *
+	 * @param array массив.
+	 * @param from минимальное значение (включительно).
+	 * @param to максимальное значение (включительно).
+	 * @return позицию элемента или {@code -1}, если все элементы входят в диапазон.
+	 */
+	int indexOfOutRange(double @NotNull [] array, double from, double to);
+
+	/**
+	 * Ищет первый отрицательный элемент массива.
+	 * <p>
+	 * Значения {@code NaN} и {@code -0.0} отрицательными не считаются.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если отрицательных элементов нет.
+	 */
+	int indexOfNegative(double @NotNull [] array);
+
+	/**
+	 * Ищет первый элемент массива со значением {@code NaN}.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если таких элементов нет.
+	 */
+	int indexOfNaN(double @NotNull [] array);
+
+	/**
+	 * Ищет первый элемент массива, равный нулю.
+	 * <p>
+	 * Значение {@code -0.0} также считается нулём.
+	 *
+	 * @param array массив.
+	 * @return позицию элемента или {@code -1}, если таких элементов нет.
+	 */
+	int indexOfZero(double @NotNull [] array);
+}
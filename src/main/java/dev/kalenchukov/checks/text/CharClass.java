@@ -0,0 +1,253 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.text;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Класс набора символов ASCII.
+ * <p>
+ * Набор хранится 128-битной таблицей из двух значений типа {@code long}, поэтому проверка символа
+ * сводится к сдвигу и маске без ветвлений по диапазонам. Если символы набора идут подряд, как у цифр
+ * или всего ASCII, символ проверяется сравнением с границами, которое выполняется быстрее сдвига.
+ * Символы вне ASCII в набор не входят.
+ * Набор неизменяем и может использоваться несколькими потоками.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class CharClass
+{
+	/**
+	 * Набор всех символов ASCII.
+	 */
+	@NotNull
+	public static final CharClass ASCII = new CharClass(-1L, -1L);
+
+	/**
+	 * Набор десятичных цифр {@code 0-9}.
+	 */
+	@NotNull
+	public static final CharClass DIGITS = CharClass.range('0', '9');
+
+	/**
+	 * Набор шестнадцатеричных цифр {@code 0-9}, {@code A-F} и {@code a-f}.
+	 */
+	@NotNull
+	public static final CharClass HEX_DIGITS = DIGITS.union(CharClass.range('A', 'F')).union(CharClass.range('a', 'f'));
+
+	/**
+	 * Набор латинских букв и десятичных цифр {@code A-Z}, {@code a-z} и {@code 0-9}.
+	 */
+	@NotNull
+	public static final CharClass ALPHANUMERIC = DIGITS.union(CharClass.range('A', 'Z')).union(CharClass.range('a', 'z'));
+
+	/**
+	 * Биты символов с кодами от 0 до 63.
+	 */
+	private final long low;
+
+	/**
+	 * Биты символов с кодами от 64 до 127.
+	 */
+	private final long high;
+
+	/**
+	 * Первый символ набора, если символы набора идут подряд, иначе {@code -1}.
+	 */
+	private final int first;
+
+	/**
+	 * Последний символ набора, если символы набора идут подряд, иначе {@code -1}.
+	 */
+	private final int last;
+
+	/**
+	 * Конструирует набор символов.
+	 *
+	 * @param low биты символов с кодами от 0 до 63.
+	 * @param high биты символов с кодами от 64 до 127.
+	 */
+	private CharClass(final long low, final long high)
+	{
+		this.low = low;
+		this.high = high;
+
+		final int count = Long.bitCount(low) + Long.bitCount(high);
+		final int first = low != 0 ? Long.numberOfTrailingZeros(low) : 64 + Long.numberOfTrailingZeros(high);
+		final int last = high != 0 ? 127 - Long.numberOfLeadingZeros(high) : 63 - Long.numberOfLeadingZeros(low);
+
+		if (count > 0 && last - first + 1 == count) {
+			this.first = first;
+			this.last = last;
+
+			return;
+		}
+
+		this.first = -1;
+		this.last = -1;
+	}
+
+	/**
+	 * Создаёт набор из перечисленных символов.
+	 *
+	 * @param chars символы.
+	 * @return набор символов.
+	 * @throws IllegalArgumentException если символ не входит в ASCII.
+	 */
+	@NotNull
+	public static CharClass of(@NotNull final CharSequence chars)
+	{
+		Objects.requireNonNull(chars);
+
+		long low = 0L;
+		long high = 0L;
+
+		for (int index = 0; index < chars.length(); index++)
+		{
+			final char symbol = CharClass.requireAscii(chars.charAt(index));
+
+			if (symbol < 64) {
+				low |= 1L << symbol;
+
+				continue;
+			}
+
+			high |= 1L << (symbol - 64);
+		}
+
+		return new CharClass(low, high);
+	}
+
+	/**
+	 * Создаёт набор из диапазона символов.
+	 *
+	 * @param from первый символ (включительно).
+	 * @param to последний символ (включительно).
+	 * @return набор символов.
+	 * @throws IllegalArgumentException если символ не входит в ASCII или первый символ больше последнего.
+	 */
+	@NotNull
+	public static CharClass range(final char from, final char to)
+	{
+		CharClass.requireAscii(from);
+		CharClass.requireAscii(to);
+
+		if (from > to) {
+			throw new IllegalArgumentException();
+		}
+
+		long low = 0L;
+		long high = 0L;
+
+		for (int symbol = from; symbol <= to; symbol++)
+		{
+			if (symbol < 64) {
+				low |= 1L << symbol;
+
+				continue;
+			}
+
+			high |= 1L << (symbol - 64);
+		}
+
+		return new CharClass(low, high);
+	}
+
+	/**
+	 * Создаёт объединение наборов символов.
+	 *
+	 * @param other набор символов.
+	 * @return набор символов, входящих в любой из наборов.
+	 */
+	@NotNull
+	public CharClass union(@NotNull final CharClass other)
+	{
+		Objects.requireNonNull(other);
+
+		return new CharClass(this.low | other.low, this.high | other.high);
+	}
+
+	/**
+	 * Проверяет, входит ли символ в набор.
+	 *
+	 * @param symbol символ.
+	 * @return {@code true}, если символ входит в набор.
+	 */
+	public boolean contains(final char symbol)
+	{
+		if (this.first >= 0) {
+			return symbol >= this.first && symbol <= this.last;
+		}
+
+		return symbol < 128 && (((symbol < 64 ? this.low : this.high) >>> symbol) & 1L) != 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param object {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(@Nullable final Object object)
+	{
+		if (this == object) {
+			return true;
+		}
+
+		if (object == null || this.getClass() != object.getClass()) {
+			return false;
+		}
+
+		final CharClass other = (CharClass) object;
+
+		return this.low == other.low && this.high == other.high;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int hashCode()
+	{
+		return Long.hashCode(this.low) * 31 + Long.hashCode(this.high);
+	}
+
+	/**
+	 * Проверяет, входит ли символ в ASCII.
+	 *
+	 * @param symbol символ.
+	 * @return символ.
+	 * @throws IllegalArgumentException если символ не входит в ASCII.
+	 */
+	private static char requireAscii(final char symbol)
+	{
+		if (symbol >= 128) {
+			throw new IllegalArgumentException();
+		}
+
+		return symbol;
+	}
+}
@@ -8,4 +8,9 @@ module dev.kalenchukov.checks
 	exports dev.kalenchukov.checks;
 	exports dev.kalenchukov.checks.exceptions;
 	exports dev.kalenchukov.checks.handlers;
+	exports dev.kalenchukov.checks.rules;
+	exports dev.kalenchukov.checks.spi;
+	exports dev.kalenchukov.checks.text;
+
+	uses dev.kalenchukov.checks.spi.ArrayScanner;
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +43,137 @@ public class ChecksTest
 	@Nested
 	public class Static
 	{
+		/**
+		 * Класс проверки метода {@link Checks#require(int)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithInt
+		{
+			/**
+			 * Проверка метода {@link Checks#require(int)} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				int object = 1;
+				IntCheck expected = new IntCheck(object);
+
+				IntCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(char)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithChar
+		{
+			/**
+			 * Проверка метода {@link Checks#require(char)} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				char object = 'a';
+				ObjectCheck<Character> expected = new ObjectCheck<>(object);
+
+				ObjectCheck<Character> actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(char)} с сохранением типа значения.
+			 */
+			@Test
+			public void checkType()
+			{
+				char expected = 'a';
+
+				char actual = Checks.require('a').get();
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(short)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithShort
+		{
+			/**
+			 * Проверка метода {@link Checks#require(short)} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				short object = (short) 1;
+				ObjectCheck<Short> expected = new ObjectCheck<>(object);
+
+				ObjectCheck<Short> actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(short)} с сохранением типа значения.
+			 */
+			@Test
+			public void checkType()
+			{
+				short expected = (short) 1;
+
+				short actual = Checks.require((short) 1).get();
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(byte)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithByte
+		{
+			/**
+			 * Проверка метода {@link Checks#require(byte)} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				byte object = (byte) 1;
+				ObjectCheck<Byte> expected = new ObjectCheck<>(object);
+
+				ObjectCheck<Byte> actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(byte)} с сохранением типа значения.
+			 */
+			@Test
+			public void checkType()
+			{
+				byte expected = (byte) 1;
+
+				byte actual = Checks.require((byte) 1).get();
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
 		/**
 		 * Класс проверки метода {@link Checks#require(Integer)}.
 		 *
@@ -453,6 +585,237 @@ public class ChecksTest
 			}
 		}
 
+		/**
+		 * Класс проверки метода {@link Checks#require(int[])}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithIntArray
+		{
+			/**
+			 * Проверка метода {@link Checks#require(int[])} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				int[] object = new int[]{1, 2};
+				IntArrayCheck expected = new IntArrayCheck(object);
+
+				IntArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(int[])} с корректным значением в виде {@code null}.
+			 */
+			@Test
+			public void checkWithNull()
+			{
+				int[] object = null;
+				IntArrayCheck expected = new IntArrayCheck(object);
+
+				IntArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(long[])}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithLongArray
+		{
+			/**
+			 * Проверка метода {@link Checks#require(long[])} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				long[] object = new long[]{1L, 2L};
+				LongArrayCheck expected = new LongArrayCheck(object);
+
+				LongArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(long[])} с корректным значением в виде {@code null}.
+			 */
+			@Test
+			public void checkWithNull()
+			{
+				long[] object = null;
+				LongArrayCheck expected = new LongArrayCheck(object);
+
+				LongArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(double[])}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithDoubleArray
+		{
+			/**
+			 * Проверка метода {@link Checks#require(double[])} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				double[] object = new double[]{1.0, 2.0};
+				DoubleArrayCheck expected = new DoubleArrayCheck(object);
+
+				DoubleArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(double[])} с корректным значением в виде {@code null}.
+			 */
+			@Test
+			public void checkWithNull()
+			{
+				double[] object = null;
+				DoubleArrayCheck expected = new DoubleArrayCheck(object);
+
+				DoubleArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(byte[])}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithByteArray
+		{
+			/**
+			 * Проверка метода {@link Checks#require(byte[])} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				byte[] object = new byte[]{1, 2};
+				ByteArrayCheck expected = new ByteArrayCheck(object);
+
+				ByteArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(byte[])} с корректным значением в виде {@code null}.
+			 */
+			@Test
+			public void checkWithNull()
+			{
+				byte[] object = null;
+				ByteArrayCheck expected = new ByteArrayCheck(object);
+
+				ByteArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#require(char[])}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireWithCharArray
+		{
+			/**
+			 * Проверка метода {@link Checks#require(char[])} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				char[] object = new char[]{'к', 'и'};
+				CharArrayCheck expected = new CharArrayCheck(object);
+
+				CharArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+
+			/**
+			 * Проверка метода {@link Checks#require(char[])} с корректным значением в виде {@code null}.
+			 */
+			@Test
+			public void checkWithNull()
+			{
+				char[] object = null;
+				CharArrayCheck expected = new CharArrayCheck(object);
+
+				CharArrayCheck actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#requireIterable(Iterable)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireIterable
+		{
+			/**
+			 * Проверка метода {@link Checks#requireIterable(Iterable)} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				Iterable<Integer> object = List.of(1, 2)::iterator;
+				IterableCheck<Integer> expected = new IterableCheck<>(object);
+
+				IterableCheck<Integer> actual = Checks.requireIterable(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#requireIterator(Iterator)}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class RequireIterator
+		{
+			/**
+			 * Проверка метода {@link Checks#requireIterator(Iterator)} с корректным значением.
+			 */
+			@Test
+			public void checkValid()
+			{
+				Iterator<Integer> object = List.of(1, 2).iterator();
+				IteratorCheck<Integer> expected = new IteratorCheck<>(object);
+
+				IteratorCheck<Integer> actual = Checks.requireIterator(object);
+
+				assertThat(actual).isEqualTo(expected);
+			}
+		}
+
 		/**
 		 * Класс проверки метода {@link Checks#require(Object)}.
 		 *
@@ -488,6 +851,63 @@ public class ChecksTest
 
 				assertThat(actual).isEqualTo(expected);
 			}
+
+			/**
+			 * Проверка метода {@link Checks#require(Object)} с объектом, реализующим {@code Iterable}.
+			 */
+			@Test
+			public void checkWithPath()
+			{
+				Path object = Path.of("kino", "zvezda-po-imeni-solntse.txt");
+				ObjectCheck<Path> expected = new ObjectCheck<>(object);
+
+				ObjectCheck<Path> actual = Checks.require(object);
+
+				assertThat(actual).isEqualTo(expected);
+				assertThat(Checks.require(object).notNull().get()).isSameAs(object);
+			}
+		}
+
+		/**
+		 * Класс проверки метода {@link Checks#patternCacheStatistics()}.
+		 *
+		 * @author Алексей Каленчуков
+		 */
+		@Nested
+		public class PatternCacheStatisticsSnapshot
+		{
+			/**
+			 * Проверка метода {@link Checks#patternCacheStatistics()} после промаха и попадания.
+			 */
+			@Test
+			public void patternCacheStatisticsCounted()
+			{
+				PatternCacheStatistics before = Checks.patternCacheStatistics();
+
+				Checks.require("Группа крови").matches("[А-я ]+ крови");
+				Checks.require("Группа крови").matches("[А-я ]+ крови");
+
+				PatternCacheStatistics actual = Checks.patternCacheStatistics();
+
+				assertThat(actual.getMissCount()).isEqualTo(before.getMissCount() + 1);
+				assertThat(actual.getHitCount()).isEqualTo(before.getHitCount() + 1);
+				assertThat(actual.getSize()).isPositive();
+			}
+
+			/**
+			 * Проверка неизменности статистики, полученной методом {@link Checks#patternCacheStatistics()}.
+			 */
+			@Test
+			public void patternCacheStatisticsSnapshot()
+			{
+				PatternCacheStatistics actual = Checks.patternCacheStatistics();
+				long hitCount = actual.getHitCount();
+
+				Checks.require("Кукушка").matches("[А-я]+");
+				Checks.require("Кукушка").matches("[А-я]+");
+
+				assertThat(actual.getHitCount()).isEqualTo(hitCount);
+			}
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link Requires}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class RequiresTest
+{
+	/**
+	 * Класс проверки метода {@link Requires#notNull(Object)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotNull
+	{
+		/**
+		 * Проверка метода {@link Requires#notNull(Object)} с корректным значением.
+		 */
+		@Test
+		public void notNullValid()
+		{
+			Object object = new Object();
+
+			Object actual = Requires.notNull(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notNull(Object, String)} с некорректным значением.
+		 */
+		@Test
+		public void notNullInvalid()
+		{
+			Object object = null;
+			String message = "Я искал здесь вино, а нашёл третий глаз...";
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> Requires.notNull(object, message))
+				.withMessage(message);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link Requires#notEquals(Object, Object)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEquals
+	{
+		/**
+		 * Проверка метода {@link Requires#notEquals(Object, Object)} с корректным значением.
+		 */
+		@Test
+		public void notEqualsValid()
+		{
+			String object = "Апрель";
+
+			String actual = Requires.notEquals(object, "Май");
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notEquals(Object, Object)} с некорректным значением.
+		 */
+		@Test
+		public void notEqualsInvalid()
+		{
+			String object = "Апрель";
+
+			assertThatExceptionOfType(EqualsObjectCheckException.class)
+				.isThrownBy(() -> Requires.notEquals(object, "Апрель"));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link Requires#not(Object, Predicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Not
+	{
+		/**
+		 * Проверка метода {@link Requires#not(Object, Predicate)} с некорректным значением.
+		 */
+		@Test
+		public void notInvalid()
+		{
+			String object = "12345";
+			Predicate<String> predicate = (value) -> value.matches("[0-9]+");
+
+			assertThatExceptionOfType(IllegalObjectCheckException.class)
+				.isThrownBy(() -> Requires.not(object, predicate));
+		}
+	}
+
+	/**
+	 * Класс проверки методов количества символов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Length
+	{
+		/**
+		 * Проверка метода {@link Requires#notRangeLength(CharSequence, int, int)} с корректным значением.
+		 */
+		@Test
+		public void notRangeLengthValid()
+		{
+			String object = "Малыш";
+
+			String actual = Requires.notRangeLength(object, 1, 4);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notRangeLength(CharSequence, int, int)} с некорректным значением.
+		 */
+		@Test
+		public void notRangeLengthInvalid()
+		{
+			String object = "Малыш";
+
+			assertThatExceptionOfType(RangeLengthObjectCheckException.class)
+				.isThrownBy(() -> Requires.notRangeLength(object, 1, 5));
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notMoreLength(CharSequence, int)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notMoreLengthWithNull()
+		{
+			String object = null;
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> Requires.notMoreLength(object, 5));
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notBlank(String)} с некорректным значением.
+		 */
+		@Test
+		public void notBlankInvalid()
+		{
+			String object = " \t ";
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(() -> Requires.notBlank(object));
+		}
+	}
+
+	/**
+	 * Класс проверки методов количества элементов.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Size
+	{
+		/**
+		 * Проверка метода {@link Requires#notEmpty(java.util.Collection)} с некорректным значением.
+		 */
+		@Test
+		public void notEmptyCollectionInvalid()
+		{
+			List<String> object = List.of();
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(() -> Requires.notEmpty(object));
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notMoreSize(Map, int)} с некорректным значением.
+		 */
+		@Test
+		public void notMoreSizeMapInvalid()
+		{
+			Map<Integer, String> object = Map.of(1, "Нам с тобой", 2, "Звезда", 3, "Следи за собой");
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> Requires.notMoreSize(object, 2));
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notLessSize(Object[], int)} с корректным значением.
+		 */
+		@Test
+		public void notLessSizeArrayValid()
+		{
+			String[] object = {"Камчатка", "Бездельник"};
+
+			String[] actual = Requires.notLessSize(object, 2);
+
+			assertThat(actual).isSameAs(object);
+		}
+	}
+
+	/**
+	 * Класс проверки методов для чисел.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Number
+	{
+		/**
+		 * Проверка метода {@link Requires#notRangeNumber(int, int, int)} с корректным значением.
+		 */
+		@Test
+		public void notRangeNumberIntValid()
+		{
+			int actual = Requires.notRangeNumber(11, 5, 10);
+
+			assertThat(actual).isEqualTo(11);
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notRangeNumber(Integer, int, int)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notRangeNumberIntegerWithNull()
+		{
+			Integer object = null;
+
+			assertThatExceptionOfType(RangeNumberObjectCheckException.class)
+				.isThrownBy(() -> Requires.notRangeNumber(object, 5, 10));
+		}
+
+		/**
+		 * Проверка метода {@link Requires#notNegative(int)} с некорректным значением.
+		 */
+		@Test
+		public void notNegativeIntInvalid()
+		{
+			assertThatExceptionOfType(NegativeNumberObjectCheckException.class)
+				.isThrownBy(() -> Requires.notNegative(-1));
+		}
+	}
+
+	/**
+	 * Класс проверки отсутствия выделения памяти при успешных проверках.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Allocation
+	{
+		/**
+		 * Проверка отсутствия выделения памяти цепочкой успешных проверок.
+		 */
+		@Test
+		public void successPathAllocatesNothing()
+		{
+			String string = "Группа крови";
+			List<String> list = List.of("Кукушка", "Звезда по имени Солнце");
+			Map<Integer, String> map = Map.of(1, "Пачка сигарет");
+			String[] array = {"Спокойная ночь"};
+			Integer integer = 1_000_000;
+			Predicate<String> predicate = String::isEmpty;
+
+			Runnable checks = () -> {
+				for (int index = 0; index < 10_000; index++)
+				{
+					Requires.notNull(string);
+					Requires.notEquals(string, "Кино");
+					Requires.not(string, predicate);
+					Requires.notBlank(string);
+					Requires.notEmpty(string);
+					Requires.notRangeLength(string, 100, 200);
+					Requires.notMoreLength(string, 64, "Слишком длинная строка");
+					Requires.notLessLength(string, 1);
+					Requires.notEmpty(list);
+					Requires.notRangeSize(list, 3, 5);
+					Requires.notMoreSize(map, 10);
+					Requires.notLessSize(array, 1);
+					Requires.notZero(integer);
+					Requires.notMoreNumber(integer, 2_000_000);
+					Requires.notRangeNumber(index + 1_000, 0, 999);
+					Requires.notNegative(index);
+				}
+			};
+
+			long actual = allocatedBytes(checks);
+
+			assertThat(actual).isZero();
+		}
+
+		/**
+		 * Возвращает количество байт, выделенных текущим потоком при выполнении действия.
+		 * <p>
+		 * Действие выполняется несколько раз и возвращается наименьший результат, чтобы исключить
+		 * единичные выделения памяти виртуальной машиной при компиляции и деоптимизации кода.
+		 *
+		 * @param action действие.
+		 * @return количество байт.
+		 */
+		private long allocatedBytes(final Runnable action)
+		{
+			com.sun.management.ThreadMXBean threadMXBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			long threadId = Thread.currentThread().getId();
+
+			for (int round = 0; round < 3; round++)
+			{
+				action.run();
+			}
+
+			long result = Long.MAX_VALUE;
+
+			for (int round = 0; round < 10; round++)
+			{
+				long before = threadMXBean.getThreadAllocatedBytes(threadId);
+				action.run();
+				long after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+				result = Math.min(result, after - before);
+			}
+
+			return result;
+		}
+	}
+}
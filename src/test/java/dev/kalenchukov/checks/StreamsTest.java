@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks;
+
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import dev.kalenchukov.checks.rules.Rules;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link Streams}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class StreamsTest
+{
+	/**
+	 * Класс проверки метода {@link Streams#each(Stream, Rule)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class EachWithStream
+	{
+		/**
+		 * Проверка метода {@link Streams#each(Stream, Rule)} с корректным значением.
+		 */
+		@Test
+		public void eachValid()
+		{
+			List<String> object = List.of("Группа крови", "Кукушка");
+			Rule<String> rule = Rules.string().notBlank().build();
+
+			List<String> actual = Streams.each(object.stream(), rule).collect(Collectors.toList());
+
+			assertThat(actual).isEqualTo(object);
+		}
+
+		/**
+		 * Проверка метода {@link Streams#each(Stream, Rule)} с некорректным значением.
+		 */
+		@Test
+		public void eachInvalid()
+		{
+			List<String> object = List.of("Группа крови", " ", "Кукушка");
+			Rule<String> rule = Rules.string().notBlank().build();
+			Stream<String> stream = Streams.each(object.stream(), rule);
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(() -> stream.collect(Collectors.toList()));
+		}
+
+		/**
+		 * Проверка метода {@link Streams#each(Stream, Rule)} с некорректным значением за пределами обработанных элементов.
+		 */
+		@Test
+		public void eachInvalidLazy()
+		{
+			List<String> object = List.of("Группа крови", " ");
+			Rule<String> rule = Rules.string().notBlank().build();
+
+			Optional<String> actual = Streams.each(object.stream(), rule).findFirst();
+
+			assertThat(actual).contains("Группа крови");
+		}
+
+		/**
+		 * Проверка метода {@link Streams#each(Stream, Rule)} с параллельным потоком.
+		 */
+		@Test
+		public void eachWithParallel()
+		{
+			List<Integer> object = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+			Rule<Integer> rule = Rules.integer().notNegative().build();
+			Stream<Integer> stream = Streams.each(object.parallelStream(), rule);
+
+			assertThat(stream.isParallel()).isTrue();
+			assertThat(stream.mapToLong(Integer::longValue).sum()).isEqualTo(49_995_000L);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link Streams#each(Iterator, Rule)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class EachWithIterator
+	{
+		/**
+		 * Проверка метода {@link Streams#each(Iterator, Rule)} с некорректным значением.
+		 */
+		@Test
+		public void eachInvalid()
+		{
+			List<String> object = List.of("Группа крови", "");
+			Rule<String> rule = Rules.string().notEmpty().build();
+			Iterator<String> iterator = Streams.each(object.iterator(), rule);
+
+			String actual = iterator.next();
+
+			assertThat(actual).isEqualTo("Группа крови");
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(iterator::next);
+		}
+
+		/**
+		 * Проверка метода {@link Streams#each(Iterator, Rule)} с отсутствующим итератором.
+		 */
+		@Test
+		public void eachWithNull()
+		{
+			Rule<String> rule = Rules.string().notEmpty().build();
+
+			assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> Streams.each((Iterator<String>) null, rule));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link Streams#each(Spliterator, Rule)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class EachWithSpliterator
+	{
+		/**
+		 * Проверка метода {@link Streams#each(Spliterator, Rule)} с корректным значением.
+		 */
+		@Test
+		public void eachValid()
+		{
+			List<String> object = new ArrayList<>(List.of("Группа крови", "Кукушка", "Кончится лето"));
+			Rule<String> rule = Rules.string().notBlank().build();
+
+			Spliterator<String> actual = Streams.each(object.spliterator(), rule);
+
+			assertThat(actual.characteristics()).isEqualTo(object.spliterator().characteristics());
+			assertThat(actual.getExactSizeIfKnown()).isEqualTo(3);
+			assertThat(actual.trySplit()).isNotNull();
+		}
+
+		/**
+		 * Проверка метода {@link Streams#each(Spliterator, Rule)} с отсутствующим разделителем.
+		 */
+		@Test
+		public void eachWithNull()
+		{
+			Rule<String> rule = Rules.string().notBlank().build();
+
+			assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> Streams.each((Spliterator<String>) null, rule));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link Streams#notMoreSize(int, Collector)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreSize
+	{
+		/**
+		 * Проверка метода {@link Streams#notMoreSize(int, Collector)} с корректным значением.
+		 */
+		@Test
+		public void notMoreSizeValid()
+		{
+			Stream<String> object = Stream.of("Группа крови", "Кукушка");
+
+			List<String> actual = object.collect(Streams.notMoreSize(2, Collectors.toList()));
+
+			assertThat(actual).containsExactly("Группа крови", "Кукушка");
+		}
+
+		/**
+		 * Проверка метода {@link Streams#notMoreSize(int, Collector)} с некорректным значением в виде бесконечного потока.
+		 */
+		@Test
+		public void notMoreSizeInvalid()
+		{
+			Stream<String> object = Stream.generate(() -> "Кукушка");
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> object.collect(Streams.notMoreSize(1000, Collectors.counting())));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link Streams#notLessSize(int, Collector)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotLessSize
+	{
+		/**
+		 * Проверка метода {@link Streams#notLessSize(int, Collector)} с некорректным значением.
+		 */
+		@Test
+		public void notLessSizeInvalid()
+		{
+			Stream<String> object = Stream.of("Группа крови");
+
+			assertThatExceptionOfType(LessSizeObjectCheckException.class)
+				.isThrownBy(() -> object.collect(Streams.notLessSize(2, Streams.notMoreSize(3, Collectors.toList()))));
+		}
+
+		/**
+		 * Проверка метода {@link Streams#notLessSize(int, Collector)} с параллельным потоком.
+		 */
+		@Test
+		public void notLessSizeWithParallel()
+		{
+			Stream<Integer> object = IntStream.range(0, 10_000).boxed().parallel();
+
+			Long actual = object.collect(Streams.notLessSize(10_000, Collectors.counting()));
+
+			assertThat(actual).isEqualTo(10_000L);
+		}
+	}
+}
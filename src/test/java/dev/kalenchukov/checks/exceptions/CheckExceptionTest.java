@@ -21,6 +21,17 @@ package dev.kalenchukov.checks.exceptions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -76,4 +87,138 @@ public class CheckExceptionTest
 			assertThat(actual).isSameAs(message);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Класс проверки метода {@link CheckException#getMessage()} с поставщиком сообщения.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class GetMessageWithSupplier
+	{
+		/**
+		 * Проверка метода {@link CheckException#getMessage()} с поставщиком сообщения.
+		 */
+		@Test
+		public void getMessageValid()
+		{
+			String object = "Доброе утро, последний герой...";
+			String message = "Перемен, требуют наши сердца...";
+			AtomicInteger calls = new AtomicInteger();
+			CheckException checkException = new CheckException(object, () -> {
+				calls.incrementAndGet();
+				return message;
+			});
+
+			assertThat(calls).hasValue(0);
+			assertThat(checkException.getMessage()).isSameAs(message);
+			assertThat(checkException.getMessage()).isSameAs(message);
+			assertThat(calls).hasValue(1);
+		}
+
+		/**
+		 * Проверка метода {@link CheckException#getMessage()} с поставщиком сообщения
+		 * при одновременном обращении из нескольких потоков.
+		 */
+		@Test
+		public void getMessageConcurrent() throws Exception
+		{
+			String object = "Доброе утро, последний герой...";
+			AtomicInteger calls = new AtomicInteger();
+			CheckException checkException = new CheckException(object, () -> {
+				calls.incrementAndGet();
+				return "Перемен, требуют наши сердца...";
+			});
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+
+			try
+			{
+				List<Future<String>> messages = executor.invokeAll(
+					Collections.nCopies(8, checkException::getMessage)
+				);
+
+				for (Future<String> message : messages)
+				{
+					assertThat(message.get()).isEqualTo("Перемен, требуют наши сердца...");
+				}
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+
+			assertThat(calls).hasValue(1);
+		}
+	}
+
+	/**
+	 * Класс проверки сериализации исключения.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Serialization
+	{
+		/**
+		 * Проверка сериализации исключения с поставщиком сообщения.
+		 */
+		@Test
+		public void serializationWithSupplier() throws Exception
+		{
+			String object = "Доброе утро, последний герой...";
+			CheckException checkException = new CheckException(object, () -> "Перемен, требуют наши сердца...");
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream output = new ObjectOutputStream(bytes))
+			{
+				output.writeObject(checkException);
+			}
+
+			CheckException actual;
+			try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+			{
+				actual = (CheckException) input.readObject();
+			}
+
+			assertThat(actual.getMessage()).isEqualTo("Перемен, требуют наши сердца...");
+			assertThat(actual.getCulprit()).isEqualTo(object);
+		}
+	}
+
+	/**
+	 * Класс проверки создания исключения без трассировки стека.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Stackless
+	{
+		/**
+		 * Проверка создания исключения без трассировки стека.
+		 */
+		@Test
+		public void stacklessValid()
+		{
+			String object = "Доброе утро, последний герой...";
+			String message = "Перемен, требуют наши сердца...";
+			CheckException checkException = new CheckException(object, message, true);
+			checkException.addSuppressed(new IllegalStateException());
+
+			assertThat(checkException.getStackTrace()).isEmpty();
+			assertThat(checkException.getSuppressed()).isEmpty();
+			assertThat(checkException.getMessage()).isSameAs(message);
+		}
+
+		/**
+		 * Проверка создания исключения с трассировкой стека.
+		 */
+		@Test
+		public void stacklessWithStackTrace()
+		{
+			String object = "Доброе утро, последний герой...";
+			CheckException checkException = new CheckException(object, (String) null, false);
+
+			assertThat(checkException.getStackTrace()).isNotEmpty();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.exceptions;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link MessageTemplate}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MessageTemplateTest
+{
+	/**
+	 * Класс проверки метода {@link MessageTemplate#get()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Get
+	{
+		/**
+		 * Проверка метода {@link MessageTemplate#get()} с аргументами.
+		 */
+		@Test
+		public void getValid()
+		{
+			MessageTemplate messageTemplate = new MessageTemplate("Поле {} длиннее {} символов", "name", 255);
+
+			String actual = messageTemplate.get();
+
+			assertThat(actual).isEqualTo("Поле name длиннее 255 символов");
+		}
+
+		/**
+		 * Проверка метода {@link MessageTemplate#get()} с недостающими аргументами.
+		 */
+		@Test
+		public void getWithMissingArguments()
+		{
+			MessageTemplate messageTemplate = new MessageTemplate("{} и {}", "Кино");
+
+			String actual = messageTemplate.get();
+
+			assertThat(actual).isEqualTo("Кино и {}");
+		}
+
+		/**
+		 * Проверка метода {@link MessageTemplate#get()} с лишними аргументами.
+		 */
+		@Test
+		public void getWithExtraArguments()
+		{
+			MessageTemplate messageTemplate = new MessageTemplate("Группа {}", "Кино", "Аквариум");
+
+			String actual = messageTemplate.get();
+
+			assertThat(actual).isEqualTo("Группа Кино");
+		}
+
+		/**
+		 * Проверка метода {@link MessageTemplate#get()} с экранированной парой символов.
+		 */
+		@Test
+		public void getWithEscapedPlaceholder()
+		{
+			MessageTemplate messageTemplate = new MessageTemplate("\\{} = {}", 1);
+
+			String actual = messageTemplate.get();
+
+			assertThat(actual).isEqualTo("{} = 1");
+		}
+
+		/**
+		 * Проверка метода {@link MessageTemplate#get()} с массивами и {@code null}.
+		 */
+		@Test
+		public void getWithArrays()
+		{
+			MessageTemplate messageTemplate = new MessageTemplate(
+				"{} {} {}", new int[] {1, 2}, new String[] {"Кино"}, null
+			);
+
+			String actual = messageTemplate.get();
+
+			assertThat(actual).isEqualTo("[1, 2] [Кино] null");
+		}
+	}
+
+	/**
+	 * Класс проверки формирования сообщения исключения по шаблону.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class CheckExceptionMessage
+	{
+		/**
+		 * Проверка однократного формирования сообщения исключения по шаблону.
+		 */
+		@Test
+		public void getMessageValid()
+		{
+			StringBuilder argument = new StringBuilder("Кино");
+			CheckException checkException = new CheckException(null, new MessageTemplate("Группа {}", argument));
+
+			argument.append(" и Аквариум");
+			String first = checkException.getMessage();
+			argument.setLength(0);
+			String second = checkException.getMessage();
+
+			assertThat(first).isEqualTo("Группа Кино и Аквариум");
+			assertThat(second).isSameAs(first);
+		}
+	}
+}
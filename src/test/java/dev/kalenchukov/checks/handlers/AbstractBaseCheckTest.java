@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link AbstractBaseCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class AbstractBaseCheckTest
+{
+	/**
+	 * Класс проверки метода {@link AbstractBaseCheck#stackless()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Stackless
+	{
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#stackless()}.
+		 */
+		@Test
+		public void stacklessValid()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			StringCheck actual = stringCheck.stackless();
+
+			assertThat(actual).isSameAs(stringCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#stackless()} с некорректным значением.
+		 */
+		@Test
+		public void stacklessInvalid()
+		{
+			StringCheck stringCheck = new StringCheck(null);
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> stringCheck.stackless().notNull())
+				.satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#stackless()} с примитивным значением.
+		 */
+		@Test
+		public void stacklessWithInt()
+		{
+			IntCheck intCheck = new IntCheck(0);
+
+			assertThatExceptionOfType(RuntimeException.class)
+				.isThrownBy(() -> intCheck.stackless().notZero())
+				.satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+		}
+
+		/**
+		 * Проверка проверок цепочки без вызова метода {@link AbstractBaseCheck#stackless()}.
+		 */
+		@Test
+		public void stacklessWithoutMode()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> stringCheck.notMoreLength(3))
+				.satisfies(exception -> assertThat(exception.getStackTrace()).isNotEmpty());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractBaseCheck#silent()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Silent
+	{
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#silent()} с корректным значением.
+		 */
+		@Test
+		public void silentValid()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			StringCheck actual = stringCheck.silent().notBlank().notMoreLength(10);
+
+			assertThat(actual).isSameAs(stringCheck);
+			assertThat(actual.isViolated()).isFalse();
+			assertThat(actual.getViolationCode()).isZero();
+			assertThat(actual.getViolation()).isNull();
+			assertThat(actual.getException()).isNull();
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#silent()} с некорректным значением.
+		 */
+		@Test
+		public void silentInvalid()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			StringCheck actual = stringCheck.silent().notMoreLength(3).notEquals("Кукушка");
+
+			assertThat(actual.isViolated()).isTrue();
+			assertThat(actual.getViolation()).isEqualTo(Violation.MORE_LENGTH);
+			assertThat(actual.getViolationCode()).isEqualTo(Violation.MORE_LENGTH.getCode());
+			assertThat(Violation.ofCode(actual.getViolationCode())).isEqualTo(Violation.MORE_LENGTH);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#silent()} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void silentWithNull()
+		{
+			StringCheck stringCheck = new StringCheck(null);
+
+			StringCheck actual = stringCheck.silent().notBlank().notNull();
+
+			assertThat(actual.getViolation()).isEqualTo(Violation.BLANK);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#silent()} с созданием исключения по шаблону сообщения.
+		 */
+		@Test
+		public void silentWithException()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			CheckException actual = stringCheck.silent()
+				.notMoreLength(3, "Поле {} длиннее {}", "name", 3)
+				.getException();
+
+			assertThat(actual).isInstanceOf(MoreLengthObjectCheckException.class);
+			assertThat(actual.getMessage()).isEqualTo("Поле name длиннее 3");
+			assertThat(actual.getCulprit()).isEqualTo("Кукушка");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#silent()} с примитивным значением.
+		 */
+		@Test
+		public void silentWithInt()
+		{
+			IntCheck intCheck = new IntCheck(-7);
+
+			IntCheck actual = intCheck.silent().notZero().notNegative("Отрицательное число");
+
+			assertThat(actual.getViolation()).isEqualTo(Violation.NEGATIVE_NUMBER);
+			assertThat(actual.getException()).hasMessage("Отрицательное число");
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractBaseCheck#accumulate()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Accumulate
+	{
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#accumulate()} с корректным значением.
+		 */
+		@Test
+		public void accumulateValid()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			StringCheck actual = stringCheck.accumulate().notBlank().notMoreLength(10).throwIfViolated();
+
+			assertThat(actual).isSameAs(stringCheck);
+			assertThat(actual.getFailures()).isEmpty();
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#accumulate()} с некорректным значением.
+		 */
+		@Test
+		public void accumulateInvalid()
+		{
+			StringCheck stringCheck = new StringCheck("Кукушка");
+
+			List<Failure> actual = stringCheck.accumulate()
+				.notMoreLength(3, "Длинная строка")
+				.notBlank()
+				.notEquals("Кукушка")
+				.notLessLength(10, "Строка короче {}", 10)
+				.notEmptyLazy(() -> "Пустая строка")
+				.notRangeLength(1, 10)
+				.getFailures();
+
+			assertThat(actual).extracting(Failure::getViolation).containsExactly(
+				Violation.MORE_LENGTH, Violation.EQUALS, Violation.LESS_LENGTH, Violation.RANGE_LENGTH
+			);
+			assertThat(actual).extracting(Failure::getMessage).containsExactly(
+				"Длинная строка", null, "Строка короче 10", null
+			);
+			assertThat(actual).extracting(Failure::getCulprit).containsOnly("Кукушка");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#throwIfViolated()} в режиме {@link AbstractBaseCheck#accumulate()}.
+		 */
+		@Test
+		public void accumulateWithThrow()
+		{
+			StringCheck stringCheck = new StringCheck(null);
+
+			assertThatExceptionOfType(AggregateCheckException.class)
+				.isThrownBy(() -> stringCheck.accumulate().notNull("Нет строки").notBlank().throwIfViolated())
+				.withMessage("NULL: Нет строки; BLANK")
+				.satisfies(exception -> assertThat(exception.getFailures()).hasSize(2));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractBaseCheck#getFailures()} в режиме {@link AbstractBaseCheck#silent()}.
+		 */
+		@Test
+		public void accumulateWithSilent()
+		{
+			IntCheck intCheck = new IntCheck(0);
+
+			List<Failure> actual = intCheck.silent().notZero().notPositive().getFailures();
+
+			assertThat(actual).extracting(Failure::getViolation).containsExactly(Violation.ZERO_NUMBER);
+		}
+	}
+}
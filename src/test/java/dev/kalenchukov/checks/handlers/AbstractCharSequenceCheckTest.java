@@ -19,11 +19,15 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.text.CharClass;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.CharBuffer;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -365,6 +369,51 @@ public class AbstractCharSequenceCheckTest
 		}
 	}
 
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notRangeLengthLazy(int, int, Supplier)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotRangeLengthLazy
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notRangeLengthLazy(int, int, Supplier)} с корректным значением.
+		 */
+		@Test
+		public void notRangeLengthLazyValid()
+		{
+			StringBuilder object = new StringBuilder(
+				"Без десяти"
+			);
+			Supplier<String> message = () -> {
+				throw new IllegalStateException();
+			};
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notRangeLengthLazy(11, 15, message);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notRangeLengthLazy(int, int, Supplier)} с некорректным значением.
+		 */
+		@Test
+		public void notRangeLengthLazyInvalid()
+		{
+			StringBuilder object = new StringBuilder(
+				"Без десяти"
+			);
+			String message = "Голову да плечи терпеливые под плеть...";
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(RangeLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notRangeLengthLazy(2, 10, () -> message))
+				.withMessage(message);
+		}
+	}
+
 	/**
 	 * Класс проверки метода {@link AbstractCharSequenceCheck#notMoreLength(int)}.
 	 *
@@ -476,6 +525,61 @@ public class AbstractCharSequenceCheckTest
 		}
 	}
 
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notMoreLength(int, String, Object, Object)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreLengthWithMessageTemplate
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreLength(int, String, Object, Object)} с корректным значением.
+		 */
+		@Test
+		public void notMoreLengthValid()
+		{
+			StringBuilder object = new StringBuilder(
+				"Без десяти"
+			);
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notMoreLength(10, "Поле {} длиннее {}", "name", 10);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreLength(int, String, Object, Object)} с некорректным значением.
+		 */
+		@Test
+		public void notMoreLengthInvalid()
+		{
+			StringBuilder object = new StringBuilder(
+				"Без десяти"
+			);
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notMoreLength(9, "Поле {} длиннее {}", "name", 9))
+				.withMessage("Поле name длиннее 9");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreLength(int, String, Object, Object, Object)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notMoreLengthWithNull()
+		{
+			StringBuilder object = null;
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notMoreLength(9, "{}: {} > {}", "name", null, 9))
+				.withMessage("name: null > 9");
+		}
+	}
+
 	/**
 	 * Класс проверки метода {@link AbstractCharSequenceCheck#notLessLength(int)}.
 	 *
@@ -586,4 +690,697 @@ public class AbstractCharSequenceCheckTest
 				.withMessage(message);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notBlank()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotBlank
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notBlank()} с корректным значением.
+		 */
+		@Test
+		public void notBlankValid()
+		{
+			StringBuilder object = new StringBuilder(" ".repeat(1000)).append("Сосны на морском берегу");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notBlank();
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notBlank()} с некорректным значением.
+		 */
+		@Test
+		public void notBlankInvalid()
+		{
+			StringBuilder object = new StringBuilder(" \t\n".repeat(1000));
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(stringBuilderCheck::notBlank);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notBlank()} с корректным значением типа {@code CharBuffer}.
+		 */
+		@Test
+		public void notBlankValidCharBuffer()
+		{
+			CharBuffer object = CharBuffer.wrap("   Сосны".toCharArray(), 2, 6);
+			CharSequenceCheck charSequenceCheck = new CharSequenceCheck(object);
+
+			CharSequenceCheck actual = charSequenceCheck.notBlank();
+
+			assertThat(actual).isSameAs(charSequenceCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notBlank()} с некорректным значением типа {@code CharBuffer}.
+		 */
+		@Test
+		public void notBlankInvalidCharBuffer()
+		{
+			CharBuffer object = CharBuffer.wrap("Сосны  ".toCharArray(), 5, 2);
+			CharSequenceCheck charSequenceCheck = new CharSequenceCheck(object);
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(charSequenceCheck::notBlank);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notBlank()} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notBlankWithNull()
+		{
+			StringBuilder object = null;
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(stringBuilderCheck::notBlank);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notContainsWhitespace()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsWhitespace
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notContainsWhitespace()} с корректным значением.
+		 */
+		@Test
+		public void notContainsWhitespaceValid()
+		{
+			StringBuilder object = new StringBuilder("Кукушка".repeat(100));
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notContainsWhitespace();
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notContainsWhitespace()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsWhitespaceInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кукушка".repeat(100)).append('\t');
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(WhitespaceObjectCheckException.class)
+				.isThrownBy(stringBuilderCheck::notContainsWhitespace);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notContainsWhitespace()} с некорректным значением типа {@code CharSequence}.
+		 */
+		@Test
+		public void notContainsWhitespaceInvalidCharSequence()
+		{
+			CharSequence object = new StringBuffer("Кукушка Кукушка");
+			CharSequenceCheck charSequenceCheck = new CharSequenceCheck(object);
+
+			assertThatExceptionOfType(WhitespaceObjectCheckException.class)
+				.isThrownBy(charSequenceCheck::notContainsWhitespace);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#matches(Pattern)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Matches
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#matches(Pattern)} с корректным значением.
+		 */
+		@Test
+		public void matchesValid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.matches(Pattern.compile("[А-я ]+"));
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#matches(Pattern)} с некорректным значением.
+		 */
+		@Test
+		public void matchesInvalid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови 1988");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MismatchObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.matches(Pattern.compile("[А-я ]+")));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#matches(Pattern)} с переиспользуемым проверяющим.
+		 */
+		@Test
+		public void matchesWithReusableCheck()
+		{
+			Pattern regex = Pattern.compile("[А-я ]+");
+			ReusableStringCheck reusableStringCheck = new ReusableStringCheck();
+
+			reusableStringCheck.rebind("Группа крови").matches(regex);
+
+			assertThatExceptionOfType(MismatchObjectCheckException.class)
+				.isThrownBy(() -> reusableStringCheck.rebind("Группа крови 1988").matches(regex));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#matches(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MatchesWithString
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#matches(String)} с корректным значением.
+		 */
+		@Test
+		public void matchesWithStringValid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.matches("[А-я ]+");
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#matches(String)} с некорректным значением.
+		 */
+		@Test
+		public void matchesWithStringInvalid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови 1988");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MismatchObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.matches("[А-я ]+"));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notMatches(Pattern)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMatches
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMatches(Pattern)} с корректным значением.
+		 */
+		@Test
+		public void notMatchesValid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови 1988");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notMatches(Pattern.compile("[А-я ]+"));
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMatches(Pattern)} с некорректным значением.
+		 */
+		@Test
+		public void notMatchesInvalid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MatchObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notMatches(Pattern.compile("[А-я ]+")));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notMatches(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMatchesWithString
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMatches(String)} с корректным значением.
+		 */
+		@Test
+		public void notMatchesWithStringValid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови 1988");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notMatches("[А-я ]+");
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMatches(String)} с некорректным значением.
+		 */
+		@Test
+		public void notMatchesWithStringInvalid()
+		{
+			StringBuilder object = new StringBuilder("Группа крови");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MatchObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notMatches("[А-я ]+"));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#onlyDigits()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class OnlyDigits
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyDigits()} с корректным значением.
+		 */
+		@Test
+		public void onlyDigitsValid()
+		{
+			StringBuilder object = new StringBuilder("19821986");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.onlyDigits();
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyDigits()} с некорректным значением.
+		 */
+		@Test
+		public void onlyDigitsInvalid()
+		{
+			StringBuilder object = new StringBuilder("1982-1986");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(IllegalCharObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.onlyDigits());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#onlyAscii()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class OnlyAscii
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyAscii()} с корректным значением.
+		 */
+		@Test
+		public void onlyAsciiValid()
+		{
+			String object = "Kino 1982";
+			StringCheck stringCheck = new StringCheck(object);
+
+			StringCheck actual = stringCheck.onlyAscii();
+
+			assertThat(actual).isSameAs(stringCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyAscii()} с некорректным значением.
+		 */
+		@Test
+		public void onlyAsciiInvalid()
+		{
+			String object = "Кино 1982";
+			StringCheck stringCheck = new StringCheck(object);
+
+			assertThatExceptionOfType(IllegalCharObjectCheckException.class)
+				.isThrownBy(() -> stringCheck.onlyAscii());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#onlyHex()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class OnlyHex
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyHex()} с корректным значением.
+		 */
+		@Test
+		public void onlyHexValid()
+		{
+			StringBuilder object = new StringBuilder("7C0fAb");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.onlyHex();
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyHex()} с некорректным значением.
+		 */
+		@Test
+		public void onlyHexInvalid()
+		{
+			StringBuilder object = new StringBuilder("7C0fAg");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(IllegalCharObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.onlyHex());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#onlyAlphanumeric()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class OnlyAlphanumeric
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyAlphanumeric()} с корректным значением.
+		 */
+		@Test
+		public void onlyAlphanumericValid()
+		{
+			String object = "Kino1982";
+			StringCheck stringCheck = new StringCheck(object);
+
+			StringCheck actual = stringCheck.onlyAlphanumeric();
+
+			assertThat(actual).isSameAs(stringCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyAlphanumeric()} с некорректным значением.
+		 */
+		@Test
+		public void onlyAlphanumericInvalid()
+		{
+			String object = "Kino_1982";
+			StringCheck stringCheck = new StringCheck(object);
+
+			assertThatExceptionOfType(IllegalCharObjectCheckException.class)
+				.isThrownBy(() -> stringCheck.onlyAlphanumeric());
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#onlyChars(CharClass)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class OnlyChars
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyChars(CharClass)} с корректным значением.
+		 */
+		@Test
+		public void onlyCharsValid()
+		{
+			StringBuilder object = new StringBuilder("kino-1982_tsoi");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.onlyChars(CharClass.ALPHANUMERIC.union(CharClass.of("_-")));
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#onlyChars(CharClass)} с некорректным значением.
+		 */
+		@Test
+		public void onlyCharsInvalid()
+		{
+			StringBuilder object = new StringBuilder("kino 1982");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(IllegalCharObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.onlyChars(CharClass.ALPHANUMERIC.union(CharClass.of("_-"))));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notMoreUtf8Length(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreUtf8Length
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreUtf8Length(int)} с корректным значением.
+		 */
+		@Test
+		public void notMoreUtf8LengthValid()
+		{
+			StringBuilder object = new StringBuilder("Кино");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notMoreUtf8Length(8);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreUtf8Length(int)} с некорректным значением.
+		 */
+		@Test
+		public void notMoreUtf8LengthInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кино");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notMoreUtf8Length(7));
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreUtf8Length(int)} с некорректным значением из суррогатной пары.
+		 */
+		@Test
+		public void notMoreUtf8LengthInvalidSurrogatePair()
+		{
+			String object = "Кино \uD83C\uDFB8";
+			StringCheck stringCheck = new StringCheck(object);
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> stringCheck.notMoreUtf8Length(12));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notRangeUtf8Length(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotRangeUtf8Length
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notRangeUtf8Length(int, int)} с корректным значением.
+		 */
+		@Test
+		public void notRangeUtf8LengthValid()
+		{
+			StringBuilder object = new StringBuilder("Кино");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notRangeUtf8Length(4, 7);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notRangeUtf8Length(int, int)} с некорректным значением.
+		 */
+		@Test
+		public void notRangeUtf8LengthInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кино");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(RangeLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notRangeUtf8Length(4, 8));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notCodePointLength(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotCodePointLength
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notCodePointLength(int)} с корректным значением.
+		 */
+		@Test
+		public void notCodePointLengthValid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notCodePointLength(9);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notCodePointLength(int)} с некорректным значением.
+		 */
+		@Test
+		public void notCodePointLengthInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(LengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notCodePointLength(7));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notRangeCodePointLength(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotRangeCodePointLength
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notRangeCodePointLength(int, int)} с корректным значением.
+		 */
+		@Test
+		public void notRangeCodePointLengthValid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notRangeCodePointLength(8, 9);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notRangeCodePointLength(int, int)} с некорректным значением.
+		 */
+		@Test
+		public void notRangeCodePointLengthInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(RangeLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notRangeCodePointLength(7, 9));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notMoreCodePointLength(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreCodePointLength
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreCodePointLength(int)} с корректным значением.
+		 */
+		@Test
+		public void notMoreCodePointLengthValid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notMoreCodePointLength(7);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notMoreCodePointLength(int)} с некорректным значением.
+		 */
+		@Test
+		public void notMoreCodePointLengthInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notMoreCodePointLength(6));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCharSequenceCheck#notLessCodePointLength(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotLessCodePointLength
+	{
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notLessCodePointLength(int)} с корректным значением.
+		 */
+		@Test
+		public void notLessCodePointLengthValid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			StringBuilderCheck actual = stringBuilderCheck.notLessCodePointLength(7);
+
+			assertThat(actual).isSameAs(stringBuilderCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCharSequenceCheck#notLessCodePointLength(int)} с некорректным значением.
+		 */
+		@Test
+		public void notLessCodePointLengthInvalid()
+		{
+			StringBuilder object = new StringBuilder("Кино \uD83C\uDFB8\uD83C\uDFB8");
+			StringBuilderCheck stringBuilderCheck = new StringBuilderCheck(object);
+
+			assertThatExceptionOfType(LessLengthObjectCheckException.class)
+				.isThrownBy(() -> stringBuilderCheck.notLessCodePointLength(8));
+		}
+	}
+}
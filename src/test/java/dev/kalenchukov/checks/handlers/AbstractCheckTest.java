@@ -25,7 +25,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -112,6 +114,47 @@ public class AbstractCheckTest
 		}
 	}
 
+	/**
+	 * Класс проверки метода {@link AbstractCheck#notNullLazy(Supplier)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotNullLazy
+	{
+		/**
+		 * Проверка метода {@link AbstractCheck#notNullLazy(Supplier)} с корректным значением.
+		 */
+		@Test
+		public void notNullLazyValid()
+		{
+			Object object = new Object();
+			AtomicInteger calls = new AtomicInteger();
+			Supplier<String> message = () -> "Ты идёшь в магазин, чтобы купить вино... " + calls.incrementAndGet();
+			ObjectCheck<Object> objectCheck = new ObjectCheck<>(object);
+
+			ObjectCheck<Object> actual = objectCheck.notNullLazy(message);
+
+			assertThat(actual).isSameAs(objectCheck);
+			assertThat(calls).hasValue(0);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCheck#notNullLazy(Supplier)} с некорректным значением.
+		 */
+		@Test
+		public void notNullLazyInvalid()
+		{
+			Object object = null;
+			String message = "Я искал здесь вино, а нашёл третий глаз...";
+			ObjectCheck<Object> objectCheck = new ObjectCheck<>(object);
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> objectCheck.notNullLazy(() -> message))
+				.withMessage(message);
+		}
+	}
+
 	/**
 	 * Класс проверки метода {@link AbstractCheck#notEquals(Object)}.
 	 *
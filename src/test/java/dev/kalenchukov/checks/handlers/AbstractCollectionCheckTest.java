@@ -19,15 +19,31 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import dev.kalenchukov.checks.rules.Rules;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -306,6 +322,21 @@ public class AbstractCollectionCheckTest
 			assertThatExceptionOfType(RangeSizeObjectCheckException.class)
 				.isThrownBy(() -> collectionCheck.notRangeSize(1, 5));
 		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notRangeSize(int, int)} с корректным значением,
+		 * количество элементов которого вычисляется обходом.
+		 */
+		@Test
+		public void notRangeSizeValidWithCountedQueue()
+		{
+			Collection<Integer> object = new ConcurrentLinkedDeque<>(List.of(1, 2, 3, 4));
+			CollectionCheck<Integer> collectionCheck = new CollectionCheck<>(object);
+
+			CollectionCheck<Integer> actual = collectionCheck.notRangeSize(1, 3);
+
+			assertThat(actual).isSameAs(collectionCheck);
+		}
 	}
 
 	/**
@@ -418,6 +449,27 @@ public class AbstractCollectionCheckTest
 			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
 				.isThrownBy(() -> collectionCheck.notMoreSize(1));
 		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notMoreSize(int)} с некорректным значением,
+		 * количество элементов которого вычисляется обходом.
+		 */
+		@Test
+		public void notMoreSizeInvalidWithCountedQueue()
+		{
+			Collection<Integer> object = new ConcurrentLinkedQueue<>() {
+				@Override
+				public int size()
+				{
+					throw new UnsupportedOperationException();
+				}
+			};
+			IntStream.range(0, 1000).forEach(object::add);
+			CollectionCheck<Integer> collectionCheck = new CollectionCheck<>(object);
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> collectionCheck.notMoreSize(10));
+		}
 	}
 
 	/**
@@ -597,4 +649,401 @@ public class AbstractCollectionCheckTest
 				.withMessage(message);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Класс проверки метода {@link AbstractCollectionCheck#notAny(Predicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notAny(Predicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			Collection<String> object = List.of(
+				"Безъядерная зона",
+				"Группа крови"
+			);
+			CollectionCheck<String> collectionCheck = new CollectionCheck<>(object);
+
+			CollectionCheck<String> actual = collectionCheck.notAny(String::isEmpty);
+
+			assertThat(actual).isSameAs(collectionCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notAny(Predicate)} с некорректным значением в списке.
+		 */
+		@Test
+		public void notAnyInvalidList()
+		{
+			List<String> object = List.of(
+				"Безъядерная зона",
+				"",
+				""
+			);
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> listCheck.notAny(String::isEmpty),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo("");
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notAny(Predicate)} с некорректным значением
+		 * в коллекции без произвольного доступа.
+		 */
+		@Test
+		public void notAnyInvalidCollection()
+		{
+			Collection<String> object = new LinkedList<>(List.of(
+				"Безъядерная зона",
+				"Группа крови",
+				""
+			));
+			CollectionCheck<String> collectionCheck = new CollectionCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> collectionCheck.notAny(String::isEmpty),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo("");
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notAny(Predicate)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notAnyWithNull()
+		{
+			Collection<String> object = null;
+			CollectionCheck<String> collectionCheck = new CollectionCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> collectionCheck.notAny(String::isEmpty),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(-1);
+			assertThat(actual.getElement()).isNull();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCollectionCheck#notAny(Predicate, String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyWithMessage
+	{
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notAny(Predicate, String)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			Set<String> object = new TreeSet<>(Set.of(
+				"Безъядерная зона",
+				"Группа крови"
+			));
+			String message = "Я не вижу реки, я не вижу моста, ну и пусть...";
+			SetCheck<String> setCheck = new SetCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> setCheck.notAny(value -> value.startsWith("Группа"), message),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getMessage()).isEqualTo(message);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo("Группа крови");
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCollectionCheck#each(Rule)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Each
+	{
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#each(Rule)} с корректным значением.
+		 */
+		@Test
+		public void eachValid()
+		{
+			List<String> object = List.of(
+				"Безъядерная зона",
+				"Группа крови"
+			);
+			Rule<String> rule = Rules.string().notBlank().notMoreLength(20).build();
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ListCheck<String> actual = listCheck.each(rule);
+
+			assertThat(actual).isSameAs(listCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#each(Rule)} с некорректным значением.
+		 */
+		@Test
+		public void eachInvalid()
+		{
+			List<String> object = List.of(
+				"Безъядерная зона",
+				"Группа крови",
+				"Мы ждём перемен, мы ждём перемен"
+			);
+			Rule<String> rule = Rules.string().notBlank().notMoreLength(20).build();
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> listCheck.each(rule),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo("Мы ждём перемен, мы ждём перемен");
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.MORE_LENGTH);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#each(Rule)} с некорректным значением в коллекции
+		 * без произвольного доступа, которая обходится один раз.
+		 */
+		@Test
+		public void eachInvalidSinglePass()
+		{
+			Collection<String> object = new ConcurrentLinkedQueue<>(List.of(
+				"Безъядерная зона",
+				"Группа крови",
+				"Мы ждём перемен, мы ждём перемен"
+			));
+			Rule<String> length = Rules.string().notMoreLength(20).build();
+			AtomicInteger tests = new AtomicInteger();
+			Rule<String> rule = new Rule<>()
+			{
+				@NotNull
+				@Override
+				public String check(@Nullable final String target)
+				{
+					return length.check(target);
+				}
+
+				@Override
+				public int test(@Nullable final String target)
+				{
+					tests.incrementAndGet();
+
+					return length.test(target);
+				}
+			};
+			CollectionCheck<String> collectionCheck = new CollectionCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> collectionCheck.each(rule),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.MORE_LENGTH);
+			assertThat(tests).hasValue(3);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#each(Rule)} с некорректным значением в виде {@code null}
+		 * в режиме без исключений.
+		 */
+		@Test
+		public void eachInvalidSilent()
+		{
+			List<String> object = Arrays.asList(
+				"Безъядерная зона",
+				null
+			);
+			Rule<String> rule = Rules.string().notNull().notBlank().build();
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			listCheck.silent().each(rule).notEmpty();
+
+			ElementObjectCheckException actual = (ElementObjectCheckException) listCheck.getException();
+
+			assertThat(listCheck.getViolation()).isEqualTo(Violation.ELEMENT);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isNull();
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.NULL);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCollectionCheck#parallel(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Parallel
+	{
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#parallel(int)} с некорректными значениями в списке.
+		 */
+		@Test
+		public void parallelInvalidList()
+		{
+			List<Integer> object = new ArrayList<>(Collections.nCopies(100_000, 1));
+			object.set(88_000, -1);
+			object.set(40_001, -2);
+			ListCheck<Integer> listCheck = new ListCheck<>(object);
+
+			for (int attempt = 0; attempt < 20; attempt++)
+			{
+				ElementObjectCheckException actual = catchThrowableOfType(
+					() -> listCheck.parallel(1_000).notAny(value -> value < 0),
+					ElementObjectCheckException.class
+				);
+
+				assertThat(actual.getIndex()).isEqualTo(40_001);
+				assertThat(actual.getElement()).isEqualTo(-2);
+			}
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#parallel(int)} с некорректным значением в коллекции,
+		 * разбиение которой не сохраняет размеры частей.
+		 */
+		@Test
+		public void parallelInvalidCollection()
+		{
+			Collection<Integer> object = new LinkedList<>(Collections.nCopies(10_000, 1));
+			object.add(-1);
+			CollectionCheck<Integer> collectionCheck = new CollectionCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> collectionCheck.parallel(100).notAny(value -> value < 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(10_000);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link AbstractCollectionCheck#notContainsNull()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsNull
+	{
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notContainsNull()} с корректным значением.
+		 */
+		@Test
+		public void notContainsNullValid()
+		{
+			List<String> object = new ArrayList<>(List.of(
+				"Пачка сигарет",
+				"Спокойная ночь"
+			));
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ListCheck<String> actual = listCheck.notContainsNull();
+
+			assertThat(actual).isSameAs(listCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notContainsNull()} со списком, не допускающим {@code null}.
+		 */
+		@Test
+		public void notContainsNullValidNullFreeList()
+		{
+			List<String> object = List.of(
+				"Пачка сигарет",
+				"Спокойная ночь",
+				"Кукушка"
+			);
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ListCheck<String> actual = listCheck.notContainsNull();
+
+			assertThat(actual).isSameAs(listCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notContainsNull()} с множеством, не допускающим {@code null}.
+		 */
+		@Test
+		public void notContainsNullValidNullFreeSet()
+		{
+			Set<String> object = new TreeSet<>(Set.of(
+				"Пачка сигарет"
+			));
+			SetCheck<String> setCheck = new SetCheck<>(object);
+
+			SetCheck<String> actual = setCheck.notContainsNull();
+
+			assertThat(actual).isSameAs(setCheck);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notContainsNull()} с некорректным значением в списке.
+		 */
+		@Test
+		public void notContainsNullInvalidList()
+		{
+			List<String> object = Arrays.asList(
+				"Пачка сигарет",
+				null
+			);
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			assertThatExceptionOfType(ContainsNullObjectCheckException.class)
+				.isThrownBy(listCheck::notContainsNull);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notContainsNull()} с некорректным значением во множестве.
+		 */
+		@Test
+		public void notContainsNullInvalidSet()
+		{
+			Set<String> object = new HashSet<>(Arrays.asList(
+				"Пачка сигарет",
+				null
+			));
+			SetCheck<String> setCheck = new SetCheck<>(object);
+
+			assertThatExceptionOfType(ContainsNullObjectCheckException.class)
+				.isThrownBy(setCheck::notContainsNull);
+		}
+
+		/**
+		 * Проверка метода {@link AbstractCollectionCheck#notContainsNull()} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notContainsNullWithNull()
+		{
+			Collection<String> object = null;
+			CollectionCheck<String> collectionCheck = new CollectionCheck<>(object);
+
+			assertThatExceptionOfType(ContainsNullObjectCheckException.class)
+				.isThrownBy(collectionCheck::notContainsNull);
+		}
+	}
+}
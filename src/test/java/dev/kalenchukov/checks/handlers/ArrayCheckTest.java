@@ -19,11 +19,17 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import dev.kalenchukov.checks.rules.Rules;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.function.Predicate;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -566,4 +572,360 @@ public class ArrayCheckTest
 				.withMessage(message);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#notAny(Predicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#notAny(Predicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			String[] object = new String[] {
+				"Звезда по имени Солнце",
+				"Кукушка"
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ArrayCheck<String> actual = arrayCheck.notAny(String::isEmpty);
+
+			assertThat(actual).isSameAs(arrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#notAny(Predicate)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			String[] object = new String[] {
+				"Звезда по имени Солнце",
+				"",
+				"Кукушка"
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> arrayCheck.notAny(String::isEmpty),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo("");
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#each(Rule)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Each
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#each(Rule)} с некорректным значением.
+		 */
+		@Test
+		public void eachInvalid()
+		{
+			String[] object = new String[] {
+				"Звезда по имени Солнце",
+				" "
+			};
+			Rule<String> rule = Rules.string().notBlank().build();
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> arrayCheck.each(rule),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.BLANK);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#parallel(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Parallel
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#parallel(int)} с корректным значением.
+		 */
+		@Test
+		public void parallelValid()
+		{
+			Integer[] object = new Integer[100_000];
+			Arrays.fill(object, 1);
+			ArrayCheck<Integer> arrayCheck = new ArrayCheck<>(object);
+
+			ArrayCheck<Integer> actual = arrayCheck.parallel(1_000).notAny(value -> value < 0);
+
+			assertThat(actual).isSameAs(arrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#parallel(int)} с некорректными значениями в разных частях.
+		 */
+		@Test
+		public void parallelInvalid()
+		{
+			Integer[] object = new Integer[100_000];
+			Arrays.fill(object, 1);
+			object[97_000] = -1;
+			object[51_234] = -2;
+			object[3_000] = -3;
+			ArrayCheck<Integer> arrayCheck = new ArrayCheck<>(object);
+
+			for (int attempt = 0; attempt < 20; attempt++)
+			{
+				ElementObjectCheckException actual = catchThrowableOfType(
+					() -> arrayCheck.parallel(1_000).notAny(value -> value < 0),
+					ElementObjectCheckException.class
+				);
+
+				assertThat(actual.getIndex()).isEqualTo(3_000);
+				assertThat(actual.getElement()).isEqualTo(-3);
+			}
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#parallel(int)} с некорректным порогом.
+		 */
+		@Test
+		public void parallelInvalidThreshold()
+		{
+			ArrayCheck<Integer> arrayCheck = new ArrayCheck<>(new Integer[0]);
+
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> arrayCheck.parallel(0));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#notContainsNull()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsNull
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsNull()} с корректным значением.
+		 */
+		@Test
+		public void notContainsNullValid()
+		{
+			String[] object = new String[] {
+				"Пачка сигарет"
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ArrayCheck<String> actual = arrayCheck.notContainsNull();
+
+			assertThat(actual).isSameAs(arrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsNull()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsNullInvalid()
+		{
+			String[] object = new String[] {
+				"Пачка сигарет",
+				null
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			assertThatExceptionOfType(ContainsNullObjectCheckException.class)
+				.isThrownBy(arrayCheck::notContainsNull);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsDuplicates()} с корректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			String[] object = new String[] {
+				"Пачка сигарет",
+				"Звезда по имени Солнце"
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ArrayCheck<String> actual = arrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(arrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			String[] object = new String[] {
+				"Пачка сигарет",
+				"Звезда по имени Солнце",
+				new String("Пачка сигарет")
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> arrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo("Пачка сигарет");
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsDuplicates()} с некорректным значением из нескольких {@code null}.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalidNull()
+		{
+			String[] object = new String[] {
+				null,
+				"Пачка сигарет",
+				null
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(arrayCheck::notContainsDuplicates);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#notContainsIdentical()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsIdentical
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsIdentical()} с корректным значением.
+		 */
+		@Test
+		public void notContainsIdenticalValid()
+		{
+			String[] object = new String[] {
+				"Пачка сигарет",
+				new String("Пачка сигарет")
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ArrayCheck<String> actual = arrayCheck.notContainsIdentical();
+
+			assertThat(actual).isSameAs(arrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#notContainsIdentical()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsIdenticalInvalid()
+		{
+			String value = "Пачка сигарет";
+			String[] object = new String[] {
+				value,
+				"Звезда по имени Солнце",
+				value
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> arrayCheck.notContainsIdentical(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isSameAs(value);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayCheck#memoryLimit(long)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MemoryLimit
+	{
+		/**
+		 * Проверка метода {@link ArrayCheck#memoryLimit(long)} с корректным значением при поиске в множестве.
+		 */
+		@Test
+		public void memoryLimitValid()
+		{
+			String[] object = new String[] {
+				"Пачка сигарет",
+				"Звезда по имени Солнце"
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object);
+
+			ArrayCheck<String> actual = arrayCheck.memoryLimit(0).notContainsDuplicates();
+
+			assertThat(actual).isSameAs(arrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#memoryLimit(long)} с некорректным значением при поиске в множестве.
+		 */
+		@Test
+		public void memoryLimitInvalid()
+		{
+			String[] object = new String[] {
+				"Звезда по имени Солнце",
+				"Пачка сигарет",
+				"Звезда по имени Солнце"
+			};
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(object).memoryLimit(0);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> arrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo("Звезда по имени Солнце");
+		}
+
+		/**
+		 * Проверка метода {@link ArrayCheck#memoryLimit(long)} с отрицательным значением.
+		 */
+		@Test
+		public void memoryLimitNegative()
+		{
+			ArrayCheck<String> arrayCheck = new ArrayCheck<>(new String[0]);
+
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> arrayCheck.memoryLimit(-1));
+		}
+	}
+}
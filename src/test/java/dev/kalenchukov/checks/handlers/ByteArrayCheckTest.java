@@ -0,0 +1,315 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link ByteArrayCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ByteArrayCheckTest
+{
+	/**
+	 * Класс проверки метода {@link ByteArrayCheck#notEmpty()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEmpty
+	{
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notEmpty()} с корректным значением.
+		 */
+		@Test
+		public void notEmptyValid()
+		{
+			byte[] object = {86};
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ByteArrayCheck actual = byteArrayCheck.notEmpty();
+
+			assertThat(actual).isSameAs(byteArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notEmpty()} с некорректным значением.
+		 */
+		@Test
+		public void notEmptyInvalid()
+		{
+			byte[] object = {};
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(byteArrayCheck::notEmpty);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ByteArrayCheck#notAny(IntPredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAny(IntPredicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			byte[] object = {82, 86, 88};
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ByteArrayCheck actual = byteArrayCheck.notAny(value -> value % 2 != 0);
+
+			assertThat(actual).isSameAs(byteArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAny(IntPredicate)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			byte[] object = {82, 87, 88};
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> byteArrayCheck.notAny(value -> value % 2 != 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo((byte) 87);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAny(IntPredicate)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notAnyInvalidNull()
+		{
+			byte[] object = null;
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> byteArrayCheck.notAny(value -> value % 2 != 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(-1);
+			assertThat(actual.getElement()).isNull();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ByteArrayCheck#notAnyNegative()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyNegative
+	{
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAnyNegative()} с корректным значением.
+		 */
+		@Test
+		public void notAnyNegativeValid()
+		{
+			byte[] object = new byte[1000];
+			Arrays.fill(object, Byte.MAX_VALUE);
+			object[0] = 0;
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ByteArrayCheck actual = byteArrayCheck.notAnyNegative();
+
+			assertThat(actual).isSameAs(byteArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAnyNegative()} с некорректным значением.
+		 */
+		@Test
+		public void notAnyNegativeInvalid()
+		{
+			byte[] object = new byte[1000];
+			Arrays.fill(object, (byte) 86);
+			object[700] = Byte.MIN_VALUE;
+			object[900] = -1;
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				byteArrayCheck::notAnyNegative,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(700);
+			assertThat(actual.getElement()).isEqualTo(Byte.MIN_VALUE);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.NEGATIVE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ByteArrayCheck#notAnyOutRange(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyOutRange
+	{
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAnyOutRange(int, int)} с корректным значением.
+		 */
+		@Test
+		public void notAnyOutRangeValid()
+		{
+			byte[] object = new byte[2000];
+			Arrays.fill(object, (byte) 86);
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ByteArrayCheck actual = byteArrayCheck.notAnyOutRange(82, 90);
+
+			assertThat(actual).isSameAs(byteArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAnyOutRange(int, int)} с некорректным значением меньше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidLess()
+		{
+			byte[] object = new byte[2000];
+			Arrays.fill(object, (byte) 86);
+			object[1500] = 81;
+			object[1700] = 91;
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> byteArrayCheck.notAnyOutRange(82, 90),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1500);
+			assertThat(actual.getElement()).isEqualTo((byte) 81);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.LESS_NUMBER);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notAnyOutRange(int, int)} с некорректным значением больше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidMore()
+		{
+			byte[] object = {82, 91, 81};
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> byteArrayCheck.notAnyOutRange(82, 90),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo((byte) 91);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.MORE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ByteArrayCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notContainsDuplicates()} с корректным значением из всех значений типа.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			byte[] object = new byte[256];
+			for (int index = 0; index < object.length; index++)
+			{
+				object[index] = (byte) index;
+			}
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			ByteArrayCheck actual = byteArrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(byteArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			byte[] object = {19, 82, -19, 82};
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> byteArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(3);
+			assertThat(actual.getElement()).isEqualTo((byte) 82);
+		}
+
+		/**
+		 * Проверка метода {@link ByteArrayCheck#notContainsDuplicates()} с некорректным значением длиннее количества значений типа.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalidLong()
+		{
+			byte[] object = new byte[1000];
+			for (int index = 0; index < object.length; index++)
+			{
+				object[index] = (byte) index;
+			}
+			ByteArrayCheck byteArrayCheck = new ByteArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> byteArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(256);
+			assertThat(actual.getElement()).isEqualTo((byte) 0);
+		}
+	}
+}
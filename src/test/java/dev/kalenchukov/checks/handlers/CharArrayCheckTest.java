@@ -0,0 +1,247 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link CharArrayCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CharArrayCheckTest
+{
+	/**
+	 * Класс проверки метода {@link CharArrayCheck#notEmpty()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEmpty
+	{
+		/**
+		 * Проверка метода {@link CharArrayCheck#notEmpty()} с корректным значением.
+		 */
+		@Test
+		public void notEmptyValid()
+		{
+			char[] object = "Кино".toCharArray();
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			CharArrayCheck actual = charArrayCheck.notEmpty();
+
+			assertThat(actual).isSameAs(charArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link CharArrayCheck#notEmpty()} с некорректным значением.
+		 */
+		@Test
+		public void notEmptyInvalid()
+		{
+			char[] object = {};
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(charArrayCheck::notEmpty);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CharArrayCheck#notAny(IntPredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link CharArrayCheck#notAny(IntPredicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			char[] object = "Спокойная ночь".toCharArray();
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			CharArrayCheck actual = charArrayCheck.notAny(Character::isDigit);
+
+			assertThat(actual).isSameAs(charArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link CharArrayCheck#notAny(IntPredicate)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			char[] object = "Спокойная ночь 1986".toCharArray();
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> charArrayCheck.notAny(Character::isDigit),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(15);
+			assertThat(actual.getElement()).isEqualTo('1');
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link CharArrayCheck#notAny(IntPredicate)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notAnyInvalidNull()
+		{
+			char[] object = null;
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> charArrayCheck.notAny(Character::isDigit),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(-1);
+			assertThat(actual.getElement()).isNull();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CharArrayCheck#notAnyOutRange(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyOutRange
+	{
+		/**
+		 * Проверка метода {@link CharArrayCheck#notAnyOutRange(int, int)} с корректным значением.
+		 */
+		@Test
+		public void notAnyOutRangeValid()
+		{
+			char[] object = new char[2000];
+			Arrays.fill(object, 'к');
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			CharArrayCheck actual = charArrayCheck.notAnyOutRange('а', 'я');
+
+			assertThat(actual).isSameAs(charArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link CharArrayCheck#notAnyOutRange(int, int)} с некорректным значением меньше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidLess()
+		{
+			char[] object = new char[2000];
+			Arrays.fill(object, 'к');
+			object[1500] = 'K';
+			object[1700] = 'ё';
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> charArrayCheck.notAnyOutRange('а', 'я'),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1500);
+			assertThat(actual.getElement()).isEqualTo('K');
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.LESS_NUMBER);
+		}
+
+		/**
+		 * Проверка метода {@link CharArrayCheck#notAnyOutRange(int, int)} с некорректным значением больше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidMore()
+		{
+			char[] object = "кино".toCharArray();
+			object[2] = 'ё';
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> charArrayCheck.notAnyOutRange('а', 'я'),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo('ё');
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.MORE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CharArrayCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link CharArrayCheck#notContainsDuplicates()} с корректным значением из всех значений типа.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			char[] object = new char[65536];
+			for (int index = 0; index < object.length; index++)
+			{
+				object[index] = (char) (65535 - index);
+			}
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			CharArrayCheck actual = charArrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(charArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link CharArrayCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			char[] object = "Кукушка".toCharArray();
+			CharArrayCheck charArrayCheck = new CharArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> charArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(3);
+			assertThat(actual.getElement()).isEqualTo('у');
+		}
+	}
+}
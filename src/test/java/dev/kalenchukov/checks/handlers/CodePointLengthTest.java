@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link CodePointLength}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CodePointLengthTest
+{
+	/**
+	 * Класс проверки метода {@link CodePointLength#count(CharSequence, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Count
+	{
+		/**
+		 * Проверка метода {@link CodePointLength#count(CharSequence, int)} в сравнении с {@link Character#codePointCount(CharSequence, int, int)}.
+		 */
+		@Test
+		public void countEqualsCodePointCount()
+		{
+			List<String> objects = List.of(
+				"",
+				"Kino",
+				"Кино",
+				"\uD83C\uDFB8\uD83C\uDFB8",
+				"\uD83C",
+				"Кино \uDFB8\uD83C",
+				"\uD83C\uD83C\uDFB8"
+			);
+
+			for (String object : objects)
+			{
+				int expected = Character.codePointCount(object, 0, object.length());
+
+				for (int limit = expected; limit <= object.length() + 1; limit++)
+				{
+					assertThat(CodePointLength.count(object, limit)).isEqualTo(expected);
+				}
+			}
+		}
+
+		/**
+		 * Проверка метода {@link CodePointLength#count(CharSequence, int)} с превышением ограничения.
+		 */
+		@Test
+		public void countStopped()
+		{
+			String object = "Кино".repeat(1000);
+
+			long actual = CodePointLength.count(object, 3000);
+
+			assertThat(actual).isEqualTo(3001);
+		}
+
+		/**
+		 * Проверка метода {@link CodePointLength#count(CharSequence, int)} с превышением ограничения после суррогатов.
+		 */
+		@Test
+		public void countStoppedAfterSurrogate()
+		{
+			String object = "\uD83C\uDFB8 Кино".repeat(1000);
+
+			long actual = CodePointLength.count(object, 5000);
+
+			assertThat(actual).isEqualTo(5001);
+		}
+	}
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link DoubleArrayCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class DoubleArrayCheckTest
+{
+	/**
+	 * Класс проверки метода {@link DoubleArrayCheck#notAnyNegative()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyNegative
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyNegative()} с корректным значением.
+		 */
+		@Test
+		public void notAnyNegativeValid()
+		{
+			double[] object = {0.0, -0.0, Double.NaN, 19.86};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.notAnyNegative();
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyNegative()} с некорректным значением.
+		 */
+		@Test
+		public void notAnyNegativeInvalid()
+		{
+			double[] object = {19.82, -19.86};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				doubleArrayCheck::notAnyNegative,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo(-19.86);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link DoubleArrayCheck#notAnyOutRange(double, double)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyOutRange
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyOutRange(double, double)} с корректным значением.
+		 */
+		@Test
+		public void notAnyOutRangeValid()
+		{
+			double[] object = {19.82, 19.86, 19.90};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.notAnyOutRange(19.82, 19.90);
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyOutRange(double, double)} с некорректным значением в виде {@code NaN}.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidNaN()
+		{
+			double[] object = new double[1000];
+			Arrays.fill(object, 19.86);
+			object[700] = Double.NaN;
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> doubleArrayCheck.notAnyOutRange(19.82, 19.90),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(700);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyOutRange(double, double)} с некорректным значением меньше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidLess()
+		{
+			double[] object = {19.86, 19.81};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> doubleArrayCheck.notAnyOutRange(19.82, 19.90),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo(19.81);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.LESS_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link DoubleArrayCheck#notAnyNaN()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyNaN
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyNaN()} с корректным значением.
+		 */
+		@Test
+		public void notAnyNaNValid()
+		{
+			double[] object = new double[1000];
+			Arrays.fill(object, Double.POSITIVE_INFINITY);
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.notAnyNaN();
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyNaN()} с некорректным значением.
+		 */
+		@Test
+		public void notAnyNaNInvalid()
+		{
+			double[] object = new double[1001];
+			object[1000] = Double.NaN;
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				doubleArrayCheck::notAnyNaN,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1000);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link DoubleArrayCheck#notAnyZero()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyZero
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyZero()} с корректным значением.
+		 */
+		@Test
+		public void notAnyZeroValid()
+		{
+			double[] object = {19.82, Double.NaN, -19.86};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.notAnyZero();
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyZero()} с некорректным значением в виде {@code -0.0}.
+		 */
+		@Test
+		public void notAnyZeroInvalid()
+		{
+			double[] object = new double[1000];
+			Arrays.fill(object, 19.86);
+			object[515] = -0.0;
+			object[517] = 0.0;
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				doubleArrayCheck::notAnyZero,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(515);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ZERO_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link DoubleArrayCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notContainsDuplicates()} с корректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			double[] object = new double[100_000];
+			for (int index = 0; index < object.length; index++)
+			{
+				object[index] = index * 0.5;
+			}
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notContainsDuplicates()} с корректным значением из нулей разных знаков.
+		 */
+		@Test
+		public void notContainsDuplicatesValidSignedZero()
+		{
+			double[] object = {0.0, -0.0};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			double[] object = {1982.0, 1986.5, 1990.0, 1986.5};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> doubleArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(3);
+			assertThat(actual.getElement()).isEqualTo(1986.5);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notContainsDuplicates()} с некорректным значением из нескольких {@code NaN}.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalidNaN()
+		{
+			double[] object = {Double.NaN, 1986.5, 0.0 / 0.0};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> doubleArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link DoubleArrayCheck#memoryLimit(long)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MemoryLimit
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#memoryLimit(long)} с корректным значением при поиске сортировкой.
+		 */
+		@Test
+		public void memoryLimitValid()
+		{
+			double[] object = {1990.0, 1986.5, 1982.0, -0.0, 0.0};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+
+			DoubleArrayCheck actual = doubleArrayCheck.memoryLimit(0).notContainsDuplicates();
+
+			assertThat(actual).isSameAs(doubleArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#memoryLimit(long)} с некорректным значением при поиске сортировкой.
+		 */
+		@Test
+		public void memoryLimitInvalid()
+		{
+			double[] object = {1990.0, Double.NaN, 1982.0, Double.NaN};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object).memoryLimit(0);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> doubleArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(3);
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#memoryLimit(long)} на совпадение позиции повторяющегося элемента
+		 * при поиске в хеш-таблице и сортировкой.
+		 */
+		@Test
+		public void memoryLimitSameIndex()
+		{
+			double[] object = {5.0, 9.0, 5.0, 1.0, 1.0};
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(object);
+			DoubleArrayCheck doubleArrayCheckSorted = new DoubleArrayCheck(object).memoryLimit(0);
+
+			DuplicateObjectCheckException expected = catchThrowableOfType(
+				() -> doubleArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> doubleArrayCheckSorted.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(expected.getIndex()).isEqualTo(2);
+			assertThat(actual.getIndex()).isEqualTo(expected.getIndex());
+		}
+
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#memoryLimit(long)} с отрицательным значением.
+		 */
+		@Test
+		public void memoryLimitNegative()
+		{
+			DoubleArrayCheck doubleArrayCheck = new DoubleArrayCheck(new double[0]);
+
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> doubleArrayCheck.memoryLimit(-1));
+		}
+	}
+}
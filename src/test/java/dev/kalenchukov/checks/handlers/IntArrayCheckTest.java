@@ -0,0 +1,373 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link IntArrayCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IntArrayCheckTest
+{
+	/**
+	 * Класс проверки метода {@link IntArrayCheck#notEmpty()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEmpty
+	{
+		/**
+		 * Проверка метода {@link IntArrayCheck#notEmpty()} с корректным значением.
+		 */
+		@Test
+		public void notEmptyValid()
+		{
+			int[] object = {1986};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			IntArrayCheck actual = intArrayCheck.notEmpty();
+
+			assertThat(actual).isSameAs(intArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notEmpty()} с некорректным значением.
+		 */
+		@Test
+		public void notEmptyInvalid()
+		{
+			int[] object = {};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(intArrayCheck::notEmpty);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntArrayCheck#notAny(IntPredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAny(IntPredicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			int[] object = {1982, 1986, 1988};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			IntArrayCheck actual = intArrayCheck.notAny(value -> value % 2 != 0);
+
+			assertThat(actual).isSameAs(intArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAny(IntPredicate)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			int[] object = {1982, 1987, 1988};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> intArrayCheck.notAny(value -> value % 2 != 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo(1987);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAny(IntPredicate)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notAnyInvalidNull()
+		{
+			int[] object = null;
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> intArrayCheck.notAny(value -> value % 2 != 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(-1);
+			assertThat(actual.getElement()).isNull();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntArrayCheck#notAnyNegative()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyNegative
+	{
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAnyNegative()} с корректным значением.
+		 */
+		@Test
+		public void notAnyNegativeValid()
+		{
+			int[] object = {0, 1982, 1986};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			IntArrayCheck actual = intArrayCheck.notAnyNegative();
+
+			assertThat(actual).isSameAs(intArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAnyNegative()} с некорректным значением.
+		 */
+		@Test
+		public void notAnyNegativeInvalid()
+		{
+			int[] object = {1982, 1986, -1988};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				intArrayCheck::notAnyNegative,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo(-1988);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.NEGATIVE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntArrayCheck#notAnyOutRange(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyOutRange
+	{
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAnyOutRange(int, int)} с корректным значением.
+		 */
+		@Test
+		public void notAnyOutRangeValid()
+		{
+			int[] object = new int[2000];
+			Arrays.fill(object, 1986);
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			IntArrayCheck actual = intArrayCheck.notAnyOutRange(1982, 1990);
+
+			assertThat(actual).isSameAs(intArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAnyOutRange(int, int)} с некорректным значением меньше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidLess()
+		{
+			int[] object = new int[2000];
+			Arrays.fill(object, 1986);
+			object[1500] = 1981;
+			object[1700] = 1991;
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> intArrayCheck.notAnyOutRange(1982, 1990),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1500);
+			assertThat(actual.getElement()).isEqualTo(1981);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.LESS_NUMBER);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notAnyOutRange(int, int)} с некорректным значением больше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidMore()
+		{
+			int[] object = {1982, 1991, 1981};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> intArrayCheck.notAnyOutRange(1982, 1990),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo(1991);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.MORE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntArrayCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link IntArrayCheck#notContainsDuplicates()} с корректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			int[] object = new int[100_000];
+			for (int index = 0; index < object.length; index++)
+			{
+				object[index] = index * 7919;
+			}
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			IntArrayCheck actual = intArrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(intArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			int[] object = {1982, 1986, 1990, 1986};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> intArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(3);
+			assertThat(actual.getElement()).isEqualTo(1986);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#notContainsDuplicates()} с некорректным значением из нескольких нулей.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalidZero()
+		{
+			int[] object = {0, 1986, 0};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(intArrayCheck::notContainsDuplicates);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntArrayCheck#memoryLimit(long)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MemoryLimit
+	{
+		/**
+		 * Проверка метода {@link IntArrayCheck#memoryLimit(long)} с корректным значением при поиске сортировкой.
+		 */
+		@Test
+		public void memoryLimitValid()
+		{
+			int[] object = {1990, 1986, 1982};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+
+			IntArrayCheck actual = intArrayCheck.memoryLimit(0).notContainsDuplicates();
+
+			assertThat(actual).isSameAs(intArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#memoryLimit(long)} с некорректным значением при поиске сортировкой.
+		 */
+		@Test
+		public void memoryLimitInvalid()
+		{
+			int[] object = {1990, 1986, 1982, 1986};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object).memoryLimit(0);
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(intArrayCheck::notContainsDuplicates);
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#memoryLimit(long)} на совпадение позиции повторяющегося элемента
+		 * при поиске в хеш-таблице и сортировкой.
+		 */
+		@Test
+		public void memoryLimitSameIndex()
+		{
+			int[] object = {5, 9, 5, 1, 1};
+			IntArrayCheck intArrayCheck = new IntArrayCheck(object);
+			IntArrayCheck intArrayCheckSorted = new IntArrayCheck(object).memoryLimit(0);
+
+			DuplicateObjectCheckException expected = catchThrowableOfType(
+				() -> intArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> intArrayCheckSorted.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(expected.getIndex()).isEqualTo(2);
+			assertThat(actual.getIndex()).isEqualTo(expected.getIndex());
+		}
+
+		/**
+		 * Проверка метода {@link IntArrayCheck#memoryLimit(long)} с отрицательным значением.
+		 */
+		@Test
+		public void memoryLimitNegative()
+		{
+			IntArrayCheck intArrayCheck = new IntArrayCheck(new int[0]);
+
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> intArrayCheck.memoryLimit(-1));
+		}
+	}
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link IntCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IntCheckTest
+{
+	/**
+	 * Класс проверки метода {@link IntCheck#notEquals(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEquals
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notEquals(int)} с корректным значением.
+		 */
+		@Test
+		public void notEqualsValid()
+		{
+			int object = 1988;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notEquals(1989);
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notEquals(int)} с некорректным значением.
+		 */
+		@Test
+		public void notEqualsInvalid()
+		{
+			int object = 1988;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(EqualsObjectCheckException.class)
+				.isThrownBy(() -> intCheck.notEquals(1988))
+				.satisfies(exception -> assertThat(exception.getCulprit()).isEqualTo(object));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#not(IntPredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Not
+	{
+		/**
+		 * Проверка метода {@link IntCheck#not(IntPredicate)} с корректным значением.
+		 */
+		@Test
+		public void notValid()
+		{
+			int object = 7;
+			IntPredicate predicate = (value) -> value % 2 == 0;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.not(predicate);
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#not(IntPredicate)} с некорректным значением.
+		 */
+		@Test
+		public void notInvalid()
+		{
+			int object = 8;
+			IntPredicate predicate = (value) -> value % 2 == 0;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(IllegalObjectCheckException.class)
+				.isThrownBy(() -> intCheck.not(predicate));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notZero()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotZero
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notZero()} с корректным значением.
+		 */
+		@Test
+		public void notZeroValid()
+		{
+			int object = 52;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notZero();
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notZero()} с некорректным значением.
+		 */
+		@Test
+		public void notZeroInvalid()
+		{
+			int object = 0;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(ZeroNumberObjectCheckException.class)
+				.isThrownBy(intCheck::notZero);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notNegative()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotNegative
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notNegative()} с корректным значением.
+		 */
+		@Test
+		public void notNegativeValid()
+		{
+			int object = 5745;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notNegative();
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notNegative()} с некорректным значением.
+		 */
+		@Test
+		public void notNegativeInvalid()
+		{
+			int object = -9754;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(NegativeNumberObjectCheckException.class)
+				.isThrownBy(intCheck::notNegative);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notNegative(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotNegativeWithMessage
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notNegative(String)} с некорректным значением.
+		 */
+		@Test
+		public void notNegativeInvalid()
+		{
+			int object = -9754;
+			String message = "Времена меняются";
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(NegativeNumberObjectCheckException.class)
+				.isThrownBy(() -> intCheck.notNegative(message))
+				.withMessage(message);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notPositive()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotPositive
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notPositive()} с корректным значением.
+		 */
+		@Test
+		public void notPositiveValid()
+		{
+			int object = -231;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notPositive();
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notPositive()} с некорректным значением.
+		 */
+		@Test
+		public void notPositiveInvalid()
+		{
+			int object = 3455;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(PositiveNumberObjectCheckException.class)
+				.isThrownBy(intCheck::notPositive);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notMoreNumber(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreNumber
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notMoreNumber(int)} с корректным значением.
+		 */
+		@Test
+		public void notMoreNumberValid()
+		{
+			int object = 97;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notMoreNumber(100);
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notMoreNumber(int)} с некорректным значением.
+		 */
+		@Test
+		public void notMoreNumberInvalid()
+		{
+			int object = 101;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(MoreNumberObjectCheckException.class)
+				.isThrownBy(() -> intCheck.notMoreNumber(100));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notMoreNumber(int, String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreNumberWithMessage
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notMoreNumber(int, String)} с некорректным значением.
+		 */
+		@Test
+		public void notMoreNumberInvalid()
+		{
+			int object = 101;
+			String message = "Видели ночь";
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(MoreNumberObjectCheckException.class)
+				.isThrownBy(() -> intCheck.notMoreNumber(100, message))
+				.withMessage(message);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notLessNumber(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotLessNumber
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notLessNumber(int)} с корректным значением.
+		 */
+		@Test
+		public void notLessNumberValid()
+		{
+			int object = 117;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notLessNumber(100);
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notLessNumber(int)} с некорректным значением.
+		 */
+		@Test
+		public void notLessNumberInvalid()
+		{
+			int object = 74;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(LessNumberObjectCheckException.class)
+				.isThrownBy(() -> intCheck.notLessNumber(100));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#notRangeNumber(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotRangeNumber
+	{
+		/**
+		 * Проверка метода {@link IntCheck#notRangeNumber(int, int)} с корректным значением.
+		 */
+		@Test
+		public void notRangeNumberValid()
+		{
+			int object = 6712;
+			IntCheck intCheck = new IntCheck(object);
+
+			IntCheck actual = intCheck.notRangeNumber(100, 1000);
+
+			assertThat(actual).isSameAs(intCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IntCheck#notRangeNumber(int, int)} с некорректным значением.
+		 */
+		@Test
+		public void notRangeNumberInvalid()
+		{
+			int object = 746;
+			IntCheck intCheck = new IntCheck(object);
+
+			assertThatExceptionOfType(RangeNumberObjectCheckException.class)
+				.isThrownBy(() -> intCheck.notRangeNumber(100, 1000));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IntCheck#get()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Get
+	{
+		/**
+		 * Проверка метода {@link IntCheck#get()}.
+		 */
+		@Test
+		public void getValid()
+		{
+			int object = 42;
+			IntCheck intCheck = new IntCheck(object);
+
+			int actual = intCheck.notNegative().notZero().get();
+
+			assertThat(actual).isEqualTo(object);
+		}
+	}
+}
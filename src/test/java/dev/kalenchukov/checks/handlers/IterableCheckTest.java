@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link IterableCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IterableCheckTest
+{
+	/**
+	 * Класс проверки метода {@link IterableCheck#notEmpty()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEmpty
+	{
+		/**
+		 * Проверка метода {@link IterableCheck#notEmpty()} с корректным значением.
+		 */
+		@Test
+		public void notEmptyValid()
+		{
+			Iterable<Integer> object = () -> Stream.iterate(1, value -> value + 1).iterator();
+			IterableCheck<Integer> iterableCheck = new IterableCheck<>(object);
+
+			IterableCheck<Integer> actual = iterableCheck.notEmpty();
+
+			assertThat(actual).isSameAs(iterableCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IterableCheck#notEmpty()} с некорректным значением.
+		 */
+		@Test
+		public void notEmptyInvalid()
+		{
+			Iterable<String> object = Collections::emptyIterator;
+			IterableCheck<String> iterableCheck = new IterableCheck<>(object);
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(iterableCheck::notEmpty);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IterableCheck#notMoreSize(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreSize
+	{
+		/**
+		 * Проверка метода {@link IterableCheck#notMoreSize(int)} с некорректным значением в виде бесконечного объекта.
+		 */
+		@Test
+		public void notMoreSizeInvalid()
+		{
+			Iterable<Integer> object = () -> Stream.iterate(1, value -> value + 1).iterator();
+			IterableCheck<Integer> iterableCheck = new IterableCheck<>(object);
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> iterableCheck.notMoreSize(1000));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IterableCheck#notLessSize(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotLessSize
+	{
+		/**
+		 * Проверка метода {@link IterableCheck#notLessSize(int)} с корректным значением в виде бесконечного объекта.
+		 */
+		@Test
+		public void notLessSizeValid()
+		{
+			Iterable<Integer> object = () -> Stream.iterate(1, value -> value + 1).iterator();
+			IterableCheck<Integer> iterableCheck = new IterableCheck<>(object);
+
+			IterableCheck<Integer> actual = iterableCheck.notLessSize(1000);
+
+			assertThat(actual).isSameAs(iterableCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IterableCheck#notLessSize(int)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notLessSizeWithNull()
+		{
+			Iterable<String> object = null;
+			IterableCheck<String> iterableCheck = new IterableCheck<>(object);
+
+			assertThatExceptionOfType(LessSizeObjectCheckException.class)
+				.isThrownBy(() -> iterableCheck.notLessSize(1));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IterableCheck#notRangeSize(int, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotRangeSize
+	{
+		/**
+		 * Проверка метода {@link IterableCheck#notRangeSize(int, int)} с некорректным значением.
+		 */
+		@Test
+		public void notRangeSizeInvalid()
+		{
+			Iterable<String> object = List.of("Группа крови", "Кукушка")::iterator;
+			IterableCheck<String> iterableCheck = new IterableCheck<>(object);
+
+			assertThatExceptionOfType(RangeSizeObjectCheckException.class)
+				.isThrownBy(() -> iterableCheck.notRangeSize(1, 2));
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link IteratorCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IteratorCheckTest
+{
+	/**
+	 * Класс проверки метода {@link IteratorCheck#notEmpty()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEmpty
+	{
+		/**
+		 * Проверка метода {@link IteratorCheck#notEmpty()} с корректным значением.
+		 */
+		@Test
+		public void notEmptyValid()
+		{
+			Iterator<String> object = List.of("Группа крови").iterator();
+			IteratorCheck<String> iteratorCheck = new IteratorCheck<>(object);
+
+			iteratorCheck.notEmpty();
+
+			assertThat(object.next()).isEqualTo("Группа крови");
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IteratorCheck#notMoreSize(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotMoreSize
+	{
+		/**
+		 * Проверка метода {@link IteratorCheck#notMoreSize(int)} с некорректным значением в виде бесконечного объекта.
+		 */
+		@Test
+		public void notMoreSizeInvalid()
+		{
+			Iterator<Integer> object = Stream.iterate(1, value -> value + 1).iterator();
+			IteratorCheck<Integer> iteratorCheck = new IteratorCheck<>(object);
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> iteratorCheck.notMoreSize(1000));
+			assertThat(object.next()).isEqualTo(1002);
+		}
+
+		/**
+		 * Проверка метода {@link IteratorCheck#notMoreSize(int)} с возвратом итератора, повторяющего полученные элементы.
+		 */
+		@Test
+		public void notMoreSizeReplayed()
+		{
+			Iterator<String> object = List.of("Группа крови", "Кукушка", "Кончится лето").iterator();
+			IteratorCheck<String> iteratorCheck = new IteratorCheck<>(object);
+
+			Iterator<String> actual = iteratorCheck.silent().notMoreSize(1).get();
+
+			assertThat(actual).toIterable().containsExactly("Группа крови", "Кукушка", "Кончится лето");
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link IteratorCheck#notLessSize(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotLessSize
+	{
+		/**
+		 * Проверка метода {@link IteratorCheck#notLessSize(int)} с корректным значением после другой проверки количества.
+		 */
+		@Test
+		public void notLessSizeValid()
+		{
+			Iterator<String> object = List.of("Группа крови", "Кукушка", "Кончится лето").iterator();
+			IteratorCheck<String> iteratorCheck = new IteratorCheck<>(object);
+
+			IteratorCheck<String> actual = iteratorCheck.notMoreSize(5).notLessSize(3);
+
+			assertThat(actual).isSameAs(iteratorCheck);
+		}
+
+		/**
+		 * Проверка метода {@link IteratorCheck#notLessSize(int)} с некорректным значением.
+		 */
+		@Test
+		public void notLessSizeInvalid()
+		{
+			Iterator<String> object = List.of("Группа крови").iterator();
+			IteratorCheck<String> iteratorCheck = new IteratorCheck<>(object);
+
+			assertThatExceptionOfType(LessSizeObjectCheckException.class)
+				.isThrownBy(() -> iteratorCheck.notLessSize(2));
+		}
+	}
+}
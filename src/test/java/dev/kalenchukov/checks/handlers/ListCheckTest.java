@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link ListCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ListCheckTest
+{
+	/**
+	 * Класс проверки метода {@link ListCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link ListCheck#notContainsDuplicates()} с корректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			List<String> object = List.of("Пачка сигарет", "Звезда по имени Солнце");
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ListCheck<String> actual = listCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(listCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ListCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			List<String> object = new LinkedList<>(List.of("Пачка сигарет", "Звезда по имени Солнце"));
+			object.add(new String("Пачка сигарет"));
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> listCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo("Пачка сигарет");
+		}
+
+		/**
+		 * Проверка метода {@link ListCheck#notContainsDuplicates()} с некорректным значением в виде списка,
+		 * хеш-таблица которого превысила бы максимальную ёмкость.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalidHuge()
+		{
+			List<String> object = new AbstractList<>()
+			{
+				@Override
+				public String get(final int index)
+				{
+					return index % 2 == 0 ? "Пачка сигарет" : "Звезда по имени Солнце";
+				}
+
+				@Override
+				public int size()
+				{
+					return (1 << 29) + 1;
+				}
+			};
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(listCheck::notContainsDuplicates);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ListCheck#notContainsIdentical()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsIdentical
+	{
+		/**
+		 * Проверка метода {@link ListCheck#notContainsIdentical()} с корректным значением.
+		 */
+		@Test
+		public void notContainsIdenticalValid()
+		{
+			List<String> object = List.of("Пачка сигарет", new String("Пачка сигарет"));
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ListCheck<String> actual = listCheck.notContainsIdentical();
+
+			assertThat(actual).isSameAs(listCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ListCheck#notContainsIdentical()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsIdenticalInvalid()
+		{
+			String value = "Пачка сигарет";
+			List<String> object = Arrays.asList(value, "Звезда по имени Солнце", value);
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> listCheck.notContainsIdentical(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isSameAs(value);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ListCheck#memoryLimit(long)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MemoryLimit
+	{
+		/**
+		 * Проверка метода {@link ListCheck#memoryLimit(long)} с корректным значением при поиске в множестве.
+		 */
+		@Test
+		public void memoryLimitValid()
+		{
+			List<String> object = List.of("Пачка сигарет", "Звезда по имени Солнце");
+			ListCheck<String> listCheck = new ListCheck<>(object);
+
+			ListCheck<String> actual = listCheck.memoryLimit(0).notContainsDuplicates();
+
+			assertThat(actual).isSameAs(listCheck);
+		}
+
+		/**
+		 * Проверка метода {@link ListCheck#memoryLimit(long)} с некорректным значением при поиске в множестве.
+		 */
+		@Test
+		public void memoryLimitInvalid()
+		{
+			List<String> object = List.of("Звезда по имени Солнце", "Пачка сигарет", "Звезда по имени Солнце");
+			ListCheck<String> listCheck = new ListCheck<>(object).memoryLimit(0);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> listCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo("Звезда по имени Солнце");
+		}
+
+		/**
+		 * Проверка метода {@link ListCheck#memoryLimit(long)} с отрицательным значением.
+		 */
+		@Test
+		public void memoryLimitNegative()
+		{
+			ListCheck<String> listCheck = new ListCheck<>(List.of());
+
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> listCheck.memoryLimit(-1));
+		}
+	}
+}
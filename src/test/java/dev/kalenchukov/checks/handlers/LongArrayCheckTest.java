@@ -0,0 +1,394 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link LongArrayCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class LongArrayCheckTest
+{
+	/**
+	 * Класс проверки метода {@link LongArrayCheck#notEmpty()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotEmpty
+	{
+		/**
+		 * Проверка метода {@link LongArrayCheck#notEmpty()} с корректным значением.
+		 */
+		@Test
+		public void notEmptyValid()
+		{
+			long[] object = {1986};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			LongArrayCheck actual = longArrayCheck.notEmpty();
+
+			assertThat(actual).isSameAs(longArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notEmpty()} с некорректным значением.
+		 */
+		@Test
+		public void notEmptyInvalid()
+		{
+			long[] object = {};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(longArrayCheck::notEmpty);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link LongArrayCheck#notAny(LongPredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAny(LongPredicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			long[] object = {1982, 1986, 1988};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			LongArrayCheck actual = longArrayCheck.notAny(value -> value % 2 != 0);
+
+			assertThat(actual).isSameAs(longArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAny(LongPredicate)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			long[] object = {1982, 1987, 1988};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> longArrayCheck.notAny(value -> value % 2 != 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo(1987L);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAny(LongPredicate)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notAnyInvalidNull()
+		{
+			long[] object = null;
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> longArrayCheck.notAny(value -> value % 2 != 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(-1);
+			assertThat(actual.getElement()).isNull();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link LongArrayCheck#notAnyNegative()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyNegative
+	{
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAnyNegative()} с корректным значением.
+		 */
+		@Test
+		public void notAnyNegativeValid()
+		{
+			long[] object = {0, 1982, 1986};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			LongArrayCheck actual = longArrayCheck.notAnyNegative();
+
+			assertThat(actual).isSameAs(longArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAnyNegative()} с некорректным значением.
+		 */
+		@Test
+		public void notAnyNegativeInvalid()
+		{
+			long[] object = {1982, 1986, -1988};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				longArrayCheck::notAnyNegative,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(2);
+			assertThat(actual.getElement()).isEqualTo(-1988L);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.NEGATIVE_NUMBER);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAnyNegative()} с некорректным значением в длинном массиве.
+		 */
+		@Test
+		public void notAnyNegativeInvalidLarge()
+		{
+			long[] object = new long[1000];
+			Arrays.fill(object, 4_294_967_296L);
+			object[700] = -4_294_967_296L;
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				longArrayCheck::notAnyNegative,
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(700);
+			assertThat(actual.getElement()).isEqualTo(-4_294_967_296L);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.NEGATIVE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link LongArrayCheck#notAnyOutRange(long, long)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAnyOutRange
+	{
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAnyOutRange(long, long)} с корректным значением.
+		 */
+		@Test
+		public void notAnyOutRangeValid()
+		{
+			long[] object = new long[2000];
+			Arrays.fill(object, 1986);
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			LongArrayCheck actual = longArrayCheck.notAnyOutRange(1982, 1990);
+
+			assertThat(actual).isSameAs(longArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAnyOutRange(long, long)} с некорректным значением меньше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidLess()
+		{
+			long[] object = new long[2000];
+			Arrays.fill(object, 1986);
+			object[1500] = 1981;
+			object[1700] = 1991;
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> longArrayCheck.notAnyOutRange(1982, 1990),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1500);
+			assertThat(actual.getElement()).isEqualTo(1981L);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.LESS_NUMBER);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notAnyOutRange(long, long)} с некорректным значением больше диапазона.
+		 */
+		@Test
+		public void notAnyOutRangeInvalidMore()
+		{
+			long[] object = {1982, 4_294_968_287L, 1981};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> longArrayCheck.notAnyOutRange(1982, 1990),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(1);
+			assertThat(actual.getElement()).isEqualTo(4_294_968_287L);
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.MORE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link LongArrayCheck#notContainsDuplicates()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsDuplicates
+	{
+		/**
+		 * Проверка метода {@link LongArrayCheck#notContainsDuplicates()} с корректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesValid()
+		{
+			long[] object = new long[100_000];
+			for (int index = 0; index < object.length; index++)
+			{
+				object[index] = index * 7919L;
+			}
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			LongArrayCheck actual = longArrayCheck.notContainsDuplicates();
+
+			assertThat(actual).isSameAs(longArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notContainsDuplicates()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalid()
+		{
+			long[] object = {1982, 1986, 1990, 1986};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> longArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(3);
+			assertThat(actual.getElement()).isEqualTo(1986L);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#notContainsDuplicates()} с некорректным значением из нескольких нулей.
+		 */
+		@Test
+		public void notContainsDuplicatesInvalidZero()
+		{
+			long[] object = {0, 1986, 0};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(longArrayCheck::notContainsDuplicates);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link LongArrayCheck#memoryLimit(long)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MemoryLimit
+	{
+		/**
+		 * Проверка метода {@link LongArrayCheck#memoryLimit(long)} с корректным значением при поиске сортировкой.
+		 */
+		@Test
+		public void memoryLimitValid()
+		{
+			long[] object = {1990, 1986, 1982};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+
+			LongArrayCheck actual = longArrayCheck.memoryLimit(0).notContainsDuplicates();
+
+			assertThat(actual).isSameAs(longArrayCheck);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#memoryLimit(long)} с некорректным значением при поиске сортировкой.
+		 */
+		@Test
+		public void memoryLimitInvalid()
+		{
+			long[] object = {1990, 1986, 1982, 1986};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object).memoryLimit(0);
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(longArrayCheck::notContainsDuplicates);
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#memoryLimit(long)} на совпадение позиции повторяющегося элемента
+		 * при поиске в хеш-таблице и сортировкой.
+		 */
+		@Test
+		public void memoryLimitSameIndex()
+		{
+			long[] object = {5L, 9L, 5L, 1L, 1L};
+			LongArrayCheck longArrayCheck = new LongArrayCheck(object);
+			LongArrayCheck longArrayCheckSorted = new LongArrayCheck(object).memoryLimit(0);
+
+			DuplicateObjectCheckException expected = catchThrowableOfType(
+				() -> longArrayCheck.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+			DuplicateObjectCheckException actual = catchThrowableOfType(
+				() -> longArrayCheckSorted.notContainsDuplicates(),
+				DuplicateObjectCheckException.class
+			);
+
+			assertThat(expected.getIndex()).isEqualTo(2);
+			assertThat(actual.getIndex()).isEqualTo(expected.getIndex());
+		}
+
+		/**
+		 * Проверка метода {@link LongArrayCheck#memoryLimit(long)} с отрицательным значением.
+		 */
+		@Test
+		public void memoryLimitNegative()
+		{
+			LongArrayCheck longArrayCheck = new LongArrayCheck(new long[0]);
+
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> longArrayCheck.memoryLimit(-1));
+		}
+	}
+}
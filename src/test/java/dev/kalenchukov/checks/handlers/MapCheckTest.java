@@ -19,13 +19,22 @@
 package dev.kalenchukov.checks.handlers;
 
 import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.rules.Rule;
+import dev.kalenchukov.checks.rules.Rules;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -587,4 +596,257 @@ public class MapCheckTest
 				.withMessage(message);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Класс проверки метода {@link MapCheck#notContainsNullKey()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsNullKey
+	{
+		/**
+		 * Проверка метода {@link MapCheck#notContainsNullKey()} с корректным значением.
+		 */
+		@Test
+		public void notContainsNullKeyValid()
+		{
+			Map<String, String> object = new HashMap<>();
+			object.put("Пачка сигарет", null);
+			MapCheck<String, String> mapCheck = new MapCheck<>(object);
+
+			MapCheck<String, String> actual = mapCheck.notContainsNullKey();
+
+			assertThat(actual).isSameAs(mapCheck);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#notContainsNullKey()} с отображением, не допускающим {@code null}.
+		 */
+		@Test
+		public void notContainsNullKeyValidNullFree()
+		{
+			Map<String, String> object = new ConcurrentHashMap<>(Map.of("Пачка сигарет", "Спокойная ночь"));
+			MapCheck<String, String> mapCheck = new MapCheck<>(object);
+
+			MapCheck<String, String> actual = mapCheck.notContainsNullKey();
+
+			assertThat(actual).isSameAs(mapCheck);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#notContainsNullKey()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsNullKeyInvalid()
+		{
+			Map<String, String> object = new HashMap<>();
+			object.put(null, "Спокойная ночь");
+			MapCheck<String, String> mapCheck = new MapCheck<>(object);
+
+			assertThatExceptionOfType(ContainsNullObjectCheckException.class)
+				.isThrownBy(mapCheck::notContainsNullKey);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MapCheck#notContainsNullValue()}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotContainsNullValue
+	{
+		/**
+		 * Проверка метода {@link MapCheck#notContainsNullValue()} с корректным значением.
+		 */
+		@Test
+		public void notContainsNullValueValid()
+		{
+			Map<String, String> object = new HashMap<>();
+			object.put(null, "Спокойная ночь");
+			MapCheck<String, String> mapCheck = new MapCheck<>(object);
+
+			MapCheck<String, String> actual = mapCheck.notContainsNullValue();
+
+			assertThat(actual).isSameAs(mapCheck);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#notContainsNullValue()} с некорректным значением.
+		 */
+		@Test
+		public void notContainsNullValueInvalid()
+		{
+			Map<String, String> object = new HashMap<>();
+			object.put("Пачка сигарет", null);
+			MapCheck<String, String> mapCheck = new MapCheck<>(object);
+
+			assertThatExceptionOfType(ContainsNullObjectCheckException.class)
+				.isThrownBy(mapCheck::notContainsNullValue);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MapCheck#notAny(BiPredicate)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class NotAny
+	{
+		/**
+		 * Проверка метода {@link MapCheck#notAny(BiPredicate)} с корректным значением.
+		 */
+		@Test
+		public void notAnyValid()
+		{
+			Map<String, Integer> object = new HashMap<>(Map.of(
+				"Группа крови", 1988,
+				"Звезда по имени Солнце", 1989
+			));
+			MapCheck<String, Integer> mapCheck = new MapCheck<>(object);
+
+			MapCheck<String, Integer> actual = mapCheck.notAny((key, value) -> key.isEmpty() || value < 1982);
+
+			assertThat(actual).isSameAs(mapCheck);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#notAny(BiPredicate)} с некорректным значением.
+		 */
+		@Test
+		public void notAnyInvalid()
+		{
+			Map<String, Integer> object = new TreeMap<>(Map.of(
+				"Группа крови", 1988,
+				"45", 1982,
+				"Звезда по имени Солнце", 1989
+			));
+			MapCheck<String, Integer> mapCheck = new MapCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> mapCheck.notAny((key, value) -> value < 1983),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getCulprit()).isSameAs(object);
+			assertThat(actual.getIndex()).isEqualTo(-1);
+			assertThat(actual.getElement()).isEqualTo(new AbstractMap.SimpleImmutableEntry<>("45", 1982));
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.ILLEGAL);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#notAny(BiPredicate)} с прекращением обхода на первой некорректной записи.
+		 */
+		@Test
+		public void notAnyInvalidStopped()
+		{
+			Map<String, Integer> object = new TreeMap<>(Map.of(
+				"Группа крови", 1988,
+				"45", 1982,
+				"Звезда по имени Солнце", 1989
+			));
+			AtomicInteger tests = new AtomicInteger();
+			MapCheck<String, Integer> mapCheck = new MapCheck<>(object);
+
+			assertThatExceptionOfType(ElementObjectCheckException.class)
+				.isThrownBy(() -> mapCheck.notAny((key, value) -> tests.incrementAndGet() > 0 && value < 1983));
+
+			assertThat(tests).hasValue(1);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#notAny(BiPredicate)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void notAnyWithNull()
+		{
+			Map<String, Integer> object = null;
+			MapCheck<String, Integer> mapCheck = new MapCheck<>(object);
+
+			assertThatExceptionOfType(ElementObjectCheckException.class)
+				.isThrownBy(() -> mapCheck.notAny((key, value) -> value < 1983));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MapCheck#each(Rule, Rule)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Each
+	{
+		/**
+		 * Проверка метода {@link MapCheck#each(Rule, Rule)} с некорректным ключом.
+		 */
+		@Test
+		public void eachInvalidKey()
+		{
+			Map<String, Integer> object = new HashMap<>();
+			object.put(" ", 1988);
+			Rule<String> keyRule = Rules.string().notBlank().build();
+			Rule<Integer> valueRule = Rules.integer().notNegative().build();
+			MapCheck<String, Integer> mapCheck = new MapCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> mapCheck.each(keyRule, valueRule),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.BLANK);
+		}
+
+		/**
+		 * Проверка метода {@link MapCheck#each(Rule, Rule)} с некорректным значением.
+		 */
+		@Test
+		public void eachInvalidValue()
+		{
+			Map<String, Integer> object = new HashMap<>();
+			object.put("Группа крови", -1988);
+			Rule<String> keyRule = Rules.string().notBlank().build();
+			Rule<Integer> valueRule = Rules.integer().notNegative().build();
+			MapCheck<String, Integer> mapCheck = new MapCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> mapCheck.each(keyRule, valueRule),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getElementViolation()).isEqualTo(Violation.NEGATIVE_NUMBER);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MapCheck#parallel(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Parallel
+	{
+		/**
+		 * Проверка метода {@link MapCheck#parallel(int)} с некорректным значением.
+		 */
+		@Test
+		public void parallelInvalid()
+		{
+			Map<Integer, Integer> object = new ConcurrentHashMap<>();
+			for (int key = 0; key < 100_000; key++)
+			{
+				object.put(key, key);
+			}
+			object.put(54_321, -1);
+			MapCheck<Integer, Integer> mapCheck = new MapCheck<>(object);
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> mapCheck.parallel(1_000).notAny((key, value) -> value < 0),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getElement()).isEqualTo(new AbstractMap.SimpleImmutableEntry<>(54_321, -1));
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link PatternCache}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class PatternCacheTest
+{
+	/**
+	 * Класс проверки метода {@link PatternCache#get(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Get
+	{
+		/**
+		 * Проверка метода {@link PatternCache#get(String)} с повторным обращением.
+		 */
+		@Test
+		public void getCached()
+		{
+			PatternCache.clear();
+
+			Pattern first = PatternCache.get("[0-9]+");
+			Pattern second = PatternCache.get("[0-9]+");
+
+			assertThat(second).isSameAs(first);
+			assertThat(PatternCacheStatistics.current().getHitCount()).isEqualTo(1);
+			assertThat(PatternCacheStatistics.current().getMissCount()).isEqualTo(1);
+			assertThat(PatternCacheStatistics.current().getSize()).isEqualTo(1);
+		}
+
+		/**
+		 * Проверка метода {@link PatternCache#get(String)} с переполнением кеша.
+		 */
+		@Test
+		public void getEvicted()
+		{
+			PatternCache.clear();
+
+			Pattern recent = PatternCache.get("Кино");
+			for (int index = 1; index < PatternCache.CAPACITY; index++)
+			{
+				PatternCache.get("Кино " + index);
+			}
+			PatternCache.get("Кино");
+			PatternCache.get("Кино " + PatternCache.CAPACITY);
+
+			assertThat(PatternCacheStatistics.current().getSize()).isEqualTo(PatternCache.CAPACITY);
+			assertThat(PatternCache.get("Кино")).isSameAs(recent);
+			assertThat(PatternCache.get("Кино 1")).isNotSameAs(recent);
+			assertThat(PatternCacheStatistics.current().getMissCount()).isEqualTo(PatternCache.CAPACITY + 2);
+		}
+
+		/**
+		 * Проверка метода {@link PatternCache#get(String)} с вытеснением выражения, чей второй шанс исчерпан.
+		 */
+		@Test
+		public void getEvictedAfterSecondChance()
+		{
+			PatternCache.clear();
+
+			Pattern recent = PatternCache.get("Кукушка");
+			for (int index = 1; index < PatternCache.CAPACITY; index++)
+			{
+				PatternCache.get("Кукушка " + index);
+			}
+			PatternCache.get("Кукушка");
+			for (int index = 0; index < PatternCache.CAPACITY; index++)
+			{
+				PatternCache.get("Группа крови " + index);
+			}
+
+			assertThat(PatternCacheStatistics.current().getSize()).isEqualTo(PatternCache.CAPACITY);
+			assertThat(PatternCache.get("Кукушка")).isNotSameAs(recent);
+		}
+
+		/**
+		 * Проверка метода {@link PatternCache#get(String)} с некорректным выражением.
+		 */
+		@Test
+		public void getInvalid()
+		{
+			assertThatExceptionOfType(PatternSyntaxException.class)
+				.isThrownBy(() -> PatternCache.get("[0-9"));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link PatternCache#matcher(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MatcherWithString
+	{
+		/**
+		 * Проверка метода {@link PatternCache#matcher(String)} с повторным обращением из одного потока.
+		 */
+		@Test
+		public void matcherReused()
+		{
+			Matcher first = PatternCache.matcher("[0-9]+");
+			Matcher second = PatternCache.matcher("[0-9]+");
+
+			assertThat(second).isSameAs(first);
+			assertThat(first.pattern()).isSameAs(PatternCache.get("[0-9]+"));
+		}
+
+		/**
+		 * Проверка метода {@link PatternCache#matcher(String)} с обращением из другого потока.
+		 */
+		@Test
+		public void matcherPerThread()
+		{
+			Matcher first = PatternCache.matcher("[0-9]+");
+			Matcher second = CompletableFuture.supplyAsync(() -> PatternCache.matcher("[0-9]+")).join();
+
+			assertThat(second).isNotSameAs(first);
+		}
+
+		/**
+		 * Проверка сброса сопоставителя на пустую строку после проверки.
+		 */
+		@Test
+		public void matcherReleased()
+		{
+			new StringCheck("1986").matches("[0-9]+");
+
+			Matcher actual = PatternCache.matcher("[0-9]+");
+
+			assertThat(actual.regionEnd()).isZero();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link PatternCache#matcher(Pattern)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class MatcherWithPattern
+	{
+		/**
+		 * Проверка метода {@link PatternCache#matcher(Pattern)} с тем же выражением.
+		 */
+		@Test
+		public void matcherReused()
+		{
+			Pattern regex = Pattern.compile("[a-z]+");
+
+			Matcher first = PatternCache.matcher(regex);
+			Matcher second = PatternCache.matcher(regex);
+
+			assertThat(second).isSameAs(first);
+		}
+
+		/**
+		 * Проверка метода {@link PatternCache#matcher(Pattern)} с другим выражением.
+		 */
+		@Test
+		public void matcherReplaced()
+		{
+			Pattern first = Pattern.compile("[a-z]+");
+			Pattern second = Pattern.compile("[a-z]+");
+
+			Matcher actual = PatternCache.matcher(first);
+			PatternCache.matcher(second);
+
+			assertThat(PatternCache.matcher(first)).isNotSameAs(actual);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ReusableIntegerCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ReusableIntegerCheckTest
+{
+	/**
+	 * Класс проверки метода {@link ReusableIntegerCheck#rebind(Integer)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Rebind
+	{
+		/**
+		 * Проверка метода {@link ReusableIntegerCheck#rebind(Integer)} с корректным значением.
+		 */
+		@Test
+		public void rebindValid()
+		{
+			Integer object = 1987;
+			ReusableIntegerCheck reusableIntegerCheck = new ReusableIntegerCheck();
+
+			ReusableIntegerCheck actual = reusableIntegerCheck.rebind(object);
+
+			assertThat(actual).isSameAs(reusableIntegerCheck);
+			assertThat(actual.get()).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link ReusableIntegerCheck#rebind(Integer)} с повторной привязкой.
+		 */
+		@Test
+		public void rebindInvalid()
+		{
+			ReusableIntegerCheck reusableIntegerCheck = new ReusableIntegerCheck();
+
+			reusableIntegerCheck.rebind(1987).notNegative().notMoreNumber(2000);
+
+			assertThatExceptionOfType(NegativeNumberObjectCheckException.class)
+				.isThrownBy(() -> reusableIntegerCheck.rebind(-8).notNegative())
+				.satisfies(exception -> assertThat(exception.getCulprit()).isEqualTo(-8));
+		}
+
+		/**
+		 * Проверка метода {@link ReusableIntegerCheck#rebind(Integer)} со сбросом невыполненного требования.
+		 */
+		@Test
+		public void rebindWithSilent()
+		{
+			ReusableIntegerCheck reusableIntegerCheck = new ReusableIntegerCheck();
+			reusableIntegerCheck.silent();
+
+			boolean violated = reusableIntegerCheck.rebind(-8).notNegative().isViolated();
+			IntegerCheck actual = reusableIntegerCheck.rebind(8).notNegative();
+
+			assertThat(violated).isTrue();
+			assertThat(actual.isViolated()).isFalse();
+			assertThat(actual.get()).isEqualTo(8);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ReusableListCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ReusableListCheckTest
+{
+	/**
+	 * Класс проверки метода {@link ReusableListCheck#rebind(List)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Rebind
+	{
+		/**
+		 * Проверка метода {@link ReusableListCheck#rebind(List)} с корректным значением.
+		 */
+		@Test
+		public void rebindValid()
+		{
+			List<String> object = List.of("Группа крови", "Звезда по имени Солнце");
+			ReusableListCheck<String> reusableListCheck = new ReusableListCheck<>();
+
+			ReusableListCheck<String> actual = reusableListCheck.rebind(object);
+
+			assertThat(actual).isSameAs(reusableListCheck);
+			assertThat(actual.get()).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link ReusableListCheck#rebind(List)} с повторной привязкой.
+		 */
+		@Test
+		public void rebindInvalid()
+		{
+			List<String> object = List.of("Кончится лето", "Кончится лето");
+			ReusableListCheck<String> reusableListCheck = new ReusableListCheck<>();
+
+			reusableListCheck.rebind(List.of("Кончится лето")).notEmpty().notContainsDuplicates();
+
+			assertThatExceptionOfType(DuplicateObjectCheckException.class)
+				.isThrownBy(() -> reusableListCheck.rebind(object).notContainsDuplicates())
+				.satisfies(exception -> {
+					assertThat(exception.getCulprit()).isSameAs(object);
+					assertThat(exception.getIndex()).isEqualTo(1);
+				});
+		}
+
+		/**
+		 * Проверка метода {@link ReusableListCheck#rebind(List)} со сбросом накопленных невыполненных требований.
+		 */
+		@Test
+		public void rebindWithAccumulate()
+		{
+			ReusableListCheck<String> reusableListCheck = new ReusableListCheck<>();
+			reusableListCheck.accumulate();
+
+			List<Failure> failures = reusableListCheck.rebind(List.of()).notEmpty().notSize(0).getFailures();
+			ListCheck<String> actual = reusableListCheck.rebind(List.of("Пачка сигарет")).notEmpty();
+
+			assertThat(failures).extracting(Failure::getViolation).containsExactly(Violation.EMPTY, Violation.SIZE);
+			assertThat(actual.isViolated()).isFalse();
+			assertThat(actual.getFailures()).isEmpty();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ReusableStringCheck}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ReusableStringCheckTest
+{
+	/**
+	 * Класс проверки метода {@link ReusableStringCheck#rebind(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Rebind
+	{
+		/**
+		 * Проверка метода {@link ReusableStringCheck#rebind(String)} с корректным значением.
+		 */
+		@Test
+		public void rebindValid()
+		{
+			String object = "Спокойная ночь";
+			ReusableStringCheck reusableStringCheck = new ReusableStringCheck();
+
+			ReusableStringCheck actual = reusableStringCheck.rebind(object);
+
+			assertThat(actual).isSameAs(reusableStringCheck);
+			assertThat(actual.get()).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link ReusableStringCheck#rebind(String)} с повторной привязкой.
+		 */
+		@Test
+		public void rebindInvalid()
+		{
+			String object = "Спокойная ночь";
+			ReusableStringCheck reusableStringCheck = new ReusableStringCheck();
+
+			reusableStringCheck.rebind(object).notBlank().notMoreLength(20);
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(() -> reusableStringCheck.rebind(" ").notBlank())
+				.satisfies(exception -> assertThat(exception.getCulprit()).isEqualTo(" "));
+		}
+
+		/**
+		 * Проверка метода {@link ReusableStringCheck#rebind(String)} с сохранением режима исключений.
+		 */
+		@Test
+		public void rebindWithStackless()
+		{
+			ReusableStringCheck reusableStringCheck = new ReusableStringCheck();
+			reusableStringCheck.stackless();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> reusableStringCheck.rebind(null).notNull())
+				.satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+		}
+	}
+}
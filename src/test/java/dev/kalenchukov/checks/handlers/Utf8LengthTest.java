@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.handlers;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link Utf8Length}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class Utf8LengthTest
+{
+	/**
+	 * Класс проверки метода {@link Utf8Length#count(CharSequence, int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Count
+	{
+		/**
+		 * Проверка метода {@link Utf8Length#count(CharSequence, int)} в сравнении с длиной закодированного значения.
+		 */
+		@Test
+		public void countEqualsEncoded()
+		{
+			List<String> objects = List.of(
+				"",
+				"Kino",
+				"Кино",
+				"\u20AC 1982",
+				"\uD83C\uDFB8\uD83C\uDFB8",
+				"\uD83C",
+				"Кино \uDFB8\uD83C",
+				"\uD83C\uD83C\uDFB8"
+			);
+
+			for (String object : objects)
+			{
+				int expected = object.getBytes(StandardCharsets.UTF_8).length;
+
+				assertThat(Utf8Length.count(object, Integer.MAX_VALUE)).isEqualTo(expected);
+				assertThat(Utf8Length.count(CharBuffer.wrap(" " + object).position(1), Integer.MAX_VALUE)).isEqualTo(expected);
+			}
+		}
+
+		/**
+		 * Проверка метода {@link Utf8Length#count(CharSequence, int)} с превышением ограничения.
+		 */
+		@Test
+		public void countStopped()
+		{
+			String object = "Кино".repeat(1000);
+
+			long actual = Utf8Length.count(object, 5000);
+
+			assertThat(actual).isGreaterThan(5000).isLessThan(5004);
+		}
+	}
+}
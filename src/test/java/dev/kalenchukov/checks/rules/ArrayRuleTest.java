@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ArrayRule}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ArrayRuleTest
+{
+	/**
+	 * Класс проверки метода {@link ArrayRule#check(Object[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Check
+	{
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с корректным значением.
+		 */
+		@Test
+		public void checkValid()
+		{
+			String[] object = {"Кукушка", "Группа крови"};
+			ArrayRule<String> rule = Rules.<String>array()
+				.notNull()
+				.notEmpty()
+				.notSize(3)
+				.notRangeSize(5, 10)
+				.notMoreSize(4)
+				.notLessSize(1)
+				.build();
+
+			String[] actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с пустым значением.
+		 */
+		@Test
+		public void checkWithEmpty()
+		{
+			String[] object = {};
+			ArrayRule<String> rule = Rules.<String>array().notEmpty("Пустой альбом").build();
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object))
+				.withMessage("Пустой альбом")
+				.satisfies(exception -> assertThat(exception.getCulprit()).isSameAs(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с запрещённым количеством элементов.
+		 */
+		@Test
+		public void checkWithSize()
+		{
+			String[] object = {"Кукушка", "Группа крови"};
+			ArrayRule<String> rule = Rules.<String>array().notSize(2).build();
+
+			assertThatExceptionOfType(SizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с количеством элементов в запрещённом диапазоне.
+		 */
+		@Test
+		public void checkWithRangeSize()
+		{
+			String[] object = {"Кукушка", "Группа крови"};
+			ArrayRule<String> rule = Rules.<String>array().notRangeSize(2, 3).build();
+
+			assertThatExceptionOfType(RangeSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с превышенным количеством элементов.
+		 */
+		@Test
+		public void checkWithMoreSize()
+		{
+			String[] object = {"Кукушка", "Группа крови"};
+			ArrayRule<String> rule = Rules.<String>array().notMoreSize(1).build();
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с заниженным количеством элементов.
+		 */
+		@Test
+		public void checkWithLessSize()
+		{
+			String[] object = {"Кукушка"};
+			ArrayRule<String> rule = Rules.<String>array().notLessSize(2).build();
+
+			assertThatExceptionOfType(LessSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с несколькими невыполненными требованиями.
+		 */
+		@Test
+		public void checkWithFirstFailed()
+		{
+			String[] object = {"Кукушка", "Группа крови", "Кончится лето"};
+			ArrayRule<String> rule = Rules.<String>array()
+				.notLessSize(1)
+				.notMoreSize(2)
+				.notRangeSize(1, 5)
+				.build();
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithNull()
+		{
+			String[] object = null;
+			ArrayRule<String> rule = Rules.<String>array().notNull().notEmpty().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} со значением {@code null} и первым требованием,
+		 * не проверяющим {@code null}.
+		 */
+		@Test
+		public void checkWithNullFirstRequirement()
+		{
+			String[] object = null;
+			ArrayRule<String> rule = Rules.<String>array().notEmpty().notNull().build();
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#check(Object[])} без требований с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithoutRequirements()
+		{
+			String[] object = null;
+			ArrayRule<String> rule = Rules.<String>array().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ArrayRule#test(Object[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Testing
+	{
+		/**
+		 * Проверка метода {@link ArrayRule#test(Object[])} с корректным значением.
+		 */
+		@Test
+		public void testValid()
+		{
+			String[] object = {"Кукушка"};
+			ArrayRule<String> rule = Rules.<String>array().notEmpty().notMoreSize(4).build();
+
+			int actual = rule.test(object);
+
+			assertThat(actual).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#test(Object[])} с несколькими невыполненными требованиями.
+		 */
+		@Test
+		public void testInvalid()
+		{
+			String[] object = {"Кукушка", "Группа крови"};
+			ArrayRule<String> rule = Rules.<String>array().notSize(2).notMoreSize(1).build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.SIZE);
+		}
+
+		/**
+		 * Проверка метода {@link ArrayRule#test(Object[])} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void testWithNull()
+		{
+			String[] object = null;
+			ArrayRule<String> rule = Rules.<String>array().notLessSize(1).build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.LESS_SIZE);
+		}
+	}
+}
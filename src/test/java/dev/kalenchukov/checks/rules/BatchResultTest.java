@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.Violation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link BatchResult}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class BatchResultTest
+{
+	/**
+	 * Класс проверки результата проверки списка.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class TestWithList
+	{
+		/**
+		 * Проверка результата проверки списка с корректными значениями.
+		 */
+		@Test
+		public void testValid()
+		{
+			List<String> object = List.of("Кукушка", "Группа крови");
+			StringRule rule = Rules.string().notBlank().notMoreLength(64).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.isValid()).isTrue();
+			assertThat(actual.getSize()).isEqualTo(2);
+			assertThat(actual.getFailureCount()).isZero();
+			assertThat(actual.getFailures().isEmpty()).isTrue();
+			assertThat(actual.toLongArray()).isEmpty();
+			assertThat(actual.nextFailure(0)).isEqualTo(-1);
+			assertThat(actual.getStepCount()).isEqualTo(2);
+			assertThat(actual.getStepFailureCount(0)).isZero();
+			assertThat(actual.getStepFailureCount(1)).isZero();
+		}
+
+		/**
+		 * Проверка результата проверки списка с некорректными значениями.
+		 */
+		@Test
+		public void testInvalid()
+		{
+			List<String> object = Arrays.asList(
+				"Кукушка", "", null, "Звезда по имени Солнце", "Кино", "Группа крови"
+			);
+			StringRule rule = Rules.string().notEmpty().notRangeLength(1, 4).notRangeLength(20, 30).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.isValid()).isFalse();
+			assertThat(actual.getSize()).isEqualTo(6);
+			assertThat(actual.getFailures().stream()).containsExactly(1, 2, 3, 4);
+			assertThat(actual.toLongArray()).containsExactly(0b011110L);
+			assertThat(actual.isFailed(0)).isFalse();
+			assertThat(actual.isFailed(3)).isTrue();
+			assertThat(actual.nextFailure(2)).isEqualTo(2);
+			assertThat(actual.nextFailure(5)).isEqualTo(-1);
+			assertThat(actual.getFailureCount()).isEqualTo(4);
+			assertThat(actual.getFailureCount(Violation.EMPTY)).isEqualTo(2);
+			assertThat(actual.getFailureCount(Violation.RANGE_LENGTH)).isEqualTo(2);
+			assertThat(actual.getStepFailureCount(0)).isEqualTo(2);
+			assertThat(actual.getStepFailureCount(1)).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(2)).isEqualTo(1);
+		}
+
+		/**
+		 * Проверка результата проверки списка без произвольного доступа.
+		 */
+		@Test
+		public void testWithLinkedList()
+		{
+			List<Integer> object = new LinkedList<>(List.of(1982, -1, 1990, 0));
+			IntegerRule rule = Rules.integer().notNegative().notZero().notLessNumber(1986).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.getFailures().stream()).containsExactly(0, 1, 3);
+			assertThat(actual.getStepFailureCount(0)).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(1)).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(2)).isEqualTo(1);
+			assertThat(actual.getFailureCount(Violation.LESS_NUMBER)).isEqualTo(1);
+		}
+
+		/**
+		 * Проверка результата проверки пустого списка.
+		 */
+		@Test
+		public void testWithEmpty()
+		{
+			List<String> object = List.of();
+			StringRule rule = Rules.string().notBlank().build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.isValid()).isTrue();
+			assertThat(actual.getSize()).isZero();
+		}
+	}
+
+	/**
+	 * Класс проверки результата проверки массива.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class TestWithArray
+	{
+		/**
+		 * Проверка результата проверки массива с некорректными значениями.
+		 */
+		@Test
+		public void testInvalid()
+		{
+			String[] object = new String[70];
+			Arrays.fill(object, "Пачка сигарет");
+			object[1] = "   ";
+			object[65] = null;
+			StringRule rule = Rules.string().notNull().notBlank().notMoreLength(64).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.getSize()).isEqualTo(70);
+			assertThat(actual.getFailures().stream()).containsExactly(1, 65);
+			assertThat(actual.toLongArray()).containsExactly(0b10L, 0b10L);
+			assertThat(actual.getFailureCount(Violation.NULL)).isEqualTo(1);
+			assertThat(actual.getFailureCount(Violation.BLANK)).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(0)).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(1)).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(2)).isZero();
+		}
+
+		/**
+		 * Проверка результата проверки массива правилом без требований.
+		 */
+		@Test
+		public void testWithoutRequirements()
+		{
+			String[] object = {"Кукушка", null};
+			StringRule rule = Rules.string().build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.getFailures().stream()).containsExactly(1);
+			assertThat(actual.getStepCount()).isEqualTo(1);
+			assertThat(actual.getStepFailureCount(0)).isEqualTo(1);
+			assertThat(actual.getFailureCount(Violation.NULL)).isEqualTo(1);
+		}
+
+		/**
+		 * Проверка результата проверки массива правилом, реализованным вне библиотеки.
+		 */
+		@Test
+		public void testWithCustomRule()
+		{
+			String[] object = {"Кукушка", "", "Кино"};
+			Rule<String> rule = new Rule<>()
+			{
+				@NotNull
+				@Override
+				public String check(@Nullable final String target)
+				{
+					return Rules.string().notEmpty().build().check(target);
+				}
+
+				@Override
+				public int test(@Nullable final String target)
+				{
+					return target == null || target.isEmpty() ? Violation.EMPTY.getCode() : 0;
+				}
+			};
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.getFailures().stream()).containsExactly(1);
+			assertThat(actual.getFailureCount(Violation.EMPTY)).isEqualTo(1);
+			assertThat(actual.getStepCount()).isZero();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link BatchResult#getStepFailureCount(int)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class GetStepFailureCount
+	{
+		/**
+		 * Проверка метода {@link BatchResult#getStepFailureCount(int)} с позицией за пределами требований.
+		 */
+		@Test
+		public void getStepFailureCountOutOfBounds()
+		{
+			BatchResult result = Rules.string().notBlank().build().testAll(List.of("Кукушка"));
+
+			assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> result.getStepFailureCount(1));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link IntegerRule}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class IntegerRuleTest
+{
+	/**
+	 * Класс проверки метода {@link IntegerRule#check(Integer)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Check
+	{
+		/**
+		 * Проверка метода {@link IntegerRule#check(Integer)} с корректным значением.
+		 */
+		@Test
+		public void checkValid()
+		{
+			Integer object = 1988;
+			IntegerRule rule = Rules.integer().notNegative().notZero().notMoreNumber(2023).build();
+
+			Integer actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link IntegerRule#check(Integer)} с некорректным значением.
+		 */
+		@Test
+		public void checkInvalid()
+		{
+			Integer object = 1988;
+			IntegerRule rule = Rules.integer().notNegative().notRangeNumber(1980, 1990).build();
+
+			assertThatExceptionOfType(RangeNumberObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link IntegerRule#check(Integer)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithNull()
+		{
+			Integer object = null;
+			IntegerRule rule = Rules.integer().notZero().notPositive().build();
+
+			assertThatExceptionOfType(ZeroNumberObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ListRule}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ListRuleTest
+{
+	/**
+	 * Класс проверки метода {@link ListRule#check(List)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Check
+	{
+		/**
+		 * Проверка метода {@link ListRule#check(List)} с корректным значением.
+		 */
+		@Test
+		public void checkValid()
+		{
+			List<String> object = List.of("Группа", "крови");
+			ListRule<String> rule = Rules.<String>list().notEmpty().notRangeSize(3, 5).build();
+
+			List<String> actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link ListRule#check(List)} с некорректным значением.
+		 */
+		@Test
+		public void checkInvalid()
+		{
+			List<String> object = List.of();
+			ListRule<String> rule = Rules.<String>list().notNull().notEmpty().build();
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ListRule#check(List)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithNull()
+		{
+			List<String> object = null;
+			ListRule<String> rule = Rules.<String>list().notNull().notEmpty().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link MapRule}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class MapRuleTest
+{
+	/**
+	 * Класс проверки метода {@link MapRule#check(Map)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Check
+	{
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с корректным значением.
+		 */
+		@Test
+		public void checkValid()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990, "Группа крови", 1988);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map()
+				.notNull()
+				.notEmpty()
+				.notSize(3)
+				.notRangeSize(5, 10)
+				.notMoreSize(4)
+				.notLessSize(1)
+				.build();
+
+			Map<String, Integer> actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с пустым значением.
+		 */
+		@Test
+		public void checkWithEmpty()
+		{
+			Map<String, Integer> object = Map.of();
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notEmpty("Пустой альбом").build();
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object))
+				.withMessage("Пустой альбом")
+				.satisfies(exception -> assertThat(exception.getCulprit()).isSameAs(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с запрещённым количеством элементов.
+		 */
+		@Test
+		public void checkWithSize()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990, "Группа крови", 1988);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notSize(2).build();
+
+			assertThatExceptionOfType(SizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с количеством элементов в запрещённом диапазоне.
+		 */
+		@Test
+		public void checkWithRangeSize()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990, "Группа крови", 1988);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notRangeSize(2, 3).build();
+
+			assertThatExceptionOfType(RangeSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с превышенным количеством элементов.
+		 */
+		@Test
+		public void checkWithMoreSize()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990, "Группа крови", 1988);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notMoreSize(1).build();
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с заниженным количеством элементов.
+		 */
+		@Test
+		public void checkWithLessSize()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notLessSize(2).build();
+
+			assertThatExceptionOfType(LessSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с несколькими невыполненными требованиями.
+		 */
+		@Test
+		public void checkWithFirstFailed()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990, "Группа крови", 1988, "Кончится лето", 1990);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map()
+				.notLessSize(1)
+				.notMoreSize(2)
+				.notRangeSize(1, 5)
+				.build();
+
+			assertThatExceptionOfType(MoreSizeObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithNull()
+		{
+			Map<String, Integer> object = null;
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notNull().notEmpty().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} со значением {@code null} и первым требованием,
+		 * не проверяющим {@code null}.
+		 */
+		@Test
+		public void checkWithNullFirstRequirement()
+		{
+			Map<String, Integer> object = null;
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notEmpty().notNull().build();
+
+			assertThatExceptionOfType(EmptyObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#check(Map)} без требований с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithoutRequirements()
+		{
+			Map<String, Integer> object = null;
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link MapRule#test(Map)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Testing
+	{
+		/**
+		 * Проверка метода {@link MapRule#test(Map)} с корректным значением.
+		 */
+		@Test
+		public void testValid()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notEmpty().notMoreSize(4).build();
+
+			int actual = rule.test(object);
+
+			assertThat(actual).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#test(Map)} с несколькими невыполненными требованиями.
+		 */
+		@Test
+		public void testInvalid()
+		{
+			Map<String, Integer> object = Map.of("Кукушка", 1990, "Группа крови", 1988);
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notSize(2).notMoreSize(1).build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.SIZE);
+		}
+
+		/**
+		 * Проверка метода {@link MapRule#test(Map)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void testWithNull()
+		{
+			Map<String, Integer> object = null;
+			MapRule<String, Integer> rule = Rules.<String, Integer>map().notLessSize(1).build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.LESS_SIZE);
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link ObjectRule}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ObjectRuleTest
+{
+	/**
+	 * Класс проверки метода {@link ObjectRule#check(Object)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Check
+	{
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} с корректным значением.
+		 */
+		@Test
+		public void checkValid()
+		{
+			Path object = Path.of("kino", "gruppa-krovi.txt");
+			ObjectRule<Path> rule = Rules.<Path>object()
+				.notNull()
+				.notEquals(Path.of("kino", "kukushka.txt"))
+				.not(Path::isAbsolute)
+				.build();
+
+			Path actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} с запрещённым значением.
+		 */
+		@Test
+		public void checkWithEquals()
+		{
+			Path object = Path.of("kino", "kukushka.txt");
+			ObjectRule<Path> rule = Rules.<Path>object().notEquals(Path.of("kino", "kukushka.txt"), "Запрещённый файл").build();
+
+			assertThatExceptionOfType(EqualsObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object))
+				.withMessage("Запрещённый файл")
+				.satisfies(exception -> assertThat(exception.getCulprit()).isSameAs(object));
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} с условием.
+		 */
+		@Test
+		public void checkWithPredicate()
+		{
+			Path object = Path.of("kino", "kukushka.txt");
+			ObjectRule<Path> rule = Rules.<Path>object().not(path -> path.startsWith("kino")).build();
+
+			assertThatExceptionOfType(IllegalObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} с несколькими невыполненными требованиями.
+		 */
+		@Test
+		public void checkWithFirstFailed()
+		{
+			Path object = Path.of("kino", "kukushka.txt");
+			ObjectRule<Path> rule = Rules.<Path>object()
+				.notNull()
+				.not(path -> path.startsWith("kino"))
+				.notEquals(Path.of("kino", "kukushka.txt"))
+				.build();
+
+			assertThatExceptionOfType(IllegalObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithNull()
+		{
+			Path object = null;
+			ObjectRule<Path> rule = Rules.<Path>object().notNull().not(Path::isAbsolute).build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} со значением {@code null} и первым требованием,
+		 * не проверяющим {@code null}.
+		 */
+		@Test
+		public void checkWithNullFirstRequirement()
+		{
+			Path object = null;
+			ObjectRule<Path> rule = Rules.<Path>object().notEquals(Path.of("kino")).notNull().build();
+
+			assertThatExceptionOfType(EqualsObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#check(Object)} без требований с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithoutRequirements()
+		{
+			Path object = null;
+			ObjectRule<Path> rule = Rules.<Path>object().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link ObjectRule#test(Object)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Testing
+	{
+		/**
+		 * Проверка метода {@link ObjectRule#test(Object)} с корректным значением.
+		 */
+		@Test
+		public void testValid()
+		{
+			Path object = Path.of("kino", "gruppa-krovi.txt");
+			ObjectRule<Path> rule = Rules.<Path>object().notNull().not(Path::isAbsolute).build();
+
+			int actual = rule.test(object);
+
+			assertThat(actual).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#test(Object)} с несколькими невыполненными требованиями.
+		 */
+		@Test
+		public void testInvalid()
+		{
+			Path object = Path.of("kino", "kukushka.txt");
+			ObjectRule<Path> rule = Rules.<Path>object()
+				.notEquals(Path.of("kino", "kukushka.txt"))
+				.not(path -> path.startsWith("kino"))
+				.build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.EQUALS);
+		}
+
+		/**
+		 * Проверка метода {@link ObjectRule#test(Object)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void testWithNull()
+		{
+			Path object = null;
+			ObjectRule<Path> rule = Rules.<Path>object().notNull().build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.NULL);
+		}
+	}
+}
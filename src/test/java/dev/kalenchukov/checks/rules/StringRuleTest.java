@@ -0,0 +1,327 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.rules;
+
+import dev.kalenchukov.checks.exceptions.*;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link StringRule}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class StringRuleTest
+{
+	/**
+	 * Класс проверки метода {@link StringRule#check(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Check
+	{
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с корректным значением.
+		 */
+		@Test
+		public void checkValid()
+		{
+			String object = "Звезда по имени Солнце";
+			StringRule rule = Rules.string().notBlank().notLessLength(1).notMoreLength(64).build();
+
+			String actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с некорректным значением.
+		 */
+		@Test
+		public void checkInvalid()
+		{
+			String object = "Звезда по имени Солнце";
+			StringRule rule = Rules.string().notBlank().notMoreLength(10, "Длинное название").build();
+
+			assertThatExceptionOfType(MoreLengthObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object))
+				.withMessage("Длинное название")
+				.satisfies(exception -> assertThat(exception.getCulprit()).isSameAs(object));
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с пустым значением.
+		 */
+		@Test
+		public void checkWithBlank()
+		{
+			String object = "   ";
+			StringRule rule = Rules.string().notEmpty().notBlank().notMoreLength(64).build();
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithNull()
+		{
+			String object = null;
+			StringRule rule = Rules.string().notBlank().notMoreLength(64).build();
+
+			assertThatExceptionOfType(BlankObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} без требований с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void checkWithoutRequirements()
+		{
+			String object = null;
+			StringRule rule = Rules.string().build();
+
+			assertThatExceptionOfType(NullObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с границами на пределе значений.
+		 */
+		@Test
+		public void checkWithLimits()
+		{
+			String object = "Кукушка";
+			StringRule rule = Rules.string()
+				.notMoreLength(Integer.MAX_VALUE)
+				.notLessLength(Integer.MIN_VALUE)
+				.notRangeLength(10, 1)
+				.notRangeLength(Integer.MIN_VALUE, -1)
+				.build();
+
+			String actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с широким диапазоном.
+		 */
+		@Test
+		public void checkWithWideRange()
+		{
+			String object = "Кукушка";
+			StringRule rule = Rules.string().notRangeLength(Integer.MIN_VALUE, Integer.MAX_VALUE).build();
+
+			assertThatExceptionOfType(RangeLengthObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} с условием.
+		 */
+		@Test
+		public void checkWithPredicate()
+		{
+			String object = "Кино";
+			StringRule rule = Rules.string().not(value -> value.startsWith("К")).build();
+
+			assertThatExceptionOfType(IllegalObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object));
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#check(String)} без трассировки стека.
+		 */
+		@Test
+		public void checkWithStackless()
+		{
+			String object = "Кино";
+			StringRule rule = Rules.string().notEquals("Кино").stackless().build();
+
+			assertThatExceptionOfType(EqualsObjectCheckException.class)
+				.isThrownBy(() -> rule.check(object))
+				.satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+		}
+
+		/**
+		 * Проверка независимости построенного правила от построителя.
+		 */
+		@Test
+		public void checkWithBuilderChanged()
+		{
+			String object = "Кино";
+			StringRuleBuilder builder = Rules.string().notBlank();
+			StringRule rule = builder.build();
+
+			builder.notEquals(object);
+			String actual = rule.check(object);
+
+			assertThat(actual).isSameAs(object);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link StringRule#test(String)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Testing
+	{
+		/**
+		 * Проверка метода {@link StringRule#test(String)} с корректным значением.
+		 */
+		@Test
+		public void testValid()
+		{
+			String object = "Звезда по имени Солнце";
+			StringRule rule = Rules.string().notBlank().notMoreLength(64).build();
+
+			int actual = rule.test(object);
+
+			assertThat(actual).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#test(String)} с некорректным значением.
+		 */
+		@Test
+		public void testInvalid()
+		{
+			String object = "Звезда по имени Солнце";
+			StringRule rule = Rules.string().notBlank().notMoreLength(10).build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.MORE_LENGTH);
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#test(String)} с некорректным значением в виде {@code null}.
+		 */
+		@Test
+		public void testWithNull()
+		{
+			String object = null;
+			StringRule rule = Rules.string().notBlank().notMoreLength(10).build();
+
+			int actual = rule.test(object);
+
+			assertThat(Violation.ofCode(actual)).isEqualTo(Violation.BLANK);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link StringRule#testAll(List)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class TestAll
+	{
+		/**
+		 * Проверка метода {@link StringRule#testAll(List)} с корректными значениями.
+		 */
+		@Test
+		public void testAllValid()
+		{
+			List<String> object = List.of("Группа крови", "Кукушка");
+			StringRule rule = Rules.string().notBlank().notMoreLength(64).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.isValid()).isTrue();
+			assertThat(actual.getSize()).isEqualTo(2);
+			assertThat(actual.getFailureCount()).isZero();
+			assertThat(actual.nextFailure(0)).isEqualTo(-1);
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#testAll(List)} с некорректными значениями.
+		 */
+		@Test
+		public void testAllInvalid()
+		{
+			List<String> object = Arrays.asList("Группа крови", " ", null, "Пачка сигарет", "");
+			StringRule rule = Rules.string().notBlank().notMoreLength(64).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.isValid()).isFalse();
+			assertThat(actual.getFailures().stream()).containsExactly(1, 2, 4);
+			assertThat(actual.toLongArray()).containsExactly(0b10110L);
+			assertThat(actual.isFailed(3)).isFalse();
+			assertThat(actual.getFailureCount()).isEqualTo(3);
+			assertThat(actual.getFailureCount(Violation.BLANK)).isEqualTo(3);
+			assertThat(actual.getFailureCount(Violation.MORE_LENGTH)).isZero();
+		}
+
+		/**
+		 * Проверка метода {@link StringRule#testAll(List)} со списком без произвольного доступа.
+		 */
+		@Test
+		public void testAllWithLinkedList()
+		{
+			List<String> object = new LinkedList<>(List.of("Группа крови", "Звезда по имени Солнце"));
+			StringRule rule = Rules.string().notMoreLength(12).build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.getFailures().stream()).containsExactly(1);
+			assertThat(actual.getFailureCount(Violation.MORE_LENGTH)).isEqualTo(1);
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link StringRule#testAll(Object[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class TestAllWithArray
+	{
+		/**
+		 * Проверка метода {@link StringRule#testAll(Object[])} с некорректными значениями.
+		 */
+		@Test
+		public void testAllInvalid()
+		{
+			String[] object = {"Кончится лето", "", "Спокойная ночь"};
+			StringRule rule = Rules.string().notEmpty().build();
+
+			BatchResult actual = rule.testAll(object);
+
+			assertThat(actual.getFailures().stream()).containsExactly(1);
+			assertThat(actual.getFailureCount(Violation.EMPTY)).isEqualTo(1);
+		}
+	}
+}
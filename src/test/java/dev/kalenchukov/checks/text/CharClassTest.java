@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.text;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Класс проверки методов класса {@link CharClass}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CharClassTest
+{
+	/**
+	 * Класс проверки метода {@link CharClass#contains(char)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Contains
+	{
+		/**
+		 * Проверка метода {@link CharClass#contains(char)} с символами набора.
+		 */
+		@Test
+		public void containsValid()
+		{
+			CharClass charClass = CharClass.range('a', 'f').union(CharClass.of("_~\t"));
+
+			assertThat(charClass.contains('a')).isTrue();
+			assertThat(charClass.contains('f')).isTrue();
+			assertThat(charClass.contains('_')).isTrue();
+			assertThat(charClass.contains('~')).isTrue();
+			assertThat(charClass.contains('\t')).isTrue();
+		}
+
+		/**
+		 * Проверка метода {@link CharClass#contains(char)} с символами вне набора.
+		 */
+		@Test
+		public void containsInvalid()
+		{
+			CharClass charClass = CharClass.range('a', 'f').union(CharClass.of("_~\t"));
+
+			assertThat(charClass.contains('g')).isFalse();
+			assertThat(charClass.contains('A')).isFalse();
+			assertThat(charClass.contains('\u0000')).isFalse();
+			assertThat(charClass.contains('\u00E1')).isFalse();
+			assertThat(charClass.contains('\u0161')).isFalse();
+		}
+
+		/**
+		 * Проверка метода {@link CharClass#contains(char)} с набором всех символов ASCII.
+		 */
+		@Test
+		public void containsAscii()
+		{
+			assertThat(CharClass.ASCII.contains('\u007F')).isTrue();
+			assertThat(CharClass.ASCII.contains('\u0080')).isFalse();
+			assertThat(CharClass.ASCII.contains('К')).isFalse();
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CharClass#of(CharSequence)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Of
+	{
+		/**
+		 * Проверка метода {@link CharClass#of(CharSequence)} с символом вне ASCII.
+		 */
+		@Test
+		public void ofInvalid()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> CharClass.of("Кино"));
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link CharClass#range(char, char)}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Range
+	{
+		/**
+		 * Проверка метода {@link CharClass#range(char, char)} с корректным значением.
+		 */
+		@Test
+		public void rangeValid()
+		{
+			CharClass actual = CharClass.range('0', '9');
+
+			assertThat(actual).isEqualTo(CharClass.DIGITS);
+		}
+
+		/**
+		 * Проверка метода {@link CharClass#range(char, char)} с первым символом больше последнего.
+		 */
+		@Test
+		public void rangeInvalid()
+		{
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> CharClass.range('9', '0'));
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.vector;
+
+import dev.kalenchukov.checks.spi.ArrayScanner;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс векторного поиска некорректных элементов в массивах примитивов.
+ * <p>
+ * Использует модуль {@code jdk.incubator.vector} и подключается к библиотеке как реализация
+ * {@link ArrayScanner}. Если модуль не добавлен при запуске, реализация не создаётся
+ * и библиотека просматривает массивы простым циклом. Массив сравнивается частями длиной в вектор
+ * предпочтительного размера, а остаток, меньший вектора, просматривается поэлементно.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class VectorArrayScan implements ArrayScanner
+{
+	/**
+	 * Вид векторов значений типа {@code int}.
+	 */
+	private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+
+	/**
+	 * Вид векторов значений типа {@code long}.
+	 */
+	private static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+
+	/**
+	 * Вид векторов значений типа {@code double}.
+	 */
+	private static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * Конструирует поиск.
+	 */
+	public VectorArrayScan() {}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param array {@inheritDoc}
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int indexOfOutRange(final int @NotNull [] array, final int from, final int to)
+	{
+		final int bound = INT.loopBound(array.length);
+		int index = 0;
+
+		for (; index < bound; index += INT.length())
+		{
+			final IntVector vector = IntVector.fromArray(INT, array, index);
+			final VectorMask<Integer> mask = vector.compare(VectorOperators.LT, from)
+				.or(vector.compare(VectorOperators.GT, to));
+
+			if (mask.anyTrue()) {
+				return index + mask.firstTrue();
+			}
+		}
+
+		for (; index < array.length; index++)
+		{
+			if (array[index] < from || array[index] > to) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param array {@inheritDoc}
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int indexOfOutRange(final long @NotNull [] array, final long from, final long to)
+	{
+		final int bound = LONG.loopBound(array.length);
+		int index = 0;
+
+		for (; index < bound; index += LONG.length())
+		{
+			final LongVector vector = LongVector.fromArray(LONG, array, index);
+			final VectorMask<Long> mask = vector.compare(VectorOperators.LT, from)
+				.or(vector.compare(VectorOperators.GT, to));
+
+			if (mask.anyTrue()) {
+				return index + mask.firstTrue();
+			}
+		}
+
+		for (; index < array.length; index++)
+		{
+			if (array[index] < from || array[index] > to) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param array {@inheritDoc}
+	 * @param from {@inheritDoc}
+	 * @param to {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int indexOfOutRange(final double @NotNull [] array, final double from, final double to)
+	{
+		final int bound = DOUBLE.loopBound(array.length);
+		int index = 0;
+
+		for (; index < bound; index += DOUBLE.length())
+		{
+			final DoubleVector vector = DoubleVector.fromArray(DOUBLE, array, index);
+			final VectorMask<Double> mask = vector.compare(VectorOperators.GE, from)
+				.and(vector.compare(VectorOperators.LE, to))
+				.not();
+
+			if (mask.anyTrue()) {
+				return index + mask.firstTrue();
+			}
+		}
+
+		for (; index < array.length; index++)
+		{
+			if (!(array[index] >= from) || !(array[index] <= to)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param array {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int indexOfNegative(final double @NotNull [] array)
+	{
+		final int bound = DOUBLE.loopBound(array.length);
+		int index = 0;
+
+		for (; index < bound; index += DOUBLE.length())
+		{
+			final DoubleVector vector = DoubleVector.fromArray(DOUBLE, array, index);
+			final VectorMask<Double> mask = vector.compare(VectorOperators.LT, 0.0);
+
+			if (mask.anyTrue()) {
+				return index + mask.firstTrue();
+			}
+		}
+
+		for (; index < array.length; index++)
+		{
+			if (array[index] < 0.0) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param array {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int indexOfNaN(final double @NotNull [] array)
+	{
+		final int bound = DOUBLE.loopBound(array.length);
+		int index = 0;
+
+		for (; index < bound; index += DOUBLE.length())
+		{
+			final DoubleVector vector = DoubleVector.fromArray(DOUBLE, array, index);
+			final VectorMask<Double> mask = vector.test(VectorOperators.IS_NAN);
+
+			if (mask.anyTrue()) {
+				return index + mask.firstTrue();
+			}
+		}
+
+		for (; index < array.length; index++)
+		{
+			if (Double.isNaN(array[index])) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param array {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int indexOfZero(final double @NotNull [] array)
+	{
+		final int bound = DOUBLE.loopBound(array.length);
+		int index = 0;
+
+		for (; index < bound; index += DOUBLE.length())
+		{
+			final DoubleVector vector = DoubleVector.fromArray(DOUBLE, array, index);
+			final VectorMask<Double> mask = vector.compare(VectorOperators.EQ, 0.0);
+
+			if (mask.anyTrue()) {
+				return index + mask.firstTrue();
+			}
+		}
+
+		for (; index < array.length; index++)
+		{
+			if (array[index] == 0.0) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,12 @@
+/**
+ * Определяет векторную реализацию поиска некорректных элементов в массивах примитивов.
+ */
+module dev.kalenchukov.checks.vector
+{
+	requires dev.kalenchukov.checks;
+	requires jdk.incubator.vector;
+	requires org.jetbrains.annotations;
+
+	provides dev.kalenchukov.checks.spi.ArrayScanner
+		with dev.kalenchukov.checks.vector.VectorArrayScan;
+}
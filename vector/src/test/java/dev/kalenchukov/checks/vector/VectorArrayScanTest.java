@@ -0,0 +1,261 @@
+/*
+ * Copyright © 2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.kalenchukov.checks.vector;
+
+import dev.kalenchukov.checks.Checks;
+import dev.kalenchukov.checks.exceptions.*;
+import dev.kalenchukov.checks.handlers.DoubleArrayCheck;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Класс проверки методов класса {@link VectorArrayScan}.
+ * <p>
+ * Некорректный элемент ставится в каждую позицию массивов разной длины,
+ * чтобы он попадал и в векторную часть, и в остаток, просматриваемый поэлементно.
+ *
+ * @author Алексей Каленчуков
+ */
+public class VectorArrayScanTest
+{
+	/**
+	 * Наибольшая длина проверяемых массивов.
+	 */
+	private static final int MAX_LENGTH = 130;
+
+	/**
+	 * Поиск.
+	 */
+	private final VectorArrayScan scan = new VectorArrayScan();
+
+	/**
+	 * Класс проверки подключения {@link VectorArrayScan} к библиотеке.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class Provider
+	{
+		/**
+		 * Проверка метода {@link DoubleArrayCheck#notAnyNaN()} с массивом, просматриваемым векторно.
+		 */
+		@Test
+		public void notAnyNaNInvalidLarge()
+		{
+			double[] object = new double[MAX_LENGTH];
+			object[MAX_LENGTH - 1] = Double.NaN;
+
+			ElementObjectCheckException actual = catchThrowableOfType(
+				() -> Checks.require(object).notAnyNaN(),
+				ElementObjectCheckException.class
+			);
+
+			assertThat(actual.getIndex()).isEqualTo(MAX_LENGTH - 1);
+		}
+	}
+
+	/**
+	 * Класс проверки методов {@code indexOfOutRange}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class IndexOfOutRange
+	{
+		/**
+		 * Проверка метода {@link VectorArrayScan#indexOfOutRange(int[], int, int)}.
+		 */
+		@Test
+		public void indexOfOutRangeWithInt()
+		{
+			for (int length = 0; length <= MAX_LENGTH; length++)
+			{
+				int[] array = new int[length];
+
+				assertThat(scan.indexOfOutRange(array, 0, 0)).isEqualTo(-1);
+
+				for (int index = 0; index < length; index++)
+				{
+					array[index] = index % 2 == 0 ? 1 : -1;
+
+					assertThat(scan.indexOfOutRange(array, 0, 0)).isEqualTo(index);
+
+					array[index] = 0;
+				}
+			}
+		}
+
+		/**
+		 * Проверка метода {@link VectorArrayScan#indexOfOutRange(long[], long, long)}.
+		 */
+		@Test
+		public void indexOfOutRangeWithLong()
+		{
+			for (int length = 0; length <= MAX_LENGTH; length++)
+			{
+				long[] array = new long[length];
+
+				assertThat(scan.indexOfOutRange(array, 0L, 0L)).isEqualTo(-1);
+
+				for (int index = 0; index < length; index++)
+				{
+					array[index] = index % 2 == 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+
+					assertThat(scan.indexOfOutRange(array, 0L, 0L)).isEqualTo(index);
+
+					array[index] = 0L;
+				}
+			}
+		}
+
+		/**
+		 * Проверка метода {@link VectorArrayScan#indexOfOutRange(double[], double, double)}.
+		 */
+		@Test
+		public void indexOfOutRangeWithDouble()
+		{
+			double[] invalid = {-0.5, 1.5, Double.NaN};
+
+			for (int length = 0; length <= MAX_LENGTH; length++)
+			{
+				double[] array = new double[length];
+
+				assertThat(scan.indexOfOutRange(array, 0.0, 1.0)).isEqualTo(-1);
+
+				for (int index = 0; index < length; index++)
+				{
+					array[index] = invalid[index % invalid.length];
+
+					assertThat(scan.indexOfOutRange(array, 0.0, 1.0)).isEqualTo(index);
+
+					array[index] = 1.0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link VectorArrayScan#indexOfNegative(double[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class IndexOfNegative
+	{
+		/**
+		 * Проверка метода {@link VectorArrayScan#indexOfNegative(double[])}.
+		 */
+		@Test
+		public void indexOfNegative()
+		{
+			for (int length = 0; length <= MAX_LENGTH; length++)
+			{
+				double[] array = new double[length];
+
+				for (int index = 0; index < length; index++)
+				{
+					array[index] = index % 2 == 0 ? -0.0 : Double.NaN;
+				}
+
+				assertThat(scan.indexOfNegative(array)).isEqualTo(-1);
+
+				for (int index = 0; index < length; index++)
+				{
+					double previous = array[index];
+					array[index] = -19.86;
+
+					assertThat(scan.indexOfNegative(array)).isEqualTo(index);
+
+					array[index] = previous;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link VectorArrayScan#indexOfNaN(double[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class IndexOfNaN
+	{
+		/**
+		 * Проверка метода {@link VectorArrayScan#indexOfNaN(double[])}.
+		 */
+		@Test
+		public void indexOfNaN()
+		{
+			for (int length = 0; length <= MAX_LENGTH; length++)
+			{
+				double[] array = new double[length];
+
+				assertThat(scan.indexOfNaN(array)).isEqualTo(-1);
+
+				for (int index = 0; index < length; index++)
+				{
+					array[index] = Double.NaN;
+
+					assertThat(scan.indexOfNaN(array)).isEqualTo(index);
+
+					array[index] = 0.0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Класс проверки метода {@link VectorArrayScan#indexOfZero(double[])}.
+	 *
+	 * @author Алексей Каленчуков
+	 */
+	@Nested
+	public class IndexOfZero
+	{
+		/**
+		 * Проверка метода {@link VectorArrayScan#indexOfZero(double[])}.
+		 */
+		@Test
+		public void indexOfZero()
+		{
+			for (int length = 0; length <= MAX_LENGTH; length++)
+			{
+				double[] array = new double[length];
+				Arrays.fill(array, Double.NaN);
+
+				assertThat(scan.indexOfZero(array)).isEqualTo(-1);
+
+				for (int index = 0; index < length; index++)
+				{
+					array[index] = index % 2 == 0 ? 0.0 : -0.0;
+
+					assertThat(scan.indexOfZero(array)).isEqualTo(index);
+
+					array[index] = Double.NaN;
+				}
+			}
+		}
+	}
+}